@@ -27,7 +27,7 @@ docker compose -f /opt/focus-to-level-up/docker-compose.yml up -d $TARGET_SERVIC
 echo "### 3. Health Check 시작 (최대 150초 대기) ###"
 # 반복 횟수를 10 -> 30으로 늘림 (5초 * 30회 = 150초)
 for i in {1..30}; do
-  HTTP_CODE=$(curl -s -o /dev/null -w "%{http_code}" http://127.0.0.1:$TARGET_PORT/actuator/health || true)
+  HTTP_CODE=$(curl -s -o /dev/null -w "%{http_code}" http://127.0.0.1:$TARGET_PORT/health || true)
 
   # 200 OK가 나오면 성공
   if [ "$HTTP_CODE" -eq 200 ]; then
@@ -0,0 +1,53 @@
+#!/bin/bash
+
+# 플랫폼 스레드 / 가상 스레드 모드 p99 비교 (로컬)
+# 같은 jar 를 VIRTUAL_THREADS_ENABLED=false/true 로 차례로 띄워 thread-mode.js 를 실행합니다.
+#
+# 준비: ./gradlew bootJar, 로컬 MySQL/Redis (docker-compose.yml), k6, jq
+# 사용법: ACCESS_TOKEN=... [TARGET_RPS=800] ./scripts/loadtest/compare-thread-modes.sh
+
+set -e
+
+if [ -z "$ACCESS_TOKEN" ]; then
+  echo "ACCESS_TOKEN 이 필요합니다."
+  exit 1
+fi
+
+PORT=${PORT:-18080}
+TARGET_RPS=${TARGET_RPS:-800}
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+OUT_DIR=build/loadtest
+mkdir -p $OUT_DIR
+
+for VIRTUAL in false true; do
+  echo "### virtual threads = $VIRTUAL ###"
+  VIRTUAL_THREADS_ENABLED=$VIRTUAL SPRING_PROFILE=${SPRING_PROFILE:-local} \
+    java -jar $JAR --server.port=$PORT > $OUT_DIR/app-virtual-$VIRTUAL.log 2>&1 &
+  APP_PID=$!
+
+  for i in {1..60}; do
+    if curl -s http://127.0.0.1:$PORT/health | grep -q UP; then
+      break
+    fi
+    sleep 2
+  done
+
+  k6 run --quiet \
+    -e BASE_URL=http://127.0.0.1:$PORT -e ACCESS_TOKEN=$ACCESS_TOKEN -e TARGET_RPS=$TARGET_RPS \
+    --summary-export $OUT_DIR/summary-virtual-$VIRTUAL.json \
+    scripts/loadtest/thread-mode.js
+
+  kill $APP_PID
+  wait $APP_PID || true
+done
+
+echo
+printf "%-10s %10s %10s %10s %10s\n" "virtual" "p50(ms)" "p95(ms)" "p99(ms)" "failed"
+for VIRTUAL in false true; do
+  SUMMARY=$OUT_DIR/summary-virtual-$VIRTUAL.json
+  printf "%-10s %10.1f %10.1f %10.1f %10.4f\n" $VIRTUAL \
+    $(jq '.metrics.http_req_duration["p(50)"]' $SUMMARY) \
+    $(jq '.metrics.http_req_duration["p(95)"]' $SUMMARY) \
+    $(jq '.metrics.http_req_duration["p(99)"]' $SUMMARY) \
+    $(jq '.metrics.http_req_failed.value' $SUMMARY)
+done
@@ -0,0 +1,46 @@
+// 요청 스레드 모드 부하 테스트 (k6)
+// 푸시 발송 직후처럼 짧은 시간에 요청이 몰리는 상황을 흉내냅니다. (DB 조회 위주의 인증 API 혼합)
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e ACCESS_TOKEN=... -e TARGET_RPS=800 scripts/loadtest/thread-mode.js
+//
+// 결과의 http_req_duration p(99) 를 플랫폼 스레드 / 가상 스레드 모드별로 비교합니다. (compare-thread-modes.sh)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN;
+const TARGET_RPS = parseInt(__ENV.TARGET_RPS || '800');
+
+const PATHS = [
+    '/api/v1/member/profile',
+    '/api/v1/subjects',
+    '/api/v1/rankings',
+    '/api/v1/daily-goal',
+];
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        burst: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: TARGET_RPS, duration: '10s' },
+                { target: TARGET_RPS, duration: '60s' },
+                { target: 0, duration: '10s' },
+            ],
+        },
+    },
+};
+
+export default function () {
+    const path = PATHS[Math.floor(Math.random() * PATHS.length)];
+    const res = http.get(`${BASE_URL}${path}`, {
+        headers: { Authorization: `Bearer ${ACCESS_TOKEN}` },
+        tags: { name: path },
+    });
+    check(res, { 'status is 2xx/404': (r) => (r.status >= 200 && r.status < 300) || r.status === 404 });
+}
@@ -0,0 +1,167 @@
+package com.studioedge.focus_to_levelup_server.domain.auth.client;
+
+import com.google.gson.Gson;
+import com.studioedge.focus_to_levelup_server.domain.auth.dto.JsonWebKey;
+import com.studioedge.focus_to_levelup_server.domain.auth.dto.JsonWebKeySet;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.global.config.HttpClientConfig;
+import com.studioedge.focus_to_levelup_server.global.config.WebClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인 토큰 검증 - 로컬 스텁 서버 대상, 32 스레드 동시 호출 (푸시 캠페인 직후 로그인 폭주 상황)
+ *
+ * - uncached: 기존 방식. 로그인마다 기본 WebClient 로 JWKS 를 받아 키를 만들고 검증 (Apple/Google)
+ * - cached: JwksKeyCache 로 검증 (키 교체 전까지 JWKS 조회 X)
+ * - userInfo: 캐시할 수 없는 사용자 정보 조회 (Kakao/Naver), SocialHttpClient 커넥션 풀 사용
+ * 스텁 서버는 응답마다 latencyMs 만큼 지연합니다. p99 등 지연 분포는 SampleTime 결과로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class SocialSignInBenchmark {
+    private static final String KID = "bench-key";
+    private static final String USER_INFO = "{\"id\":123456789}";
+
+    // 공급자 응답 지연
+    @Param({"20", "100"})
+    private long latencyMs;
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private String jwksUri;
+    private String userInfoUri;
+    private String idToken;
+
+    private Gson gson;
+    private WebClient defaultWebClient;
+    private ConnectionProvider connectionProvider;
+    private SocialHttpClient socialHttpClient;
+    private JwksKeyCache jwksKeyCache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        byte[] jwks = jwksJson((RSAPublicKey) keyPair.getPublic()).getBytes(StandardCharsets.UTF_8);
+        byte[] userInfo = USER_INFO.getBytes(StandardCharsets.UTF_8);
+
+        stubExecutor = Executors.newFixedThreadPool(64);
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        stubServer.createContext("/auth/keys", exchange -> respond(exchange, jwks, "public, max-age=3600"));
+        stubServer.createContext("/v2/user/me", exchange -> respond(exchange, userInfo, "no-store"));
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+        String baseUri = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        jwksUri = baseUri + "/auth/keys";
+        userInfoUri = baseUri + "/v2/user/me";
+
+        idToken = Jwts.builder()
+                .header().keyId(KID).and()
+                .subject("001234.benchmark.0001")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        gson = new Gson();
+        defaultWebClient = WebClient.builder().build();
+
+        HttpClientConfig config = new HttpClientConfig();
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.externalConnectionProvider(config);
+        WebClient pooledWebClient = webClientConfig.webClient(WebClient.builder(), connectionProvider, config);
+        socialHttpClient = new SocialHttpClient(pooledWebClient, config, new SimpleMeterRegistry());
+        jwksKeyCache = new JwksKeyCache(socialHttpClient, gson);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    @Benchmark
+    public String uncached() throws Exception {
+        String response = defaultWebClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+        JsonWebKey key = gson.fromJson(response, JsonWebKeySet.class).getKeys().stream()
+                .filter(jwk -> KID.equals(jwk.getKid()))
+                .findFirst()
+                .orElseThrow();
+        BigInteger n = new BigInteger(1, Base64.getUrlDecoder().decode(key.getN()));
+        BigInteger e = new BigInteger(1, Base64.getUrlDecoder().decode(key.getE()));
+        return verify(KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(n, e)));
+    }
+
+    @Benchmark
+    public String cached() {
+        return verify(jwksKeyCache.getPublicKey(SocialType.APPLE, jwksUri, KID, "RS256").orElseThrow());
+    }
+
+    @Benchmark
+    public String userInfo() {
+        return socialHttpClient.get(SocialType.KAKAO, userInfoUri, "benchmark-access-token");
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String verify(PublicKey publicKey) {
+        return Jwts.parser()
+                .verifyWith(publicKey)
+                .build()
+                .parseSignedClaims(idToken)
+                .getPayload()
+                .getSubject();
+    }
+
+    private void respond(HttpExchange exchange, byte[] body, String cacheControl) throws IOException {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String jwksJson(RSAPublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"" + KID + "\",\"use\":\"sig\",\"alg\":\"RS256\""
+                + ",\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                + ",\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+    }
+}
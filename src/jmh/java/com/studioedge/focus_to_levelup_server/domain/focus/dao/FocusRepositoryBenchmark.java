@@ -0,0 +1,116 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.support.EmbeddedJpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 집중 기록 repository 조회 (H2 임베디드)
+ * 유저 MEMBER_COUNT 명 x 1년치 DailyGoal / 과목 2개 DailySubject 를 넣어두고 통계/달성 체크 쿼리를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FocusRepositoryBenchmark {
+    private static final int MEMBER_COUNT = 100;
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 12);
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private DailyGoalRepository dailyGoalRepository;
+    private DailySubjectRepository dailySubjectRepository;
+    private List<Long> memberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedJpaConfig.class);
+        dailyGoalRepository = context.getBean(DailyGoalRepository.class);
+        dailySubjectRepository = context.getBean(DailySubjectRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        memberIds = new TransactionTemplate(transactionManager).execute(status -> insertFixtures(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(context.getBean(EntityManagerFactory.class))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DailyGoal> monthlyDailyGoals() {
+        YearMonth month = YearMonth.from(TODAY);
+        return readOnlyTransaction.execute(status -> dailyGoalRepository.findAllByMemberIdAndDailyGoalDateBetween(
+                memberIds.get(0), month.atDay(1), month.atEndOfMonth()));
+    }
+
+    @Benchmark
+    public List<DailySubjectRepository.DailyFocusSeconds> twoWeekFocusSeconds() {
+        return readOnlyTransaction.execute(status -> dailySubjectRepository.findDailyFocusSecondsByMemberId(
+                memberIds.get(0), TODAY.minusDays(13), TODAY));
+    }
+
+    @Benchmark
+    public List<DailyGoalRepository.MonthlyFocusStat> monthlyStatsForAllMembers() {
+        YearMonth lastMonth = YearMonth.from(TODAY).minusMonths(1);
+        return readOnlyTransaction.execute(status -> dailyGoalRepository.findMonthlyStatsByMemberIds(
+                memberIds, lastMonth.atDay(1), lastMonth.atEndOfMonth()));
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private List<Long> insertFixtures(EntityManager entityManager) {
+        List<Long> ids = new ArrayList<>(MEMBER_COUNT);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = Member.builder()
+                    .socialType(SocialType.KAKAO)
+                    .socialId("jmh-" + i)
+                    .nickname("jmh" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build();
+            entityManager.persist(member);
+            Subject math = Subject.builder().member(member).name("수학").color("EE5D42").build();
+            Subject english = Subject.builder().member(member).name("영어").color("FA846C").build();
+            entityManager.persist(math);
+            entityManager.persist(english);
+
+            for (LocalDate date = TODAY.minusYears(1); !date.isAfter(TODAY); date = date.plusDays(1)) {
+                int seconds = (int) ((date.toEpochDay() + i) * 131 % 28800);
+                DailyGoal dailyGoal = DailyGoal.builder().member(member).targetMinutes(240).dailyGoalDate(date).build();
+                dailyGoal.addCurrentSeconds(seconds);
+                entityManager.persist(dailyGoal);
+
+                DailySubject mathSubject = DailySubject.builder().member(member).subject(math).date(date).build();
+                mathSubject.addSeconds(seconds / 2);
+                DailySubject englishSubject = DailySubject.builder().member(member).subject(english).date(date).build();
+                englishSubject.addSeconds(seconds - seconds / 2);
+                entityManager.persist(mathSubject);
+                entityManager.persist(englishSubject);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            ids.add(member.getId());
+        }
+        return ids;
+    }
+}
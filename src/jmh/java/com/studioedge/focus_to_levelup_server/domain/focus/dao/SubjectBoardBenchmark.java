@@ -0,0 +1,142 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetSubjectResponse;
+import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetTodoResponse;
+import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.SubjectBoardResponse;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Todo;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.support.EmbeddedJpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 과목 보드 조회 (H2 임베디드)
+ * 과목 수 / 과목당 할일 수를 바꿔가며, 과목마다 할일을 조회하던 방식(N+1)과 보드 쿼리 2번 방식을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubjectBoardBenchmark {
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 12);
+
+    @Param({"3", "10", "30"})
+    private int subjectCount;
+
+    @Param({"0", "5", "20"})
+    private int todosPerSubject;
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private SubjectRepository subjectRepository;
+    private DailySubjectRepository dailySubjectRepository;
+    private TodoRepository todoRepository;
+    private Long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedJpaConfig.class);
+        subjectRepository = context.getBean(SubjectRepository.class);
+        dailySubjectRepository = context.getBean(DailySubjectRepository.class);
+        todoRepository = context.getBean(TodoRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        memberId = new TransactionTemplate(transactionManager).execute(status -> insertFixtures(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(context.getBean(EntityManagerFactory.class))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 기존 방식: 과목 1회 + 오늘 DailySubject 1회 + 과목마다 할일 1회
+     */
+    @Benchmark
+    public List<GetSubjectResponse> perSubjectTodoQueries() {
+        return readOnlyTransaction.execute(status -> {
+            Member member = subjectRepository.findAllByMemberId(memberId).get(0).getMember();
+            List<Subject> subjects = subjectRepository.findAllByMemberAndDeleteAtIsNull(member);
+            Map<Long, Integer> todaySeconds = dailySubjectRepository.findAllByMemberAndDate(member, TODAY).stream()
+                    .collect(Collectors.toMap(ds -> ds.getSubject().getId(), DailySubject::getFocusSeconds));
+            return subjects.stream()
+                    .map(subject -> GetSubjectResponse.of(
+                            subject,
+                            todaySeconds.getOrDefault(subject.getId(), 0),
+                            todoRepository.findAllBySubjectId(subject.getId()).stream()
+                                    .map(GetTodoResponse::of)
+                                    .collect(Collectors.toList())))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * 보드 방식: 과목 + 오늘 집중 시간 1회, 할일 1회, ETag 계산 포함
+     */
+    @Benchmark
+    public SubjectBoardResponse boardQueries() {
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, List<GetTodoResponse>> todosBySubject = todoRepository.findBoardRowsByMemberId(memberId).stream()
+                    .collect(Collectors.groupingBy(
+                            TodoRepository.TodoBoardRow::getSubjectId,
+                            Collectors.mapping(GetTodoResponse::of, Collectors.toList())
+                    ));
+            List<GetSubjectResponse> subjects = subjectRepository.findBoardRowsByMemberId(memberId, TODAY).stream()
+                    .map(row -> GetSubjectResponse.of(row, todosBySubject.getOrDefault(row.getSubjectId(), List.of())))
+                    .collect(Collectors.toList());
+            return SubjectBoardResponse.of(TODAY, subjects);
+        });
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private Long insertFixtures(EntityManager entityManager) {
+        Member member = Member.builder()
+                .socialType(SocialType.KAKAO)
+                .socialId("jmh-board")
+                .nickname("jmhboard")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        entityManager.persist(member);
+
+        for (int i = 0; i < subjectCount; i++) {
+            Subject subject = Subject.builder().member(member).name("과목" + i).color("EE5D42").build();
+            entityManager.persist(subject);
+
+            // 절반의 과목만 오늘 공부한 기록이 있도록
+            if (i % 2 == 0) {
+                DailySubject dailySubject = DailySubject.builder().member(member).subject(subject).date(TODAY).build();
+                dailySubject.addSeconds(600 * (i + 1));
+                entityManager.persist(dailySubject);
+            }
+            for (int j = 0; j < todosPerSubject; j++) {
+                Todo todo = Todo.builder().subject(subject).content("문제집 " + j + "장 풀기").build();
+                if (j % 3 == 0) {
+                    todo.changeStatus();
+                }
+                entityManager.persist(todo);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return member.getId();
+    }
+}
@@ -0,0 +1,130 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusEventRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.SaveFocusRequestV3;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.FocusEvent;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import com.studioedge.focus_to_levelup_server.support.EmbeddedServiceConfig;
+import com.studioedge.focus_to_levelup_server.support.FocusMemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
+
+/**
+ * 집중 저장(saveFocus) 응답 시간 - 동기 후처리(FocusServiceV3) vs 후처리 이벤트(FocusServiceV4)
+ *
+ * 후처리 이벤트 도입 전의 FocusServiceV4 는 더 이상 코드에 없으므로, 동기 쪽은 FocusServiceV3 로 측정합니다.
+ * V3 는 이벤트 도입 전 V4 와 같은 후처리(학교/길드/아이템 달성/훈련 보상/플래너)를 요청 트랜잭션 안에서 하고,
+ * 롤업/일간 순위/기간 통계 기록도 현재 V4 와 같습니다. 다른 점은 세션 시간을 DailyGoal 대신 요청 본문에서 받는 것뿐이라
+ * 두 결과의 차이는 후처리를 이벤트로 미룬 효과로 볼 수 있습니다.
+ *
+ * 학교 소속, 길드 3곳, 달성 아이템 전부를 가진 유저가 같은 과목으로 25분 세션을 저장합니다. (EmbeddedServiceConfig)
+ * - synchronousFanOut: 학교/길드/아이템 달성/훈련 보상/플래너를 요청 트랜잭션 안에서 반영 (FocusServiceV3)
+ * - outbox: 사용자에게 보이는 상태만 반영하고 focus_events 1건 저장 (FocusServiceV4)
+ * - outboxDrain: FocusEventProcessor 가 이벤트 DRAIN_BATCH_SIZE 건을 한 트랜잭션으로 반영하는 시간
+ *   (응답 시간에는 포함되지 않는 후처리 비용, 이벤트당 비용 = 결과 / DRAIN_BATCH_SIZE)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveFocusBenchmark {
+    private static final int SESSION_SECONDS = 25 * 60;
+    private static final int DRAIN_BATCH_SIZE = 100;
+
+    private AnnotationConfigApplicationContext context;
+    private FocusServiceV3 focusServiceV3;
+    private FocusServiceV4 focusServiceV4;
+    private FocusMemberFixture.Ids ids;
+    private LocalDate serviceDate;
+    private SaveFocusRequestV3 request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedServiceConfig.class);
+        focusServiceV3 = context.getBean(FocusServiceV3.class);
+        focusServiceV4 = context.getBean(FocusServiceV4.class);
+
+        LocalDateTime sessionStartTime = LocalDateTime.now().minusSeconds(SESSION_SECONDS);
+        serviceDate = getServiceDate();
+        request = new SaveFocusRequestV3(SESSION_SECONDS, SESSION_SECONDS, sessionStartTime, sessionStartTime);
+
+        List<AchievementRule> rules = List.copyOf(context.getBeansOfType(AchievementRule.class).values());
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        ids = transaction.execute(status -> FocusMemberFixture.create(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(context.getBean(EntityManagerFactory.class)),
+                rules, serviceDate, sessionStartTime));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void synchronousFanOut() {
+        focusServiceV3.saveFocus(ids.memberId(), ids.subjectId(), request);
+    }
+
+    @Benchmark
+    public void outbox() {
+        focusServiceV4.saveFocus(ids.memberId(), ids.subjectId());
+    }
+
+    @Benchmark
+    public int outboxDrain(DrainState drain) {
+        return drain.focusEventProcessor.process(drain.eventIds);
+    }
+
+    /**
+     * 매 호출 전에 같은 이벤트들을 다시 PENDING 으로 돌려, 같은 묶음을 반복해서 반영합니다.
+     */
+    @State(Scope.Benchmark)
+    public static class DrainState {
+        private FocusEventProcessor focusEventProcessor;
+        private JdbcTemplate jdbcTemplate;
+        private List<Long> eventIds;
+
+        @Setup(Level.Trial)
+        public void setUp(SaveFocusBenchmark benchmark) {
+            focusEventProcessor = benchmark.context.getBean(FocusEventProcessor.class);
+            jdbcTemplate = benchmark.context.getBean(JdbcTemplate.class);
+
+            List<FocusEvent> events = new ArrayList<>(DRAIN_BATCH_SIZE);
+            for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+                LocalDateTime startTime = benchmark.request.subjectStartTime();
+                events.add(FocusEvent.builder()
+                        .memberId(benchmark.ids.memberId())
+                        .subjectId(benchmark.ids.subjectId())
+                        .dailyGoalId(benchmark.ids.dailyGoalId())
+                        .serviceDate(benchmark.serviceDate)
+                        .focusSeconds(SESSION_SECONDS)
+                        .focusExp(SESSION_SECONDS / 60 * 10)
+                        .schoolName(FocusMemberFixture.SCHOOL_NAME)
+                        .sessionStartTime(startTime)
+                        .startTime(startTime.toLocalTime())
+                        .endTime(startTime.plusSeconds(SESSION_SECONDS).toLocalTime())
+                        .build());
+            }
+            eventIds = benchmark.context.getBean(FocusEventRepository.class).saveAll(events).stream()
+                    .map(FocusEvent::getId)
+                    .toList();
+        }
+
+        @Setup(Level.Invocation)
+        public void resetEvents() {
+            jdbcTemplate.update("UPDATE focus_events SET status = 'PENDING'");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.studioedge.focus_to_levelup_server.domain.ranking.dto;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
+import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.domain.system.entity.Asset;
+import com.studioedge.focus_to_levelup_server.domain.system.entity.MemberAsset;
+import com.studioedge.focus_to_levelup_server.global.common.enums.AssetType;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import com.studioedge.focus_to_levelup_server.support.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리그 랭킹 응답 매핑 (RankingService.getRankingList 의 조회 이후 부분)
+ * 리더보드 순서대로 (Member, DailyGoal) 행을 찾아 RankingDetailResponse 로 변환합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingResponseBenchmark {
+
+    // 리그 인원 수
+    @Param({"30", "300"})
+    private int leagueSize;
+
+    private League league;
+    private List<Long> rankedMemberIds;
+    private Map<Long, Object[]> rowsByMemberId;
+    private Long myMemberId;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.of(2025, 11, 12);
+        league = BenchmarkFixtures.withField(League.builder()
+                .name("성인 3 브론즈 리그")
+                .categoryType(CategoryMainType.ADULT)
+                .tier(Tier.BRONZE)
+                .startDate(today.minusDays(2))
+                .endDate(today.plusDays(4))
+                .currentWeek(1)
+                .build(), "id", 4L);
+
+        Asset profileAsset = Asset.builder()
+                .type(AssetType.CHARACTER_PROFILE_IMAGE)
+                .name("양동동 1단계 프로필 이미지")
+                .assetUrl("https://cdn.example.com/profile/1.png")
+                .build();
+
+        rankedMemberIds = new ArrayList<>(leagueSize);
+        rowsByMemberId = new HashMap<>(leagueSize * 2);
+        for (long id = 1; id <= leagueSize; id++) {
+            MemberInfo memberInfo = MemberInfo.builder()
+                    .profileImage(MemberAsset.builder().asset(profileAsset).build())
+                    .build();
+            Member member = BenchmarkFixtures.withField(Member.builder()
+                    .nickname("member" + id)
+                    .memberInfo(memberInfo)
+                    .build(), "id", id);
+            // 3명 중 1명은 오늘 집중 기록이 없습니다.
+            DailyGoal dailyGoal = null;
+            if (id % 3 != 0) {
+                dailyGoal = DailyGoal.builder().member(member).targetMinutes(240).dailyGoalDate(today).build();
+                dailyGoal.addCurrentSeconds((int) (id * 97 % 36000));
+                dailyGoal.updateStartTime(today.atTime(9, 0));
+            }
+            rankedMemberIds.add(id);
+            rowsByMemberId.put(id, new Object[]{member, dailyGoal});
+        }
+        myMemberId = (long) (leagueSize / 2);
+    }
+
+    @Benchmark
+    public RankingResponse mapRankingResponse() {
+        List<RankingResponse.RankingDetailResponse> responses = new ArrayList<>();
+        for (Long rankedMemberId : rankedMemberIds) {
+            Object[] row = rowsByMemberId.get(rankedMemberId);
+            if (row == null) {
+                continue;
+            }
+            responses.add(RankingResponse.RankingDetailResponse.of((Member) row[0], (DailyGoal) row[1], myMemberId));
+        }
+        return RankingResponse.of(league, responses);
+    }
+}
@@ -0,0 +1,173 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklyStat;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklySubjectStat;
+import com.studioedge.focus_to_levelup_server.support.EmbeddedJpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 통계 배치(UpdateWeeklyStatStep) 저장 시간 - 기존 saveAll vs StatJdbcRepository
+ *
+ * 유저 memberCount 명(과목 3개)의 WeeklyStat 1건 + WeeklySubjectStat 3건을 Chunk(100명) 트랜잭션 단위로 저장합니다.
+ * - jpaSaveAll: IDENTITY 라 엔티티마다 INSERT 1건 (JDBC batch 미적용)
+ * - jdbcBatch: 배치가 쓰는 StatJdbcRepository 메서드 (upsertWeeklyStats, insertWeeklySubjectStats), Chunk 당 테이블별 batch 1회
+ * 기본은 H2 이고, rewriteBatchedStatements 효과까지 보려면 MySQL 로 실행합니다. (EmbeddedJpaConfig 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WeeklyStatWriteBenchmark {
+    private static final int CHUNK_SIZE = 100;
+    private static final int SUBJECTS_PER_MEMBER = 3;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 11, 3);
+    private static final LocalDate END_DATE = START_DATE.plusDays(6);
+
+    @Param({"1000", "5000"})
+    private int memberCount;
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+    private WeeklyStatRepository weeklyStatRepository;
+    private WeeklySubjectStatRepository weeklySubjectStatRepository;
+    private StatJdbcRepository statJdbcRepository;
+
+    private List<Member> members;
+    private List<List<Subject>> subjects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedJpaConfig.class);
+        weeklyStatRepository = context.getBean(WeeklyStatRepository.class);
+        weeklySubjectStatRepository = context.getBean(WeeklySubjectStatRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        statJdbcRepository = new StatJdbcRepository(jdbcTemplate);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> insertFixtures(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(context.getBean(EntityManagerFactory.class))));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteStats() {
+        jdbcTemplate.update("DELETE FROM weekly_subject_stats");
+        jdbcTemplate.update("DELETE FROM weekly_stats");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int jpaSaveAll() {
+        int saved = 0;
+        for (int offset = 0; offset < memberCount; offset += CHUNK_SIZE) {
+            int from = offset;
+            int to = Math.min(offset + CHUNK_SIZE, memberCount);
+            saved += transaction.execute(status -> {
+                List<WeeklyStat> stats = weeklyStats(from, to);
+                List<WeeklySubjectStat> subjectStats = weeklySubjectStats(from, to);
+                weeklyStatRepository.saveAll(stats);
+                weeklySubjectStatRepository.saveAll(subjectStats);
+                return stats.size() + subjectStats.size();
+            });
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public int jdbcBatch() {
+        int saved = 0;
+        for (int offset = 0; offset < memberCount; offset += CHUNK_SIZE) {
+            int from = offset;
+            int to = Math.min(offset + CHUNK_SIZE, memberCount);
+            saved += transaction.execute(status -> {
+                List<WeeklyStat> stats = weeklyStats(from, to);
+                List<WeeklySubjectStat> subjectStats = weeklySubjectStats(from, to);
+                statJdbcRepository.upsertWeeklyStats(stats);
+                statJdbcRepository.insertWeeklySubjectStats(subjectStats);
+                return stats.size() + subjectStats.size();
+            });
+        }
+        return saved;
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private List<WeeklyStat> weeklyStats(int from, int to) {
+        List<WeeklyStat> stats = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            stats.add(WeeklyStat.builder()
+                    .member(members.get(i))
+                    .startDate(START_DATE)
+                    .endDate(END_DATE)
+                    .totalFocusMinutes(600 + i % 1200)
+                    .totalLevel(10 + i % 50)
+                    .lastCharacterImageUrl("https://cdn.example.com/characters/" + (i % 20) + "/picture.png")
+                    .build());
+        }
+        return stats;
+    }
+
+    private List<WeeklySubjectStat> weeklySubjectStats(int from, int to) {
+        List<WeeklySubjectStat> stats = new ArrayList<>((to - from) * SUBJECTS_PER_MEMBER);
+        for (int i = from; i < to; i++) {
+            for (Subject subject : subjects.get(i)) {
+                stats.add(WeeklySubjectStat.builder()
+                        .member(members.get(i))
+                        .subject(subject)
+                        .startDate(START_DATE)
+                        .endDate(END_DATE)
+                        .totalMinutes(200 + i % 400)
+                        .build());
+            }
+        }
+        return stats;
+    }
+
+    private void insertFixtures(EntityManager entityManager) {
+        members = new ArrayList<>(memberCount);
+        subjects = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            Member member = Member.builder()
+                    .socialType(SocialType.KAKAO)
+                    .socialId("jmh-weekly-" + i)
+                    .nickname("jmh" + i)
+                    .status(MemberStatus.ACTIVE)
+                    .build();
+            entityManager.persist(member);
+
+            List<Subject> memberSubjects = new ArrayList<>(SUBJECTS_PER_MEMBER);
+            for (int s = 0; s < SUBJECTS_PER_MEMBER; s++) {
+                Subject subject = Subject.builder().member(member).name("과목" + s).color("EE5D42").build();
+                entityManager.persist(subject);
+                memberSubjects.add(subject);
+            }
+            members.add(member);
+            subjects.add(memberSubjects);
+
+            if (i % CHUNK_SIZE == CHUNK_SIZE - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+}
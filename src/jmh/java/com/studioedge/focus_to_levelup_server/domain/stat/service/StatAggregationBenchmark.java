@@ -0,0 +1,79 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.stat.dto.DailyStatListResponse;
+import com.studioedge.focus_to_levelup_server.domain.stat.dto.TotalStatResponse;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 집계 (DB 조회 이후 부분)
+ * - DailyStatService.aggregate : 한 달치 DailyGoal -> 일별 통계
+ * - TotalStatService.aggregate : 월간 롤업 -> 누적 통계/히트맵 (period 개월)
+ * 합성 DailyGoal 은 목표를 세운 날 비율(goalRate)만큼 채웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatAggregationBenchmark {
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 12);
+
+    @Param({"0.3", "1.0"})
+    private double goalRate;
+
+    @Param({"1", "12"})
+    private int period;
+
+    private YearMonth thisMonth;
+    private List<DailyGoal> monthGoals;
+    private List<MonthlyFocusRollup> rollups;
+    private LocalDate periodStart;
+
+    @Setup
+    public void setUp() {
+        thisMonth = YearMonth.from(TODAY);
+        periodStart = TODAY.minusMonths(period);
+
+        List<DailyGoal> goals = new ArrayList<>();
+        for (LocalDate date = periodStart.withDayOfMonth(1); !date.isAfter(TODAY); date = date.plusDays(1)) {
+            // 날짜 기반의 고정 패턴으로 goalRate 만큼만 기록 (실행마다 같은 데이터)
+            if ((date.toEpochDay() * 7919 % 100) >= goalRate * 100) {
+                continue;
+            }
+            DailyGoal goal = DailyGoal.builder().targetMinutes(240).dailyGoalDate(date).build();
+            goal.addCurrentSeconds((int) (date.toEpochDay() * 131 % 28800));
+            goals.add(goal);
+        }
+
+        monthGoals = goals.stream()
+                .filter(goal -> YearMonth.from(goal.getDailyGoalDate()).equals(thisMonth))
+                .toList();
+
+        rollups = new ArrayList<>();
+        MonthlyFocusRollup current = null;
+        for (DailyGoal goal : goals) {
+            YearMonth yearMonth = YearMonth.from(goal.getDailyGoalDate());
+            if (current == null || !current.getYearMonth().equals(yearMonth)) {
+                current = MonthlyFocusRollup.builder().yearMonth(yearMonth).build();
+                rollups.add(current);
+            }
+            current.recordDay(goal.getDailyGoalDate().getDayOfMonth(), goal.getCurrentSeconds());
+        }
+    }
+
+    @Benchmark
+    public DailyStatListResponse dailyStats() {
+        return DailyStatService.aggregate(thisMonth, monthGoals);
+    }
+
+    @Benchmark
+    public TotalStatResponse totalStats() {
+        return TotalStatService.aggregate(rollups, periodStart, TODAY);
+    }
+}
@@ -0,0 +1,78 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import com.studioedge.focus_to_levelup_server.support.EmbeddedServiceConfig;
+import com.studioedge.focus_to_levelup_server.support.FocusMemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
+
+/**
+ * 집중 저장 1회당 아이템 달성 체크 비용 (달성 아이템을 모두 보유한 유저)
+ *
+ * FocusEventProcessor.applyAchievements 와 같이 한 트랜잭션에서 DailyGoal 을 읽고 ItemAchievementService.checkAchievements 를 호출합니다.
+ * MemberItem 조회, AchievementContext 의 일별 집중 시간 집계 쿼리, 규칙 평가, progressData 직렬화/dirty checking 까지 포함합니다.
+ * 규칙 평가만의 비용은 AchievementRuleBenchmark 를 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemAchievementServiceBenchmark {
+    private static final int SESSION_SECONDS = 25 * 60;
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate transaction;
+    private ItemAchievementService itemAchievementService;
+    private DailyGoalRepository dailyGoalRepository;
+    private FocusMemberFixture.Ids ids;
+    private LocalDate serviceDate;
+    private LocalDateTime sessionStartTime;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedServiceConfig.class);
+        itemAchievementService = context.getBean(ItemAchievementService.class);
+        dailyGoalRepository = context.getBean(DailyGoalRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        serviceDate = getServiceDate();
+        sessionStartTime = LocalDateTime.now().minusSeconds(SESSION_SECONDS);
+        List<AchievementRule> rules = List.copyOf(context.getBeansOfType(AchievementRule.class).values());
+        ids = transaction.execute(status -> FocusMemberFixture.create(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(context.getBean(EntityManagerFactory.class)),
+                rules, serviceDate, sessionStartTime));
+
+        // 집중 저장 이후 상태 (DailyGoal 시간/시작/종료 시각이 채워진 상태에서 체크)
+        transaction.executeWithoutResult(status -> {
+            DailyGoal dailyGoal = dailyGoalRepository.findById(ids.dailyGoalId()).orElseThrow();
+            dailyGoal.addCurrentSeconds(SESSION_SECONDS);
+            dailyGoal.renewMaxConsecutiveSeconds(SESSION_SECONDS);
+            dailyGoal.updateEarliestStartTime(sessionStartTime.toLocalTime());
+            dailyGoal.updateLatestEndTime(sessionStartTime.plusSeconds(SESSION_SECONDS).toLocalTime());
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void checkAchievements() {
+        transaction.executeWithoutResult(status -> dailyGoalRepository.findById(ids.dailyGoalId())
+                .ifPresent(dailyGoal -> itemAchievementService.checkAchievements(
+                        ids.memberId(), SESSION_SECONDS, sessionStartTime, dailyGoal, serviceDate)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository.DailyFocusSeconds;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.store.enums.AchievementTrigger;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule.*;
+import com.studioedge.focus_to_levelup_server.support.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아이템 달성 규칙 평가 (ItemAchievementService.evaluate 의 규칙 호출 부분)
+ * DailySubject 조회는 2주치 고정 응답 스텁으로 대체합니다.
+ * 서비스 전체 경로(MemberItem 조회, 집계 쿼리, 직렬화 포함) 비용은 ItemAchievementServiceBenchmark 를 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AchievementRuleBenchmark {
+    private static final LocalDate SERVICE_DATE = LocalDate.of(2025, 11, 12);
+
+    private final List<RuleCase> ruleCases = List.of(
+            new RuleCase(new ConsecutiveFocusRule(), 90),
+            new RuleCase(new MorningStartRule(), 7),
+            new RuleCase(new LateNightEndRule(), 23),
+            new RuleCase(new LimitedRestRule(), 5),
+            new RuleCase(new WeakestDayRule(), 0),
+            new RuleCase(new SevenDaysStreakRule(), 0),
+            new RuleCase(new BeatLastWeekRule(), 0),
+            new RuleCase(new WeeklyAccumulationRule(), 30)
+    );
+
+    private DailyGoal dailyGoal;
+    private DailySubjectRepository dailySubjectRepository;
+
+    @Setup
+    public void setUp() {
+        dailyGoal = DailyGoal.builder()
+                .targetMinutes(240)
+                .dailyGoalDate(SERVICE_DATE)
+                .build();
+        dailyGoal.addCurrentSeconds(4 * 3600);
+        dailyGoal.renewMaxConsecutiveSeconds(95 * 60);
+        dailyGoal.updateEarliestStartTime(LocalTime.of(6, 40));
+        dailyGoal.updateLatestEndTime(LocalTime.of(23, 20));
+
+        // 지난 주 월요일 ~ 이번 주 오늘까지 매일 집중 기록
+        LocalDate lastWeekStart = SERVICE_DATE.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        List<DailyFocusSeconds> rows = new ArrayList<>();
+        for (LocalDate date = lastWeekStart; !date.isAfter(SERVICE_DATE); date = date.plusDays(1)) {
+            rows.add(new FocusRow(date, 3600L + date.getDayOfWeek().getValue() * 900L));
+        }
+        dailySubjectRepository = BenchmarkFixtures.repositoryStub(DailySubjectRepository.class,
+                Map.of("findDailyFocusSecondsByMemberId", rows));
+    }
+
+    @Benchmark
+    public void evaluateOnFocusSaved(Blackhole blackhole) {
+        evaluate(AchievementTrigger.FOCUS_SAVED, blackhole);
+    }
+
+    @Benchmark
+    public void evaluateOnStudyEnded(Blackhole blackhole) {
+        evaluate(AchievementTrigger.STUDY_ENDED, blackhole);
+    }
+
+    @Benchmark
+    public void progressOnly(Blackhole blackhole) {
+        AchievementContext context = new AchievementContext(
+                1L, SERVICE_DATE, AchievementTrigger.FOCUS_SAVED, dailyGoal, dailySubjectRepository);
+        for (RuleCase ruleCase : ruleCases) {
+            blackhole.consume(ruleCase.rule().progress(context, ruleCase.selection()));
+        }
+    }
+
+    private void evaluate(AchievementTrigger trigger, Blackhole blackhole) {
+        // 실제 호출과 같이 이벤트마다 컨텍스트를 새로 만듭니다. (집중 시간 조회 1회 포함)
+        AchievementContext context = new AchievementContext(1L, SERVICE_DATE, trigger, dailyGoal, dailySubjectRepository);
+        for (RuleCase ruleCase : ruleCases) {
+            if (ruleCase.rule().supports(trigger)) {
+                blackhole.consume(ruleCase.rule().evaluate(context, ruleCase.selection()));
+            }
+        }
+    }
+
+    private record RuleCase(AchievementRule rule, int selection) {
+    }
+
+    private record FocusRow(LocalDate getDate, Long getTotalSeconds) implements DailyFocusSeconds {
+    }
+}
@@ -0,0 +1,60 @@
+package com.studioedge.focus_to_levelup_server.global.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 날짜(새벽 4시 기준) 계산
+ * - getServiceDate(): 모든 집중/통계 요청에서 호출
+ * - saveFocusBoundary(): FocusService.saveFocus 의 4시 경계 보정 (시작 ~ 다음 4시까지만 저장)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServiceDateBenchmark {
+
+    // 02:30 시작은 4시 경계를 넘어가고, 13:00 시작은 넘어가지 않습니다.
+    @Param({"02:30", "13:00"})
+    private String startAt;
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private LocalTime endClock;
+
+    @Setup
+    public void setUp() {
+        startTime = LocalDate.of(2025, 11, 12).atTime(LocalTime.parse(startAt));
+        endTime = startTime.plusHours(2).plusMinutes(15);
+        endClock = endTime.toLocalTime();
+    }
+
+    @Benchmark
+    public LocalDate getServiceDate() {
+        return AppConstants.getServiceDate();
+    }
+
+    @Benchmark
+    public LocalDate getServiceDateOf() {
+        return AppConstants.getServiceDate(startTime);
+    }
+
+    @Benchmark
+    public int toServiceMinutes() {
+        return AppConstants.toServiceMinutes(endClock);
+    }
+
+    @Benchmark
+    public int saveFocusBoundary() {
+        int seconds = (int) Duration.between(startTime, endTime).getSeconds();
+        LocalDateTime limitTime = AppConstants.getServiceDayEnd(startTime);
+        if (endTime.isAfter(limitTime)) {
+            return (int) Math.max(0, Duration.between(startTime, limitTime).getSeconds());
+        }
+        return seconds;
+    }
+}
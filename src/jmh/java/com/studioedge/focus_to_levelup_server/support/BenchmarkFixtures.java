@@ -0,0 +1,46 @@
+package com.studioedge.focus_to_levelup_server.support;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * 벤치마크용 픽스처 유틸
+ * - 엔티티 id 처럼 setter 가 없는 필드를 채웁니다.
+ * - Spring Data repository 인터페이스를 고정 응답 스텁으로 만듭니다. (DB 없이 서비스 로직만 측정)
+ */
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {}
+
+    public static <T> T withField(T target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " 에 " + fieldName + " 필드가 없습니다.");
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+        return target;
+    }
+
+    /**
+     * 메서드 이름 -> 반환값 으로 응답하는 repository 스텁. 등록되지 않은 메서드는 UnsupportedOperationException.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repositoryStub(Class<T> repositoryType, Map<String, Object> responses) {
+        return (T) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(responses, args);
+                    }
+                    if (!responses.containsKey(method.getName())) {
+                        throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                    }
+                    return responses.get(method.getName());
+                }
+        );
+    }
+}
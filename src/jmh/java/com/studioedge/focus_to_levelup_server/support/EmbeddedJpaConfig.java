@@ -0,0 +1,71 @@
+package com.studioedge.focus_to_levelup_server.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * repository 벤치마크용 최소 JPA 컨텍스트 (H2 in-memory, MySQL 모드)
+ * 애플리케이션 전체(Redis, Firebase, Batch 등)를 띄우지 않고 엔티티 매핑과 domain 의 repository 만 올립니다.
+ * H2 는 MySQL 과 실행 계획/성능 특성이 다르므로, 같은 환경에서의 전후 비교 용도로만 사용합니다.
+ * MySQL 로 측정하려면 jmh.datasource.url / username / password 시스템 프로퍼티로 접속 정보를 넘깁니다.
+ * (./gradlew jmh -PjmhDatasourceUrl=jdbc:mysql://localhost:13307/focus_jmh?rewriteBatchedStatements=true ...,
+ *  테이블은 create-drop 으로 생성/삭제되므로 전용 스키마를 사용합니다.)
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackages = "com.studioedge.focus_to_levelup_server.domain")
+public class EmbeddedJpaConfig {
+
+    @Bean
+    public DataSource dataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        String url = System.getProperty("jmh.datasource.url");
+        if (url == null) {
+            dataSource.setDriverClassName("org.h2.Driver");
+            dataSource.setUrl("jdbc:h2:mem:jmh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            return dataSource;
+        }
+        dataSource.setUrl(url);
+        dataSource.setUsername(System.getProperty("jmh.datasource.username", "focus"));
+        dataSource.setPassword(System.getProperty("jmh.datasource.password", ""));
+        return dataSource;
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.studioedge.focus_to_levelup_server.domain");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy", "org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl",
+                "hibernate.show_sql", "false"
+        ));
+        return factory;
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
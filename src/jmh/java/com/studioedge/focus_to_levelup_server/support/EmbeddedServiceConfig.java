@@ -0,0 +1,93 @@
+package com.studioedge.focus_to_levelup_server.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.studioedge.focus_to_levelup_server.domain.character.service.TrainingRewardService;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.DailyFocusRankService;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.FocusEventProcessor;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.FocusServiceV3;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.FocusServiceV4;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.FocusRollupService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.PeriodStatService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.TotalStatCache;
+import com.studioedge.focus_to_levelup_server.domain.store.service.ItemAchievementService;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRuleRegistry;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule.ConsecutiveFocusRule;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalJdbcRepository;
+import com.studioedge.focus_to_levelup_server.global.counter.LocalFocusTotalCounter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 서비스 벤치마크용 컨텍스트 (EmbeddedJpaConfig + 집중 저장 경로의 서비스)
+ * Redis 를 쓰는 협력 객체(리더보드, 일간 순위 인덱스, 누적 통계 캐시)는 아무 것도 하지 않는 대역으로 바꿉니다.
+ * 이 객체들은 커밋 이후에만 Redis 를 호출하므로, 요청 트랜잭션 안의 DB 작업은 운영과 같게 측정됩니다.
+ */
+@Configuration
+@Import({EmbeddedJpaConfig.class,
+        FocusServiceV3.class, FocusServiceV4.class, FocusEventProcessor.class, FocusJdbcRepository.class,
+        ItemAchievementService.class, AchievementRuleRegistry.class, TrainingRewardService.class,
+        FocusRollupService.class, PeriodStatService.class, StatJdbcRepository.class,
+        FocusTotalJdbcRepository.class, LocalFocusTotalCounter.class})
+@ComponentScan(basePackageClasses = ConsecutiveFocusRule.class)
+public class EmbeddedServiceConfig {
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return JsonMapper.builder().findAndAddModules().build();
+    }
+
+    @Bean
+    public LeagueLeaderboardService leagueLeaderboardService() {
+        return new NoOpLeagueLeaderboardService();
+    }
+
+    @Bean
+    public DailyFocusRankService dailyFocusRankService() {
+        return new NoOpDailyFocusRankService();
+    }
+
+    @Bean
+    public TotalStatCache totalStatCache() {
+        return new NoOpTotalStatCache();
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    static class NoOpLeagueLeaderboardService extends LeagueLeaderboardService {
+        NoOpLeagueLeaderboardService() {
+            super(null, null);
+        }
+
+        @Override
+        public void updateScore(Member member) {
+        }
+    }
+
+    static class NoOpDailyFocusRankService extends DailyFocusRankService {
+        NoOpDailyFocusRankService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void record(DailyGoal dailyGoal) {
+        }
+    }
+
+    static class NoOpTotalStatCache extends TotalStatCache {
+        NoOpTotalStatCache() {
+            super(null, null);
+        }
+
+        @Override
+        public void evict(Long memberId) {
+        }
+    }
+}
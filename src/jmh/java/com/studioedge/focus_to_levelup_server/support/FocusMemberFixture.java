@@ -0,0 +1,128 @@
+package com.studioedge.focus_to_levelup_server.support;
+
+import com.studioedge.focus_to_levelup_server.domain.character.entity.Character;
+import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
+import com.studioedge.focus_to_levelup_server.domain.event.entity.School;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
+import com.studioedge.focus_to_levelup_server.domain.guild.entity.Guild;
+import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.Gender;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.domain.store.entity.Item;
+import com.studioedge.focus_to_levelup_server.domain.store.entity.MemberItem;
+import com.studioedge.focus_to_levelup_server.domain.store.enums.ItemType;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule.*;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.global.common.enums.Rarity;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 집중 저장 벤치마크용 유저 1명 (가장 무거운 경우)
+ * - 학교 소속(고등), 길드 GUILD_COUNT 곳 가입, 대표 캐릭터, 과목 1개
+ * - 달성 규칙이 있는 아이템을 모두 보유
+ * - 지난 HISTORY_DAYS 일 동안 매일 1시간 집중 기록 (달성 체크의 일별 집계 대상)
+ * - 서비스 날짜의 DailyGoal 에 sessionStartTime 부터 진행 중인 집중 세션
+ */
+public final class FocusMemberFixture {
+    public static final int GUILD_COUNT = 3;
+    public static final String SCHOOL_NAME = "벤치고등학교";
+    public static final int HISTORY_DAYS = 13;
+
+    // 세션 시작 직후에는 달성되지 않는 선택값 (나머지 규칙은 0)
+    private static final Map<Class<? extends AchievementRule>, Integer> SELECTIONS = Map.of(
+            ConsecutiveFocusRule.class, 180,
+            MorningStartRule.class, 5,
+            LateNightEndRule.class, 27,
+            WeeklyAccumulationRule.class, 60
+    );
+
+    public record Ids(Long memberId, Long subjectId, Long dailyGoalId) {
+    }
+
+    private FocusMemberFixture() {}
+
+    public static Ids create(EntityManager entityManager, Collection<AchievementRule> rules,
+                             LocalDate serviceDate, LocalDateTime sessionStartTime) {
+        School school = School.builder().name(SCHOOL_NAME).categoryMain(CategoryMainType.HIGH_SCHOOL).build();
+        entityManager.persist(school);
+
+        Member member = Member.builder()
+                .socialType(SocialType.KAKAO)
+                .socialId("jmh-focus")
+                .nickname("jmh")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        entityManager.persist(member);
+        entityManager.persist(MemberInfo.builder()
+                .member(member)
+                .age(17)
+                .gender(Gender.MALE)
+                .categoryMain(CategoryMainType.HIGH_SCHOOL)
+                .categorySub(CategorySubType.HIGH_2)
+                .school(school.getName())
+                .schoolAddress("서울")
+                .build());
+
+        Character character = Character.builder()
+                .rarity(Rarity.values()[0])
+                .price(0)
+                .name("기본")
+                .description("기본 캐릭터")
+                .backgroundImageUrl("https://cdn.example.com/characters/0/background.png")
+                .build();
+        entityManager.persist(character);
+        MemberCharacter memberCharacter = MemberCharacter.builder().member(member).character(character).floor(1).build();
+        memberCharacter.setAsDefault(1);
+        entityManager.persist(memberCharacter);
+
+        Subject subject = Subject.builder().member(member).name("수학").color("EE5D42").build();
+        entityManager.persist(subject);
+
+        for (int day = HISTORY_DAYS; day >= 1; day--) {
+            DailySubject history = DailySubject.builder().member(member).subject(subject).date(serviceDate.minusDays(day)).build();
+            history.addSeconds(3600);
+            entityManager.persist(history);
+        }
+
+        DailyGoal dailyGoal = DailyGoal.builder().member(member).targetMinutes(240).dailyGoalDate(serviceDate).build();
+        dailyGoal.updateStartTime(sessionStartTime);
+        entityManager.persist(dailyGoal);
+
+        for (int i = 0; i < GUILD_COUNT; i++) {
+            Guild guild = Guild.builder()
+                    .name("벤치길드" + i)
+                    .description("jmh")
+                    .targetFocusTime(3600)
+                    .isPublic(true)
+                    .category(CategorySubType.HIGH_2)
+                    .build();
+            entityManager.persist(guild);
+            entityManager.persist(GuildMember.builder().guild(guild).member(member).build());
+        }
+
+        for (AchievementRule rule : rules) {
+            Item item = Item.builder().name(rule.itemName()).type(ItemType.TWICE_AFTER_BUYING).build();
+            entityManager.persist(item);
+            entityManager.persist(MemberItem.builder()
+                    .member(member)
+                    .item(item)
+                    .selection(SELECTIONS.getOrDefault(rule.getClass(), 0))
+                    .build());
+        }
+
+        entityManager.flush();
+        return new Ids(member.getId(), subject.getId(), dailyGoal.getId());
+    }
+}
@@ -0,0 +1,38 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.controller;
+
+import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
+import com.studioedge.focus_to_levelup_server.global.cache.CatalogCache;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
+import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
+import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin - Catalog", description = "관리자 카탈로그 캐시 관리 API")
+@RestController
+@RequestMapping("/api/v1/admin/catalog")
+@RequiredArgsConstructor
+public class AdminCatalogController {
+
+    private final AdminAuthService adminAuthService;
+    private final CatalogCache catalogCache;
+
+    @PostMapping("/refresh")
+    @Operation(summary = "카탈로그 캐시 갱신", description = """
+            아이템/캐릭터/상품/몬스터 데이터를 DB 에서 직접 수정한 뒤 호출합니다.
+            모든 서버의 카탈로그 캐시를 비우고 다시 채웁니다.
+            """)
+    public ResponseEntity<CommonResponse<Void>> refreshCatalog(
+            @AuthenticationPrincipal MemberPrincipal member
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        catalogCache.invalidate();
+        return HttpResponseUtil.ok(null);
+    }
+}
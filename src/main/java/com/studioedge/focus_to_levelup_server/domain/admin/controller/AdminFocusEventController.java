@@ -0,0 +1,54 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.controller;
+
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminFocusEventResponse;
+import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
+import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminFocusEventService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
+import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
+import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Admin - Focus Event", description = "관리자 집중 후처리 이벤트 재처리 API")
+@RestController
+@RequestMapping("/api/v1/admin/focus-events")
+@RequiredArgsConstructor
+public class AdminFocusEventController {
+
+    private final AdminAuthService adminAuthService;
+    private final AdminFocusEventService adminFocusEventService;
+
+    @GetMapping("/failed")
+    @Operation(summary = "실패한 집중 후처리 이벤트 조회", description = "학교/길드/아이템 달성/훈련 보상/플래너 반영에 실패한 이벤트를 저장 순으로 조회합니다.")
+    public ResponseEntity<CommonResponse<List<AdminFocusEventResponse>>> getFailedEvents(
+            @AuthenticationPrincipal MemberPrincipal member
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.ok(adminFocusEventService.getFailedEvents());
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "실패한 집중 후처리 이벤트 전체 재처리", description = "실패한 이벤트를 모두 처리 대기 상태로 돌립니다. 1초 이내에 다시 반영됩니다.")
+    public ResponseEntity<CommonResponse<List<AdminFocusEventResponse>>> replayFailedEvents(
+            @AuthenticationPrincipal MemberPrincipal member
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.ok(adminFocusEventService.replayFailedEvents());
+    }
+
+    @PostMapping("/{eventId}/replay")
+    @Operation(summary = "실패한 집중 후처리 이벤트 재처리", description = "실패한 이벤트 하나를 처리 대기 상태로 돌립니다.")
+    public ResponseEntity<CommonResponse<AdminFocusEventResponse>> replayEvent(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @PathVariable Long eventId
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.ok(adminFocusEventService.replayEvent(eventId));
+    }
+}
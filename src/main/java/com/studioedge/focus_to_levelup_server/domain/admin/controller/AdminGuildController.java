@@ -5,7 +5,7 @@ import com.studioedge.focus_to_levelup_server.domain.admin.dto.request.AdminUpda
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminGuildResponse;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminGuildService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,7 +29,7 @@ public class AdminGuildController {
     @GetMapping("/{guildId}")
     @Operation(summary = "길드 조회", description = "길드 ID로 길드 정보를 조회합니다.")
     public ResponseEntity<CommonResponse<AdminGuildResponse>> getGuild(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회할 길드 ID") @PathVariable Long guildId
     ) {
         adminAuthService.validateAdminAccess(member.getId());
@@ -39,7 +39,7 @@ public class AdminGuildController {
     @PutMapping("/{guildId}/name")
     @Operation(summary = "길드명 변경", description = "길드명을 변경합니다.")
     public ResponseEntity<CommonResponse<AdminGuildResponse>> updateGuildName(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "변경할 길드 ID") @PathVariable Long guildId,
             @Valid @RequestBody AdminUpdateGuildNameRequest request
     ) {
@@ -50,7 +50,7 @@ public class AdminGuildController {
     @PutMapping("/{guildId}/description")
     @Operation(summary = "길드 설명 변경", description = "길드 설명(상태메시지)을 변경합니다.")
     public ResponseEntity<CommonResponse<AdminGuildResponse>> updateGuildDescription(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "변경할 길드 ID") @PathVariable Long guildId,
             @Valid @RequestBody AdminUpdateGuildDescriptionRequest request
     ) {
@@ -1,11 +1,13 @@
 package com.studioedge.focus_to_levelup_server.domain.admin.controller;
 
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.request.AdminBroadcastMailRequest;
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.request.AdminSendMailRequest;
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.request.AdminSendPreRegistrationRequest;
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminMailCampaignResponse;
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminMailResponse;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminMailService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,17 +30,27 @@ public class AdminMailController {
     @PostMapping
     @Operation(summary = "재화 지급 우편 발송", description = "유저에게 다이아/골드/보너스티켓을 우편으로 지급합니다.")
     public ResponseEntity<CommonResponse<AdminMailResponse>> sendRewardMail(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody AdminSendMailRequest request
     ) {
         adminAuthService.validateAdminAccess(member.getId());
         return HttpResponseUtil.created(adminMailService.sendRewardMail(request));
     }
 
+    @PostMapping("/broadcast")
+    @Operation(summary = "전체 재화 지급 우편 발송", description = "모든 유저에게 다이아/골드/보너스티켓을 우편으로 지급합니다. 각 유저가 우편함을 열 때 전달됩니다.")
+    public ResponseEntity<CommonResponse<AdminMailCampaignResponse>> broadcastRewardMail(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @Valid @RequestBody AdminBroadcastMailRequest request
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.created(adminMailService.broadcastRewardMail(request));
+    }
+
     @PostMapping("/pre-registration")
     @Operation(summary = "사전예약 패키지 지급", description = "사전예약 보상을 지급합니다. (다이아 500 + 보너스티켓 3개 + 캐릭터 선택권)")
     public ResponseEntity<CommonResponse<AdminMailResponse>> sendPreRegistrationPackage(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody AdminSendPreRegistrationRequest request
     ) {
         adminAuthService.validateAdminAccess(member.getId());
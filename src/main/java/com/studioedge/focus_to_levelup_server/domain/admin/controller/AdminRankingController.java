@@ -6,7 +6,7 @@ import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminRan
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminLeagueService;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminRankingService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,7 +29,7 @@ public class AdminRankingController {
     @GetMapping("/leagues")
     @Operation(summary = "리그 조회", description = "리그 정보를 조회합니다.")
     public ResponseEntity<CommonResponse<AdminLeagueResponse>> getLeagues(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         adminAuthService.validateAdminAccess(member.getId());
         return HttpResponseUtil.ok(adminLeagueService.getLeagues());
@@ -38,7 +38,7 @@ public class AdminRankingController {
     @GetMapping("/leagues/{leagueId}/rankings")
     @Operation(summary = "리그별 랭킹 조회", description = "특정 리그의 랭킹 정보를 조회합니다.")
     public ResponseEntity<CommonResponse<AdminRankingResponse>>  getRankingsByLeague(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회할 리그 ID") @PathVariable Long leagueId
     ) {
         adminAuthService.validateAdminAccess(member.getId());
@@ -48,7 +48,7 @@ public class AdminRankingController {
     @PostMapping("/rankings/{memberId}/exclude")
     @Operation(summary = "랭킹 제외 처리", description = "특정 회원을 랭킹에서 제외 처리합니다.")
     public ResponseEntity<CommonResponse<AdminMemberResponse>> excludeMemberFromRanking(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "제외할 맴버 ID") @PathVariable Long memberId
     ) {
         adminAuthService.validateAdminAccess(member.getId());
@@ -3,7 +3,7 @@ package com.studioedge.focus_to_levelup_server.domain.admin.controller;
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminReportResponse;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminReportService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,7 +29,7 @@ public class AdminReportController {
     @GetMapping
     @Operation(summary = "신고 목록 조회", description = "신고 목록을 조회합니다. 피신고자의 닉네임, 상태메시지, 총 신고 수를 확인할 수 있습니다.")
     public ResponseEntity<CommonResponse<Page<AdminReportResponse>>> getReportList(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "페이지 정보 (page, size, sort)")
             @PageableDefault(size = 20) Pageable pageable
     ) {
@@ -5,7 +5,7 @@ import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.FocusTim
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.GenderDistributionResponse;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
 import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminStatsService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,7 +33,7 @@ public class AdminStatsController {
     @GetMapping("/focus-time/daily")
     @Operation(summary = "일간 집중시간 분포", description = "특정 날짜의 집중시간 분포를 조회합니다. (2시간 단위: 0~2, 2~4, 4~6, 6~8, 8~10, 10시간 이상)")
     public ResponseEntity<CommonResponse<FocusTimeDistributionResponse>> getDailyFocusTimeDistribution(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회 날짜 (기본값: 오늘)", example = "2024-03-21")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
@@ -45,7 +45,7 @@ public class AdminStatsController {
     @GetMapping("/focus-time/weekly")
     @Operation(summary = "주간 집중시간 분포", description = "특정 날짜가 속한 주의 집중시간 분포를 조회합니다. (5시간 단위: 0~5, 5~10, ..., 50시간 이상)")
     public ResponseEntity<CommonResponse<FocusTimeDistributionResponse>> getWeeklyFocusTimeDistribution(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회 기준 날짜 (해당 주 조회, 기본값: 오늘)", example = "2024-03-21")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
@@ -57,7 +57,7 @@ public class AdminStatsController {
     @GetMapping("/category")
     @Operation(summary = "카테고리 분포", description = "카테고리별 유저 수 및 비율을 조회합니다.")
     public ResponseEntity<CommonResponse<CategoryDistributionResponse>> getCategoryDistribution(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         adminAuthService.validateAdminAccess(member.getId());
         return HttpResponseUtil.ok(adminStatsService.getCategoryDistribution());
@@ -66,7 +66,7 @@ public class AdminStatsController {
     @GetMapping("/gender")
     @Operation(summary = "성별 분포", description = "성별 유저 수 및 비율을 조회합니다.")
     public ResponseEntity<CommonResponse<GenderDistributionResponse>> getGenderDistribution(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         adminAuthService.validateAdminAccess(member.getId());
         return HttpResponseUtil.ok(adminStatsService.getGenderDistribution());
@@ -0,0 +1,54 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.controller;
+
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminWebhookEventResponse;
+import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminAuthService;
+import com.studioedge.focus_to_levelup_server.domain.admin.service.AdminWebhookService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
+import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
+import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Admin - Webhook", description = "관리자 결제 Webhook 재처리 API")
+@RestController
+@RequestMapping("/api/v1/admin/webhooks/revenuecat")
+@RequiredArgsConstructor
+public class AdminWebhookController {
+
+    private final AdminAuthService adminAuthService;
+    private final AdminWebhookService adminWebhookService;
+
+    @GetMapping("/failed")
+    @Operation(summary = "실패한 Webhook 이벤트 조회", description = "반영에 실패한 RevenueCat 이벤트를 수신 순으로 조회합니다.")
+    public ResponseEntity<CommonResponse<List<AdminWebhookEventResponse>>> getFailedEvents(
+            @AuthenticationPrincipal MemberPrincipal member
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.ok(adminWebhookService.getFailedEvents());
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "실패한 Webhook 이벤트 전체 재처리", description = "실패한 이벤트를 모두 처리 대기 상태로 돌립니다. 수신 순서대로 1초 이내에 다시 반영됩니다.")
+    public ResponseEntity<CommonResponse<List<AdminWebhookEventResponse>>> replayFailedEvents(
+            @AuthenticationPrincipal MemberPrincipal member
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.ok(adminWebhookService.replayFailedEvents());
+    }
+
+    @PostMapping("/{eventId}/replay")
+    @Operation(summary = "실패한 Webhook 이벤트 재처리", description = "실패한 이벤트 하나를 처리 대기 상태로 돌립니다.")
+    public ResponseEntity<CommonResponse<AdminWebhookEventResponse>> replayEvent(
+            @AuthenticationPrincipal MemberPrincipal member,
+            @PathVariable String eventId
+    ) {
+        adminAuthService.validateAdminAccess(member.getId());
+        return HttpResponseUtil.ok(adminWebhookService.replayEvent(eventId));
+    }
+}
@@ -0,0 +1,48 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.dto.response;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.FocusEvent;
+import com.studioedge.focus_to_levelup_server.domain.focus.enums.FocusEventStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "관리자용 집중 후처리 이벤트 응답")
+public record AdminFocusEventResponse(
+        @Schema(description = "이벤트 ID", example = "1024")
+        Long eventId,
+
+        @Schema(description = "회원 ID", example = "1")
+        Long memberId,
+
+        @Schema(description = "과목 ID", example = "3")
+        Long subjectId,
+
+        @Schema(description = "서비스 날짜", example = "2025-12-01")
+        LocalDate serviceDate,
+
+        @Schema(description = "집중 시간(초)", example = "1500")
+        Integer focusSeconds,
+
+        @Schema(description = "처리 상태", example = "FAILED")
+        FocusEventStatus status,
+
+        @Schema(description = "실패 사유", example = "과목을 찾을 수 없습니다: 3")
+        String errorMessage,
+
+        @Schema(description = "저장 시각", example = "2025-12-01T09:00:00")
+        LocalDateTime createdAt
+) {
+    public static AdminFocusEventResponse from(FocusEvent event) {
+        return new AdminFocusEventResponse(
+                event.getId(),
+                event.getMemberId(),
+                event.getSubjectId(),
+                event.getServiceDate(),
+                event.getFocusSeconds(),
+                event.getStatus(),
+                event.getErrorMessage(),
+                event.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.dto.response;
+
+import com.studioedge.focus_to_levelup_server.domain.system.entity.MailCampaign;
+import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "관리자용 전체 우편(캠페인) 응답")
+public record AdminMailCampaignResponse(
+        @Schema(description = "캠페인 ID", example = "1")
+        Long mailCampaignId,
+
+        @Schema(description = "우편 타입", example = "ADMIN_REWARD")
+        MailType type,
+
+        @Schema(description = "제목", example = "점검 보상 지급")
+        String title,
+
+        @Schema(description = "설명", example = "서버 점검에 대한 보상입니다.")
+        String description,
+
+        @Schema(description = "다이아 지급량", example = "100")
+        Integer diamondAmount,
+
+        @Schema(description = "골드 지급량", example = "500")
+        Integer goldAmount,
+
+        @Schema(description = "보너스 티켓 지급량", example = "1")
+        Integer bonusTicketCount,
+
+        @Schema(description = "발송 시각", example = "2025-12-01T09:00:00")
+        LocalDateTime sendAt,
+
+        @Schema(description = "만료일", example = "2025-12-31")
+        LocalDate expiredAt,
+
+        @Schema(description = "발송 이후 가입한 유저도 받는지 여부", example = "true")
+        Boolean includeNewMembers
+) {
+    public static AdminMailCampaignResponse from(MailCampaign campaign) {
+        return new AdminMailCampaignResponse(
+                campaign.getId(),
+                campaign.getType(),
+                campaign.getTitle(),
+                campaign.getDescription(),
+                campaign.getDiamondAmount(),
+                campaign.getGoldAmount(),
+                campaign.getBonusTicketCount(),
+                campaign.getSendAt(),
+                campaign.getExpiredAt(),
+                campaign.getIncludeNewMembers()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.dto.response;
+
+import com.studioedge.focus_to_levelup_server.domain.payment.entity.WebhookEvent;
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventStatus;
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "관리자용 Webhook 이벤트 응답")
+public record AdminWebhookEventResponse(
+        @Schema(description = "RevenueCat 이벤트 ID", example = "12345678-1234-1234-1234-123456789012")
+        String eventId,
+
+        @Schema(description = "이벤트 타입", example = "INITIAL_PURCHASE")
+        WebhookEventType eventType,
+
+        @Schema(description = "앱 유저 ID (회원 ID)", example = "1")
+        String appUserId,
+
+        @Schema(description = "RevenueCat 상품 ID", example = "premium_subscription")
+        String productId,
+
+        @Schema(description = "처리 상태", example = "FAILED")
+        WebhookEventStatus status,
+
+        @Schema(description = "실패 사유", example = "회원을 찾을 수 없습니다: 1")
+        String errorMessage,
+
+        @Schema(description = "수신 시각", example = "2025-12-01T09:00:00")
+        LocalDateTime createdAt
+) {
+    public static AdminWebhookEventResponse from(WebhookEvent event) {
+        return new AdminWebhookEventResponse(
+                event.getEventId(),
+                event.getEventType(),
+                event.getAppUserId(),
+                event.getProductId(),
+                event.getStatus(),
+                event.getErrorMessage(),
+                event.getCreatedAt()
+        );
+    }
+}
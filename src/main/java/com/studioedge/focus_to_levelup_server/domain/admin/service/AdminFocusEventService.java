@@ -0,0 +1,48 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.service;
+
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminFocusEventResponse;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusEventRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.enums.FocusEventStatus;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.FocusEventProcessor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminFocusEventService {
+
+    private final FocusEventRepository focusEventRepository;
+    private final FocusEventProcessor focusEventProcessor;
+
+    /**
+     * 실패한 집중 후처리 이벤트 목록 (저장 순)
+     */
+    public List<AdminFocusEventResponse> getFailedEvents() {
+        return focusEventRepository.findAllByStatusOrderByIdAsc(FocusEventStatus.FAILED).stream()
+                .map(AdminFocusEventResponse::from)
+                .toList();
+    }
+
+    /**
+     * 실패한 이벤트 전체 재처리
+     * PENDING 으로 돌려, 집중 후처리 소비자가 다음 주기에 반영합니다.
+     */
+    @Transactional
+    public List<AdminFocusEventResponse> replayFailedEvents() {
+        return focusEventProcessor.requeueFailed().stream()
+                .map(AdminFocusEventResponse::from)
+                .toList();
+    }
+
+    /**
+     * 실패한 이벤트 단건 재처리
+     */
+    @Transactional
+    public AdminFocusEventResponse replayEvent(Long eventId) {
+        return AdminFocusEventResponse.from(focusEventProcessor.requeue(eventId));
+    }
+}
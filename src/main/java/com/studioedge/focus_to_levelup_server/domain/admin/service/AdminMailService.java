@@ -1,18 +1,23 @@
 package com.studioedge.focus_to_levelup_server.domain.admin.service;
 
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.request.AdminBroadcastMailRequest;
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.request.AdminSendMailRequest;
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminMailCampaignResponse;
 import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminMailResponse;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Mail;
+import com.studioedge.focus_to_levelup_server.domain.system.entity.MailCampaign;
 import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
+import com.studioedge.focus_to_levelup_server.domain.system.service.MailCampaignService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ public class AdminMailService {
 
     private final MailRepository mailRepository;
     private final MemberRepository memberRepository;
+    private final MailCampaignService mailCampaignService;
 
     /**
      * 재화 지급 우편 발송
@@ -48,6 +54,32 @@ public class AdminMailService {
         return AdminMailResponse.from(savedMail);
     }
 
+    /**
+     * 전체 유저 재화 지급 우편 발송
+     * 캠페인 1건만 저장하고, 유저별 우편은 각 유저가 우편함을 열 때 만들어집니다.
+     */
+    @Transactional
+    public AdminMailCampaignResponse broadcastRewardMail(AdminBroadcastMailRequest request) {
+        LocalDateTime sendAt = request.sendAt() != null ? request.sendAt() : LocalDateTime.now();
+
+        MailCampaign campaign = MailCampaign.builder()
+                .senderName("운영자")
+                .type(MailType.ADMIN_REWARD)
+                .title(request.title())
+                .description(request.description())
+                .popupTitle(request.popupTitle())
+                .popupContent(request.popupContent())
+                .diamondAmount(request.diamondAmount())
+                .goldAmount(request.goldAmount())
+                .bonusTicketCount(request.bonusTicketCount())
+                .sendAt(sendAt)
+                .expiredAt(sendAt.toLocalDate().plusDays(request.expireDays()))
+                .includeNewMembers(request.includeNewMembers())
+                .build();
+
+        return AdminMailCampaignResponse.from(mailCampaignService.create(campaign));
+    }
+
     /**
      * 사전예약 패키지 지급 (다이아 + 보너스 티켓 + 캐릭터 선택권)
      */
@@ -17,6 +17,8 @@ import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
 import com.studioedge.focus_to_levelup_server.domain.ranking.exception.LeagueNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +40,8 @@ public class AdminMemberService {
     private final DailyGoalRepository dailyGoalRepository;
     private final LeagueRepository leagueRepository;
     private final RankingRepository rankingRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     /**
      * 회원 검색 (ID 또는 닉네임 부분 일치)
@@ -171,6 +175,7 @@ public class AdminMemberService {
 
         member.reactivate();
         memberSetting.clearRankingWarning();
+        memberPrincipalCache.evict(memberId);
         league.increaseCurrentMembers();
         rankingRepository.save(
                 Ranking.builder()
@@ -179,5 +184,6 @@ public class AdminMemberService {
                         .member(member)
                         .build()
         );
+        leagueLeaderboardService.evictLeagues(List.of(league.getId()));
     }
 }
@@ -10,9 +10,11 @@ import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingReposito
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.exception.LeagueNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Mail;
 import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,8 @@ public class AdminRankingService {
     private final RankingRepository rankingRepository;
     private final MemberRepository memberRepository;
     private final MailRepository mailRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     public AdminRankingResponse getRankingsByLeague(Long leagueId) {
         League league = leagueRepository.findById(leagueId)
@@ -49,6 +53,8 @@ public class AdminRankingService {
 
         ranking.getLeague().decreaseCurrentMembers();
         rankingRepository.deleteByMemberId(member.getId());
+        leagueLeaderboardService.removeMember(member.getId());
+        memberPrincipalCache.evict(member.getId());
 
         mailRepository.save(
                 Mail.builder()
@@ -0,0 +1,48 @@
+package com.studioedge.focus_to_levelup_server.domain.admin.service;
+
+import com.studioedge.focus_to_levelup_server.domain.admin.dto.response.AdminWebhookEventResponse;
+import com.studioedge.focus_to_levelup_server.domain.payment.dao.WebhookEventRepository;
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventStatus;
+import com.studioedge.focus_to_levelup_server.domain.payment.service.webhook.RevenueCatWebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminWebhookService {
+
+    private final WebhookEventRepository webhookEventRepository;
+    private final RevenueCatWebhookService revenueCatWebhookService;
+
+    /**
+     * 실패한 Webhook 이벤트 목록 (수신 순)
+     */
+    public List<AdminWebhookEventResponse> getFailedEvents() {
+        return webhookEventRepository.findAllByStatusOrderByCreatedAtAsc(WebhookEventStatus.FAILED).stream()
+                .map(AdminWebhookEventResponse::from)
+                .toList();
+    }
+
+    /**
+     * 실패한 이벤트 전체 재처리
+     * 수신 순서를 유지한 채 RECEIVED 로 돌려, Webhook 소비자가 다음 주기에 순서대로 반영합니다.
+     */
+    @Transactional
+    public List<AdminWebhookEventResponse> replayFailedEvents() {
+        return revenueCatWebhookService.requeueFailed().stream()
+                .map(AdminWebhookEventResponse::from)
+                .toList();
+    }
+
+    /**
+     * 실패한 이벤트 단건 재처리
+     */
+    @Transactional
+    public AdminWebhookEventResponse replayEvent(String eventId) {
+        return AdminWebhookEventResponse.from(revenueCatWebhookService.requeue(eventId));
+    }
+}
@@ -2,7 +2,7 @@ package com.studioedge.focus_to_levelup_server.domain.advertisement.controller;
 
 import com.studioedge.focus_to_levelup_server.domain.advertisement.dto.AdvertisementResponse;
 import com.studioedge.focus_to_levelup_server.domain.advertisement.service.AdvertisementService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,9 +40,9 @@ public class AdvertiseController {
     })
     @GetMapping("/v1/advertisements")
     public ResponseEntity<CommonResponse<AdvertisementResponse>> getAdvertisement(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(advertisementService.getAdvertisement(member));
+        return HttpResponseUtil.ok(advertisementService.getAdvertisement(member.getId()));
     }
 
     @Operation(
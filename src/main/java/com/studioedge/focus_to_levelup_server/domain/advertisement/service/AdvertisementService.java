@@ -3,7 +3,7 @@ package com.studioedge.focus_to_levelup_server.domain.advertisement.service;
 import com.studioedge.focus_to_levelup_server.domain.advertisement.dao.AdvertisementRepository;
 import com.studioedge.focus_to_levelup_server.domain.advertisement.dto.AdvertisementResponse;
 import com.studioedge.focus_to_levelup_server.domain.advertisement.entity.Advertisement;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberInfoRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 public class AdvertisementService {
 
     private final AdvertisementRepository advertisementRepository;
+    private final MemberInfoRepository memberInfoRepository;
     private final StringRedisTemplate redisTemplate;
 
     // Redis Key Prefix 정의
@@ -30,8 +31,8 @@ public class AdvertisementService {
      * 앱 실행 시 노출할 광고 1개 조회
      */
     @Transactional
-    public AdvertisementResponse getAdvertisement(Member member) {
-        String redisKey = AD_EXPOSURE_KEY_PREFIX + member.getId();
+    public AdvertisementResponse getAdvertisement(Long memberId) {
+        String redisKey = AD_EXPOSURE_KEY_PREFIX + memberId;
         String hasViewed = redisTemplate.opsForValue().get(redisKey);
 
         if (hasViewed != null) {
@@ -39,7 +40,7 @@ public class AdvertisementService {
         }
 
         // 1. 유저의 Sub 카테고리 확인
-        MemberInfo memberInfo = member.getMemberInfo();
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId).orElse(null);
         if (memberInfo == null || memberInfo.getCategorySub() == null) {
             throw new InvalidMemberException();
         }
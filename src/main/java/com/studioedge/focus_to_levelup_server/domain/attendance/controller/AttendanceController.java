@@ -3,7 +3,7 @@ package com.studioedge.focus_to_levelup_server.domain.attendance.controller;
 import com.studioedge.focus_to_levelup_server.domain.attendance.dto.AttendanceCheckResponse;
 import com.studioedge.focus_to_levelup_server.domain.attendance.dto.AttendanceInfoResponse;
 import com.studioedge.focus_to_levelup_server.domain.attendance.service.AttendanceService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -62,7 +62,7 @@ public class AttendanceController {
             )
     })
     public ResponseEntity<CommonResponse<AttendanceInfoResponse>> getAttendanceInfo(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(attendanceService.getAttendanceInfo(member.getId()));
     }
@@ -104,7 +104,7 @@ public class AttendanceController {
             )
     })
     public ResponseEntity<CommonResponse<AttendanceCheckResponse>>  checkIn(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(attendanceService.checkIn(member.getId()));
 
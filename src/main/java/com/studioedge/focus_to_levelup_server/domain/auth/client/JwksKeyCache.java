@@ -0,0 +1,167 @@
+package com.studioedge.focus_to_levelup_server.domain.auth.client;
+
+import com.google.gson.Gson;
+import com.studioedge.focus_to_levelup_server.domain.auth.dto.JsonWebKey;
+import com.studioedge.focus_to_levelup_server.domain.auth.dto.JsonWebKeySet;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 소셜 로그인 공급자 공개 키(JWKS) 캐시
+ *
+ * - 로그인마다 JWKS 를 받지 않고, 응답의 Cache-Control max-age 동안 파싱된 PublicKey 를 재사용합니다.
+ *   (max-age 가 없으면 1시간, 5분 ~ 1일 범위로 제한)
+ * - 토큰의 kid 가 캐시에 없으면 키가 교체(rotation)된 것으로 보고 만료 전이라도 다시 받습니다.
+ *   없는 kid 로 반복 요청하더라도 공급자를 계속 호출하지 않도록, 재조회는 MIN_REFRESH_INTERVAL 에 1번만 합니다.
+ * - 동시에 만료되더라도 JWKS 조회는 URI 별로 1건만 나가고, 나머지 요청은 그 결과를 사용합니다.
+ * - 재조회에 실패하면 만료된 키를 계속 사용합니다. (공급자 장애 중에도 기존 키로 서명된 토큰은 검증 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwksKeyCache {
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration MIN_MAX_AGE = Duration.ofMinutes(5);
+    private static final Duration MAX_MAX_AGE = Duration.ofDays(1);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private final SocialHttpClient socialHttpClient;
+    private final Gson gson;
+
+    private final Map<String, KeySet> keySets = new ConcurrentHashMap<>();
+    // 조회 중 blocking I/O 가 있으므로 synchronized 대신 ReentrantLock 을 사용합니다. (가상 스레드 pinning 방지)
+    private final Map<String, ReentrantLock> refreshLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 헤더의 kid/alg 에 해당하는 공개 키를 반환합니다.
+     */
+    public Optional<PublicKey> getPublicKey(SocialType socialType, String jwksUri, String kid, String alg) {
+        KeySet keySet = keySets.get(jwksUri);
+        long now = System.nanoTime();
+        if (keySet == null || keySet.isExpired(now) || (!keySet.contains(kid) && keySet.canRefresh(now))) {
+            keySet = refresh(socialType, jwksUri, kid);
+        }
+        return keySet.find(kid, alg);
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private KeySet refresh(SocialType socialType, String jwksUri, String kid) {
+        ReentrantLock lock = refreshLocks.computeIfAbsent(jwksUri, uri -> new ReentrantLock());
+        lock.lock();
+        try {
+            // 기다리는 동안 다른 요청이 이미 받아왔으면 그대로 사용
+            KeySet current = keySets.get(jwksUri);
+            long now = System.nanoTime();
+            if (current != null && !current.isExpired(now) && (current.contains(kid) || !current.canRefresh(now))) {
+                return current;
+            }
+
+            KeySet fetched;
+            try {
+                ResponseEntity<String> response = socialHttpClient.getEntity(socialType, jwksUri);
+                fetched = new KeySet(parseKeys(response.getBody()),
+                        now + maxAgeOf(response.getHeaders().getCacheControl()).toNanos(), now);
+                log.info(">> [JWKS] {} 공개 키 갱신: kid={}", socialType, fetched.keys().keySet());
+            } catch (RuntimeException e) {
+                if (current == null) {
+                    throw e;
+                }
+                log.warn(">> [JWKS] {} 공개 키 갱신 실패, 기존 키를 사용합니다.", socialType, e);
+                fetched = current.retryLater(now);
+            }
+            keySets.put(jwksUri, fetched);
+            return fetched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, SigningKey> parseKeys(String body) {
+        JsonWebKeySet keySet = gson.fromJson(body, JsonWebKeySet.class);
+        Map<String, SigningKey> keys = new HashMap<>();
+        for (JsonWebKey key : keySet.getKeys()) {
+            if (!"RSA".equals(key.getKty())) {
+                continue;
+            }
+            keys.put(key.getKid(), new SigningKey(key.getAlg(), toPublicKey(key)));
+        }
+        return Map.copyOf(keys);
+    }
+
+    private PublicKey toPublicKey(JsonWebKey key) {
+        try {
+            BigInteger n = new BigInteger(1, Base64.getUrlDecoder().decode(key.getN()));
+            BigInteger e = new BigInteger(1, Base64.getUrlDecoder().decode(key.getE()));
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(n, e));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWKS 공개 키 변환 실패. kid=" + key.getKid(), e);
+        }
+    }
+
+    private Duration maxAgeOf(String cacheControl) {
+        if (cacheControl == null) {
+            return DEFAULT_MAX_AGE;
+        }
+        Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+        if (!matcher.find()) {
+            return DEFAULT_MAX_AGE;
+        }
+        Duration maxAge = Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+        if (maxAge.compareTo(MIN_MAX_AGE) < 0) {
+            return MIN_MAX_AGE;
+        }
+        return maxAge.compareTo(MAX_MAX_AGE) > 0 ? MAX_MAX_AGE : maxAge;
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private record SigningKey(String alg, PublicKey publicKey) {
+    }
+
+    private record KeySet(Map<String, SigningKey> keys, long expiresAt, long fetchedAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        boolean contains(String kid) {
+            return kid != null && keys.containsKey(kid);
+        }
+
+        boolean canRefresh(long now) {
+            return now - fetchedAt >= MIN_REFRESH_INTERVAL.toNanos();
+        }
+
+        Optional<PublicKey> find(String kid, String alg) {
+            SigningKey key = kid == null ? null : keys.get(kid);
+            if (key == null || (key.alg() != null && !key.alg().equals(alg))) {
+                return Optional.empty();
+            }
+            return Optional.of(key.publicKey());
+        }
+
+        KeySet retryLater(long now) {
+            return new KeySet(keys, now + MIN_REFRESH_INTERVAL.toNanos(), now);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.studioedge.focus_to_levelup_server.domain.auth.client;
+
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.global.config.HttpClientConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 소셜 로그인 공급자(Apple/Google/Kakao/Naver) 호출 공통 클라이언트
+ *
+ * - 커넥션 풀/연결 타임아웃은 공용 WebClient(WebClientConfig) 설정을 따릅니다.
+ * - 공급자별로 응답 타임아웃과 서킷 브레이커를 둡니다. 한 공급자가 느려지거나 장애가 나면
+ *   요청 스레드가 타임아웃까지 묶이지 않도록 바로 실패시키고, 다른 공급자 로그인에는 영향을 주지 않습니다.
+ * - 4xx(만료/위조 토큰 등)는 공급자 장애가 아니므로 서킷 브레이커 실패로 집계하지 않습니다.
+ * - 4xx/5xx 응답은 WebClientResponseException 으로, 서킷이 열려 있으면 CallNotPermittedException 으로 던집니다.
+ * - 지표: resilience4j_circuitbreaker_state{name=social-apple|social-google|social-kakao|social-naver}
+ */
+@Component
+public class SocialHttpClient {
+    private static final String CIRCUIT_BREAKER_PREFIX = "social-";
+
+    private final WebClient webClient;
+    private final Map<SocialType, Duration> timeouts = new EnumMap<>(SocialType.class);
+    private final Map<SocialType, CircuitBreaker> circuitBreakers = new EnumMap<>(SocialType.class);
+
+    public SocialHttpClient(WebClient webClient, HttpClientConfig config, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+
+        HttpClientConfig.Social social = config.getSocial();
+        HttpClientConfig.CircuitBreaker circuitBreaker = social.getCircuitBreaker();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(circuitBreaker.getFailureRateThreshold())
+                .slowCallRateThreshold(circuitBreaker.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(circuitBreaker.getSlowCallDurationMs()))
+                .slidingWindowSize(circuitBreaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(circuitBreaker.getMinimumCalls())
+                .waitDurationInOpenState(Duration.ofMillis(circuitBreaker.getOpenDurationMs()))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .recordException(SocialHttpClient::isProviderFailure)
+                .build());
+
+        for (SocialType socialType : SocialType.values()) {
+            timeouts.put(socialType, Duration.ofMillis(social.getTimeoutMs(socialType)));
+            circuitBreakers.put(socialType,
+                    registry.circuitBreaker(CIRCUIT_BREAKER_PREFIX + socialType.name().toLowerCase()));
+        }
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    public String get(SocialType socialType, String uri) {
+        return execute(socialType, webClient.get().uri(uri), spec -> spec.bodyToMono(String.class));
+    }
+
+    public String get(SocialType socialType, String uri, String accessToken) {
+        return execute(socialType, webClient.get().uri(uri).headers(headers -> headers.setBearerAuth(accessToken)),
+                spec -> spec.bodyToMono(String.class));
+    }
+
+    /**
+     * 응답 헤더(Cache-Control 등)가 필요한 경우
+     */
+    public ResponseEntity<String> getEntity(SocialType socialType, String uri) {
+        return execute(socialType, webClient.get().uri(uri), spec -> spec.toEntity(String.class));
+    }
+
+    public String post(SocialType socialType, String uri, String accessToken) {
+        return execute(socialType, webClient.post().uri(uri).headers(headers -> headers.setBearerAuth(accessToken)),
+                spec -> spec.bodyToMono(String.class));
+    }
+
+    public String postForm(SocialType socialType, String uri, MultiValueMap<String, String> form) {
+        return execute(socialType, webClient.post()
+                        .uri(uri)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(form)),
+                spec -> spec.bodyToMono(String.class));
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private <T> T execute(SocialType socialType,
+                          WebClient.RequestHeadersSpec<?> request,
+                          Function<WebClient.ResponseSpec, Mono<T>> extractor) {
+        return extractor.apply(request.retrieve())
+                .timeout(timeouts.get(socialType))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(socialType)))
+                .block();
+    }
+
+    private static boolean isProviderFailure(Throwable throwable) {
+        return !(throwable instanceof WebClientResponseException e && e.getStatusCode().is4xxClientError());
+    }
+}
@@ -2,8 +2,8 @@ package com.studioedge.focus_to_levelup_server.domain.auth.controller;
 
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.*;
 import com.studioedge.focus_to_levelup_server.domain.auth.service.AuthService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,7 +56,8 @@ public class AuthController {
             @Valid @RequestBody LoginRequest request
     ) {
         SocialType type = SocialType.valueOf(socialType.toUpperCase());
-        LoginResponse response = authService.signIn(request, type);
+        String socialId = authService.getSocialId(request, type);
+        LoginResponse response = authService.signIn(request, type, socialId);
         return HttpResponseUtil.ok(response);
     }
 
@@ -135,7 +136,7 @@ public class AuthController {
     public ResponseEntity<CommonResponse<Void>> resign(
             @Parameter(description = "소셜 로그인 타입 (apple, kakao, naver, google)", example = "apple")
             @PathVariable String socialType,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         SocialType type = SocialType.valueOf(socialType.toUpperCase());
         authService.resign(member.getId(), type);
@@ -160,7 +161,7 @@ public class AuthController {
             )
     })
     public ResponseEntity<CommonResponse<HeartbeatResponse>> heartbeat(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         HeartbeatResponse response = authService.heartbeat(member.getId());
         return HttpResponseUtil.ok(response);
@@ -3,13 +3,16 @@ package com.studioedge.focus_to_levelup_server.domain.auth.dto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * JWKS 의 공개 키 1개 (Apple, Google 공통)
+ */
 @Getter
 @NoArgsConstructor
-public class GooglePublicKey {
+public class JsonWebKey {
     private String kty;
-    private String alg;
-    private String use;
     private String kid;
+    private String use;
+    private String alg;
     private String n;
     private String e;
 }
@@ -7,6 +7,6 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor
-public class GooglePublicKeys {
-    private List<GooglePublicKey> keys;
+public class JsonWebKeySet {
+    private List<JsonWebKey> keys;
 }
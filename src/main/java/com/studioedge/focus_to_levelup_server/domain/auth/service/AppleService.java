@@ -1,44 +1,45 @@
 package com.studioedge.focus_to_levelup_server.domain.auth.service;
 
 import com.google.gson.Gson;
-import com.studioedge.focus_to_levelup_server.domain.auth.dto.ApplePublicKey;
-import com.studioedge.focus_to_levelup_server.domain.auth.dto.ApplePublicKeys;
+import com.studioedge.focus_to_levelup_server.domain.auth.client.JwksKeyCache;
+import com.studioedge.focus_to_levelup_server.domain.auth.client.SocialHttpClient;
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.AppleTokenResponse;
 import com.studioedge.focus_to_levelup_server.domain.auth.exception.InvalidAppleTokenException;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
-import java.math.BigInteger;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
+/**
+ * Apple 로그인 (Identity Token 검증, 토큰 교환/해제)
+ * 외부 호출만 하고 DB 는 사용하지 않으므로 트랜잭션을 걸지 않습니다.
+ */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class AppleService {
 
     private static final String APPLE_PUBLIC_KEYS_URL = "https://appleid.apple.com/auth/keys";
     private static final String APPLE_TOKEN_URL = "https://appleid.apple.com/auth/token";
     private static final String APPLE_REVOKE_URL = "https://appleid.apple.com/auth/revoke";
+    // client secret 은 1시간 동안 유효하며, 만료 10분 전까지 재사용합니다.
+    private static final Duration CLIENT_SECRET_TTL = Duration.ofHours(1);
+    private static final Duration CLIENT_SECRET_REFRESH_MARGIN = Duration.ofMinutes(10);
 
     @Value("${apple.client-id}")
     private String clientId;
@@ -52,39 +53,39 @@ public class AppleService {
     @Value("${apple.private-key}")
     private String privateKey;
 
-    private final WebClient webClient;
+    private final SocialHttpClient socialHttpClient;
+    private final JwksKeyCache jwksKeyCache;
     private final Gson gson;
 
+    // PKCS8 파싱 결과와 서명한 client secret 재사용 (경쟁 시 중복 생성은 무해)
+    private volatile PrivateKey signingKey;
+    private volatile ClientSecret clientSecret;
+
     /**
      * Apple Identity Token 검증 및 소셜 ID 추출
      */
     public String getSocialIdFromIdentityToken(String identityToken) {
         try {
-            // 1. Apple 공개 키 목록 조회
-            ApplePublicKeys applePublicKeys = getApplePublicKeys();
-
-            // 2. Identity Token 헤더 파싱
+            // 1. Identity Token 헤더 파싱
             String headerOfIdentityToken = identityToken.substring(0, identityToken.indexOf("."));
             Map<String, String> header = gson.fromJson(
                     new String(Base64.getUrlDecoder().decode(headerOfIdentityToken)),
                     Map.class
             );
 
-            // 3. 매칭되는 공개 키 찾기
-            ApplePublicKey matchedKey = applePublicKeys.getKeys().stream()
-                    .filter(key -> key.getKid().equals(header.get("kid")) && key.getAlg().equals(header.get("alg")))
-                    .findFirst()
-                    .orElseThrow(InvalidAppleTokenException::new);
+            // 2. 매칭되는 공개 키 찾기 (JWKS 캐시)
+            PublicKey publicKey = jwksKeyCache.getPublicKey(
+                    SocialType.APPLE, APPLE_PUBLIC_KEYS_URL, header.get("kid"), header.get("alg")
+            ).orElseThrow(InvalidAppleTokenException::new);
 
-            // 4. 공개 키로 Identity Token 검증
-            PublicKey publicKey = getPublicKey(matchedKey);
+            // 3. 공개 키로 Identity Token 검증
             Claims claims = Jwts.parser()
                     .verifyWith(publicKey)
                     .build()
                     .parseSignedClaims(identityToken)
                     .getPayload();
 
-            // 5. Social ID (sub claim) 반환
+            // 4. Social ID (sub claim) 반환
             return claims.getSubject();
 
         } catch (Exception e) {
@@ -106,17 +107,7 @@ public class AppleService {
             params.add("code", authorizationCode);
             params.add("grant_type", "authorization_code");
 
-            String response = webClient.post()
-                    .uri(APPLE_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to get Apple token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidAppleTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.postForm(SocialType.APPLE, APPLE_TOKEN_URL, params);
 
             return gson.fromJson(response, AppleTokenResponse.class);
 
@@ -129,7 +120,6 @@ public class AppleService {
     /**
      * 회원탈퇴 시 Apple Refresh Token revoke
      */
-    @Transactional
     public void revokeAppleToken(Member member) {
         if (member.getAppleRefreshToken() == null) {
             log.warn("Member {} has no Apple refresh token to revoke", member.getId());
@@ -145,17 +135,7 @@ public class AppleService {
             params.add("token", member.getAppleRefreshToken());
             params.add("token_type_hint", "refresh_token");
 
-            webClient.post()
-                    .uri(APPLE_REVOKE_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to revoke Apple token, status: {}", clientResponse.statusCode());
-                        return Mono.empty();
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            socialHttpClient.postForm(SocialType.APPLE, APPLE_REVOKE_URL, params);
 
             log.info("Successfully revoked Apple token for member {}", member.getId());
 
@@ -164,62 +144,47 @@ public class AppleService {
         }
     }
 
-    /**
-     * Apple 공개 키 목록 조회
-     */
-    private ApplePublicKeys getApplePublicKeys() {
-        String response = webClient.get()
-                .uri(APPLE_PUBLIC_KEYS_URL)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        return gson.fromJson(response, ApplePublicKeys.class);
-    }
-
-    /**
-     * Apple Public Key로부터 RSA PublicKey 생성
-     */
-    private PublicKey getPublicKey(ApplePublicKey applePublicKey) {
-        try {
-            byte[] nBytes = Base64.getUrlDecoder().decode(applePublicKey.getN());
-            byte[] eBytes = Base64.getUrlDecoder().decode(applePublicKey.getE());
-
-            BigInteger n = new BigInteger(1, nBytes);
-            BigInteger e = new BigInteger(1, eBytes);
-
-            RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(n, e);
-            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-
-            return keyFactory.generatePublic(publicKeySpec);
-        } catch (Exception e) {
-            throw new InvalidAppleTokenException();
-        }
-    }
-
     /**
      * Client Secret 생성 (JWT 형태)
+     * 만료 10분 전까지는 이전에 서명한 값을 재사용합니다.
      */
     private String generateClientSecret() {
+        ClientSecret cached = clientSecret;
+        long nowMillis = System.currentTimeMillis();
+        if (cached != null && cached.expiresAtMillis() - nowMillis > CLIENT_SECRET_REFRESH_MARGIN.toMillis()) {
+            return cached.value();
+        }
+
         try {
-            Date now = new Date();
-            Date expirationDate = new Date(now.getTime() + 3600000); // 1시간
+            Date now = new Date(nowMillis);
+            Date expirationDate = new Date(nowMillis + CLIENT_SECRET_TTL.toMillis());
 
-            return Jwts.builder()
+            String value = Jwts.builder()
                     .header().keyId(keyId).and()
                     .issuer(teamId)
                     .issuedAt(now)
                     .expiration(expirationDate)
                     .audience().add("https://appleid.apple.com").and()
                     .subject(clientId)
-                    .signWith(getPrivateKey(privateKey), Jwts.SIG.ES256)
+                    .signWith(getSigningKey(), Jwts.SIG.ES256)
                     .compact();
+            clientSecret = new ClientSecret(value, expirationDate.getTime());
+            return value;
         } catch (Exception e) {
             log.error("Failed to generate client secret", e);
             throw new InvalidAppleTokenException();
         }
     }
 
+    private PrivateKey getSigningKey() {
+        PrivateKey key = signingKey;
+        if (key == null) {
+            key = getPrivateKey(privateKey);
+            signingKey = key;
+        }
+        return key;
+    }
+
     /**
      * Private Key 생성
      */
@@ -245,4 +210,9 @@ public class AppleService {
             throw new InvalidAppleTokenException();
         }
     }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private record ClientSecret(String value, long expiresAtMillis) {
+    }
 }
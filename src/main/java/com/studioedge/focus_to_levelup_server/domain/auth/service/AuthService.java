@@ -7,9 +7,11 @@ import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
 import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.global.jwt.*;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -30,39 +32,46 @@ public class AuthService {
     private final GoogleService googleService;
     private final MemberRepository memberRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     /**
-     * 로그인
+     * 로그인 1단계: 각 플랫폼 Service에서 소셜 ID 조회
+     * 공급자 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행합니다.
      */
-    @Transactional
-    public LoginResponse signIn(LoginRequest request, SocialType socialType) {
-        // 1. 각 플랫폼 Service에서 소셜 ID 조회
-        String socialId = switch (socialType) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getSocialId(LoginRequest request, SocialType socialType) {
+        return switch (socialType) {
             case APPLE -> appleService.getSocialIdFromIdentityToken(request.getIdentityToken());
             case KAKAO -> kakaoService.signIn(request.getIdentityToken());
             case NAVER -> naverService.getSocialIdFromAccessToken(request.getIdentityToken());
             case GOOGLE -> googleService.getSocialIdFromIdToken(request.getIdentityToken());
         };
+    }
 
-        // 2. 사용자 조회
+    /**
+     * 로그인 2단계 (socialId 는 getSocialId 로 검증된 값)
+     */
+    @Transactional
+    public LoginResponse signIn(LoginRequest request, SocialType socialType, String socialId) {
+        // 1. 사용자 조회
         Member member = memberRepository.findBySocialTypeAndSocialId(socialType, socialId)
                 .orElseThrow(UserNotRegisteredException::new);
 
-        // 3. 탈퇴한 사용자 체크
+        // 2. 탈퇴한 사용자 체크
         if (member.getStatus() == MemberStatus.WITHDRAWN) {
             throw new WithdrawnMemberException();
         }
 
-        // 4. FCM 토큰 업데이트
+        // 3. FCM 토큰 업데이트
         if (request.getFcmToken() != null) {
             member.setFcmToken(request.getFcmToken());
         }
 
-        // 5. JWT 토큰 생성 및 저장
+        // 4. JWT 토큰 생성 및 저장
         Token token = generateToken(member.getId());
         member.setRefreshToken(token.getRefreshToken());
 
-        // 6. 프로필 완성 여부 확인
+        // 5. 프로필 완성 여부 확인
         boolean isProfileCompleted = member.getNickname() != null;
 
         return LoginResponse.of(token, isProfileCompleted);
@@ -230,6 +239,7 @@ public class AuthService {
             // 기존 회원 정보 업데이트
             if (member.getStatus() == MemberStatus.WITHDRAWN) {
                 member.reactivate();
+                memberPrincipalCache.evict(member.getId());
                 log.info("Withdrawn member reactivated: memberId={}", member.getId());
             }
             if (fcmToken != null) {
@@ -294,6 +304,7 @@ public class AuthService {
 
         // 2. 회원 탈퇴 처리
         member.withdraw();
+        memberPrincipalCache.evict(memberId);
 
         log.info("Member resigned: memberId={}, socialType={}", memberId, socialType);
     }
@@ -1,35 +1,30 @@
 package com.studioedge.focus_to_levelup_server.domain.auth.service;
 
 import com.google.gson.Gson;
-import com.studioedge.focus_to_levelup_server.domain.auth.dto.GooglePublicKey;
-import com.studioedge.focus_to_levelup_server.domain.auth.dto.GooglePublicKeys;
+import com.studioedge.focus_to_levelup_server.domain.auth.client.JwksKeyCache;
+import com.studioedge.focus_to_levelup_server.domain.auth.client.SocialHttpClient;
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.GoogleTokenResponse;
 import com.studioedge.focus_to_levelup_server.domain.auth.exception.InvalidSocialTokenException;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
-import java.math.BigInteger;
-import java.security.KeyFactory;
 import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
 import java.util.Map;
 
+/**
+ * Google 로그인 (ID Token 검증, 토큰 교환/해제)
+ */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class GoogleService {
 
@@ -46,7 +41,8 @@ public class GoogleService {
     @Value("${google.redirect-uri}")
     private String redirectUri;
 
-    private final WebClient webClient;
+    private final SocialHttpClient socialHttpClient;
+    private final JwksKeyCache jwksKeyCache;
     private final Gson gson;
 
     /**
@@ -54,38 +50,33 @@ public class GoogleService {
      */
     public String getSocialIdFromIdToken(String idToken) {
         try {
-            // 1. Google 공개 키 목록 조회
-            GooglePublicKeys googlePublicKeys = getGooglePublicKeys();
-
-            // 2. ID Token 헤더 파싱
+            // 1. ID Token 헤더 파싱
             String headerOfIdToken = idToken.substring(0, idToken.indexOf("."));
             Map<String, String> header = gson.fromJson(
                     new String(Base64.getUrlDecoder().decode(headerOfIdToken)),
                     Map.class
             );
 
-            // 3. 매칭되는 공개 키 찾기
-            GooglePublicKey matchedKey = googlePublicKeys.getKeys().stream()
-                    .filter(key -> key.getKid().equals(header.get("kid")) && key.getAlg().equals(header.get("alg")))
-                    .findFirst()
-                    .orElseThrow(InvalidSocialTokenException::new);
+            // 2. 매칭되는 공개 키 찾기 (JWKS 캐시)
+            PublicKey publicKey = jwksKeyCache.getPublicKey(
+                    SocialType.GOOGLE, GOOGLE_PUBLIC_KEYS_URL, header.get("kid"), header.get("alg")
+            ).orElseThrow(InvalidSocialTokenException::new);
 
-            // 4. 공개 키로 ID Token 검증
-            PublicKey publicKey = getPublicKey(matchedKey);
+            // 3. 공개 키로 ID Token 검증
             Claims claims = Jwts.parser()
                     .verifyWith(publicKey)
                     .build()
                     .parseSignedClaims(idToken)
                     .getPayload();
 
-            // 5. Audience 검증
+            // 4. Audience 검증
             String audience = claims.getAudience().iterator().next();
             if (!clientId.equals(audience)) {
                 log.error("Invalid Google ID Token audience: {}", audience);
                 throw new InvalidSocialTokenException();
             }
 
-            // 6. Social ID (sub claim) 반환
+            // 5. Social ID (sub claim) 반환
             log.info("Successfully verified Google ID Token for user: {}", claims.getSubject());
             return claims.getSubject();
 
@@ -107,17 +98,7 @@ public class GoogleService {
             params.add("redirect_uri", redirectUri);
             params.add("code", authorizationCode);
 
-            String response = webClient.post()
-                    .uri(GOOGLE_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to get Google token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.postForm(SocialType.GOOGLE, GOOGLE_TOKEN_URL, params);
 
             return gson.fromJson(response, GoogleTokenResponse.class);
 
@@ -131,7 +112,6 @@ public class GoogleService {
      * 회원탈퇴 시 Google Token revoke
      * Refresh Token으로 새 Access Token 발급 후 revoke
      */
-    @Transactional
     public void revokeGoogleToken(Member member) {
         if (member.getGoogleRefreshToken() == null) {
             log.warn("Member {} has no Google refresh token to revoke", member.getId());
@@ -146,17 +126,7 @@ public class GoogleService {
             MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
             params.add("token", accessToken);
 
-            webClient.post()
-                    .uri(GOOGLE_REVOKE_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to revoke Google token, status: {}", clientResponse.statusCode());
-                        return Mono.empty();
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            socialHttpClient.postForm(SocialType.GOOGLE, GOOGLE_REVOKE_URL, params);
 
             log.info("Successfully revoked Google token for member {}", member.getId());
 
@@ -176,17 +146,7 @@ public class GoogleService {
             params.add("client_secret", clientSecret);
             params.add("refresh_token", refreshToken);
 
-            String response = webClient.post()
-                    .uri(GOOGLE_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to refresh Google token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.postForm(SocialType.GOOGLE, GOOGLE_TOKEN_URL, params);
 
             GoogleTokenResponse tokenResponse = gson.fromJson(response, GoogleTokenResponse.class);
             return tokenResponse.getAccessToken();
@@ -196,37 +156,4 @@ public class GoogleService {
             throw new InvalidSocialTokenException();
         }
     }
-
-    /**
-     * Google 공개 키 목록 조회
-     */
-    private GooglePublicKeys getGooglePublicKeys() {
-        String response = webClient.get()
-                .uri(GOOGLE_PUBLIC_KEYS_URL)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        return gson.fromJson(response, GooglePublicKeys.class);
-    }
-
-    /**
-     * Google Public Key로부터 RSA PublicKey 생성
-     */
-    private PublicKey getPublicKey(GooglePublicKey googlePublicKey) {
-        try {
-            byte[] nBytes = Base64.getUrlDecoder().decode(googlePublicKey.getN());
-            byte[] eBytes = Base64.getUrlDecoder().decode(googlePublicKey.getE());
-
-            BigInteger n = new BigInteger(1, nBytes);
-            BigInteger e = new BigInteger(1, eBytes);
-
-            RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(n, e);
-            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-
-            return keyFactory.generatePublic(publicKeySpec);
-        } catch (Exception e) {
-            throw new InvalidSocialTokenException();
-        }
-    }
 }
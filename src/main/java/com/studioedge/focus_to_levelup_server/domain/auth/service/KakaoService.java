@@ -1,25 +1,24 @@
 package com.studioedge.focus_to_levelup_server.domain.auth.service;
 
 import com.google.gson.Gson;
+import com.studioedge.focus_to_levelup_server.domain.auth.client.SocialHttpClient;
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.KakaoTokenResponse;
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.KakaoUserInfo;
 import com.studioedge.focus_to_levelup_server.domain.auth.exception.InvalidSocialTokenException;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+/**
+ * Kakao 로그인 (사용자 정보 조회, 토큰 교환/연결 해제)
+ */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class KakaoService {
 
@@ -33,7 +32,7 @@ public class KakaoService {
     @Value("${kakao.client-secret}")
     private String clientSecret;
 
-    private final WebClient webClient;
+    private final SocialHttpClient socialHttpClient;
     private final Gson gson;
 
     /**
@@ -41,16 +40,7 @@ public class KakaoService {
      */
     public String getSocialIdFromAccessToken(String accessToken) {
         try {
-            String response = webClient.get()
-                    .uri(KAKAO_USER_INFO_URL)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to get Kakao user info, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.get(SocialType.KAKAO, KAKAO_USER_INFO_URL, accessToken);
 
             KakaoUserInfo userInfo = gson.fromJson(response, KakaoUserInfo.class);
             return String.valueOf(userInfo.getId());
@@ -72,17 +62,7 @@ public class KakaoService {
             params.add("client_secret", clientSecret);
             params.add("code", authorizationCode);
 
-            String response = webClient.post()
-                    .uri(KAKAO_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to get Kakao token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.postForm(SocialType.KAKAO, KAKAO_TOKEN_URL, params);
 
             return gson.fromJson(response, KakaoTokenResponse.class);
 
@@ -96,7 +76,6 @@ public class KakaoService {
      * 회원탈퇴 시 Kakao 연결 해제
      * Refresh Token으로 새 Access Token 발급 후 unlink
      */
-    @Transactional
     public void unlinkKakaoAccount(Member member) {
         if (member.getKakaoRefreshToken() == null) {
             log.warn("Member {} has no Kakao refresh token to unlink", member.getId());
@@ -108,16 +87,7 @@ public class KakaoService {
             String accessToken = refreshAccessToken(member.getKakaoRefreshToken());
 
             // 2. Access Token으로 Unlink
-            webClient.post()
-                    .uri(KAKAO_UNLINK_URL)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to unlink Kakao account, status: {}", clientResponse.statusCode());
-                        return Mono.empty();
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            socialHttpClient.post(SocialType.KAKAO, KAKAO_UNLINK_URL, accessToken);
 
             log.info("Successfully unlinked Kakao account for member {}", member.getId());
 
@@ -137,17 +107,7 @@ public class KakaoService {
             params.add("client_secret", clientSecret);
             params.add("refresh_token", refreshToken);
 
-            String response = webClient.post()
-                    .uri(KAKAO_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(params))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to refresh Kakao token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.postForm(SocialType.KAKAO, KAKAO_TOKEN_URL, params);
 
             KakaoTokenResponse tokenResponse = gson.fromJson(response, KakaoTokenResponse.class);
             return tokenResponse.getAccessToken();
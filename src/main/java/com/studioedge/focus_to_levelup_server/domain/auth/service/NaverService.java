@@ -1,21 +1,22 @@
 package com.studioedge.focus_to_levelup_server.domain.auth.service;
 
 import com.google.gson.Gson;
+import com.studioedge.focus_to_levelup_server.domain.auth.client.SocialHttpClient;
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.NaverTokenResponse;
 import com.studioedge.focus_to_levelup_server.domain.auth.dto.NaverUserInfo;
 import com.studioedge.focus_to_levelup_server.domain.auth.exception.InvalidSocialTokenException;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+/**
+ * Naver 로그인 (사용자 정보 조회, 토큰 교환/해제)
+ */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class NaverService {
 
@@ -31,7 +32,7 @@ public class NaverService {
     @Value("${naver.redirect-uri}")
     private String redirectUri;
 
-    private final WebClient webClient;
+    private final SocialHttpClient socialHttpClient;
     private final Gson gson;
 
     /**
@@ -39,16 +40,7 @@ public class NaverService {
      */
     public String getSocialIdFromAccessToken(String accessToken) {
         try {
-            String response = webClient.get()
-                    .uri(NAVER_USER_INFO_URL)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to get Naver user info, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.get(SocialType.NAVER, NAVER_USER_INFO_URL, accessToken);
 
             NaverUserInfo userInfo = gson.fromJson(response, NaverUserInfo.class);
 
@@ -78,15 +70,7 @@ public class NaverService {
                     "&code=" + authorizationCode +
                     "&state=" + state;
 
-            String response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to get Naver token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.get(SocialType.NAVER, url);
 
             return gson.fromJson(response, NaverTokenResponse.class);
 
@@ -100,7 +84,6 @@ public class NaverService {
      * 회원탈퇴 시 Naver Token revoke
      * Refresh Token으로 새 Access Token 발급 후 revoke
      */
-    @Transactional
     public void revokeNaverToken(Member member) {
         if (member.getNaverRefreshToken() == null) {
             log.warn("Member {} has no Naver refresh token to revoke", member.getId());
@@ -118,15 +101,7 @@ public class NaverService {
                     "&client_secret=" + clientSecret +
                     "&access_token=" + accessToken;
 
-            String response = webClient.get()
-                    .uri(revokeUrl)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to revoke Naver token, status: {}", clientResponse.statusCode());
-                        return Mono.empty();
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            socialHttpClient.get(SocialType.NAVER, revokeUrl);
 
             log.info("Successfully revoked Naver token for member {}", member.getId());
 
@@ -146,15 +121,7 @@ public class NaverService {
                     "&client_secret=" + clientSecret +
                     "&refresh_token=" + refreshToken;
 
-            String response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("Failed to refresh Naver token, status: {}", clientResponse.statusCode());
-                        return Mono.error(new InvalidSocialTokenException());
-                    })
-                    .bodyToMono(String.class)
-                    .block();
+            String response = socialHttpClient.get(SocialType.NAVER, url);
 
             NaverTokenResponse tokenResponse = gson.fromJson(response, NaverTokenResponse.class);
             return tokenResponse.getAccessToken();
@@ -6,8 +6,8 @@ import com.studioedge.focus_to_levelup_server.domain.character.dto.response.Char
 import com.studioedge.focus_to_levelup_server.domain.character.dto.response.MemberCharacterResponse;
 import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterPurchaseService;
 import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterQueryService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.global.common.enums.Rarity;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,7 +51,7 @@ public class CharacterController {
     @Operation(summary = "캐릭터 구매", description = "다이아를 사용하여 캐릭터를 구매합니다.")
     @PostMapping("/purchase")
     public ResponseEntity<CommonResponse<MemberCharacterResponse>> purchaseCharacter(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody CharacterPurchaseRequest request
     ) {
         MemberCharacterResponse response = characterPurchaseService.purchaseCharacter(member.getId(), request);
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,11 @@ public interface CharacterImageRepository extends JpaRepository<CharacterImage,
             Integer evolution,
             CharacterImageType imageType
     );
+
+    /**
+     * 여러 캐릭터의 특정 타입 이미지 일괄 조회 (배치용)
+     */
+    @Query("SELECT ci FROM CharacterImage ci WHERE ci.character.id IN :characterIds AND ci.imageType = :imageType")
+    List<CharacterImage> findAllByCharacterIdInAndImageType(@Param("characterIds") Collection<Long> characterIds,
+                                                            @Param("imageType") CharacterImageType imageType);
 }
@@ -5,10 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberCharacterRepository extends JpaRepository<MemberCharacter, Long> {
+    interface DefaultCharacterName {
+        Long getMemberId();
+        String getCharacterName();
+    }
 
     /**
      * 유저의 모든 캐릭터 조회 (Character fetch join)
@@ -22,6 +27,20 @@ public interface MemberCharacterRepository extends JpaRepository<MemberCharacter
     @Query("SELECT mc FROM MemberCharacter mc JOIN FETCH mc.character WHERE mc.member.id = :memberId AND mc.isDefault = true")
     Optional<MemberCharacter> findByMemberIdAndIsDefaultTrue(@Param("memberId") Long memberId);
 
+    /**
+     * 여러 유저의 대표 캐릭터 일괄 조회 (배치용)
+     */
+    @Query("SELECT mc FROM MemberCharacter mc JOIN FETCH mc.character WHERE mc.member.id IN :memberIds AND mc.isDefault = true")
+    List<MemberCharacter> findAllDefaultByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 여러 유저의 대표 캐릭터 이름 일괄 조회 (FCM 알림용)
+     */
+    @Query("SELECT mc.member.id as memberId, c.name as characterName FROM MemberCharacter mc " +
+            "JOIN mc.character c " +
+            "WHERE mc.member.id IN :memberIds AND mc.isDefault = true")
+    List<DefaultCharacterName> findDefaultCharacterNamesByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
     /**
      * 유저가 대표 캐릭터를 설정했는지 확인
      */
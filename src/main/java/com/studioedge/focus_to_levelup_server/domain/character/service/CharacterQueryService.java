@@ -1,53 +1,95 @@
 package com.studioedge.focus_to_levelup_server.domain.character.service;
 
+import com.studioedge.focus_to_levelup_server.domain.character.dao.CharacterImageRepository;
 import com.studioedge.focus_to_levelup_server.domain.character.dto.response.CharacterListResponse;
 import com.studioedge.focus_to_levelup_server.domain.character.dto.response.CharacterResponse;
 import com.studioedge.focus_to_levelup_server.domain.character.entity.Character;
+import com.studioedge.focus_to_levelup_server.domain.character.entity.CharacterImage;
+import com.studioedge.focus_to_levelup_server.domain.character.enums.CharacterImageType;
 import com.studioedge.focus_to_levelup_server.domain.character.exception.CharacterNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.CharacterRepository;
+import com.studioedge.focus_to_levelup_server.global.cache.CatalogCache;
 import com.studioedge.focus_to_levelup_server.global.common.enums.Rarity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+/**
+ * 캐릭터 조회 서비스
+ * 목록/상세 응답과 캐릭터 이미지 URL 은 CatalogCache 에서 제공합니다. (캐시 적중 시 DB 조회 X)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CharacterQueryService {
 
+    private static final String IMAGE_URLS_KEY = "character:image-urls";
+
     private final CharacterRepository characterRepository;
+    private final CharacterImageRepository characterImageRepository;
+    private final CatalogCache catalogCache;
 
     /**
      * 캐릭터 목록 조회 (등급별 필터링 가능)
      * @param rarity null이면 전체 조회, 값이 있으면 등급별 조회
      */
     public CharacterListResponse getCharacters(Rarity rarity) {
-        List<Character> characters = (rarity == null)
-                ? characterRepository.findAllWithImages()
-                : characterRepository.findAllByRarityWithImages(rarity);
+        return catalogCache.get("character:list:" + (rarity == null ? "all" : rarity), () -> {
+            List<Character> characters = (rarity == null)
+                    ? characterRepository.findAllWithImages()
+                    : characterRepository.findAllByRarityWithImages(rarity);
 
-        List<CharacterResponse> characterResponses = characters.stream()
-                .map(CharacterResponse::from)
-                .toList();
+            List<CharacterResponse> characterResponses = characters.stream()
+                    .map(CharacterResponse::from)
+                    .toList();
 
-        return CharacterListResponse.from(characterResponses);
+            return CharacterListResponse.from(characterResponses);
+        });
     }
 
     /**
      * 캐릭터 상세 조회 (이미지 포함)
      */
     public CharacterResponse getCharacterById(Long characterId) {
-        Character character = findCharacterById(characterId);
-        return CharacterResponse.from(character);
+        return catalogCache.get("character:id:" + characterId,
+                () -> CharacterResponse.from(findCharacterById(characterId)));
+    }
+
+    /**
+     * 캐릭터 이미지 URL 조회 (스냅샷 저장, 통계 등 유저마다 반복 조회하는 곳에서 사용)
+     */
+    public Optional<String> findImageUrl(Long characterId, Integer evolution, CharacterImageType imageType) {
+        return Optional.ofNullable(getImageUrls().get(imageKey(characterId, evolution, imageType)));
+    }
+
+    /**
+     * 전체 캐릭터 이미지 URL (key: characterId:evolution:imageType)
+     */
+    public Map<String, String> getImageUrls() {
+        return catalogCache.get(IMAGE_URLS_KEY, () -> characterImageRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        image -> imageKey(image.getCharacter().getId(), image.getEvolution(), image.getImageType()),
+                        CharacterImage::getImageUrl,
+                        (first, second) -> first
+                )));
     }
 
     /**
      * 캐릭터 조회 (내부용 - 엔티티 반환)
      */
+    @Transactional(readOnly = true)
     public Character findCharacterById(Long characterId) {
         return characterRepository.findByIdWithImages(characterId)
                 .orElseThrow(CharacterNotFoundException::new);
     }
+
+    //---- PRIVATE METHOD ----
+
+    private String imageKey(Long characterId, Integer evolution, CharacterImageType imageType) {
+        return characterId + ":" + evolution + ":" + imageType;
+    }
 }
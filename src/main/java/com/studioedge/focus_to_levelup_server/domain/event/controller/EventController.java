@@ -2,7 +2,7 @@ package com.studioedge.focus_to_levelup_server.domain.event.controller;
 
 import com.studioedge.focus_to_levelup_server.domain.event.dto.SchoolResponse;
 import com.studioedge.focus_to_levelup_server.domain.event.service.SchoolService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,10 +45,10 @@ public class EventController {
             )
     })
     public ResponseEntity<CommonResponse<Page<SchoolResponse>>> getRankingList(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "20") int size
     ) {
-        return HttpResponseUtil.ok(schoolService.getRankingList(member, PageRequest.of(page, size)));
+        return HttpResponseUtil.ok(schoolService.getRankingList(member.getId(), PageRequest.of(page, size)));
     }
 }
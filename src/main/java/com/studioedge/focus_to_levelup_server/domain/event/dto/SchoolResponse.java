@@ -1,6 +1,7 @@
 package com.studioedge.focus_to_levelup_server.domain.event.dto;
 
 import com.studioedge.focus_to_levelup_server.domain.event.entity.School;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
 import lombok.Builder;
 
 @Builder
@@ -9,10 +10,10 @@ public record SchoolResponse (
     Long totalLevel,
     Boolean mySchool
 ) {
-    public static SchoolResponse of(School school, String mySchoolName) {
+    public static SchoolResponse of(School school, String mySchoolName, long pendingExp) {
         return SchoolResponse.builder()
                 .name(school.getName())
-                .totalLevel(school.getTotalLevel())
+                .totalLevel(FocusTotalCounter.schoolTotalLevel(school, pendingExp))
                 .mySchool(school.getName().equals(mySchoolName))
                 .build();
     }
@@ -25,10 +25,11 @@ public class School extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private CategoryMainType categoryMain;
 
-    @Column(nullable = false)
+    // totalLevel/totalExp 는 FocusTotalCounter 가 UPDATE x = x + ? 로만 더하므로, 엔티티 UPDATE 에서는 덮어쓰지 않습니다.
+    @Column(nullable = false, updatable = false)
     private Long totalLevel = 0l;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Long totalExp = 0l;
 
     @Builder
@@ -36,12 +37,4 @@ public class School extends BaseEntity {
         this.name = name;
         this.categoryMain = categoryMain;
     }
-
-    public void plusTotalLevel(Integer exp) {
-        this.totalExp += exp;
-        if (this.totalExp >= 600) {
-            this.totalLevel += (this.totalExp / 600);
-            this.totalExp %= 600;
-        }
-    }
 }
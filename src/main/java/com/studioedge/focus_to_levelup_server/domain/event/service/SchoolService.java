@@ -2,12 +2,14 @@ package com.studioedge.focus_to_levelup_server.domain.event.service;
 
 import com.studioedge.focus_to_levelup_server.domain.event.dao.SchoolRepository;
 import com.studioedge.focus_to_levelup_server.domain.event.dto.SchoolResponse;
+import com.studioedge.focus_to_levelup_server.domain.event.entity.School;
 import com.studioedge.focus_to_levelup_server.domain.event.exception.EventUnAuthorizedException;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberInfoRepository;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,15 +18,18 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class SchoolService {
     private final MemberInfoRepository memberInfoRepository;
     private final SchoolRepository schoolRepository;
+    private final FocusTotalCounter focusTotalCounter;
 
     @Transactional(readOnly = true)
-    public Page<SchoolResponse> getRankingList(Member member, Pageable pageable) {
-        MemberInfo memberInfo = memberInfoRepository.findByMember(member).orElseThrow(InvalidMemberException::new);
+    public Page<SchoolResponse> getRankingList(Long memberId, Pageable pageable) {
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId).orElseThrow(InvalidMemberException::new);
         if (!AppConstants.SCHOOL_CATEGORIES.contains(memberInfo.getCategoryMain())) {
             throw new EventUnAuthorizedException();
         }
@@ -34,7 +39,11 @@ public class SchoolService {
                 pageable.getPageSize(),
                 Sort.by(Sort.Direction.DESC, "totalLevel")
         );
-        return schoolRepository.findAll(sortedPageable)
-                .map(school -> SchoolResponse.of(school, member.getMemberInfo().getSchool()));
+        Page<School> schools = schoolRepository.findAll(sortedPageable);
+        // 정렬은 DB 값 기준이고, 응답에는 아직 반영되지 않은 증가분까지 더합니다. (flush 주기 동안만 순서가 어긋날 수 있음)
+        Map<Long, Long> pendingExp = focusTotalCounter.pending(FocusTotalType.SCHOOL_EXP,
+                schools.map(School::getId).getContent());
+        return schools.map(school -> SchoolResponse.of(
+                school, memberInfo.getSchool(), pendingExp.getOrDefault(school.getId(), 0L)));
     }
 }
@@ -4,7 +4,7 @@ import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.SaveAllow
 import com.studioedge.focus_to_levelup_server.domain.focus.service.AllowedAppService;
 import com.studioedge.focus_to_levelup_server.domain.member.dto.AllowedAppsDto;
 import com.studioedge.focus_to_levelup_server.domain.member.dto.GetProfileResponse;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,9 +44,9 @@ public class AllowedAppController {
             )
     })
     public ResponseEntity<CommonResponse<AllowedAppsDto>> getAllowedApps(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(allowedAppService.getAllowedApps(member));
+        return HttpResponseUtil.ok(allowedAppService.getAllowedApps(member.getId()));
     }
     @PutMapping("/v1/apps")
     @Operation(summary = "허용가능 앱 생성 및 수정(덮어쓰기)", description = """
@@ -65,10 +65,10 @@ public class AllowedAppController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateAllowedApps(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody AllowedAppsDto requests
     ) {
-        allowedAppService.updateAllowedApps(member, requests);
+        allowedAppService.updateAllowedApps(member.getId(), requests);
         return HttpResponseUtil.updated(null);
     }
 
@@ -101,10 +101,10 @@ public class AllowedAppController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> saveAllowedAppTime(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody SaveAllowedAppRequest request
     ) {
-        allowedAppService.saveAllowedAppTime(member, request);
+        allowedAppService.saveAllowedAppTime(member.getId(), request);
         return HttpResponseUtil.ok(null);
     }
 }
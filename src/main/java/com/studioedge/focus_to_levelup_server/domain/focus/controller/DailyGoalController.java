@@ -4,7 +4,7 @@ import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.CreateDai
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.ReceiveDailyGoalRequest;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetDailyGoalResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.service.DailyGoalService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,11 +51,11 @@ public class DailyGoalController {
             )
     })
     public ResponseEntity<CommonResponse<GetDailyGoalResponse>> getDailyGoal(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "날짜")
             @RequestParam(defaultValue = "2025-12-18", required = false) LocalDate date
     ) {
-        return HttpResponseUtil.ok(dailyGoalService.getTodayDailyGoal(member, date));
+        return HttpResponseUtil.ok(dailyGoalService.getTodayDailyGoal(member.getId(), date));
     }
 
     /**
@@ -82,10 +82,10 @@ public class DailyGoalController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> createDailyGoal(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody CreateDailyGoalRequest request
     ) {
-        dailyGoalService.createDailyGoal(member, request);
+        dailyGoalService.createDailyGoal(member.getId(), request);
         return HttpResponseUtil.created(null);
     }
 
@@ -114,11 +114,11 @@ public class DailyGoalController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> receiveDailyGoal(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable Long dailyGoalId,
             @Valid @RequestBody ReceiveDailyGoalRequest request
     ) {
-        dailyGoalService.receiveDailyGoal(member, dailyGoalId, request);
+        dailyGoalService.receiveDailyGoal(member.getId(), dailyGoalId, request);
         return HttpResponseUtil.ok(null);
     }
 
@@ -147,10 +147,10 @@ public class DailyGoalController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> receiveDailyGoalV2(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable Long dailyGoalId
     ) {
-        dailyGoalService.receiveDailyGoalV2(member, dailyGoalId);
+        dailyGoalService.receiveDailyGoalV2(member.getId(), dailyGoalId);
         return HttpResponseUtil.ok(null);
     }
 }
@@ -3,7 +3,7 @@ package com.studioedge.focus_to_levelup_server.domain.focus.controller;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.StartFocusRequest;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.FocusModeImageResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.service.FocusService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,10 +39,10 @@ public class FocusController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> startFocusV1(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody StartFocusRequest request
     ) {
-        focusService.startFocusV1(member, request);
+        focusService.startFocusV1(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -61,10 +61,10 @@ public class FocusController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> startFocusV2(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam(value = "resetScreenTime", defaultValue = "false") boolean isResetScreenTime
     ) {
-        focusService.startFocusV2(member, isResetScreenTime);
+        focusService.startFocusV2(member.getId(), isResetScreenTime);
         return HttpResponseUtil.updated(null);
     }
 
@@ -89,8 +89,8 @@ public class FocusController {
             )
     })
     public ResponseEntity<CommonResponse<FocusModeImageResponse>> getFocusAnimation(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(focusService.getFocusAnimation(member));
+        return HttpResponseUtil.ok(focusService.getFocusAnimation());
     }
 }
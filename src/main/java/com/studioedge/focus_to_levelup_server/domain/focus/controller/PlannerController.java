@@ -2,7 +2,7 @@ package com.studioedge.focus_to_levelup_server.domain.focus.controller;
 
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.PlannerListResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.service.PlannerService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,10 +54,10 @@ public class PlannerController {
             )
     })
     public ResponseEntity<CommonResponse<PlannerListResponse>> getTodayPlanner(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "날짜")
             @RequestParam(required = false) LocalDate date
     ) {
-        return HttpResponseUtil.ok(plannerService.getTodayPlanner(member, date));
+        return HttpResponseUtil.ok(plannerService.getTodayPlanner(member.getId(), date));
     }
 }
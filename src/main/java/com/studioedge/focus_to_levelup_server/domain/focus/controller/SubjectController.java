@@ -5,8 +5,9 @@ import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.SaveFocus
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.SaveFocusRequestV2;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.SaveFocusRequestV3;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetSubjectResponse;
+import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.SubjectBoardResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.service.*;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,6 +52,10 @@ public class SubjectController {
                     1) `id`: 할일 pk
                     2) `content`: 할일 내용
                     3) `complete`: 할일 완료 여부
+            
+            ### 캐시
+            - 응답에 `ETag` 헤더가 포함됩니다.
+            - 다음 요청에 `If-None-Match: {ETag}` 를 보내면, 내용이 바뀌지 않은 경우 본문 없이 `304` 로 응답합니다.
             """
     )
     @ApiResponses({
@@ -58,13 +63,18 @@ public class SubjectController {
                     responseCode = "200",
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = GetSubjectResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match 와 ETag 일치)"
             )
     })
     public ResponseEntity<CommonResponse<List<GetSubjectResponse>>> getSubjectList(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam(required = false) LocalDate date
     ) {
-        return HttpResponseUtil.ok(subjectService.getSubjectList(member, date));
+        SubjectBoardResponse board = subjectService.getSubjectBoard(member.getId(), date);
+        return HttpResponseUtil.ok(board.subjects(), board.eTag());
     }
 
     /**
@@ -92,10 +102,10 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> createSubject(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody CreateSubjectRequest request
     ) {
-        subjectService.createSubject(member, request);
+        subjectService.createSubject(member.getId(), request);
         return HttpResponseUtil.created(null);
     }
 
@@ -138,11 +148,11 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> saveFocusV1(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId,
             @Valid @RequestBody SaveFocusRequest request
     ) {
-        focusService.saveFocus(member, subjectId, request);
+        focusService.saveFocus(member.getId(), subjectId, request);
         return HttpResponseUtil.ok(null);
     }
 
@@ -187,11 +197,11 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> saveFocusV2(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId,
             @Valid @RequestBody SaveFocusRequestV2 request
     ) {
-        focusServiceV2.saveFocus(member, subjectId, request);
+        focusServiceV2.saveFocus(member.getId(), subjectId, request);
         return HttpResponseUtil.ok(null);
     }
 
@@ -237,11 +247,11 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> saveFocusV3(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId,
             @Valid @RequestBody SaveFocusRequestV3 request
     ) {
-        focusServiceV3.saveFocus(member, subjectId, request);
+        focusServiceV3.saveFocus(member.getId(), subjectId, request);
         return HttpResponseUtil.ok(null);
     }
     /**
@@ -281,10 +291,10 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> saveFocusV4(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId
     ) {
-        focusServiceV4.saveFocus(member, subjectId);
+        focusServiceV4.saveFocus(member.getId(), subjectId);
         return HttpResponseUtil.ok(null);
     }
 
@@ -322,11 +332,11 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateSubject(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId,
             @Valid @RequestBody CreateSubjectRequest request
     ) {
-        subjectService.updateSubject(member, subjectId, request);
+        subjectService.updateSubject(member.getId(), subjectId, request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -358,10 +368,10 @@ public class SubjectController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> deleteSubject(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId
     ) {
-        subjectService.deleteSubject(member, subjectId);
+        subjectService.deleteSubject(member.getId(), subjectId);
         return HttpResponseUtil.delete(null);
     }
 }
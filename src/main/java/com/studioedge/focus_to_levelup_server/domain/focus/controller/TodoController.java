@@ -3,7 +3,7 @@ package com.studioedge.focus_to_levelup_server.domain.focus.controller;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.CreateTodoRequest;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetTodoResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.service.TodoService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -59,10 +59,10 @@ public class TodoController {
             )
     })
     public ResponseEntity<CommonResponse<List<GetTodoResponse>>> getTodoList(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId
     ) {
-        return HttpResponseUtil.ok(todoService.getTodoList(member, subjectId));
+        return HttpResponseUtil.ok(todoService.getTodoList(member.getId(), subjectId));
     }
 
     /**
@@ -97,11 +97,11 @@ public class TodoController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> createTodo(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "subjectId") Long subjectId,
             @Valid @RequestBody CreateTodoRequest request
     ) {
-        todoService.createTodo(member, subjectId, request);
+        todoService.createTodo(member.getId(), subjectId, request);
         return HttpResponseUtil.created(null);
     }
 
@@ -137,11 +137,11 @@ public class TodoController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateTodo(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "todoId") Long todoId,
             @Valid @RequestBody CreateTodoRequest request
     ) {
-        todoService.updateTodo(member, todoId, request);
+        todoService.updateTodo(member.getId(), todoId, request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -203,10 +203,10 @@ public class TodoController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> deleteTodo(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "todoId") Long todoId
     ) {
-        todoService.deleteTodo(member, todoId);
+        todoService.deleteTodo(member.getId(), todoId);
         return HttpResponseUtil.delete(null);
     }
 }
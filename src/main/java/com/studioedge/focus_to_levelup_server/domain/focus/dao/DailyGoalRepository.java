@@ -16,6 +16,12 @@ public interface DailyGoalRepository extends JpaRepository<DailyGoal, Long> {
         Integer getTotalSeconds();
     }
 
+    interface MemberDailySeconds {
+        Long getMemberId();
+        LocalDate getDate();
+        Integer getSeconds();
+    }
+
     /**
      * 특정 유저의 특정 날짜 DailyGoal 조회
      */
@@ -47,10 +53,26 @@ public interface DailyGoalRepository extends JpaRepository<DailyGoal, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 여러 유저의 전체 일별 집중 시간 (월간 롤업 백필용)
+     */
+    @Query("SELECT dg.member.id as memberId, dg.dailyGoalDate as date, dg.currentSeconds as seconds " +
+            "FROM DailyGoal dg " +
+            "WHERE dg.member.id IN :memberIds")
+    List<MemberDailySeconds> findDailySecondsByMemberIds(@Param("memberIds") List<Long> memberIds);
+
     // 1. 내 오늘 공부 시간 조회 (없을 수도 있음 -> Optional)
     @Query("SELECT d.currentSeconds FROM DailyGoal d WHERE d.member.id = :memberId AND d.dailyGoalDate = :date")
     Optional<Integer> findFocusTimeByMemberIdAndDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
 
+    /**
+     * 특정 날짜에 집중 기록이 있는 유저들의 집중 시간 (DailyFocusRankService 인덱스 재생성용)
+     */
+    @Query("SELECT d.member.id as memberId, d.dailyGoalDate as date, d.currentSeconds as seconds " +
+            "FROM DailyGoal d " +
+            "WHERE d.dailyGoalDate = :date AND d.currentSeconds > 0")
+    List<MemberDailySeconds> findDailySecondsByDate(@Param("date") LocalDate date);
+
     // 2. 나보다 공부 시간이 많은 '기록'의 개수 조회
     // (DailyGoal이 없는 유저는 0초이므로 이 카운트에 포함되지 않음 -> 정확함)
     @Query("SELECT COUNT(d) FROM DailyGoal d WHERE d.dailyGoalDate = :date AND d.currentSeconds > :myFocusTime")
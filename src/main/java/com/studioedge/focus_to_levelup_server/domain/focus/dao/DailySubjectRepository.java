@@ -18,6 +18,11 @@ public interface DailySubjectRepository extends JpaRepository<DailySubject, Long
         Integer getTotalSeconds();
     }
 
+    interface DailyFocusSeconds {
+        LocalDate getDate();
+        Long getTotalSeconds();
+    }
+
     Optional<DailySubject> findByMemberAndSubjectAndDate(Member member, Subject subject, LocalDate date);
 
     List<DailySubject> findAllByMemberAndDate(Member member, LocalDate date);
@@ -41,6 +46,21 @@ public interface DailySubjectRepository extends JpaRepository<DailySubject, Long
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 특정 기간의 날짜별 총 집중 시간 (아이템 달성 체크용)
+     * 과목 단위 행을 불러오지 않고 DB 에서 날짜별로 합산합니다.
+     */
+    @Query("SELECT ds.date as date, SUM(ds.focusSeconds) as totalSeconds " +
+            "FROM DailySubject ds " +
+            "WHERE ds.member.id = :memberId " +
+            "AND ds.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY ds.date")
+    List<DailyFocusSeconds> findDailyFocusSecondsByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * [추가 필요] MonthlyJobBatch의 Writer가 사용할 일괄 집계 쿼리
      * 여러 멤버의 특정 기간 DailySubject 총합 시간을
@@ -0,0 +1,22 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.FocusEvent;
+import com.studioedge.focus_to_levelup_server.domain.focus.enums.FocusEventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FocusEventRepository extends JpaRepository<FocusEvent, Long> {
+    @Query("SELECT e.id FROM FocusEvent e WHERE e.status = :status ORDER BY e.id ASC")
+    List<Long> findIdsByStatus(@Param("status") FocusEventStatus status, Pageable pageable);
+
+    List<FocusEvent> findAllByIdInAndStatusOrderByIdAsc(List<Long> ids, FocusEventStatus status);
+
+    /**
+     * 실패한 이벤트 조회 (재처리용, 저장 순)
+     */
+    List<FocusEvent> findAllByStatusOrderByIdAsc(FocusEventStatus status);
+}
@@ -0,0 +1,60 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Planner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 플래너 일괄 저장 (JDBC batch), 반영이 끝난 집중 후처리 이벤트 정리
+ *
+ * - 집중 후처리 이벤트는 묶음 단위로 플래너를 만들기 때문에, 한 건씩 INSERT 하지 않고 한 번에 저장합니다.
+ * - 저장한 엔티티는 영속성 컨텍스트에 올라가지 않으므로, 같은 트랜잭션에서 다시 수정할 엔티티는 JPA 로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FocusJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertPlanners(List<Planner> planners) {
+        if (planners.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO planners (member_id, subject_id, date, start_time, end_time, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        """,
+                planners, BATCH_SIZE, (ps, planner) -> {
+                    ps.setLong(1, planner.getMember().getId());
+                    ps.setLong(2, planner.getSubject().getId());
+                    ps.setDate(3, Date.valueOf(planner.getDate()));
+                    ps.setTime(4, Time.valueOf(planner.getStartTime()));
+                    ps.setTime(5, Time.valueOf(planner.getEndTime()));
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+
+    /**
+     * 반영이 끝난(PROCESSED) 이벤트 중 before 이전에 저장된 것을 최대 limit 건 삭제합니다.
+     * idx_focus_event_status(status, focus_event_id) 로 오래된 순서부터 읽으므로, 한 번에 짧게 잠그고 끝납니다.
+     */
+    public int deleteProcessedEventsBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("""
+                        DELETE FROM focus_events
+                        WHERE status = 'PROCESSED' AND created_at < ?
+                        ORDER BY focus_event_id
+                        LIMIT ?
+                        """,
+                Timestamp.valueOf(before), limit);
+    }
+}
@@ -3,11 +3,21 @@ package com.studioedge.focus_to_levelup_server.domain.focus.dao;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface SubjectRepository extends JpaRepository<Subject, Long> {
+    interface SubjectBoardRow {
+        Long getSubjectId();
+        String getName();
+        String getColor();
+        Integer getFocusSeconds();
+    }
+
     List<Subject> findAllByMemberId(Long memberId);
 
     Optional<Subject> findByIdAndDeleteAtIsNull(Long id);
@@ -16,4 +26,17 @@ public interface SubjectRepository extends JpaRepository<Subject, Long> {
 
     List<Subject> findAllByMemberAndDeleteAtIsNull(Member member);
 
+    /**
+     * 과목 보드용: 유저의 활성 과목과 해당 날짜의 과목별 집중 시간을 한 번에 조회합니다.
+     * DailySubject 는 (member, subject, date) 유니크이므로 과목당 최대 1행입니다.
+     */
+    @Query("SELECT s.id as subjectId, s.name as name, s.color as color, " +
+            "COALESCE(ds.focusSeconds, 0) as focusSeconds " +
+            "FROM Subject s " +
+            "LEFT JOIN DailySubject ds ON ds.subject = s AND ds.member.id = :memberId AND ds.date = :date " +
+            "WHERE s.member.id = :memberId " +
+            "AND s.deleteAt IS NULL " +
+            "ORDER BY s.id")
+    List<SubjectBoardRow> findBoardRowsByMemberId(@Param("memberId") Long memberId,
+                                                  @Param("date") LocalDate date);
 }
@@ -2,9 +2,29 @@ package com.studioedge.focus_to_levelup_server.domain.focus.dao;
 
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Todo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
+    interface TodoBoardRow {
+        Long getSubjectId();
+        Long getTodoId();
+        String getContent();
+        Boolean getComplete();
+    }
+
     List<Todo> findAllBySubjectId(Long subjectId);
+
+    /**
+     * 과목 보드용: 유저의 활성 과목에 속한 모든 할일을 한 번에 조회합니다.
+     */
+    @Query("SELECT s.id as subjectId, t.id as todoId, t.content as content, t.isComplete as complete " +
+            "FROM Todo t " +
+            "JOIN t.subject s " +
+            "WHERE s.member.id = :memberId " +
+            "AND s.deleteAt IS NULL " +
+            "ORDER BY t.id")
+    List<TodoBoardRow> findBoardRowsByMemberId(@Param("memberId") Long memberId);
 }
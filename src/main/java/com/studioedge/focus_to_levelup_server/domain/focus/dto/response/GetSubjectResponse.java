@@ -1,5 +1,6 @@
 package com.studioedge.focus_to_levelup_server.domain.focus.dto.response;
 
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.SubjectRepository.SubjectBoardRow;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -30,4 +31,14 @@ public record GetSubjectResponse(
                 .todoResponses(responses)
                 .build();
     }
+
+    public static GetSubjectResponse of(SubjectBoardRow row, List<GetTodoResponse> responses) {
+        return GetSubjectResponse.builder()
+                .id(row.getSubjectId())
+                .name(row.getName())
+                .color(row.getColor())
+                .focusSeconds(row.getFocusSeconds())
+                .todoResponses(responses)
+                .build();
+    }
 }
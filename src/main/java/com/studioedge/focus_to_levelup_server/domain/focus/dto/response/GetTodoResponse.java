@@ -1,5 +1,6 @@
 package com.studioedge.focus_to_levelup_server.domain.focus.dto.response;
 
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.TodoRepository.TodoBoardRow;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Todo;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -20,4 +21,12 @@ public record GetTodoResponse(
                 .complete(todo.getIsComplete())
                 .build();
     }
+
+    public static GetTodoResponse of(TodoBoardRow row) {
+        return GetTodoResponse.builder()
+                .id(row.getTodoId())
+                .content(row.getContent())
+                .complete(row.getComplete())
+                .build();
+    }
 }
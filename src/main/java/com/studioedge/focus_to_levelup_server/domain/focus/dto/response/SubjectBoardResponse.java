@@ -0,0 +1,38 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.dto.response;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 과목 보드 (홈 화면 과목 + 할일 목록)
+ *
+ * eTag 는 응답 내용(날짜, 과목, 집중 시간, 할일)으로 계산하므로,
+ * 내용이 같으면 같은 값이 나오고 If-None-Match 요청에는 본문 없이 304 로 응답합니다.
+ */
+public record SubjectBoardResponse(
+        List<GetSubjectResponse> subjects,
+        String eTag
+) {
+    public static SubjectBoardResponse of(LocalDate date, List<GetSubjectResponse> subjects) {
+        return new SubjectBoardResponse(subjects, eTagOf(date, subjects));
+    }
+
+    private static String eTagOf(LocalDate date, List<GetSubjectResponse> subjects) {
+        StringBuilder content = new StringBuilder(64 + subjects.size() * 64).append(date);
+        for (GetSubjectResponse subject : subjects) {
+            content.append('\n').append(subject.id())
+                    .append('\t').append(subject.name())
+                    .append('\t').append(subject.color())
+                    .append('\t').append(subject.focusSeconds());
+            for (GetTodoResponse todo : subject.todoResponses()) {
+                content.append('\n').append('\t').append(todo.id())
+                        .append('\t').append(todo.complete())
+                        .append('\t').append(todo.content());
+            }
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
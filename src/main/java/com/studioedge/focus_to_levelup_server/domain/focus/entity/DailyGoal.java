@@ -21,6 +21,9 @@ import java.time.LocalTime;
         name = "daily_goals",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"member_id", "daily_goal_date"})
+        },
+        indexes = {
+                @Index(name = "idx_daily_goal_date_seconds", columnList = "daily_goal_date, current_seconds")
         }
 )
 @Getter
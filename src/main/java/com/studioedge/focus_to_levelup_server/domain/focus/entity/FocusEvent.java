@@ -0,0 +1,99 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.entity;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.enums.FocusEventStatus;
+import com.studioedge.focus_to_levelup_server.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 집중 저장 후처리 이벤트 (Outbox)
+ *
+ * 집중 저장 트랜잭션에서 함께 저장되며, FocusEventConsumer 가 묶음 단위로 꺼내서
+ * 학교 누적 경험치 / 길드 주간 집중 시간 / 아이템 달성 / 훈련 보상 / 플래너를 반영합니다.
+ */
+@Entity
+@Table(name = "focus_events", indexes = {
+        @Index(name = "idx_focus_event_status", columnList = "status, focus_event_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FocusEvent extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "focus_event_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Long subjectId;
+
+    @Column(nullable = false)
+    private Long dailyGoalId;
+
+    @Column(nullable = false)
+    private LocalDate serviceDate;
+
+    @Column(nullable = false)
+    private Integer focusSeconds;
+
+    @Column(nullable = false)
+    private Integer focusExp;
+
+    // 학교 이벤트 대상일 때만 값이 있음
+    private String schoolName;
+
+    @Column(nullable = false)
+    private LocalDateTime sessionStartTime; // 화면 기준 시작 시각 (아이템 달성 체크용)
+
+    @Column(nullable = false)
+    private LocalTime startTime; // 플래너 시작 시각
+
+    @Column(nullable = false)
+    private LocalTime endTime; // 플래너 종료 시각
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FocusEventStatus status = FocusEventStatus.PENDING;
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Builder
+    public FocusEvent(Long memberId, Long subjectId, Long dailyGoalId, LocalDate serviceDate,
+                      Integer focusSeconds, Integer focusExp, String schoolName,
+                      LocalDateTime sessionStartTime, LocalTime startTime, LocalTime endTime) {
+        this.memberId = memberId;
+        this.subjectId = subjectId;
+        this.dailyGoalId = dailyGoalId;
+        this.serviceDate = serviceDate;
+        this.focusSeconds = focusSeconds;
+        this.focusExp = focusExp;
+        this.schoolName = schoolName;
+        this.sessionStartTime = sessionStartTime;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public void markAsProcessed() {
+        this.status = FocusEventStatus.PROCESSED;
+    }
+
+    public void markAsFailed(String errorMessage) {
+        this.status = FocusEventStatus.FAILED;
+        this.errorMessage = errorMessage;
+    }
+
+    public void requeue() {
+        this.status = FocusEventStatus.PENDING;
+        this.errorMessage = null;
+    }
+}
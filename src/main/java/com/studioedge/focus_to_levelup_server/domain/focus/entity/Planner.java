@@ -12,7 +12,9 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "planners")
+@Table(name = "planners", indexes = {
+        @Index(name = "idx_planner_member_date", columnList = "member_id, date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Planner extends BaseEntity {
@@ -0,0 +1,14 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FocusEventStatus {
+    PENDING("처리 대기"),
+    PROCESSED("처리 완료"),
+    FAILED("처리 실패");
+
+    private final String description;
+}
@@ -7,6 +7,7 @@ import com.studioedge.focus_to_levelup_server.domain.focus.entity.AllowedApp;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.AllowedAppNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.DailyGoalNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.dto.AllowedAppsDto;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
@@ -19,26 +20,28 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class AllowedAppService {
+    private final MemberRepository memberRepository;
     private final DailyGoalRepository dailyGoalRepository;
     private final AllowedAppRepository allowedAppRepository;
     @Transactional
-    public void saveAllowedAppTime(Member member, SaveAllowedAppRequest request) {
-        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(member.getId(), LocalDate.now())
+    public void saveAllowedAppTime(Long memberId, SaveAllowedAppRequest request) {
+        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(memberId, LocalDate.now())
                 .orElseThrow(DailyGoalNotFoundException::new);
-        AllowedApp allowedApp = allowedAppRepository.findByMemberIdAndAppIdentifier(member.getId(), request.appIdentifier())
+        AllowedApp allowedApp = allowedAppRepository.findByMemberIdAndAppIdentifier(memberId, request.appIdentifier())
                 .orElseThrow(AllowedAppNotFoundException::new);
 
         dailyGoal.useApp(request.usingSeconds());
         allowedApp.useApp(request.usingSeconds());
     }
     @Transactional
-    public void updateAllowedApps(Member member, AllowedAppsDto requests) {
+    public void updateAllowedApps(Long memberId, AllowedAppsDto requests) {
+        Member member = memberRepository.getReferenceById(memberId);
         List<AllowedApp> allowedApps = allowedAppRepository.findAllByMember(member);
         allowedAppRepository.deleteAll(allowedApps);
         allowedAppRepository.saveAll(AllowedAppsDto.from(member, requests));
     }
-    public AllowedAppsDto getAllowedApps(Member member) {
-        List<AllowedApp> allowedApps = allowedAppRepository.findAllByMemberId(member.getId());
+    public AllowedAppsDto getAllowedApps(Long memberId) {
+        List<AllowedApp> allowedApps = allowedAppRepository.findAllByMemberId(memberId);
         return AllowedAppsDto.of(allowedApps);
     }
 }
@@ -0,0 +1,194 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository.MemberDailySeconds;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서비스 날짜별 집중 시간 순위 인덱스 (Redis Sorted Set)
+ *
+ * - 날짜마다 ZSET 1개: focus:daily:{date} (member = memberId, score = 오늘 집중 시간(초))
+ * - 집중 저장 커밋 이후 점수를 갱신하고, "나보다 많이 한 사람 수"는 ZCOUNT(O(log n)) 로 구합니다.
+ * - 키가 서비스 날짜 단위이므로 새벽 4시가 지나면 새 키로 넘어가고, 이전 키는 TTL 로 만료됩니다.
+ * - 인덱스가 비어있으면(재시작, Redis 유실 등) 처음 조회 시 그날 DailyGoal 로 다시 채우고,
+ *   채우는 중이거나 Redis 장애 시에는 기존 DB COUNT 로 대체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyFocusRankService {
+    private final DailyGoalRepository dailyGoalRepository;
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "focus:daily:";
+    private static final String READY_SUFFIX = ":ready";
+    private static final String REBUILD_LOCK_SUFFIX = ":rebuilding";
+    private static final Duration INDEX_TTL = Duration.ofDays(2);
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(1);
+    private static final Duration ACTIVE_COUNT_TTL = Duration.ofMinutes(1);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // 집중 시간은 하루 동안 줄어들지 않으므로, 늦게 도착한 이전 값으로 덮어쓰지 않도록 더 클 때만 갱신합니다.
+    // ARGV = [ttlSeconds, score1, member1, score2, member2, ...]
+    private static final RedisScript<Long> UPDATE_IF_GREATER_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do " +
+            "  local current = redis.call('ZSCORE', KEYS[1], ARGV[i + 1]) " +
+            "  if (not current) or tonumber(current) < tonumber(ARGV[i]) then " +
+            "    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  end " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 전체 활성 유저 수 (분모) - 퍼센트 표시용이므로 1분 단위로만 갱신합니다.
+    private volatile CachedCount activeMemberCount;
+
+    /**
+     * DailyGoal 의 집중 시간이 바뀐 경우 호출합니다. (커밋 이후 반영)
+     */
+    public void record(DailyGoal dailyGoal) {
+        Long memberId = dailyGoal.getMember().getId();
+        LocalDate date = dailyGoal.getDailyGoalDate();
+        int seconds = dailyGoal.getCurrentSeconds();
+        if (seconds <= 0) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.execute(UPDATE_IF_GREATER_SCRIPT, List.of(keyOf(date)),
+                        String.valueOf(INDEX_TTL.getSeconds()), String.valueOf(seconds), String.valueOf(memberId));
+            } catch (DataAccessException e) {
+                // 인덱스는 다음 재생성 시 DB 에서 다시 채워집니다.
+                log.warn(">> [DailyFocusRank] 갱신 실패. memberId={}, date={}", memberId, date, e);
+            }
+        });
+    }
+
+    /**
+     * 해당 날짜 집중 시간 기준 상위 퍼센트 (기록이 없으면 100%)
+     */
+    public float getTopPercent(Long memberId, LocalDate date) {
+        long totalUsers = getActiveMemberCount();
+        long mySeconds;
+        long betterCount;
+        try {
+            if (!ensureIndexed(date)) {
+                return topPercentFromDatabase(memberId, date, totalUsers);
+            }
+            String key = keyOf(date);
+            Double score = redisTemplate.opsForZSet().score(key, String.valueOf(memberId));
+            mySeconds = score == null ? 0 : score.longValue();
+            if (mySeconds == 0) {
+                return 100.0f;
+            }
+            // 초 단위 정수이므로 [mySeconds + 1, +inf] 가 "나보다 많이 한 사람"
+            Long count = redisTemplate.opsForZSet().count(key, mySeconds + 1, Double.POSITIVE_INFINITY);
+            betterCount = count == null ? 0 : count;
+        } catch (DataAccessException e) {
+            log.warn(">> [DailyFocusRank] 조회 실패, DB 로 대체합니다. date={}", date, e);
+            return topPercentFromDatabase(memberId, date, totalUsers);
+        }
+        return toTopPercent(betterCount, totalUsers);
+    }
+
+    //---- PRIVATE METHOD ----
+
+    /**
+     * 인덱스가 준비되어 있으면 true. 없으면 한 서버만 DB 에서 다시 채우고, 나머지는 false (DB 로 대체)
+     */
+    private boolean ensureIndexed(LocalDate date) {
+        String key = keyOf(date);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key + READY_SUFFIX))) {
+            return true;
+        }
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(key + REBUILD_LOCK_SUFFIX, "1", REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return false;
+        }
+
+        try {
+            List<MemberDailySeconds> rows = dailyGoalRepository.findDailySecondsByDate(date);
+            List<String> args = new ArrayList<>(REBUILD_BATCH_SIZE * 2 + 1);
+            for (int from = 0; from < rows.size(); from += REBUILD_BATCH_SIZE) {
+                args.clear();
+                args.add(String.valueOf(INDEX_TTL.getSeconds()));
+                for (MemberDailySeconds row : rows.subList(from, Math.min(from + REBUILD_BATCH_SIZE, rows.size()))) {
+                    args.add(String.valueOf(row.getSeconds()));
+                    args.add(String.valueOf(row.getMemberId()));
+                }
+                redisTemplate.execute(UPDATE_IF_GREATER_SCRIPT, List.of(key), args.toArray());
+            }
+            redisTemplate.opsForValue().set(key + READY_SUFFIX, "1", INDEX_TTL);
+            log.info(">> [DailyFocusRank] 인덱스 재생성 완료. date={}, members={}", date, rows.size());
+            return true;
+        } finally {
+            redisTemplate.delete(key + REBUILD_LOCK_SUFFIX);
+        }
+    }
+
+    private float topPercentFromDatabase(Long memberId, LocalDate date, long totalUsers) {
+        int mySeconds = dailyGoalRepository.findFocusTimeByMemberIdAndDate(memberId, date)
+                .orElse(0);
+        if (mySeconds == 0) {
+            return 100.0f;
+        }
+        return toTopPercent(dailyGoalRepository.countByDateAndFocusTimeGreaterThan(date, mySeconds), totalUsers);
+    }
+
+    private float toTopPercent(long betterCount, long totalUsers) {
+        // 예: 100명 중 1등 -> 1.0%
+        long myRank = betterCount + 1;
+        return (float) myRank / (float) Math.max(totalUsers, myRank) * 100;
+    }
+
+    private long getActiveMemberCount() {
+        CachedCount cached = activeMemberCount;
+        long now = System.nanoTime();
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.value();
+        }
+        long count = memberRepository.countByStatus(MemberStatus.ACTIVE);
+        activeMemberCount = new CachedCount(count, now + ACTIVE_COUNT_TTL.toNanos());
+        return count;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private String keyOf(LocalDate date) {
+        return KEY_PREFIX + date;
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
@@ -14,6 +14,8 @@ import com.studioedge.focus_to_levelup_server.domain.focus.exception.DailyGoalNo
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.FocusRollupService;
 import com.studioedge.focus_to_levelup_server.domain.store.service.ItemAchievementService;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
 import lombok.RequiredArgsConstructor;
@@ -29,26 +31,30 @@ public class DailyGoalService {
     private final DailyGoalRepository dailyGoalRepository;
     private final MemberCharacterRepository memberCharacterRepository;
     private final ItemAchievementService itemAchievementService;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final FocusRollupService focusRollupService;
 
     /**
      * 목표 시간 설정
      * */
     @Transactional
-    public void createDailyGoal(Member member, CreateDailyGoalRequest request) {
+    public void createDailyGoal(Long memberId, CreateDailyGoalRequest request) {
         LocalDate serviceDate = AppConstants.getServiceDate();
-        if (dailyGoalRepository.findByMemberIdAndDailyGoalDate(member.getId(), serviceDate).isPresent()) {
+        if (dailyGoalRepository.findByMemberIdAndDailyGoalDate(memberId, serviceDate).isPresent()) {
             throw new DailyGoalDuplicatedException();
         }
-        dailyGoalRepository.save(CreateDailyGoalRequest.from(member, request, serviceDate));
+        Member member = memberRepository.getReferenceById(memberId);
+        DailyGoal dailyGoal = dailyGoalRepository.save(CreateDailyGoalRequest.from(member, request, serviceDate));
+        focusRollupService.record(dailyGoal);
     }
 
     /**
      * 목표 시간 조회
      * */
     @Transactional(readOnly = true)
-    public GetDailyGoalResponse getTodayDailyGoal(Member member, LocalDate date) {
+    public GetDailyGoalResponse getTodayDailyGoal(Long memberId, LocalDate date) {
         LocalDate serviceDate = date == null ? AppConstants.getServiceDate() : date;
-        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(member.getId(), serviceDate)
+        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(memberId, serviceDate)
                 .orElseThrow(DailyGoalNotFoundException::new);
         return GetDailyGoalResponse.of(dailyGoal);
     }
@@ -59,10 +65,10 @@ public class DailyGoalService {
      * - "휴식은 사치" 미션 성공 판정
      */
     @Transactional
-    public void receiveDailyGoal(Member m, Long dailyGoalId, ReceiveDailyGoalRequest request) {
+    public void receiveDailyGoal(Long memberId, Long dailyGoalId, ReceiveDailyGoalRequest request) {
         DailyGoal dailyGoal = dailyGoalRepository.findById(dailyGoalId)
                 .orElseThrow(DailyGoalNotFoundException::new);
-        Member member = memberRepository.findById(m.getId())
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
         MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefaultTrue(member.getId())
                 .orElseThrow(CharacterDefaultNotFoundException::new);
@@ -72,18 +78,19 @@ public class DailyGoalService {
         }
 
         member.expUp(request.rewardExp());
+        leagueLeaderboardService.updateScore(member);
         member.getMemberInfo().totalExpUp(request.rewardExp());
         memberCharacter.expUp(request.rewardExp());
 
         // "휴식은 사치" 미션 성공 판정 (오늘의 학습 종료 시점에 판정)
-        itemAchievementService.checkRestIsLuxuryOnStudyEnd(m.getId(), dailyGoal.getDailyGoalDate(), dailyGoal);
+        itemAchievementService.checkRestIsLuxuryOnStudyEnd(memberId, dailyGoal.getDailyGoalDate(), dailyGoal);
     }
 
     @Transactional
-    public void receiveDailyGoalV2(Member m, Long dailyGoalId) {
+    public void receiveDailyGoalV2(Long memberId, Long dailyGoalId) {
         DailyGoal dailyGoal = dailyGoalRepository.findById(dailyGoalId)
                 .orElseThrow(DailyGoalNotFoundException::new);
-        Member member = memberRepository.findById(m.getId())
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
         MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefaultTrue(member.getId())
                 .orElseThrow(CharacterDefaultNotFoundException::new);
@@ -95,12 +102,13 @@ public class DailyGoalService {
         int rewardExp = calculateBonusExp(dailyGoal);
         if (rewardExp > 0) {
             member.expUp(rewardExp);
+            leagueLeaderboardService.updateScore(member);
             member.getMemberInfo().totalExpUp(rewardExp);
             memberCharacter.expUp(rewardExp);
         }
 
         // 5. "휴식은 사치" 미션 성공 판정
-        itemAchievementService.checkRestIsLuxuryOnStudyEnd(m.getId(), dailyGoal.getDailyGoalDate(), dailyGoal);
+        itemAchievementService.checkRestIsLuxuryOnStudyEnd(memberId, dailyGoal.getDailyGoalDate(), dailyGoal);
     }
 
     /**
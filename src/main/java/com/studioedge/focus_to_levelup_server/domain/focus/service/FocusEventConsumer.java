@@ -0,0 +1,65 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusEventRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.enums.FocusEventStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 집중 저장 후처리 이벤트 소비자
+ *
+ * 1초마다 PENDING 이벤트를 id 순으로 최대 BATCH_SIZE 개씩 꺼내 한 트랜잭션으로 반영합니다.
+ * 묶음 처리에 실패하면 이벤트 단위로 다시 시도하여, 실패한 이벤트만 FAILED 로 남깁니다.
+ * 여러 서버(blue/green)가 동시에 소비하지 않도록 ShedLock 으로 잠급니다.
+ * - FAILED 이벤트는 관리자 API(AdminFocusEventController)로 확인 후 다시 PENDING 으로 돌려 재처리합니다.
+ * - PROCESSED 이벤트는 일간 배치(PurgeProcessedFocusEventStep)가 보관 기간이 지나면 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FocusEventConsumer {
+    private final FocusEventRepository focusEventRepository;
+    private final FocusEventProcessor focusEventProcessor;
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    @Scheduled(fixedDelay = 1000)
+    @SchedulerLock(name = "consumeFocusEvents", lockAtMostFor = "PT5M")
+    public void consume() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<Long> eventIds = focusEventRepository.findIdsByStatus(FocusEventStatus.PENDING, PageRequest.of(0, BATCH_SIZE));
+            if (eventIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                focusEventProcessor.process(eventIds);
+            } catch (Exception e) {
+                log.warn(">> [FocusEvent] 묶음 처리 실패, 개별 처리로 전환합니다. size={}", eventIds.size(), e);
+                processOneByOne(eventIds);
+            }
+
+            if (eventIds.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void processOneByOne(List<Long> eventIds) {
+        for (Long eventId : eventIds) {
+            try {
+                focusEventProcessor.process(List.of(eventId));
+            } catch (Exception e) {
+                log.error(">> [FocusEvent] 처리 실패. eventId={}", eventId, e);
+                focusEventProcessor.markAsFailed(eventId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.studioedge.focus_to_levelup_server.domain.focus.service;
+
+import com.studioedge.focus_to_levelup_server.domain.character.service.TrainingRewardService;
+import com.studioedge.focus_to_levelup_server.domain.event.dao.SchoolRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusEventRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.SubjectRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.FocusEvent;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.Planner;
+import com.studioedge.focus_to_levelup_server.domain.focus.enums.FocusEventStatus;
+import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildMemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.store.service.ItemAchievementService;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 집중 저장 후처리 이벤트 반영
+ *
+ * 한 묶음의 이벤트를 하나의 트랜잭션에서 반영하고, 같은 트랜잭션에서 PROCESSED 로 표시합니다.
+ * PENDING 상태인 이벤트만 읽으므로 같은 이벤트가 두 번 반영되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FocusEventProcessor {
+    private final FocusEventRepository focusEventRepository;
+    private final SchoolRepository schoolRepository;
+    private final GuildMemberRepository guildMemberRepository;
+    private final FocusTotalCounter focusTotalCounter;
+    private final DailyGoalRepository dailyGoalRepository;
+    private final MemberRepository memberRepository;
+    private final SubjectRepository subjectRepository;
+    private final FocusJdbcRepository focusJdbcRepository;
+    private final ItemAchievementService itemAchievementService;
+    private final TrainingRewardService trainingRewardService;
+
+    @Transactional
+    public int process(List<Long> eventIds) {
+        List<FocusEvent> events = focusEventRepository.findAllByIdInAndStatusOrderByIdAsc(eventIds, FocusEventStatus.PENDING);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        applySchoolExp(events);
+        applyGuildFocusTime(events);
+        applyTrainingReward(events);
+        applyAchievements(events);
+        savePlanners(events);
+
+        events.forEach(FocusEvent::markAsProcessed);
+        return events.size();
+    }
+
+    @Transactional
+    public void markAsFailed(Long eventId, String errorMessage) {
+        focusEventRepository.findById(eventId)
+                .filter(event -> event.getStatus() == FocusEventStatus.PENDING)
+                .ifPresent(event -> event.markAsFailed(errorMessage));
+    }
+
+    /**
+     * 실패한 이벤트를 모두 PENDING 으로 돌려, 소비자가 다음 주기에 다시 반영하게 합니다.
+     * 실패한 묶음은 롤백되었으므로 다시 반영해도 중복되지 않습니다.
+     */
+    @Transactional
+    public List<FocusEvent> requeueFailed() {
+        List<FocusEvent> failedEvents = focusEventRepository.findAllByStatusOrderByIdAsc(FocusEventStatus.FAILED);
+        failedEvents.forEach(FocusEvent::requeue);
+        log.info(">> [FocusEvent] 실패 이벤트 재처리 요청. count={}", failedEvents.size());
+        return failedEvents;
+    }
+
+    @Transactional
+    public FocusEvent requeue(Long eventId) {
+        FocusEvent event = focusEventRepository.findById(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("집중 후처리 이벤트를 찾을 수 없습니다: " + eventId));
+        if (event.getStatus() != FocusEventStatus.FAILED) {
+            throw new IllegalStateException("실패한 이벤트만 재처리할 수 있습니다: " + eventId);
+        }
+        event.requeue();
+        log.info(">> [FocusEvent] 이벤트 재처리 요청. eventId={}", eventId);
+        return event;
+    }
+
+    //-------------------------------------------- PRIVATE METHOD --------------------------------------------
+
+    // 학교별로 합산해서 묶음당 한 번만 카운터에 더함 (학교 row 는 FocusTotalCounter 가 주기적으로 반영)
+    private void applySchoolExp(List<FocusEvent> events) {
+        Map<String, Integer> expBySchool = new HashMap<>();
+        for (FocusEvent event : events) {
+            if (event.getSchoolName() != null && event.getFocusExp() > 0) {
+                expBySchool.merge(event.getSchoolName(), event.getFocusExp(), Integer::sum);
+            }
+        }
+        expBySchool.forEach((schoolName, exp) ->
+                schoolRepository.findByName(schoolName)
+                        .ifPresent(school -> focusTotalCounter.addSchoolExp(school.getId(), exp)));
+    }
+
+    // 유저별로 합산해서 길드원 row 는 묶음당 한 번만 갱신 (길드 총합은 FocusTotalCounter)
+    private void applyGuildFocusTime(List<FocusEvent> events) {
+        Map<Long, Integer> secondsByMember = new HashMap<>();
+        for (FocusEvent event : events) {
+            secondsByMember.merge(event.getMemberId(), event.getFocusSeconds(), Integer::sum);
+        }
+
+        List<GuildMember> guildMembers = guildMemberRepository.findAllByMemberIdInWithGuild(secondsByMember.keySet());
+        for (GuildMember gm : guildMembers) {
+            int seconds = secondsByMember.get(gm.getMember().getId());
+            gm.addWeeklyFocusTime(seconds);
+            focusTotalCounter.addGuildFocusSeconds(gm.getGuild().getId(), seconds);
+        }
+    }
+
+    // 훈련 보상은 세션별 '분' 단위로 적립되므로, 세션마다 분으로 내림한 뒤 유저별로 합산
+    private void applyTrainingReward(List<FocusEvent> events) {
+        Map<Long, Integer> flooredSecondsByMember = new LinkedHashMap<>();
+        for (FocusEvent event : events) {
+            flooredSecondsByMember.merge(event.getMemberId(), (event.getFocusSeconds() / 60) * 60, Integer::sum);
+        }
+        flooredSecondsByMember.forEach(trainingRewardService::accumulateTrainingReward);
+    }
+
+    // 아이템 달성은 DailyGoal/DailySubject 의 현재 상태로 판정하므로, (유저, 서비스 날짜)별 마지막 세션만 체크
+    private void applyAchievements(List<FocusEvent> events) {
+        Map<AchievementKey, FocusEvent> lastEvents = new LinkedHashMap<>();
+        for (FocusEvent event : events) {
+            lastEvents.put(new AchievementKey(event.getMemberId(), event.getServiceDate()), event);
+        }
+        for (FocusEvent event : lastEvents.values()) {
+            dailyGoalRepository.findById(event.getDailyGoalId())
+                    .ifPresent(dailyGoal -> itemAchievementService.checkAchievements(
+                            event.getMemberId(), event.getFocusSeconds(), event.getSessionStartTime(),
+                            dailyGoal, event.getServiceDate()));
+        }
+    }
+
+    // 묶음의 플래너를 multi-row INSERT 한 번으로 저장 (IDENTITY 라 saveAll 은 한 건씩 INSERT)
+    private void savePlanners(List<FocusEvent> events) {
+        List<Planner> planners = new ArrayList<>();
+        for (FocusEvent event : events) {
+            if (event.getFocusSeconds() <= 0) {
+                continue;
+            }
+            planners.add(Planner.builder()
+                    .member(memberRepository.getReferenceById(event.getMemberId()))
+                    .subject(subjectRepository.getReferenceById(event.getSubjectId()))
+                    .date(event.getServiceDate())
+                    .startTime(event.getStartTime())
+                    .endTime(event.getEndTime())
+                    .build());
+        }
+        focusJdbcRepository.insertPlanners(planners);
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+    private record AchievementKey(Long memberId, LocalDate serviceDate) {}
+}
@@ -29,6 +29,9 @@ import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.FocusRollupService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.PeriodStatService;
 import com.studioedge.focus_to_levelup_server.domain.store.service.ItemAchievementService;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.BackgroundRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.MonsterImageRepository;
@@ -37,8 +40,10 @@ import com.studioedge.focus_to_levelup_server.domain.system.entity.Monster;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.MonsterImage;
 import com.studioedge.focus_to_levelup_server.domain.system.enums.MonsterImageType;
 import com.studioedge.focus_to_levelup_server.domain.system.exception.BackgroundNotFoundException;
+import com.studioedge.focus_to_levelup_server.global.cache.CatalogCache;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,6 +57,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
+import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDayEnd;
 
 @Service
 @RequiredArgsConstructor
@@ -65,14 +71,20 @@ public class FocusService {
     private final DailySubjectRepository dailySubjectRepository;
     private final SchoolRepository schoolRepository;
     private final GuildMemberRepository guildMemberRepository;
+    private final FocusTotalCounter focusTotalCounter;
     private final MonsterImageRepository monsterImageRepository;
     private final BackgroundRepository backgroundRepository;
     private final ItemAchievementService itemAchievementService;
     private final TrainingRewardService trainingRewardService;
     private final PlannerRepository plannerRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final FocusRollupService focusRollupService;
+    private final PeriodStatService periodStatService;
+    private final DailyFocusRankService dailyFocusRankService;
+    private final CatalogCache catalogCache;
 
     @Transactional
-    public void saveFocus(Member m, Long subjectId, SaveFocusRequest request) {
+    public void saveFocus(Long memberId, Long subjectId, SaveFocusRequest request) {
         /**
          * member 레벨업 -> member.levelUp()
          * subject 공부 시간 누적
@@ -88,12 +100,7 @@ public class FocusService {
         LocalDateTime startTime = request.startTime();
         LocalDateTime endTime = startTime.plusSeconds(request.focusSeconds());
 
-        LocalDateTime limitTime;
-        if (startTime.getHour() < 4) {
-            limitTime = startTime.toLocalDate().atTime(4, 0);
-        } else {
-            limitTime = startTime.toLocalDate().plusDays(1).atTime(4, 0);
-        }
+        LocalDateTime limitTime = getServiceDayEnd(startTime);
 
         int savedFocusSeconds = request.focusSeconds();
         if (endTime.isAfter(limitTime)) {
@@ -106,15 +113,15 @@ public class FocusService {
         int remainSeconds = savedFocusSeconds % 60;
         LocalDate serviceDate = getServiceDate(startTime);
 
-        Member member = memberRepository.findById(m.getId())
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
-        MemberInfo memberInfo = memberInfoRepository.findByMemberId(m.getId())
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
-        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(m.getId(), serviceDate)
+        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(memberId, serviceDate)
                 .orElseThrow(DailyGoalNotFoundException::new);
         Subject subject = this.subjectRepository.findByIdAndDeleteAtIsNull(subjectId)
                 .orElseThrow(SubjectNotFoundException::new);
-        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefault(m.getId(), true)
+        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefault(memberId, true)
                 .orElseThrow(CharacterDefaultNotFoundException::new);
         DailySubject dailySubject = dailySubjectRepository.findByMemberAndSubjectAndDate(member, subject, serviceDate)
                 .orElseGet(() -> {
@@ -124,7 +131,7 @@ public class FocusService {
                             .date(serviceDate)
                             .build();
                 });
-        if (!subject.getMember().getId().equals(m.getId())) {
+        if (!subject.getMember().getId().equals(memberId)) {
             throw new SubjectUnAuthorizedException();
         }
 
@@ -140,12 +147,15 @@ public class FocusService {
         int focusExp = focusMinutes * 10;
         // 레벨 업
         member.expUp(focusExp);
+        leagueLeaderboardService.updateScore(member);
         // 총 레벨 업
         memberInfo.totalExpUp(focusExp);
         // 골드 획득
         memberInfo.addGold(focusExp);
         // 일일 목표 공부 시간 더하기
         dailyGoal.addCurrentSeconds(savedFocusSeconds);
+        focusRollupService.record(dailyGoal);
+        dailyFocusRankService.record(dailyGoal);
         // 과목 공부 시간 더하기
         dailySubject.addSeconds(savedFocusSeconds);
         // 캐릭터 친밀도 상승
@@ -156,19 +166,21 @@ public class FocusService {
         // 만약 dailySubject가 생성되어있지 않다면 저장해야함.
         dailySubjectRepository.save(dailySubject);
         dailySubjectRepository.flush();
+        // 주간/월간 통계 누적 (flush 이후 호출)
+        periodStatService.record(dailySubject, savedFocusSeconds);
 
         if (AppConstants.SCHOOL_CATEGORIES.contains(memberInfo.getCategoryMain()) &&
             !memberInfo.getCategorySub().equals(CategorySubType.N_SU) &&
             memberInfo.getSchool() != null && !memberInfo.getSchool().isBlank()) {
             schoolRepository.findByName(memberInfo.getSchool())
-                    .ifPresent(school -> school.plusTotalLevel(focusExp));
+                    .ifPresent(school -> focusTotalCounter.addSchoolExp(school.getId(), focusExp));
         }
 
         // 길드 주간 집중 시간 업데이트 (가입한 모든 길드)
-        List<GuildMember> guildMembers = guildMemberRepository.findAllByMemberIdWithGuild(m.getId());
+        List<GuildMember> guildMembers = guildMemberRepository.findAllByMemberIdWithGuild(memberId);
         for (GuildMember gm : guildMembers) {
             gm.addWeeklyFocusTime(savedFocusSeconds);
-            gm.getGuild().updateAverageFocusTime(savedFocusSeconds);
+            focusTotalCounter.addGuildFocusSeconds(gm.getGuild().getId(), savedFocusSeconds);
         }
 
         // 하루 최대 집중시간 확인하기
@@ -181,10 +193,10 @@ public class FocusService {
         dailyGoal.updateLatestEndTime(endTime.toLocalTime());
 
         // 아이템 달성 조건 체크 (DailySubject 저장 이후)
-        itemAchievementService.checkAchievements(m.getId(), savedFocusSeconds, startTime, dailyGoal);
+        itemAchievementService.checkAchievements(memberId, savedFocusSeconds, startTime, dailyGoal);
 
         // 훈련 보상 적립
-        trainingRewardService.accumulateTrainingReward(m.getId(), savedFocusSeconds);
+        trainingRewardService.accumulateTrainingReward(memberId, savedFocusSeconds);
 
         // 플래너 저장
         plannerRepository.save(
@@ -199,10 +211,10 @@ public class FocusService {
     }
 
     @Transactional
-    public void startFocusV1(Member m, StartFocusRequest request) {
-        Member member = memberRepository.findById(m.getId())
+    public void startFocusV1(Long memberId, StartFocusRequest request) {
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
-        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(m.getId(), getServiceDate())
+        DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(memberId, getServiceDate())
                 .orElseThrow(DailyGoalNotFoundException::new);
 
         member.focusOn();
@@ -210,10 +222,10 @@ public class FocusService {
     }
 
     @Transactional
-    public void startFocusV2(Member m, boolean isResetScreenTime) {
-        Member member = memberRepository.findById(m.getId())
+    public void startFocusV2(Long memberId, boolean isResetScreenTime) {
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
-        DailyGoal dailyGoal = dailyGoalRepository.findFirstByMemberIdOrderByDailyGoalDateDesc(m.getId())
+        DailyGoal dailyGoal = dailyGoalRepository.findFirstByMemberIdOrderByDailyGoalDateDesc(memberId)
                         .orElseThrow(DailyGoalNotFoundException::new);
         member.focusOn();
         dailyGoal.updateStartTime();
@@ -222,8 +234,14 @@ public class FocusService {
         }
     }
 
-    @Transactional(readOnly = true)
-    public FocusModeImageResponse getFocusAnimation(Member member) {
+    /**
+     * 집중 화면 몬스터/배경 이미지 (CatalogCache)
+     */
+    public FocusModeImageResponse getFocusAnimation() {
+        return catalogCache.get("focus:animation", this::loadFocusAnimation);
+    }
+
+    private FocusModeImageResponse loadFocusAnimation() {
         List<MonsterImage> monsterImages = monsterImageRepository.findAllWithMonster();
         // 몬스터(Monster) 객체 기준으로 그룹화
         Map<Monster, List<MonsterImage>> imagesByMonster = monsterImages.stream()
@@ -247,7 +265,8 @@ public class FocusService {
         Background background = backgroundRepository.findByName(AppConstants.DEFAULT_FOCUS_BACKGROUND_NAME)
                 .orElseThrow(BackgroundNotFoundException::new);
 
-        return FocusModeImageResponse.of(background.getImageUrl(), responses);
+        // 캐시에 보관되므로 변경 불가능한 리스트로 응답
+        return FocusModeImageResponse.of(background.getImageUrl(), List.copyOf(responses));
     }
 
     /**
@@ -25,9 +25,13 @@ import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.FocusRollupService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.PeriodStatService;
 import com.studioedge.focus_to_levelup_server.domain.store.service.ItemAchievementService;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +42,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
+import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDayEnd;
 
 @Service
 @RequiredArgsConstructor
@@ -50,12 +55,17 @@ public class FocusServiceV2 {
     private final DailySubjectRepository dailySubjectRepository;
     private final SchoolRepository schoolRepository;
     private final GuildMemberRepository guildMemberRepository;
+    private final FocusTotalCounter focusTotalCounter;
     private final ItemAchievementService itemAchievementService;
     private final TrainingRewardService trainingRewardService;
     private final PlannerRepository plannerRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final FocusRollupService focusRollupService;
+    private final PeriodStatService periodStatService;
+    private final DailyFocusRankService dailyFocusRankService;
 
     @Transactional
-    public void saveFocus(Member m, Long subjectId, SaveFocusRequestV2 request) {
+    public void saveFocus(Long memberId, Long subjectId, SaveFocusRequestV2 request) {
         /**
          * member 레벨업 -> member.levelUp()
          * subject 공부 시간 누적
@@ -71,12 +81,7 @@ public class FocusServiceV2 {
         LocalDateTime startTime = request.startTime();
         LocalDateTime endTime = startTime.plusSeconds(request.focusSeconds());
 
-        LocalDateTime limitTime;
-        if (startTime.getHour() < 4) {
-            limitTime = startTime.toLocalDate().atTime(4, 0);
-        } else {
-            limitTime = startTime.toLocalDate().plusDays(1).atTime(4, 0);
-        }
+        LocalDateTime limitTime = getServiceDayEnd(startTime);
 
         int savedFocusSeconds = request.focusSeconds();
         if (endTime.isAfter(limitTime)) {
@@ -89,15 +94,15 @@ public class FocusServiceV2 {
         int remainSeconds = savedFocusSeconds % 60;
         LocalDate serviceDate = getServiceDate(startTime);
 
-        Member member = memberRepository.findById(m.getId())
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
-        MemberInfo memberInfo = memberInfoRepository.findByMemberId(m.getId())
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         DailyGoal dailyGoal = dailyGoalRepository.findByMemberIdAndDailyGoalDate(member.getId(), serviceDate)
                 .orElseThrow(DailyGoalNotFoundException::new);
         Subject subject = subjectRepository.findByIdAndDeleteAtIsNull(subjectId)
                 .orElseThrow(SubjectNotFoundException::new);
-        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefault(m.getId(), true)
+        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefault(memberId, true)
                 .orElseThrow(CharacterDefaultNotFoundException::new);
         DailySubject dailySubject = dailySubjectRepository.findByMemberAndSubjectAndDate(member, subject, serviceDate)
                 .orElseGet(() -> {
@@ -108,7 +113,7 @@ public class FocusServiceV2 {
                             .date(serviceDate)
                             .build();
                 });
-        if (!subject.getMember().getId().equals(m.getId())) {
+        if (!subject.getMember().getId().equals(memberId)) {
             throw new SubjectUnAuthorizedException();
         }
 
@@ -124,12 +129,15 @@ public class FocusServiceV2 {
         int focusExp = focusMinutes * 10;
         // 레벨 업
         member.expUp(focusExp);
+        leagueLeaderboardService.updateScore(member);
         // 총 레벨 업
         memberInfo.totalExpUp(focusExp);
         // 골드 획득
         memberInfo.addGold(focusExp);
         // 일일 목표 공부 시간 더하기
         dailyGoal.addCurrentSeconds(savedFocusSeconds);
+        focusRollupService.record(dailyGoal);
+        dailyFocusRankService.record(dailyGoal);
         // 과목 공부 시간 더하기
         dailySubject.addSeconds(savedFocusSeconds);
         // 캐릭터 친밀도 상승
@@ -140,19 +148,21 @@ public class FocusServiceV2 {
         // 만약 dailySubject가 생성되어있지 않다면 저장해야함.
         dailySubjectRepository.save(dailySubject);
         dailySubjectRepository.flush();
+        // 주간/월간 통계 누적 (flush 이후 호출)
+        periodStatService.record(dailySubject, savedFocusSeconds);
 
         if (AppConstants.SCHOOL_CATEGORIES.contains(memberInfo.getCategoryMain()) &&
                 !memberInfo.getCategorySub().equals(CategorySubType.N_SU) &&
                 memberInfo.getSchool() != null && !memberInfo.getSchool().isBlank()) {
             schoolRepository.findByName(memberInfo.getSchool())
-                    .ifPresent(school -> school.plusTotalLevel(focusExp));
+                    .ifPresent(school -> focusTotalCounter.addSchoolExp(school.getId(), focusExp));
         }
 
         // 길드 주간 집중 시간 업데이트 (가입한 모든 길드)
-        List<GuildMember> guildMembers = guildMemberRepository.findAllByMemberIdWithGuild(m.getId());
+        List<GuildMember> guildMembers = guildMemberRepository.findAllByMemberIdWithGuild(memberId);
         for (GuildMember gm : guildMembers) {
             gm.addWeeklyFocusTime(savedFocusSeconds);
-            gm.getGuild().updateAverageFocusTime(savedFocusSeconds);
+            focusTotalCounter.addGuildFocusSeconds(gm.getGuild().getId(), savedFocusSeconds);
         }
 
         // 하루 최대 집중시간 확인하기
@@ -165,10 +175,10 @@ public class FocusServiceV2 {
         dailyGoal.updateLatestEndTime(endTime.toLocalTime());
 
         // 아이템 달성 조건 체크 (DailySubject 저장 이후)
-        itemAchievementService.checkAchievements(m.getId(), savedFocusSeconds, startTime, dailyGoal);
+        itemAchievementService.checkAchievements(memberId, savedFocusSeconds, startTime, dailyGoal);
 
         // 훈련 보상 적립
-        trainingRewardService.accumulateTrainingReward(m.getId(), savedFocusSeconds);
+        trainingRewardService.accumulateTrainingReward(memberId, savedFocusSeconds);
 
         // 플래너 저장
         plannerRepository.save(
@@ -4,28 +4,26 @@ package com.studioedge.focus_to_levelup_server.domain.focus.service;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository;
 import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
 import com.studioedge.focus_to_levelup_server.domain.character.exception.CharacterDefaultNotFoundException;
-import com.studioedge.focus_to_levelup_server.domain.character.service.TrainingRewardService;
-import com.studioedge.focus_to_levelup_server.domain.event.dao.SchoolRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.PlannerRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusEventRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.SubjectRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.Planner;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.FocusEvent;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.DailyGoalNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.SubjectNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.SubjectUnAuthorizedException;
-import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildMemberRepository;
-import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberInfoRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
-import com.studioedge.focus_to_levelup_server.domain.store.service.ItemAchievementService;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.FocusRollupService;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.PeriodStatService;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
 import lombok.RequiredArgsConstructor;
@@ -35,9 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
+import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDayEnd;
 
 @Service
 @RequiredArgsConstructor
@@ -48,14 +46,14 @@ public class FocusServiceV4 {
     private final DailyGoalRepository dailyGoalRepository;
     private final MemberCharacterRepository memberCharacterRepository;
     private final DailySubjectRepository dailySubjectRepository;
-    private final SchoolRepository schoolRepository;
-    private final GuildMemberRepository guildMemberRepository;
-    private final ItemAchievementService itemAchievementService;
-    private final TrainingRewardService trainingRewardService;
-    private final PlannerRepository plannerRepository;
+    private final FocusEventRepository focusEventRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final FocusRollupService focusRollupService;
+    private final PeriodStatService periodStatService;
+    private final DailyFocusRankService dailyFocusRankService;
 
     @Transactional
-    public void saveFocus(Member m, Long subjectId) {
+    public void saveFocus(Long memberId, Long subjectId) {
         /*
          * 4시 경계 체크 및 시간 보정 로직 (추가된 부분)
          * - 시작 시간을 기준으로 '다음 4시'를 구합니다.
@@ -63,7 +61,7 @@ public class FocusServiceV4 {
          */
         LocalDate serviceDate = getServiceDate();
         // 1. DailyGoal 조회 (가장 최근 것)
-        DailyGoal dailyGoal = dailyGoalRepository.findFirstByMemberIdOrderByDailyGoalDateDesc(m.getId())
+        DailyGoal dailyGoal = dailyGoalRepository.findFirstByMemberIdOrderByDailyGoalDateDesc(memberId)
                         .orElseThrow(DailyGoalNotFoundException::new);
 
         // 2. 시작 시간 검증
@@ -80,12 +78,7 @@ public class FocusServiceV4 {
         if (seconds < 0) seconds = 0;
         LocalDateTime endTime = subjectStartTime.plusSeconds(seconds);
 
-        LocalDateTime limitTime;
-        if (subjectStartTime.getHour() < 4) {
-            limitTime = subjectStartTime.toLocalDate().atTime(4, 0);
-        } else {
-            limitTime = subjectStartTime.toLocalDate().plusDays(1).atTime(4, 0);
-        }
+        LocalDateTime limitTime = getServiceDayEnd(subjectStartTime);
 
         // 5. 저장할 시간 보정 (4시 넘어가면 자름)
         int savedFocusSeconds = seconds;
@@ -99,13 +92,13 @@ public class FocusServiceV4 {
         int focusMinutes = savedFocusSeconds / 60;
         int remainSeconds = savedFocusSeconds % 60;
 
-        Member member = memberRepository.findById(m.getId())
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
-        MemberInfo memberInfo = memberInfoRepository.findByMemberId(m.getId())
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         Subject subject = subjectRepository.findByIdAndDeleteAtIsNull(subjectId)
                 .orElseThrow(SubjectNotFoundException::new);
-        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefault(m.getId(), true)
+        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefault(memberId, true)
                 .orElseThrow(CharacterDefaultNotFoundException::new);
         DailySubject dailySubject = dailySubjectRepository.findByMemberAndSubjectAndDate(member, subject, dailyGoal.getDailyGoalDate())
                 .orElseGet(() -> {
@@ -116,7 +109,7 @@ public class FocusServiceV4 {
                             .date(dailyGoal.getDailyGoalDate())
                             .build();
                 });
-        if (!subject.getMember().getId().equals(m.getId())) {
+        if (!subject.getMember().getId().equals(memberId)) {
             throw new SubjectUnAuthorizedException();
         }
 
@@ -132,12 +125,15 @@ public class FocusServiceV4 {
         int focusExp = focusMinutes * 10;
         // 레벨 업
         member.expUp(focusExp);
+        leagueLeaderboardService.updateScore(member);
         // 총 레벨 업
         memberInfo.totalExpUp(focusExp);
         // 골드 획득
         memberInfo.addGold(focusExp);
         // 일일 목표 공부 시간 더하기
         dailyGoal.addCurrentSeconds(savedFocusSeconds);
+        focusRollupService.record(dailyGoal);
+        dailyFocusRankService.record(dailyGoal);
         // 과목 공부 시간 더하기
         dailySubject.addSeconds(savedFocusSeconds);
         // 캐릭터 친밀도 상승
@@ -148,20 +144,8 @@ public class FocusServiceV4 {
         // 만약 dailySubject가 생성되어있지 않다면 저장해야함.
         dailySubjectRepository.save(dailySubject);
         dailySubjectRepository.flush();
-
-        if (AppConstants.SCHOOL_CATEGORIES.contains(memberInfo.getCategoryMain()) &&
-                !memberInfo.getCategorySub().equals(CategorySubType.N_SU) &&
-                memberInfo.getSchool() != null && !memberInfo.getSchool().isBlank()) {
-            schoolRepository.findByName(memberInfo.getSchool())
-                    .ifPresent(school -> school.plusTotalLevel(focusExp));
-        }
-
-        // 길드 주간 집중 시간 업데이트 (가입한 모든 길드)
-        List<GuildMember> guildMembers = guildMemberRepository.findAllByMemberIdWithGuild(m.getId());
-        for (GuildMember gm : guildMembers) {
-            gm.addWeeklyFocusTime(savedFocusSeconds);
-            gm.getGuild().updateAverageFocusTime(savedFocusSeconds);
-        }
+        // 주간/월간 통계 누적 (flush 이후 호출)
+        periodStatService.record(dailySubject, savedFocusSeconds);
 
         // 하루 최대 집중시간 확인하기
         long consecutiveSecondsLong = Duration.between(screenStartTime, now).getSeconds();
@@ -175,23 +159,27 @@ public class FocusServiceV4 {
         dailyGoal.updateEarliestStartTime(screenStartTime.toLocalTime());
         dailyGoal.updateLatestEndTime(endTime.toLocalTime());
 
-        // 아이템 달성 조건 체크 (DailySubject 저장 이후)
-        itemAchievementService.checkAchievements(m.getId(), savedFocusSeconds, screenStartTime, dailyGoal);
-
-        // 훈련 보상 적립
-        trainingRewardService.accumulateTrainingReward(m.getId(), savedFocusSeconds);
-
-        // 플래너 저장
-        if (savedFocusSeconds > 0) {
-            plannerRepository.save(
-                    Planner.builder()
-                            .member(member)
-                            .subject(subject)
-                            .date(dailyGoal.getDailyGoalDate())
-                            .startTime(subjectStartTime.toLocalTime())
-                            .endTime(endTime.toLocalTime())
-                            .build()
-            );
+        // 후처리(학교 / 길드 / 아이템 달성 / 훈련 보상 / 플래너)는 이벤트로 저장 후 FocusEventConsumer 에서 묶음 반영
+        String schoolName = null;
+        if (AppConstants.SCHOOL_CATEGORIES.contains(memberInfo.getCategoryMain()) &&
+                !memberInfo.getCategorySub().equals(CategorySubType.N_SU) &&
+                memberInfo.getSchool() != null && !memberInfo.getSchool().isBlank()) {
+            schoolName = memberInfo.getSchool();
         }
+
+        focusEventRepository.save(
+                FocusEvent.builder()
+                        .memberId(member.getId())
+                        .subjectId(subject.getId())
+                        .dailyGoalId(dailyGoal.getId())
+                        .serviceDate(dailyGoal.getDailyGoalDate())
+                        .focusSeconds(savedFocusSeconds)
+                        .focusExp(focusExp)
+                        .schoolName(schoolName)
+                        .sessionStartTime(screenStartTime)
+                        .startTime(subjectStartTime.toLocalTime())
+                        .endTime(endTime.toLocalTime())
+                        .build()
+        );
     }
 }
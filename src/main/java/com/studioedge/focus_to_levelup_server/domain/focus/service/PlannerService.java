@@ -5,7 +5,6 @@ import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.PlannerL
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.PlannerResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Planner;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.PlannerNotFoundException;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,9 +20,9 @@ public class PlannerService {
     private final PlannerRepository plannerRepository;
 
     @Transactional(readOnly = true)
-    public PlannerListResponse getTodayPlanner(Member member, LocalDate date) {
+    public PlannerListResponse getTodayPlanner(Long memberId, LocalDate date) {
         LocalDate serviceDate = date == null ? AppConstants.getServiceDate() : date;
-        List<Planner> planners = plannerRepository.findAllWithMemberAndSubjectByMemberIdAndDate(member.getId(), serviceDate);
+        List<Planner> planners = plannerRepository.findAllWithMemberAndSubjectByMemberIdAndDate(memberId, serviceDate);
         if (planners.isEmpty()) {
             throw new PlannerNotFoundException();
         }
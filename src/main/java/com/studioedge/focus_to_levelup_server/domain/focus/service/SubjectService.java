@@ -1,16 +1,17 @@
 package com.studioedge.focus_to_levelup_server.domain.focus.service;
 
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.SubjectRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.SubjectRepository.SubjectBoardRow;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.TodoRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.TodoRepository.TodoBoardRow;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.request.CreateSubjectRequest;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetSubjectResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.GetTodoResponse;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
+import com.studioedge.focus_to_levelup_server.domain.focus.dto.response.SubjectBoardResponse;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.Todo;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.SubjectNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.focus.exception.SubjectUnAuthorizedException;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,35 +27,38 @@ import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.
 @Service
 @RequiredArgsConstructor
 public class SubjectService {
+    private final MemberRepository memberRepository;
     private final SubjectRepository subjectRepository;
-    private final DailySubjectRepository dailySubjectRepository;
     private final TodoRepository todoRepository;
 
+    /**
+     * 과목 보드 조회 (홈 화면)
+     * 과목 + 오늘 집중 시간 1회, 할일 1회로 과목 수와 상관없이 쿼리 2번으로 조회합니다.
+     */
     @Transactional(readOnly = true)
-    public List<GetSubjectResponse> getSubjectList(Member member, LocalDate date) {
+    public SubjectBoardResponse getSubjectBoard(Long memberId, LocalDate date) {
         LocalDate serviceDate = date == null ? getServiceDate() : date;
-        List<Subject> subjects = subjectRepository.findAllByMemberAndDeleteAtIsNull(member);
-        List<DailySubject> dailySubjects = dailySubjectRepository.findAllByMemberAndDate(member, serviceDate);
-        Map<Long, Integer> todayMinutesMap = dailySubjects.stream()
-                .collect(Collectors.toMap(
-                        dailySubject -> dailySubject.getSubject().getId(),
-                        DailySubject::getFocusSeconds
+        List<SubjectBoardRow> subjects = subjectRepository.findBoardRowsByMemberId(memberId, serviceDate);
+        if (subjects.isEmpty()) {
+            return SubjectBoardResponse.of(serviceDate, List.of());
+        }
+
+        Map<Long, List<GetTodoResponse>> todosBySubject = todoRepository.findBoardRowsByMemberId(memberId).stream()
+                .collect(Collectors.groupingBy(
+                        TodoBoardRow::getSubjectId,
+                        Collectors.mapping(GetTodoResponse::of, Collectors.toList())
                 ));
 
-        return subjects.stream()
-                .map(subject -> {
-                    Integer todaySeconds = todayMinutesMap.getOrDefault(subject.getId(), 0);
-                    List<Todo> todos = todoRepository.findAllBySubjectId(subject.getId());
-                    List<GetTodoResponse> responses = todos.stream()
-                            .map(GetTodoResponse::of)
-                            .collect(Collectors.toList());
-                    return GetSubjectResponse.of(subject, todaySeconds, responses);
-                })
+        List<GetSubjectResponse> responses = subjects.stream()
+                .map(subject -> GetSubjectResponse.of(
+                        subject, todosBySubject.getOrDefault(subject.getSubjectId(), List.of())))
                 .collect(Collectors.toList());
+        return SubjectBoardResponse.of(serviceDate, responses);
     }
 
     @Transactional
-    public void createSubject(Member member, CreateSubjectRequest request) {
+    public void createSubject(Long memberId, CreateSubjectRequest request) {
+        Member member = memberRepository.getReferenceById(memberId);
         List<Subject> subjects = subjectRepository.findAllByMemberAndName(member, request.name());
         Subject targetSubject = subjects.stream()
                 .filter(s -> s.getDeleteAt() == null) // 활성화된 과목
@@ -74,19 +78,19 @@ public class SubjectService {
     }
 
     @Transactional
-    public void updateSubject(Member member, Long subjectId, CreateSubjectRequest request) {
+    public void updateSubject(Long memberId, Long subjectId, CreateSubjectRequest request) {
         Subject subject = subjectRepository.findById(subjectId)
                 .orElseThrow(SubjectNotFoundException::new);
-        if (!subject.getMember().getId().equals(member.getId()))
+        if (!subject.getMember().getId().equals(memberId))
             throw new SubjectUnAuthorizedException();
         subject.update(request);
     }
 
     @Transactional
-    public void deleteSubject(Member member, Long subjectId) {
+    public void deleteSubject(Long memberId, Long subjectId) {
         Subject subject = subjectRepository.findById(subjectId)
                 .orElseThrow(SubjectNotFoundException::new);
-        if (!subject.getMember().getId().equals(member.getId()))
+        if (!subject.getMember().getId().equals(memberId))
             throw new SubjectUnAuthorizedException();
         subject.delete();
     }
@@ -6,8 +6,8 @@ import com.studioedge.focus_to_levelup_server.domain.guild.dto.GuildResponse;
 import com.studioedge.focus_to_levelup_server.domain.guild.dto.GuildSearchResponse;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildMemberQueryService;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildQueryService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -154,7 +154,7 @@ public class GuildController {
     })
     public ResponseEntity<CommonResponse<GuildResponse>> getGuild(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         GuildResponse response = guildQueryService.getGuildById(guildId, member.getId());
         return HttpResponseUtil.ok(response);
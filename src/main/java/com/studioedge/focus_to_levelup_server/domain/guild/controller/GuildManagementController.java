@@ -10,7 +10,7 @@ import com.studioedge.focus_to_levelup_server.domain.guild.dto.TransferLeaderAnd
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildCommandService;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildMemberCommandService;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildPermissionService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -64,7 +64,7 @@ public class GuildManagementController {
     })
     public ResponseEntity<CommonResponse<GuildResponse>> createGuild(
             @Valid @RequestBody GuildCreateRequest request,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         GuildResponse response = guildCommandService.createGuild(request, member.getId());
         return HttpResponseUtil.created(response);
@@ -96,7 +96,7 @@ public class GuildManagementController {
     public ResponseEntity<CommonResponse<GuildResponse>> updateGuild(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Valid @RequestBody GuildUpdateRequest request,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         // LEADER 권한 검증
         guildPermissionService.validateLeaderPermission(guildId, member.getId());
@@ -129,7 +129,7 @@ public class GuildManagementController {
     public ResponseEntity<CommonResponse<Void>> changePassword(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Valid @RequestBody GuildPasswordChangeRequest request,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         // LEADER 권한 검증
         guildPermissionService.validateLeaderPermission(guildId, member.getId());
@@ -157,7 +157,7 @@ public class GuildManagementController {
     })
     public ResponseEntity<CommonResponse<Void>> deleteGuild(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         // LEADER 권한 검증
         guildPermissionService.validateLeaderPermission(guildId, member.getId());
@@ -185,7 +185,7 @@ public class GuildManagementController {
     public ResponseEntity<CommonResponse<Void>> kickMember(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Parameter(description = "강퇴할 회원 ID") @PathVariable Long memberId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         // LEADER 또는 SUB_LEADER 권한 검증
         guildPermissionService.validateLeaderOrSubLeaderPermission(guildId, member.getId());
@@ -219,7 +219,7 @@ public class GuildManagementController {
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Parameter(description = "역할을 변경할 회원 ID") @PathVariable Long memberId,
             @Valid @RequestBody GuildRoleUpdateRequest request,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         // LEADER 권한 검증
         guildPermissionService.validateLeaderPermission(guildId, member.getId());
@@ -255,7 +255,7 @@ public class GuildManagementController {
     public ResponseEntity<CommonResponse<Void>> transferLeaderAndLeave(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Valid @RequestBody TransferLeaderAndLeaveRequest request,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         // LEADER 권한 검증
         guildPermissionService.validateLeaderPermission(guildId, member.getId());
@@ -5,8 +5,8 @@ import com.studioedge.focus_to_levelup_server.domain.guild.dto.GuildResponse;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildBoostService;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildCommandService;
 import com.studioedge.focus_to_levelup_server.domain.guild.service.GuildMemberQueryService;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.global.fcm.FcmService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -62,7 +62,7 @@ public class GuildMemberController {
     public ResponseEntity<CommonResponse<GuildResponse>> joinGuild(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Parameter(description = "비공개 길드 비밀번호") @RequestParam(required = false) String password,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         GuildResponse response = guildCommandService.joinGuild(guildId, password, member.getId());
         return HttpResponseUtil.created(response);
@@ -90,7 +90,7 @@ public class GuildMemberController {
     })
     public ResponseEntity<CommonResponse<Void>> leaveGuild(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         guildCommandService.leaveGuild(guildId, member.getId());
         return HttpResponseUtil.delete(null);
@@ -126,7 +126,7 @@ public class GuildMemberController {
     })
     public ResponseEntity<CommonResponse<Void>> activateGuildBoost(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         guildBoostService.activateBoost(guildId, member.getId());
         return HttpResponseUtil.created(null);
@@ -148,7 +148,7 @@ public class GuildMemberController {
     })
     public ResponseEntity<CommonResponse<Void>> deactivateGuildBoost(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         guildBoostService.deactivateBoost(guildId, member.getId());
         return HttpResponseUtil.delete(null);
@@ -167,7 +167,7 @@ public class GuildMemberController {
             @ApiResponse(responseCode = "200", description = "내 길드 목록 조회 성공")
     })
     public ResponseEntity<CommonResponse<GuildListResponse>> getMyGuilds(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         GuildListResponse response = guildMemberQueryService.getMyGuilds(member.getId());
         return HttpResponseUtil.ok(response);
@@ -186,7 +186,7 @@ public class GuildMemberController {
             @ApiResponse(responseCode = "200", description = "부스트 길드 목록 조회 성공")
     })
     public ResponseEntity<CommonResponse<GuildListResponse>> getMyBoostedGuilds(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         GuildListResponse response = guildBoostService.getMyBoostedGuilds(member.getId());
         return HttpResponseUtil.ok(response);
@@ -213,7 +213,7 @@ public class GuildMemberController {
     public ResponseEntity<CommonResponse<Void>> requestFocus(
             @Parameter(description = "길드 ID") @PathVariable Long guildId,
             @Parameter(description = "대상 멤버 ID") @PathVariable Long targetMemberId,
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         guildCommandService.sendFocusRequest(guildId, member.getId(), targetMemberId);
         return HttpResponseUtil.ok(null);
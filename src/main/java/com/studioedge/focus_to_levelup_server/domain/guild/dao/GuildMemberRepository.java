@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,12 @@ public interface GuildMemberRepository extends JpaRepository<GuildMember, Long>
             "WHERE gm.member.id = :memberId")
     List<GuildMember> findAllByMemberIdWithGuild(@Param("memberId") Long memberId);
 
+    // 여러 유저가 가입한 길드 목록 (Guild JOIN FETCH)
+    @Query("SELECT gm FROM GuildMember gm " +
+            "JOIN FETCH gm.guild g " +
+            "WHERE gm.member.id IN :memberIds")
+    List<GuildMember> findAllByMemberIdInWithGuild(@Param("memberIds") Collection<Long> memberIds);
+
     // 길드 부스트 개수 (길드별)
     @Query("SELECT COUNT(gm) FROM GuildMember gm WHERE gm.guild.id = :guildId AND gm.isBoosted = true")
     Long countByGuildIdAndIsBoostedTrue(@Param("guildId") Long guildId);
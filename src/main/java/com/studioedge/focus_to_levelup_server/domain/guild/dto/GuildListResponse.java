@@ -14,12 +14,13 @@ public record GuildListResponse(
         Long totalElements,
         Integer currentPage
 ) {
-    public static GuildListResponse of(Page<Guild> guildPage, Map<Long, GuildWeeklyReward> rewardMap) {
+    public static GuildListResponse of(Page<Guild> guildPage, Map<Long, GuildWeeklyReward> rewardMap,
+                                       Map<Long, Long> pendingFocusSeconds) {
         List<GuildSummary> guilds = guildPage.getContent().stream()
                 .map(guild -> {
                     // 맵에서 해당 길드의 보상 정보 조회 (없으면 null)
                     GuildWeeklyReward reward = rewardMap.get(guild.getId());
-                    return GuildSummary.from(guild, reward);
+                    return GuildSummary.from(guild, reward, pendingFocusSeconds.getOrDefault(guild.getId(), 0L));
                 })
                 .toList();
 
@@ -44,7 +45,8 @@ public record GuildListResponse(
             Boolean isJoinable,
             Integer lastWeekDiamondReward
     ) {
-        public static GuildSummary from(Guild guild, GuildWeeklyReward guildWeeklyReward) {
+        // pendingFocusSeconds: 아직 DB 에 반영되지 않은 집중 시간 (FocusTotalCounter)
+        public static GuildSummary from(Guild guild, GuildWeeklyReward guildWeeklyReward, long pendingFocusSeconds) {
             int lastAvgFocusTime = guildWeeklyReward == null ? 0 : guildWeeklyReward.getAvgFocusTime();
             return new GuildSummary(
                     guild.getId(),
@@ -53,7 +55,7 @@ public record GuildListResponse(
                     guild.getCurrentMembers(),
                     guild.getMaxMembers(),
                     lastAvgFocusTime,
-                    guild.getAverageFocusTime(),
+                    (int) (guild.getAverageFocusTime() + pendingFocusSeconds),
                     guild.getCategory(),
                     guild.getIsPublic(),
                     !guild.isFull(),
@@ -28,7 +28,7 @@ public record GuildResponse(
         MemberGuildStatus memberStatus // 현재 유저의 가입 상태
 ) {
     // 길드 생성 이후 응답하는 생성자
-    public static GuildResponse of(Guild guild, Optional<GuildMember> guildMember) {
+    public static GuildResponse of(Guild guild, Optional<GuildMember> guildMember, long pendingFocusSeconds) {
         MemberGuildStatus memberStatus = guildMember
                 .map(gm -> new MemberGuildStatus(true, gm.getRole()))
                 .orElse(new MemberGuildStatus(false, null));
@@ -37,7 +37,7 @@ public record GuildResponse(
                 .name(guild.getName())
                 .description(guild.getDescription())
                 .targetFocusTime(guild.getTargetFocusTime())
-                .averageFocusTime(guild.getAverageFocusTime() / guild.getCurrentMembers())
+                .averageFocusTime(averageFocusTime(guild, pendingFocusSeconds))
                 .lastAverageFocusTime(0)
                 .currentMembers(guild.getCurrentMembers())
                 .maxMembers(guild.getMaxMembers())
@@ -52,7 +52,7 @@ public record GuildResponse(
     }
 
     public static GuildResponse of(Guild guild, Optional<GuildMember> guildMember,
-                                   GuildWeeklyReward guildWeeklyReward) {
+                                   GuildWeeklyReward guildWeeklyReward, long pendingFocusSeconds) {
         MemberGuildStatus memberStatus = guildMember
                 .map(gm -> new MemberGuildStatus(true, gm.getRole()))
                 .orElse(new MemberGuildStatus(false, null));
@@ -67,7 +67,7 @@ public record GuildResponse(
                 .name(guild.getName())
                 .description(guild.getDescription())
                 .targetFocusTime(guild.getTargetFocusTime())
-                .averageFocusTime(guild.getAverageFocusTime() / guild.getCurrentMembers())
+                .averageFocusTime(averageFocusTime(guild, pendingFocusSeconds))
                 .lastAverageFocusTime(lastAvgFocusTime)
                 .currentMembers(guild.getCurrentMembers())
                 .maxMembers(guild.getMaxMembers())
@@ -81,6 +81,11 @@ public record GuildResponse(
                 .build();
     }
 
+    // pendingFocusSeconds: 아직 DB 에 반영되지 않은 집중 시간 (FocusTotalCounter)
+    private static int averageFocusTime(Guild guild, long pendingFocusSeconds) {
+        return (int) ((guild.getAverageFocusTime() + pendingFocusSeconds) / guild.getCurrentMembers());
+    }
+
     public record MemberGuildStatus(
             Boolean isMember,
             GuildRole role // 가입했다면
@@ -19,13 +19,15 @@ public record GuildSearchResponse(
     public static GuildSearchResponse of(
             Page<Guild> guildPage,
             Map<Long, GuildWeeklyReward> rewardMap, // 추가됨
+            Map<Long, Long> pendingFocusSeconds,
             String keyword,
             CategorySubType category
     ) {
         List<GuildListResponse.GuildSummary> guilds = guildPage.getContent().stream()
                 .map(guild -> {
                     GuildWeeklyReward reward = rewardMap.get(guild.getId());
-                    return GuildListResponse.GuildSummary.from(guild, reward);
+                    return GuildListResponse.GuildSummary.from(
+                            guild, reward, pendingFocusSeconds.getOrDefault(guild.getId(), 0L));
                 })
                 .toList();
 
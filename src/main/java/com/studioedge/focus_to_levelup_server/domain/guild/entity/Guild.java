@@ -49,7 +49,8 @@ public class Guild extends BaseEntity {
     @ColumnDefault("1")
     private Integer currentMembers = 1;
 
-    @Column(nullable = false)
+    // 집중 저장 시에는 FocusTotalCounter 가 UPDATE x = x + ? 로만 더하므로, 엔티티 UPDATE 에서는 덮어쓰지 않습니다.
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer averageFocusTime = 0; // 평균 집중 시간 (저장하는건 총합)
 
@@ -90,10 +91,6 @@ public class Guild extends BaseEntity {
         return this.currentMembers >= this.maxMembers;
     }
 
-    public void updateAverageFocusTime(Integer averageFocusTime) {
-        this.averageFocusTime += averageFocusTime;
-    }
-
     public void updateCategory(CategorySubType category) {
         this.category = category;
     }
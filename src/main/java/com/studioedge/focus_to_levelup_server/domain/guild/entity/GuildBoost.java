@@ -14,7 +14,11 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "guild_boosts")
+@Table(name = "guild_boosts", indexes = {
+        @Index(name = "idx_guild_boost_guild_active", columnList = "guild_id, is_active"),
+        @Index(name = "idx_guild_boost_member_active", columnList = "member_id, is_active"),
+        @Index(name = "idx_guild_boost_active_end_date", columnList = "is_active, end_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class GuildBoost extends BaseEntity {
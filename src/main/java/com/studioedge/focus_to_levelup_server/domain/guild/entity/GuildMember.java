@@ -20,6 +20,10 @@ import java.time.LocalDateTime;
         name = "guild_members",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"guild_id", "member_id"})
+        },
+        indexes = {
+                @Index(name = "idx_guild_member_guild_focus_time", columnList = "guild_id, weekly_focus_time"),
+                @Index(name = "idx_guild_member_member_boosted", columnList = "member_id, is_boosted")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -11,7 +11,9 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "guild_weekly_rewards")
+@Table(name = "guild_weekly_rewards", indexes = {
+        @Index(name = "idx_guild_weekly_reward_guild_created_at", columnList = "guild_id, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class GuildWeeklyReward extends BaseEntity {
@@ -17,6 +17,8 @@ import com.studioedge.focus_to_levelup_server.domain.payment.dao.SubscriptionRep
 import com.studioedge.focus_to_levelup_server.domain.payment.entity.Subscription;
 import com.studioedge.focus_to_levelup_server.domain.payment.enums.SubscriptionType;
 import com.studioedge.focus_to_levelup_server.domain.payment.exception.PremiumSubscriptionRequiredException;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,6 +47,7 @@ public class GuildBoostService {
     private final SubscriptionRepository subscriptionRepository;
     private final MemberRepository memberRepository;
     private final GuildQueryService guildQueryService;
+    private final FocusTotalCounter focusTotalCounter;
 
     private static final int MAX_BOOST_PER_MEMBER = 2;
     private static final int MAX_BOOST_PER_GUILD = 10;
@@ -144,12 +147,14 @@ public class GuildBoostService {
                 .toList();
 
         Map<Long, GuildWeeklyReward> rewardMap = getRewardMap(guildIds);
+        Map<Long, Long> pendingFocusSeconds = focusTotalCounter.pending(FocusTotalType.GUILD_FOCUS_SECONDS, guildIds);
 
         List<GuildListResponse.GuildSummary> guilds = guildBoosts.stream()
                 .map(gb -> {
                     Guild guild = gb.getGuild();
                     GuildWeeklyReward reward = rewardMap.get(guild.getId());
-                    return GuildListResponse.GuildSummary.from(guild, reward);
+                    return GuildListResponse.GuildSummary.from(
+                            guild, reward, pendingFocusSeconds.getOrDefault(guild.getId(), 0L));
                 })
                 .toList();
 
@@ -85,7 +85,7 @@ public class GuildCommandService {
 
         guildMemberRepository.save(guildMember);
 
-        return GuildResponse.of(savedGuild, Optional.of(guildMember));
+        return GuildResponse.of(savedGuild, Optional.of(guildMember), 0L);
     }
 
     /**
@@ -127,7 +127,8 @@ public class GuildCommandService {
         GuildWeeklyReward guildWeeklyReward = guildWeeklyRewardRepository
                 .findFirstByGuildIdOrderByCreatedAtDesc(guildId)
                 .orElse(null);
-        return GuildResponse.of(guild, guildMember, guildWeeklyReward);
+        return GuildResponse.of(guild, guildMember, guildWeeklyReward,
+                guildQueryService.getPendingFocusSeconds(guild));
     }
 
     /**
@@ -203,7 +204,8 @@ public class GuildCommandService {
                 .findFirstByGuildIdOrderByCreatedAtDesc(guildId)
                 .orElse(null);
 
-        return GuildResponse.of(guild, Optional.of(guildMember), guildWeeklyReward);
+        return GuildResponse.of(guild, Optional.of(guildMember), guildWeeklyReward,
+                guildQueryService.getPendingFocusSeconds(guild));
     }
 
     /**
@@ -10,6 +10,8 @@ import com.studioedge.focus_to_levelup_server.domain.guild.entity.Guild;
 import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
 import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildWeeklyReward;
 import com.studioedge.focus_to_levelup_server.domain.guild.exception.NotGuildMemberException;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +35,7 @@ public class GuildMemberQueryService {
     private final GuildMemberRepository guildMemberRepository;
     private final GuildWeeklyRewardRepository guildWeeklyRewardRepository;
     private final DailyGoalRepository dailyGoalRepository;
+    private final FocusTotalCounter focusTotalCounter;
     /**
      * 길드원 목록 조회 (주간 집중 시간 순 - DESC)
      * weeklyFocusTime은 FocusService.saveFocus()에서 업데이트됨
@@ -71,12 +74,14 @@ public class GuildMemberQueryService {
                 .toList();
 
         Map<Long, GuildWeeklyReward> rewardMap = getRewardMap(guildIds);
+        Map<Long, Long> pendingFocusSeconds = focusTotalCounter.pending(FocusTotalType.GUILD_FOCUS_SECONDS, guildIds);
 
         List<GuildListResponse.GuildSummary> guilds = guildMembers.stream()
                 .map(gm -> {
                     Guild guild = gm.getGuild();
                     GuildWeeklyReward reward = rewardMap.get(guild.getId());
-                    return GuildListResponse.GuildSummary.from(guild, reward);
+                    return GuildListResponse.GuildSummary.from(
+                            guild, reward, pendingFocusSeconds.getOrDefault(guild.getId(), 0L));
                 })
                 .toList();
 
@@ -11,6 +11,8 @@ import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
 import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildWeeklyReward;
 import com.studioedge.focus_to_levelup_server.domain.guild.exception.GuildNotFoundException;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +39,7 @@ public class GuildQueryService {
     private final GuildRepository guildRepository;
     private final GuildMemberRepository guildMemberRepository;
     private final GuildWeeklyRewardRepository guildWeeklyRewardRepository;
+    private final FocusTotalCounter focusTotalCounter;
 
     /**
      * 길드 목록 조회 (페이징)
@@ -47,7 +50,7 @@ public class GuildQueryService {
                 ? guildRepository.findAllAvailable(pageable)
                 : guildRepository.findAll(pageable);
         Map<Long, GuildWeeklyReward> rewardMap = getRewardMap(guildPage.getContent());
-        return GuildListResponse.of(guildPage, rewardMap);
+        return GuildListResponse.of(guildPage, rewardMap, getPendingFocusSeconds(guildPage.getContent()));
     }
 
     /**
@@ -59,7 +62,7 @@ public class GuildQueryService {
                 ? guildRepository.findAllByCategoryAvailable(category, pageable)
                 : guildRepository.findAllByCategory(category, pageable);
         Map<Long, GuildWeeklyReward> rewardMap = getRewardMap(guildPage.getContent());
-        return GuildListResponse.of(guildPage, rewardMap);
+        return GuildListResponse.of(guildPage, rewardMap, getPendingFocusSeconds(guildPage.getContent()));
     }
 
     /**
@@ -72,7 +75,7 @@ public class GuildQueryService {
         GuildWeeklyReward guildWeeklyReward = guildWeeklyRewardRepository
                 .findFirstByGuildIdOrderByCreatedAtDesc(guildId)
                 .orElse(null);
-        return GuildResponse.of(guild, guildMember, guildWeeklyReward);
+        return GuildResponse.of(guild, guildMember, guildWeeklyReward, getPendingFocusSeconds(guild));
     }
 
     /**
@@ -82,7 +85,7 @@ public class GuildQueryService {
         Page<Guild> guildPage = guildRepository.searchByKeyword(keyword, pageable);
         Map<Long, GuildWeeklyReward> rewardMap = getRewardMap(guildPage.getContent());
 
-        return GuildSearchResponse.of(guildPage, rewardMap, keyword, null);
+        return GuildSearchResponse.of(guildPage, rewardMap, getPendingFocusSeconds(guildPage.getContent()), keyword, null);
     }
 
     /**
@@ -92,7 +95,7 @@ public class GuildQueryService {
         Page<Guild> guildPage = guildRepository.searchByKeywordAndCategory(keyword, category, pageable);
         Map<Long, GuildWeeklyReward> rewardMap = getRewardMap(guildPage.getContent());
 
-        return GuildSearchResponse.of(guildPage, rewardMap, keyword, category);
+        return GuildSearchResponse.of(guildPage, rewardMap, getPendingFocusSeconds(guildPage.getContent()), keyword, category);
     }
 
     /**
@@ -103,6 +106,23 @@ public class GuildQueryService {
                 .orElseThrow(GuildNotFoundException::new);
     }
 
+    /**
+     * 길드 집중 시간 중 아직 DB 에 반영되지 않은 증가분 (FocusTotalCounter)
+     */
+    public long getPendingFocusSeconds(Guild guild) {
+        return focusTotalCounter.pending(FocusTotalType.GUILD_FOCUS_SECONDS, guild.getId());
+    }
+
+    public Map<Long, Long> getPendingFocusSeconds(List<Guild> guilds) {
+        if (guilds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> guildIds = guilds.stream()
+                .map(Guild::getId)
+                .toList();
+        return focusTotalCounter.pending(FocusTotalType.GUILD_FOCUS_SECONDS, guildIds);
+    }
+
     private Map<Long, GuildWeeklyReward> getRewardMap(List<Guild> guilds) {
         if (guilds.isEmpty()) {
             return Collections.emptyMap();
@@ -1,8 +1,8 @@
 package com.studioedge.focus_to_levelup_server.domain.member.controller;
 
 import com.studioedge.focus_to_levelup_server.domain.member.dto.*;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.service.MemberService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -62,10 +62,10 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> completeSignUp(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid CompleteSignUpRequest request
     ) {
-        memberService.completeSignUp(member, request);
+        memberService.completeSignUp(member.getId(), request);
         return HttpResponseUtil.created(null);
     }
 
@@ -92,11 +92,11 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> reportMember(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable(name = "id") Long memberId,
             @RequestBody @Valid ReportMemberRequest request
     ) {
-        memberService.reportMember(member, memberId, request);
+        memberService.reportMember(member.getId(), memberId, request);
         return HttpResponseUtil.ok(null);
     }
 
@@ -118,11 +118,11 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Page<ProfileAssetResponse>>> getMemberAsset(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size
     ) {
-        return HttpResponseUtil.ok(memberService.getMemberAsset(member, PageRequest.of(page, size)));
+        return HttpResponseUtil.ok(memberService.getMemberAsset(member.getId(), PageRequest.of(page, size)));
     }
 
     @GetMapping("/v1/member/profile")
@@ -151,7 +151,7 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<GetProfileResponse>> getMemberProfile(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam(name = "id", required = false) Long memberId
     ) {
         return HttpResponseUtil.ok(memberService.getMemberProfile(memberId == null ? member.getId() : memberId));
@@ -178,9 +178,9 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<MemberSettingDto>> getMemberSetting(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(memberService.getMemberSetting(member));
+        return HttpResponseUtil.ok(memberService.getMemberSetting(member.getId()));
     }
 
     @PutMapping("/v1/member/profile")
@@ -205,10 +205,10 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateProfile(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid UpdateProfileRequest request
     ) {
-        memberService.updateMemberProfile(member, request);
+        memberService.updateMemberProfile(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -237,10 +237,10 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateNickname(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid UpdateNicknameRequest request
     ) {
-        memberService.updateNickname(member, request);
+        memberService.updateNickname(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -270,10 +270,10 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateCategory(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid UpdateCategoryRequest request
     ) {
-        memberService.updateCategory(member, request);
+        memberService.updateCategory(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -303,10 +303,10 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateSchool(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid UpdateSchoolRequest request
     ) {
-        memberService.updateSchool(member, request);
+        memberService.updateSchool(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -323,10 +323,10 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<Void>> updateMemberSetting(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody MemberSettingDto request
     ) {
-        memberService.updateMemberSetting(member, request);
+        memberService.updateMemberSetting(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 
@@ -343,8 +343,8 @@ public class MemberController {
             )
     })
     public ResponseEntity<CommonResponse<MemberCurrencyResponse>> getMemberCurrency(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(memberService.getMemberCurrency(member));
+        return HttpResponseUtil.ok(memberService.getMemberCurrency(member.getId()));
     }
 }
@@ -10,14 +10,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    interface MemberIdRange {
+        Long getMinId();
+        Long getMaxId();
+    }
+
+    interface FcmRecipient {
+        Long getId();
+        String getFcmToken();
+        String getNickname();
+    }
 
     long countByStatus(MemberStatus status);
 
@@ -37,11 +49,39 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByStatus(MemberStatus status);
 
+    /**
+     * 배치 파티셔닝용 id 범위
+     */
+    @Query("SELECT MIN(m.id) as minId, MAX(m.id) as maxId FROM Member m WHERE m.status IN :statuses")
+    MemberIdRange findIdRangeByStatusIn(@Param("statuses") List<MemberStatus> statuses);
+
+    /**
+     * 배치 keyset 조회: (lastId, toId] 구간을 id 순으로 pageSize 만큼 조회
+     */
+    @Query("SELECT m FROM Member m " +
+            "WHERE m.status IN :statuses " +
+            "AND m.id > :lastId AND m.id <= :toId " +
+            "ORDER BY m.id ASC")
+    List<Member> findNextByStatusInAndIdRange(@Param("statuses") List<MemberStatus> statuses,
+                                              @Param("lastId") Long lastId,
+                                              @Param("toId") Long toId,
+                                              Pageable pageable);
+
+    /**
+     * 카테고리별 리그 배정처럼 MemberInfo 가 함께 필요한 배치용 (회원마다 MemberInfo 를 따로 조회하지 않도록 fetch join)
+     */
+    @Query("SELECT m FROM Member m JOIN FETCH m.memberInfo WHERE m.id IN :memberIds")
+    List<Member> findAllWithMemberInfoByIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    @Query("SELECT m.status FROM Member m WHERE m.id = :memberId")
+    Optional<MemberStatus> findStatusById(@Param("memberId") Long memberId);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Member m SET m.currentLevel = 1, m.currentExp = 0")
     int resetAllMemberLevels();
 
     @Query("SELECT m FROM Member m " +
+            "JOIN FETCH m.memberInfo " +
             "LEFT JOIN Ranking r ON r.member = m " +
             "WHERE r.id IS NULL " +
             "AND m.status = 'ACTIVE'")
@@ -62,16 +102,41 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             ")")
     Page<Member> findAllActiveMemberWithoutWeeklyReward(@Param("checkDate") LocalDateTime checkDate, Pageable pageable);
 
-    @Query("SELECT m FROM Member m " +
+    @Query(value = "SELECT m FROM Member m " +
+            "JOIN FETCH m.memberInfo " +
             "WHERE m.status = 'ACTIVE' " +
             "AND NOT EXISTS (" +
             "   SELECT 1 FROM Ranking r " +
             "   WHERE r.member = m " +
-            ")")
+            ")",
+            countQuery = "SELECT COUNT(m) FROM Member m " +
+                    "WHERE m.status = 'ACTIVE' " +
+                    "AND NOT EXISTS (SELECT 1 FROM Ranking r WHERE r.member = m)")
     Page<Member> findActiveMembersWithoutRanking(@Param("today") LocalDate today, Pageable pageable);
 
-    // FCM 관련 쿼리 메서드
-    List<Member> findAllByIsReceivedWeeklyRewardIsFalseAndFcmTokenIsNotNull();
-
-    List<Member> findAllByLastLoginDateTimeBetweenAndFcmTokenIsNotNull(LocalDateTime start, LocalDateTime end);
+    // FCM 관련 쿼리 메서드 (id > lastId keyset 페이지 단위 조회)
+    @Query("SELECT m.id as id, m.fcmToken as fcmToken, m.nickname as nickname FROM Member m " +
+            "WHERE m.isReceivedWeeklyReward = false " +
+            "AND m.fcmToken IS NOT NULL " +
+            "AND m.id > :lastId " +
+            "ORDER BY m.id ASC")
+    List<FcmRecipient> findWeeklyRewardFcmRecipients(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT m.id as id, m.fcmToken as fcmToken, m.nickname as nickname FROM Member m " +
+            "WHERE m.lastLoginDateTime BETWEEN :start AND :end " +
+            "AND m.fcmToken IS NOT NULL " +
+            "AND m.id > :lastId " +
+            "ORDER BY m.id ASC")
+    List<FcmRecipient> findInactiveFcmRecipients(@Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end,
+                                                 @Param("lastId") Long lastId,
+                                                 Pageable pageable);
+
+    /**
+     * FCM 에서 더 이상 유효하지 않다고 응답한 토큰 제거
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.fcmToken = NULL WHERE m.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
 }
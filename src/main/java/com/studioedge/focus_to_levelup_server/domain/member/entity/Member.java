@@ -11,11 +11,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        @Index(name = "idx_member_status", columnList = "status"),
+        @Index(name = "idx_member_weekly_reward", columnList = "is_received_weekly_reward"),
+        @Index(name = "idx_member_last_login", columnList = "last_login_date_time"),
+        @Index(name = "idx_member_fcm_token", columnList = "fcm_token")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseEntity {
@@ -25,10 +31,15 @@ public class Member extends BaseEntity {
     @Column(name = "member_id")
     private Long id;
 
+    // 외래 키가 반대편(member_infos, member_settings)에 있는 1:1 이라 프록시로는 지연 로딩이 안 됩니다.
+    // 빌드 시 바이트코드 향상(build.gradle hibernate.enhancement)으로 처음 접근할 때 조회하고,
+    // LazyGroup 을 나눠 둘 중 하나만 접근하면 그쪽만 조회합니다. 여러 회원이 필요하면 fetch join 으로 함께 조회합니다.
     @OneToOne(mappedBy = "member", fetch = FetchType.LAZY)
+    @LazyGroup("memberInfo")
     private MemberInfo memberInfo;
 
     @OneToOne(mappedBy = "member", fetch = FetchType.LAZY)
+    @LazyGroup("memberSetting")
     private MemberSetting memberSetting;
 
     @Enumerated(EnumType.STRING)
@@ -14,7 +14,9 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "member_settings")
+@Table(name = "member_settings", indexes = {
+        @Index(name = "idx_member_setting_ranking_warning_at", columnList = "ranking_warning_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberSetting {
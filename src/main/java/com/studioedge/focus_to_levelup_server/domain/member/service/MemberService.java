@@ -1,30 +1,29 @@
 package com.studioedge.focus_to_levelup_server.domain.member.service;
 
 import com.studioedge.focus_to_levelup_server.domain.member.dto.*;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface MemberService {
-    void completeSignUp(Member member, CompleteSignUpRequest request);
+    void completeSignUp(Long memberId, CompleteSignUpRequest request);
 
-    void reportMember(Member member, Long memberId, ReportMemberRequest request);
+    void reportMember(Long reportFromId, Long memberId, ReportMemberRequest request);
 
-    Page<ProfileAssetResponse> getMemberAsset(Member member, Pageable pageable);
+    Page<ProfileAssetResponse> getMemberAsset(Long memberId, Pageable pageable);
 
     GetProfileResponse getMemberProfile(Long memberId);
 
-    void updateMemberProfile(Member member, UpdateProfileRequest request);
+    void updateMemberProfile(Long memberId, UpdateProfileRequest request);
 
-    void updateNickname(Member member, UpdateNicknameRequest request);
+    void updateNickname(Long memberId, UpdateNicknameRequest request);
 
-    void updateCategory(Member member, UpdateCategoryRequest request);
+    void updateCategory(Long memberId, UpdateCategoryRequest request);
 
-    void updateSchool(Member member, UpdateSchoolRequest request);
+    void updateSchool(Long memberId, UpdateSchoolRequest request);
 
-    void updateMemberSetting(Member member, MemberSettingDto request);
+    void updateMemberSetting(Long memberId, MemberSettingDto request);
 
-    MemberSettingDto getMemberSetting(Member member);
+    MemberSettingDto getMemberSetting(Long memberId);
 
-    MemberCurrencyResponse getMemberCurrency(Member member);
+    MemberCurrencyResponse getMemberCurrency(Long memberId);
 }
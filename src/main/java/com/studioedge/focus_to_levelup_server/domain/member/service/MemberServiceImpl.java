@@ -7,9 +7,9 @@ import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberChar
 import com.studioedge.focus_to_levelup_server.domain.character.exception.CharacterNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.event.dao.SchoolRepository;
 import com.studioedge.focus_to_levelup_server.domain.event.entity.School;
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.SubjectRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.DailyFocusRankService;
 import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildMemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
 import com.studioedge.focus_to_levelup_server.domain.guild.enums.GuildRole;
@@ -21,16 +21,12 @@ import com.studioedge.focus_to_levelup_server.domain.member.dto.*;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberSetting;
-import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.*;
 import com.studioedge.focus_to_levelup_server.domain.payment.dao.SubscriptionRepository;
 import com.studioedge.focus_to_levelup_server.domain.payment.enums.SubscriptionType;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
-import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
-import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
-import com.studioedge.focus_to_levelup_server.domain.ranking.exception.LeagueNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.BronzeLeagueAllocator;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.AssetRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.ReportLogRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Asset;
@@ -38,6 +34,7 @@ import com.studioedge.focus_to_levelup_server.domain.system.entity.MemberAsset;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -72,27 +69,31 @@ public class MemberServiceImpl implements MemberService {
     private final RankingRepository rankingRepository;
     private final GuildMemberRepository guildMemberRepository;
     private final SubjectRepository subjectRepository;
-    private final DailyGoalRepository dailyGoalRepository;
-    private final LeagueRepository leagueRepository;
+    private final DailyFocusRankService dailyFocusRankService;
+    private final BronzeLeagueAllocator bronzeLeagueAllocator;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Override
     @Transactional
-    public void completeSignUp(Member member, CompleteSignUpRequest request) {
+    public void completeSignUp(Long memberId, CompleteSignUpRequest request) {
         validateSignUp(request);
 
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
         saveInitialCharacter(member);
         saveInitialSubjects(member);
         List<MemberAsset> memberAssets = saveInitialMemberAsset(member);
         MemberSetting memberSetting = saveMemberSetting(member);
         MemberInfo memberInfo = saveMemberInfo(member, memberAssets, request);
-        memberRepository.findById(member.getId())
-                .orElseThrow(MemberNotFoundException::new)
-                .completeSignUp(request.nickname(), memberInfo, memberSetting);
+        member.completeSignUp(request.nickname(), memberInfo, memberSetting);
         registerRanking(member, request.categoryMain());
+        memberPrincipalCache.evict(memberId);
     }
 
     @Override
-    public void reportMember(Member reportFrom, Long memberId, ReportMemberRequest request) {
+    public void reportMember(Long reportFromId, Long memberId, ReportMemberRequest request) {
+        Member reportFrom = memberRepository.findById(reportFromId)
+                .orElseThrow(MemberNotFoundException::new);
         Member reportTo = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
         reportLogRepository.save(ReportMemberRequest.from(reportFrom, reportTo, request));
@@ -100,22 +101,23 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    public void updateMemberProfile(Member member, UpdateProfileRequest request) {
-        MemberInfo memberInfo = memberInfoRepository.findByMember(member)
+    public void updateMemberProfile(Long memberId, UpdateProfileRequest request) {
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         MemberAsset newImage = memberAssetRepository.findById(request.profileImageId())
                 .orElseThrow(AssetUnauthorizedException::new);
         MemberAsset newBorder = memberAssetRepository.findById(request.profileBorderId())
                 .orElseThrow(AssetUnauthorizedException::new);
 
-        validateMemberAsset(member, newImage, newBorder);
+        validateMemberAsset(memberId, newImage, newBorder);
         memberInfo.updateProfile(newImage, newBorder, request.profileMessage());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProfileAssetResponse> getMemberAsset(Member member, Pageable pageable) {
-        Page<MemberAsset> memberAssets = memberAssetRepository.findByMember(member, pageable);
+    public Page<ProfileAssetResponse> getMemberAsset(Long memberId, Pageable pageable) {
+        Page<MemberAsset> memberAssets = memberAssetRepository.findByMember(
+                memberRepository.getReferenceById(memberId), pageable);
         List<ProfileAssetResponse> responses = memberAssets.stream()
                 .map(ProfileAssetResponse::of)
                 .collect(Collectors.toList());
@@ -131,28 +133,8 @@ public class MemberServiceImpl implements MemberService {
         SubscriptionState state = getSubscriptionState(memberId);
         String ranking = getMemberRanking(memberId);
 
-        // 1. 전체 활성 유저 수 조회 (분모) - DB에서 숫자 하나만 가져옴 (매우 빠름)
-        long totalUsers = memberRepository.countByStatus(MemberStatus.ACTIVE);
-
-        // 2. 나의 오늘 공부 시간 조회 (기록 없으면 0초)
-        int mySeconds = dailyGoalRepository.findFocusTimeByMemberIdAndDate(memberId, today)
-                .orElse(0);
-        float topPercent;
-
-        if (mySeconds == 0) {
-            // 공부 시간이 0초면 무조건 하위 100%로 고정
-            topPercent = 100.0f;
-        } else {
-            // 3. 나보다 공부를 더 많이 한 사람 수 조회 (DB Count)
-            long betterCount = dailyGoalRepository.countByDateAndFocusTimeGreaterThan(today, mySeconds);
-
-            // 4. 내 등수 계산
-            long myRank = betterCount + 1;
-
-            // 5. 퍼센트 계산
-            // 예: 100명 중 1등 -> 1.0%
-            topPercent = (float) myRank / (float) totalUsers * 100;
-        }
+        // 오늘 집중 시간 기준 상위 퍼센트 (Redis 순위 인덱스, O(log n))
+        float topPercent = dailyFocusRankService.getTopPercent(memberId, today);
 
         return GetProfileResponse.of(
                 memberInfo.getMember(),
@@ -166,26 +148,26 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    public void updateNickname(Member member, UpdateNicknameRequest request) {
-        LocalDateTime updatedAt = member.getNicknameUpdatedAt();
+    public void updateNickname(Long memberId, UpdateNicknameRequest request) {
+        Member me = memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+        LocalDateTime updatedAt = me.getNicknameUpdatedAt();
         if (updatedAt != null && updatedAt.isAfter(LocalDateTime.now().minusMonths(1))) {
             throw new NicknameUpdateException();
         }
         if (memberRepository.existsByNickname(request.nickname())) {
             throw new NicknameDuplicatedException();
         }
-        Member me = memberRepository.findById(member.getId())
-                .orElseThrow(MemberNotFoundException::new);
         me.updateNickname(request.nickname());
     }
 
     @Override
     @Transactional
-    public void updateCategory(Member member, UpdateCategoryRequest request) {
+    public void updateCategory(Long memberId, UpdateCategoryRequest request) {
         if (!request.categorySub().getMainType().equals(request.categoryMain())) {
             throw new IllegalArgumentException("카테고리의 상하관계가 일치하지 않습니다.");
         }
-        MemberInfo memberInfo = memberInfoRepository.findByMember(member)
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         LocalDateTime updatedAt = memberInfo.getCategoryUpdatedAt();
         if (updatedAt != null && updatedAt.isAfter(LocalDateTime.now().minusMonths(1))) {
@@ -193,7 +175,7 @@ public class MemberServiceImpl implements MemberService {
         }
         memberInfo.updateCategory(request);
 
-        List<GuildMember> memberWithGuilds = guildMemberRepository.findAllByMemberIdWithGuild(member.getId());
+        List<GuildMember> memberWithGuilds = guildMemberRepository.findAllByMemberIdWithGuild(memberId);
         for (GuildMember guildMember : memberWithGuilds) {
             if (guildMember.getRole().equals(GuildRole.LEADER)) {
                 guildMember.getGuild().updateCategory(request.categorySub());
@@ -203,8 +185,8 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    public void updateSchool(Member member, UpdateSchoolRequest request) {
-        MemberInfo memberInfo = memberInfoRepository.findByMember(member)
+    public void updateSchool(Long memberId, UpdateSchoolRequest request) {
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         CategoryMainType mainType = memberInfo.getCategoryMain();
         CategorySubType subType = memberInfo.getCategorySub();
@@ -234,15 +216,15 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    public void updateMemberSetting(Member member, MemberSettingDto request) {
-        MemberSetting memberSetting = memberSettingRepository.findByMemberId(member.getId())
+    public void updateMemberSetting(Long memberId, MemberSettingDto request) {
+        MemberSetting memberSetting = memberSettingRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         memberSetting.updateSetting(request);
     }
 
     @Override
-    public MemberSettingDto getMemberSetting(Member member) {
-        MemberSetting memberSetting = memberSettingRepository.findByMemberId(member.getId())
+    public MemberSettingDto getMemberSetting(Long memberId) {
+        MemberSetting memberSetting = memberSettingRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         return MemberSettingDto.of(memberSetting);
     }
@@ -276,11 +258,11 @@ public class MemberServiceImpl implements MemberService {
         }
     }
 
-    private void validateMemberAsset(Member member, MemberAsset updateImage, MemberAsset updateBorder) {
-        if (!updateImage.getMember().getId().equals(member.getId())) {
+    private void validateMemberAsset(Long memberId, MemberAsset updateImage, MemberAsset updateBorder) {
+        if (!updateImage.getMember().getId().equals(memberId)) {
             throw new AssetUnauthorizedException();
         }
-        if (!updateBorder.getMember().getId().equals(member.getId())) {
+        if (!updateBorder.getMember().getId().equals(memberId)) {
             throw new AssetUnauthorizedException();
         }
     }
@@ -371,27 +353,17 @@ public class MemberServiceImpl implements MemberService {
     }
 
     private void registerRanking(Member member, CategoryMainType mainType) {
-        League league = leagueRepository.findSmallestBronzeLeagueForCategory(mainType)
-                .orElseThrow(LeagueNotFoundException::new);
-
-        league.increaseCurrentMembers();
-        rankingRepository.save(
-                Ranking.builder()
-                        .league(league)
-                        .member(member)
-                        .tier(Tier.BRONZE)
-                        .build()
-        );
+        bronzeLeagueAllocator.assign(member, mainType);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public MemberCurrencyResponse getMemberCurrency(Member member) {
-        MemberInfo memberInfo = memberInfoRepository.findByMemberId(member.getId())
+    public MemberCurrencyResponse getMemberCurrency(Long memberId) {
+        MemberInfo memberInfo = memberInfoRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
 
         return MemberCurrencyResponse.builder()
-                .level(member.getCurrentLevel())
+                .level(memberInfo.getMember().getCurrentLevel())
                 .gold(memberInfo.getGold())
                 .diamond(memberInfo.getDiamond())
                 .build();
@@ -1,12 +1,12 @@
 package com.studioedge.focus_to_levelup_server.domain.payment.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.history.PaymentHistoryListResponse;
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.purchase.DiamondPackPurchaseStatusResponse;
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.refund.RefundRequest;
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.refund.RefundResponse;
 import com.studioedge.focus_to_levelup_server.domain.payment.service.history.PaymentHistoryService;
 import com.studioedge.focus_to_levelup_server.domain.payment.service.refund.RefundService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,7 +29,7 @@ public class PurchaseController {
     @Operation(summary = "결제 환불", description = "결제 내역을 환불하고 획득한 재화를 회수합니다. (7일 이내, 재화 미사용 시에만 가능)")
     @PostMapping("/{paymentLogId}/refund")
     public ResponseEntity<CommonResponse<RefundResponse>> refund(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable Long paymentLogId,
             @RequestBody @Valid RefundRequest request
     ) {
@@ -40,7 +40,7 @@ public class PurchaseController {
     @Operation(summary = "결제 내역 조회", description = "내 모든 결제 내역을 조회합니다 (최신순)")
     @GetMapping("/history")
     public ResponseEntity<CommonResponse<PaymentHistoryListResponse>> getPaymentHistory(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         PaymentHistoryListResponse response = paymentHistoryService.getPaymentHistory(member.getId());
         return HttpResponseUtil.ok(response);
@@ -49,7 +49,7 @@ public class PurchaseController {
     @Operation(summary = "다이아팩 월별 구매 여부 조회", description = "해당 월에 다이아팩을 구매했는지 확인합니다")
     @GetMapping("/diamond-pack/status")
     public ResponseEntity<CommonResponse<DiamondPackPurchaseStatusResponse>> getDiamondPackPurchaseStatus(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         DiamondPackPurchaseStatusResponse response = paymentHistoryService.getDiamondPackPurchaseStatus(member.getId());
         return HttpResponseUtil.ok(response);
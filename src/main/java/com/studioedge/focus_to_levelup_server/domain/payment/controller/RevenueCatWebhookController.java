@@ -1,7 +1,7 @@
 package com.studioedge.focus_to_levelup_server.domain.payment.controller;
 
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.webhook.RevenueCatWebhookEvent;
-import com.studioedge.focus_to_levelup_server.domain.payment.service.webhook.RevenueCatWebhookService;
+import com.studioedge.focus_to_levelup_server.domain.payment.service.webhook.RevenueCatWebhookIngestService;
 import com.studioedge.focus_to_levelup_server.global.config.RevenueCatConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,11 +18,11 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "RevenueCat Webhook", description = "RevenueCat 결제 이벤트 Webhook API")
 public class RevenueCatWebhookController {
 
-    private final RevenueCatWebhookService webhookService;
+    private final RevenueCatWebhookIngestService webhookIngestService;
     private final RevenueCatConfig revenueCatConfig;
 
     @PostMapping
-    @Operation(summary = "RevenueCat Webhook 수신", description = "RevenueCat에서 결제 이벤트 발생 시 호출되는 Webhook 엔드포인트")
+    @Operation(summary = "RevenueCat Webhook 수신", description = "RevenueCat에서 결제 이벤트 발생 시 호출되는 Webhook 엔드포인트. 이벤트를 저장만 하고 바로 응답하며, 반영은 수신 순서대로 비동기 처리됩니다.")
     public ResponseEntity<Void> handleWebhook(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestBody RevenueCatWebhookEvent event) {
@@ -42,18 +42,19 @@ public class RevenueCatWebhookController {
             }
         }
 
-        // 3. 이벤트 처리
+        // 3. 이벤트 저장 (반영은 RevenueCatWebhookConsumer 가 처리)
         try {
-            webhookService.processEvent(event);
-            log.info("Webhook event processed successfully: type={}, eventId={}",
-                    event.getEvent().getType(), event.getEvent().getId());
+            if (webhookIngestService.ingest(event)) {
+                log.info("Webhook event received: type={}, eventId={}",
+                        event.getEvent().getType(), event.getEvent().getId());
+            }
         } catch (Exception e) {
-            log.error("Failed to process webhook event: {}", e.getMessage(), e);
-            // RevenueCat은 200이 아닌 응답을 받으면 재시도하므로,
-            // 이벤트 로그는 저장되어 있으니 일단 200 반환
+            // 저장하지 못한 이벤트는 RevenueCat 이 다시 보내도록 200 이 아닌 응답을 반환
+            log.error("Failed to store webhook event: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
 
-        // 4. 항상 200 반환 (RevenueCat 요구사항)
+        // 4. 저장했거나 중복인 이벤트는 200 반환 (RevenueCat 요구사항)
         return ResponseEntity.ok().build();
     }
 }
@@ -1,10 +1,10 @@
 package com.studioedge.focus_to_levelup_server.domain.payment.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.subscription.UpdateGuildBoostRequest;
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.subscription.SubscriptionDetailResponse;
 import com.studioedge.focus_to_levelup_server.domain.payment.service.subscription.SubscriptionCommandService;
 import com.studioedge.focus_to_levelup_server.domain.payment.service.subscription.SubscriptionQueryService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,7 +27,7 @@ public class SubscriptionController {
     @GetMapping
     @Operation(summary = "내 구독권 상세 조회", description = "유저가 보유한 모든 구독권을 조회합니다")
     public ResponseEntity<CommonResponse<SubscriptionDetailResponse>> getMySubscriptions(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         SubscriptionDetailResponse response = subscriptionQueryService.getMySubscriptions(member.getId());
         return HttpResponseUtil.ok(response);
@@ -36,7 +36,7 @@ public class SubscriptionController {
     @PutMapping("/guild-boost")
     @Operation(summary = "길드 부스트 상태 변경", description = "프리미엄 구독권으로 길드 부스트를 활성화/비활성화합니다. guildId가 null이면 비활성화, 값이 있으면 활성화합니다.")
     public ResponseEntity<CommonResponse<Void>> updateGuildBoost(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid UpdateGuildBoostRequest request
     ) {
         subscriptionCommandService.updateGuildBoost(member.getId(), request.getGuildId());
@@ -0,0 +1,36 @@
+package com.studioedge.focus_to_levelup_server.domain.payment.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventStatus;
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Webhook 이벤트 수신 저장 (JDBC)
+ *
+ * - WebhookEvent 는 eventId 를 직접 넣는 엔티티라 save 하면 merge 로 SELECT 가 먼저 나갑니다.
+ *   수신 경로에서는 INSERT IGNORE 한 번으로 저장하고, 이미 있는 이벤트면 0 을 돌려줍니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WebhookEventJdbcRepository {
+
+    private static final String INSERT_RECEIVED = """
+            INSERT IGNORE INTO webhook_events
+                (event_id, event_type, app_user_id, product_id, status, raw_payload, created_at, processed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertReceived(String eventId, WebhookEventType eventType, String appUserId,
+                              String productId, String rawPayload) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(INSERT_RECEIVED,
+                eventId, eventType.name(), appUserId, productId, WebhookEventStatus.RECEIVED.name(), rawPayload, now, now);
+    }
+}
@@ -2,13 +2,20 @@ package com.studioedge.focus_to_levelup_server.domain.payment.dao;
 
 import com.studioedge.focus_to_levelup_server.domain.payment.entity.WebhookEvent;
 import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface WebhookEventRepository extends JpaRepository<WebhookEvent, String> {
+    interface PendingEvent {
+        String getEventId();
+        String getAppUserId();
+    }
 
     /**
      * 특정 사용자의 웹훅 이벤트 목록 조회
@@ -24,4 +31,16 @@ public interface WebhookEventRepository extends JpaRepository<WebhookEvent, Stri
      * 실패한 이벤트 조회 (재처리용)
      */
     List<WebhookEvent> findAllByStatusOrderByCreatedAtAsc(WebhookEventStatus status);
+
+    /**
+     * 처리 대기 이벤트 (수신 순)
+     * 같은 회원의 이벤트가 blockingStatus(FAILED) 로 남아있으면, 그 회원의 이벤트는 순서를 지키기 위해 제외합니다.
+     */
+    @Query("SELECT e.eventId AS eventId, e.appUserId AS appUserId FROM WebhookEvent e " +
+            "WHERE e.status = :status " +
+            "AND e.appUserId NOT IN (SELECT f.appUserId FROM WebhookEvent f WHERE f.status = :blockingStatus) " +
+            "ORDER BY e.createdAt ASC, e.eventId ASC")
+    List<PendingEvent> findPending(@Param("status") WebhookEventStatus status,
+                                   @Param("blockingStatus") WebhookEventStatus blockingStatus,
+                                   Pageable pageable);
 }
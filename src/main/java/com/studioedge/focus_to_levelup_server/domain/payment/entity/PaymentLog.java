@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "payment_logs")
+@Table(name = "payment_logs", indexes = {
+        @Index(name = "idx_payment_log_member_status", columnList = "member_id, status, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentLog extends BaseEntity {
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 @Table(name = "webhook_events", indexes = {
         @Index(name = "idx_webhook_app_user_id", columnList = "appUserId"),
         @Index(name = "idx_webhook_event_type", columnList = "eventType"),
-        @Index(name = "idx_webhook_status", columnList = "status")
+        @Index(name = "idx_webhook_status_created_at", columnList = "status, createdAt")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -73,4 +73,9 @@ public class WebhookEvent {
         this.status = WebhookEventStatus.FAILED;
         this.errorMessage = errorMessage;
     }
+
+    public void requeue() {
+        this.status = WebhookEventStatus.RECEIVED;
+        this.errorMessage = null;
+    }
 }
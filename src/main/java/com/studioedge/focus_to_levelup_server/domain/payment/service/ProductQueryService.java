@@ -5,6 +5,7 @@ import com.studioedge.focus_to_levelup_server.domain.payment.dto.response.Produc
 import com.studioedge.focus_to_levelup_server.domain.payment.dto.response.ProductSummary;
 import com.studioedge.focus_to_levelup_server.domain.payment.exception.ProductNotFoundException;
 import com.studioedge.focus_to_levelup_server.domain.payment.dao.ProductRepository;
+import com.studioedge.focus_to_levelup_server.global.cache.CatalogCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,25 +14,28 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ProductQueryService {
 
     private final ProductRepository productRepository;
+    private final CatalogCache catalogCache;
 
     /**
-     * 활성화된 모든 상품 조회
+     * 활성화된 모든 상품 조회 (CatalogCache)
      */
     public ProductListResponse findAllActiveProducts() {
-        List<Product> products = productRepository.findAllByIsActiveTrue();
-        List<ProductSummary> productSummaries = products.stream()
-                .map(ProductSummary::from)
-                .toList();
-        return ProductListResponse.of(productSummaries);
+        return catalogCache.get("product:list:active", () -> {
+            List<Product> products = productRepository.findAllByIsActiveTrue();
+            List<ProductSummary> productSummaries = products.stream()
+                    .map(ProductSummary::from)
+                    .toList();
+            return ProductListResponse.of(productSummaries);
+        });
     }
 
     /**
      * 내부용: Product 엔티티 조회
      */
+    @Transactional(readOnly = true)
     public Product findProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(ProductNotFoundException::new);
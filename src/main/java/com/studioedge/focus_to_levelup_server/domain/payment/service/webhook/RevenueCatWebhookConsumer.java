@@ -0,0 +1,68 @@
+package com.studioedge.focus_to_levelup_server.domain.payment.service.webhook;
+
+import com.studioedge.focus_to_levelup_server.domain.payment.dao.WebhookEventRepository;
+import com.studioedge.focus_to_levelup_server.domain.payment.dao.WebhookEventRepository.PendingEvent;
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * RevenueCat Webhook 이벤트 소비자
+ *
+ * 1초마다 RECEIVED 이벤트를 수신 순으로 꺼내 한 건씩 별도 트랜잭션으로 반영합니다.
+ * 한 서버에서 순서대로 처리하므로 같은 회원의 이벤트(구매 → 갱신 → 만료)는 받은 순서대로 반영됩니다.
+ * 실패한 이벤트는 롤백 후 FAILED 로 남기고 다음 이벤트로 넘어갑니다. (관리자 API 로 재처리)
+ * - 회원에게 FAILED 이벤트가 있으면 그 회원의 이후 이벤트는 RECEIVED 로 둔 채 건너뜁니다.
+ *   (예: 구매 반영이 실패했는데 만료가 먼저 반영되지 않도록) 재처리로 FAILED 가 RECEIVED 가 되면 수신 순으로 함께 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevenueCatWebhookConsumer {
+    private final WebhookEventRepository webhookEventRepository;
+    private final RevenueCatWebhookService webhookService;
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    @Scheduled(fixedDelay = 1000)
+    @SchedulerLock(name = "consumeRevenueCatWebhooks", lockAtMostFor = "PT5M")
+    public void consume() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<PendingEvent> events = webhookEventRepository.findPending(
+                    WebhookEventStatus.RECEIVED, WebhookEventStatus.FAILED, PageRequest.of(0, BATCH_SIZE));
+            if (events.isEmpty()) {
+                return;
+            }
+
+            // 이번 묶음에서 실패한 회원 (다음 묶음부터는 조회에서 제외됨)
+            Set<String> failedUsers = new HashSet<>();
+            for (PendingEvent event : events) {
+                if (failedUsers.contains(event.getAppUserId())) {
+                    log.warn(">> [RevenueCatWebhook] 앞선 이벤트 실패로 보류. eventId={}, appUserId={}",
+                            event.getEventId(), event.getAppUserId());
+                    continue;
+                }
+                try {
+                    webhookService.process(event.getEventId());
+                } catch (Exception e) {
+                    log.error(">> [RevenueCatWebhook] 처리 실패. eventId={}", event.getEventId(), e);
+                    webhookService.markAsFailed(event.getEventId(), e.getMessage());
+                    failedUsers.add(event.getAppUserId());
+                }
+            }
+
+            if (events.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
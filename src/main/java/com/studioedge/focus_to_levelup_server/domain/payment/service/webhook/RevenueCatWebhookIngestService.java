@@ -0,0 +1,67 @@
+package com.studioedge.focus_to_levelup_server.domain.payment.service.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studioedge.focus_to_levelup_server.domain.payment.dao.WebhookEventJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.payment.dto.webhook.RevenueCatWebhookEvent;
+import com.studioedge.focus_to_levelup_server.domain.payment.dto.webhook.RevenueCatWebhookEvent.EventPayload;
+import com.studioedge.focus_to_levelup_server.domain.payment.enums.WebhookEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * RevenueCat Webhook 수신
+ *
+ * - 이벤트 id 를 Redis 에 선점하고, 원본 payload 를 webhook_events 에 RECEIVED 로 저장한 뒤 바로 응답합니다.
+ * - 회원/구독/결제 조회와 반영은 RevenueCatWebhookConsumer 가 수신 순서대로 처리합니다.
+ * - 저장에 실패하면 선점을 풀고 예외를 던집니다. (200 이 아닌 응답을 받은 RevenueCat 이 다시 보냅니다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueCatWebhookIngestService {
+    private final WebhookDedupStore webhookDedupStore;
+    private final WebhookEventJdbcRepository webhookEventJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 새로 저장했으면 true, 중복이거나 처리하지 않는 이벤트면 false
+     */
+    public boolean ingest(RevenueCatWebhookEvent webhookEvent) {
+        EventPayload event = webhookEvent.getEvent();
+        WebhookEventType eventType = WebhookEventType.fromString(event.getType());
+        if (eventType == null) {
+            log.warn("Unknown event type ignored: type={}, eventId={}", event.getType(), event.getId());
+            return false;
+        }
+
+        if (!webhookDedupStore.claimEvent(event.getId())) {
+            log.info("Duplicate webhook event ignored: {}", event.getId());
+            return false;
+        }
+
+        try {
+            int inserted = webhookEventJdbcRepository.insertReceived(
+                    event.getId(), eventType, event.getAppUserId(), event.getProductId(), serialize(webhookEvent));
+            if (inserted == 0) {
+                log.info("Duplicate webhook event ignored: {}", event.getId());
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            webhookDedupStore.releaseEvent(event.getId());
+            throw e;
+        }
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String serialize(RevenueCatWebhookEvent webhookEvent) {
+        try {
+            return objectMapper.writeValueAsString(webhookEvent);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize webhook event: " + webhookEvent.getEvent().getId(), e);
+        }
+    }
+}
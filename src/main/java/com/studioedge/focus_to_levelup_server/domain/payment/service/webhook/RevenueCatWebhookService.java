@@ -22,12 +22,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * RevenueCat Webhook 이벤트 반영
+ *
+ * - 수신은 RevenueCatWebhookIngestService 가 webhook_events 에 저장만 하고, 반영은 RevenueCatWebhookConsumer 가 호출합니다.
+ * - 실패한 이벤트는 관리자 API 로 다시 RECEIVED 로 돌려 재처리합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -40,51 +49,64 @@ public class RevenueCatWebhookService {
     private final SubscriptionRepository subscriptionRepository;
     private final PaymentLogRepository paymentLogRepository;
     private final ProductRepository productRepository;
+    private final WebhookDedupStore webhookDedupStore;
     private final ObjectMapper objectMapper;
 
     /**
-     * RevenueCat Webhook 이벤트 처리
+     * 수신된 Webhook 이벤트 반영 (RevenueCatWebhookConsumer 에서 이벤트 하나당 한 트랜잭션으로 호출)
      */
-    public void processEvent(RevenueCatWebhookEvent webhookEvent) {
-        EventPayload event = webhookEvent.getEvent();
-
-        // 1. 중복 체크 (멱등성)
-        if (webhookEventRepository.existsById(event.getId())) {
-            log.info("Duplicate webhook event ignored: {}", event.getId());
+    public void process(String eventId) {
+        WebhookEvent webhookLog = webhookEventRepository.findById(eventId)
+                .filter(event -> event.getStatus() == WebhookEventStatus.RECEIVED)
+                .orElse(null);
+        if (webhookLog == null) {
             return;
         }
 
-        // 2. 이벤트 로그 저장
-        WebhookEvent webhookLog = saveWebhookEvent(webhookEvent);
-
-        try {
-            // 3. 이벤트 타입별 처리
-            WebhookEventType eventType = WebhookEventType.fromString(event.getType());
+        EventPayload event = readPayload(webhookLog).getEvent();
+        switch (webhookLog.getEventType()) {
+            case INITIAL_PURCHASE -> handleInitialPurchase(event);
+            case RENEWAL -> handleRenewal(event);
+            case NON_RENEWING_PURCHASE -> handleNonRenewingPurchase(event);
+            case CANCELLATION -> handleCancellation(event);
+            case EXPIRATION -> handleExpiration(event);
+            case SUBSCRIPTION_EXTENDED -> handleSubscriptionExtended(event);
+            default -> log.info("No action required for event type: {}", webhookLog.getEventType());
+        }
 
-            if (eventType == null) {
-                log.warn("Unknown event type: {}", event.getType());
-                webhookLog.markAsProcessed();
-                return;
-            }
+        webhookLog.markAsProcessed();
+        log.info("Webhook event processed: type={}, eventId={}", event.getType(), event.getId());
+    }
 
-            switch (eventType) {
-                case INITIAL_PURCHASE -> handleInitialPurchase(event);
-                case RENEWAL -> handleRenewal(event);
-                case NON_RENEWING_PURCHASE -> handleNonRenewingPurchase(event);
-                case CANCELLATION -> handleCancellation(event);
-                case EXPIRATION -> handleExpiration(event);
-                case SUBSCRIPTION_EXTENDED -> handleSubscriptionExtended(event);
-                default -> log.info("No action required for event type: {}", eventType);
-            }
+    /**
+     * 처리 실패 기록 (반영 트랜잭션이 롤백된 뒤 별도 트랜잭션으로 호출)
+     */
+    public void markAsFailed(String eventId, String errorMessage) {
+        webhookEventRepository.findById(eventId)
+                .filter(event -> event.getStatus() == WebhookEventStatus.RECEIVED)
+                .ifPresent(event -> event.markAsFailed(errorMessage));
+    }
 
-            webhookLog.markAsProcessed();
-            log.info("Webhook event processed: type={}, eventId={}", event.getType(), event.getId());
+    /**
+     * 실패한 이벤트를 수신 순서대로 다시 처리 대기열에 넣습니다.
+     */
+    public List<WebhookEvent> requeueFailed() {
+        List<WebhookEvent> failedEvents = webhookEventRepository
+                .findAllByStatusOrderByCreatedAtAsc(WebhookEventStatus.FAILED);
+        failedEvents.forEach(WebhookEvent::requeue);
+        log.info(">> [RevenueCatWebhook] 실패 이벤트 재처리 요청. count={}", failedEvents.size());
+        return failedEvents;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to process webhook event: {}", event.getId(), e);
-            webhookLog.markAsFailed(e.getMessage());
-            throw e;
+    public WebhookEvent requeue(String eventId) {
+        WebhookEvent webhookLog = webhookEventRepository.findById(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("Webhook 이벤트를 찾을 수 없습니다: " + eventId));
+        if (webhookLog.getStatus() != WebhookEventStatus.FAILED) {
+            throw new IllegalStateException("실패한 이벤트만 재처리할 수 있습니다: " + eventId);
         }
+        webhookLog.requeue();
+        log.info(">> [RevenueCatWebhook] 이벤트 재처리 요청. eventId={}", eventId);
+        return webhookLog;
     }
 
     /**
@@ -98,8 +120,8 @@ public class RevenueCatWebhookService {
         // RevenueCat productId로 서버 Product 매핑
         Product product = mapRevenueCatProductToProduct(event.getProductId());
 
-        // 중복 결제 체크
-        if (paymentLogRepository.existsByProductTransactionId(event.getTransactionId())) {
+        // 중복 결제 체크 (Redis 선점 후 DB 확인)
+        if (isDuplicateTransaction(event)) {
             log.warn("Duplicate transaction ignored: {}", event.getTransactionId());
             return;
         }
@@ -184,8 +206,8 @@ public class RevenueCatWebhookService {
 
         Product product = mapRevenueCatProductToProduct(event.getProductId());
 
-        // 중복 결제 체크
-        if (paymentLogRepository.existsByProductTransactionId(event.getTransactionId())) {
+        // 중복 결제 체크 (Redis 선점 후 DB 확인)
+        if (isDuplicateTransaction(event)) {
             log.warn("Duplicate transaction ignored: {}", event.getTransactionId());
             return;
         }
@@ -250,25 +272,32 @@ public class RevenueCatWebhookService {
 
     // === Helper Methods ===
 
-    private WebhookEvent saveWebhookEvent(RevenueCatWebhookEvent webhookEvent) {
-        EventPayload event = webhookEvent.getEvent();
-        String rawPayload;
+    private RevenueCatWebhookEvent readPayload(WebhookEvent webhookLog) {
         try {
-            rawPayload = objectMapper.writeValueAsString(webhookEvent);
+            return objectMapper.readValue(webhookLog.getRawPayload(), RevenueCatWebhookEvent.class);
         } catch (JsonProcessingException e) {
-            rawPayload = "Failed to serialize: " + e.getMessage();
+            throw new IllegalStateException("Failed to read webhook payload: " + webhookLog.getEventId(), e);
         }
+    }
 
-        WebhookEvent webhookLog = WebhookEvent.builder()
-                .eventId(event.getId())
-                .eventType(WebhookEventType.fromString(event.getType()))
-                .appUserId(event.getAppUserId())
-                .productId(event.getProductId())
-                .status(WebhookEventStatus.RECEIVED)
-                .rawPayload(rawPayload)
-                .build();
-
-        return webhookEventRepository.save(webhookLog);
+    /**
+     * 다른 이벤트가 같은 거래를 이미 선점했거나 결제 로그가 있으면 중복
+     * - 이 트랜잭션이 롤백되면 선점을 풀어, 같은 거래의 다른 이벤트가 반영될 수 있게 합니다.
+     */
+    private boolean isDuplicateTransaction(EventPayload event) {
+        String transactionId = event.getTransactionId();
+        if (!webhookDedupStore.claimTransaction(transactionId, event.getId())) {
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    webhookDedupStore.releaseTransaction(transactionId);
+                }
+            }
+        });
+        return paymentLogRepository.existsByProductTransactionId(transactionId);
     }
 
     private Long parseMemberId(String appUserId) {
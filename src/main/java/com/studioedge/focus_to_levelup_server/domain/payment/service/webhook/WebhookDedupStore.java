@@ -0,0 +1,78 @@
+package com.studioedge.focus_to_levelup_server.domain.payment.service.webhook;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * RevenueCat Webhook 중복 제거 (Redis SETNX)
+ *
+ * - 이벤트 id: 수신 시점에 선점합니다. 이미 선점된 id 는 DB 를 거치지 않고 바로 200 으로 응답합니다.
+ * - 거래 id: 결제 로그를 만드는 이벤트(최초 구매, 소모품 구매)를 처리할 때 이벤트 id 로 선점합니다.
+ *   취소/환불 이벤트는 구매와 같은 거래 id 로 들어오므로 거래 id 선점은 결제 로그 생성에만 사용합니다.
+ *   같은 이벤트가 재처리(재시도, 관리자 재처리)되면 자기 선점이므로 그대로 진행합니다.
+ * - Redis 가 응답하지 않으면 선점한 것으로 보고 진행합니다. (webhook_events PK, payment_logs 유니크 키가 최종 방어선)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookDedupStore {
+    private static final String EVENT_KEY_PREFIX = "webhook:revenuecat:event:";
+    private static final String TRANSACTION_KEY_PREFIX = "webhook:revenuecat:tx:";
+    // RevenueCat 재시도는 최대 며칠 안에 끝나므로, 그 이후 재전송은 DB 에서 걸러집니다.
+    private static final Duration EVENT_TTL = Duration.ofDays(7);
+    private static final Duration TRANSACTION_TTL = Duration.ofDays(30);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean claimEvent(String eventId) {
+        return claim(EVENT_KEY_PREFIX + eventId, EVENT_TTL);
+    }
+
+    public void releaseEvent(String eventId) {
+        release(EVENT_KEY_PREFIX + eventId);
+    }
+
+    /**
+     * @return 다른 이벤트가 이미 선점한 거래면 false
+     */
+    public boolean claimTransaction(String transactionId, String eventId) {
+        String key = TRANSACTION_KEY_PREFIX + transactionId;
+        try {
+            if (!Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(key, eventId, TRANSACTION_TTL))) {
+                return true;
+            }
+            return eventId.equals(redisTemplate.opsForValue().get(key));
+        } catch (DataAccessException e) {
+            log.warn(">> [WebhookDedup] Redis 선점 실패, DB 중복 체크로 대체합니다. key={}", key, e);
+            return true;
+        }
+    }
+
+    public void releaseTransaction(String transactionId) {
+        release(TRANSACTION_KEY_PREFIX + transactionId);
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private boolean claim(String key, Duration ttl) {
+        try {
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", ttl));
+        } catch (DataAccessException e) {
+            log.warn(">> [WebhookDedup] Redis 선점 실패, DB 중복 체크로 대체합니다. key={}", key, e);
+            return true;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn(">> [WebhookDedup] Redis 선점 해제 실패. key={}", key, e);
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.studioedge.focus_to_levelup_server.domain.promotion.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.promotion.dto.ReferralInfoResponse;
 import com.studioedge.focus_to_levelup_server.domain.promotion.dto.RegisterCodeRequest;
 import com.studioedge.focus_to_levelup_server.domain.promotion.dto.RouletteSpinResponse;
 import com.studioedge.focus_to_levelup_server.domain.promotion.service.PromotionService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,7 +40,7 @@ public class PromotionController {
             )
     })
     public ResponseEntity<CommonResponse<ReferralInfoResponse>> getInfo(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(promotionService.getPromotionInfo(member.getId()));
     }
@@ -61,7 +61,7 @@ public class PromotionController {
             @ApiResponse(responseCode = "400", description = "이미 코드를 등록한 유저입니다.")
     })
     public ResponseEntity<CommonResponse<Void>> registerCode(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestBody @Valid RegisterCodeRequest request
     ) {
         promotionService.registerCode(member.getId(), request);
@@ -83,7 +83,7 @@ public class PromotionController {
             @ApiResponse(responseCode = "400", description = "티켓이 부족합니다.")
     })
     public ResponseEntity<CommonResponse<RouletteSpinResponse>> spinRoulette(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(promotionService.spinRoulette(member.getId()));
     }
@@ -1,8 +1,8 @@
 package com.studioedge.focus_to_levelup_server.domain.ranking.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dto.RankingResponse;
 import com.studioedge.focus_to_levelup_server.domain.ranking.service.RankingService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,8 +42,8 @@ public class RankingController {
             )
     })
     public ResponseEntity<CommonResponse<RankingResponse>> getRankingList(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(rankingService.getRankingList(member));
+        return HttpResponseUtil.ok(rankingService.getRankingList(member.getId()));
     }
 }
@@ -0,0 +1,191 @@
+package com.studioedge.focus_to_levelup_server.domain.ranking.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 승강제 배치 전용 JDBC 쿼리
+ *
+ * - 수만 건의 Ranking 을 엔티티로 읽고 쓰지 않도록, 조회는 프로젝션 스트리밍 / 쓰기는 JDBC batch 로 처리합니다.
+ * - JpaTransactionManager 트랜잭션 안에서 호출하면 같은 커넥션(트랜잭션)을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaguePlacementJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+    // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍합니다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 리그 안 순위(ROW_NUMBER)와 리그 인원(COUNT)을 윈도우 함수 한 번으로 계산합니다.
+     */
+    private static final String SELECT_STANDINGS = """
+            SELECT r.member_id, m.status, m.highest_tier, l.tier, l.current_week,
+                   ROW_NUMBER() OVER (PARTITION BY r.league_id
+                                      ORDER BY m.current_level DESC, m.current_exp DESC, r.ranking_id ASC) AS final_rank,
+                   COUNT(*) OVER (PARTITION BY r.league_id) AS league_size
+            FROM rankings r
+            JOIN leagues l ON l.league_id = r.league_id
+            JOIN members m ON m.member_id = r.member_id
+            WHERE l.season_id = ? AND l.category_type = ? AND l.is_active = TRUE
+            """;
+
+    public record Standing(Long memberId, MemberStatus status, Tier highestTier, Tier tier,
+                           int currentWeek, int finalRank, int leagueSize) {
+    }
+
+    public record Placement(Long memberId, Tier nextTier, int nextWeek, int leagueIndex,
+                            int finalRank, boolean isNewRecord) {
+    }
+
+    public record RankingRow(Long leagueId, Long memberId, Tier tier) {
+    }
+
+    public record LeaderboardRow(Long leagueId, Long memberId, int currentLevel, int currentExp) {
+    }
+
+    public void streamStandings(Long seasonId, CategoryMainType category, Consumer<Standing> handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_STANDINGS);
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            statement.setLong(1, seasonId);
+            statement.setString(2, category.name());
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            String highestTier = rs.getString("highest_tier");
+            handler.accept(new Standing(
+                    rs.getLong("member_id"),
+                    MemberStatus.valueOf(rs.getString("status")),
+                    highestTier == null ? null : Tier.valueOf(highestTier),
+                    Tier.valueOf(rs.getString("tier")),
+                    rs.getInt("current_week"),
+                    rs.getInt("final_rank"),
+                    rs.getInt("league_size")
+            ));
+        });
+    }
+
+    // ---------- 스테이징 (league_placements) ----------
+
+    public void deletePlacements(Long seasonId, CategoryMainType category) {
+        jdbcTemplate.update("DELETE FROM league_placements WHERE season_id = ? AND category_type = ?",
+                seasonId, category.name());
+    }
+
+    public void insertPlacements(Long seasonId, CategoryMainType category, List<Placement> placements) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO league_placements
+                            (season_id, category_type, member_id, next_tier, next_week, league_index, final_rank, is_new_record)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                placements, BATCH_SIZE, (ps, placement) -> {
+                    ps.setLong(1, seasonId);
+                    ps.setString(2, category.name());
+                    ps.setLong(3, placement.memberId());
+                    ps.setString(4, placement.nextTier().name());
+                    ps.setInt(5, placement.nextWeek());
+                    ps.setInt(6, placement.leagueIndex());
+                    ps.setInt(7, placement.finalRank());
+                    ps.setBoolean(8, placement.isNewRecord());
+                });
+    }
+
+    public List<Placement> findPlacements(Long seasonId, CategoryMainType category) {
+        return jdbcTemplate.query("""
+                        SELECT member_id, next_tier, next_week, league_index, final_rank, is_new_record
+                        FROM league_placements
+                        WHERE season_id = ? AND category_type = ?
+                        ORDER BY league_placement_id
+                        """,
+                (rs, rowNum) -> new Placement(
+                        rs.getLong("member_id"),
+                        Tier.valueOf(rs.getString("next_tier")),
+                        rs.getInt("next_week"),
+                        rs.getInt("league_index"),
+                        rs.getInt("final_rank"),
+                        rs.getBoolean("is_new_record")
+                ),
+                seasonId, category.name());
+    }
+
+    // ---------- 반영 ----------
+
+    public List<Long> findActiveLeagueIds(Long seasonId, CategoryMainType category) {
+        return jdbcTemplate.queryForList(
+                "SELECT league_id FROM leagues WHERE season_id = ? AND category_type = ? AND is_active = TRUE",
+                Long.class, seasonId, category.name());
+    }
+
+    public void deleteLeagues(List<Long> leagueIds) {
+        if (leagueIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM rankings WHERE league_id = ?",
+                leagueIds, BATCH_SIZE, (ps, leagueId) -> ps.setLong(1, leagueId));
+        jdbcTemplate.batchUpdate("DELETE FROM leagues WHERE league_id = ?",
+                leagueIds, BATCH_SIZE, (ps, leagueId) -> ps.setLong(1, leagueId));
+    }
+
+    public void insertRankings(List<RankingRow> rankings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO rankings (league_id, member_id, tier, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                rankings, BATCH_SIZE, (ps, ranking) -> {
+                    ps.setLong(1, ranking.leagueId());
+                    ps.setLong(2, ranking.memberId());
+                    ps.setString(3, ranking.tier().name());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+    }
+
+    public void updateHighestTiers(List<Placement> placements) {
+        jdbcTemplate.batchUpdate("UPDATE members SET highest_tier = ? WHERE member_id = ?",
+                placements, BATCH_SIZE, (ps, placement) -> {
+                    ps.setString(1, placement.nextTier().name());
+                    ps.setLong(2, placement.memberId());
+                });
+    }
+
+    /**
+     * 새 리그의 리더보드를 채울 점수(레벨, 경험치)를 조회합니다.
+     */
+    public List<LeaderboardRow> findLeaderboardRows(List<Long> leagueIds) {
+        if (leagueIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("""
+                        SELECT r.league_id, r.member_id, m.current_level, m.current_exp
+                        FROM rankings r
+                        JOIN members m ON m.member_id = r.member_id
+                        WHERE r.league_id IN (%s)
+                        """.formatted(placeholders(leagueIds.size())),
+                (rs, rowNum) -> new LeaderboardRow(
+                        rs.getLong("league_id"),
+                        rs.getLong("member_id"),
+                        rs.getInt("current_level"),
+                        rs.getInt("current_exp")
+                ),
+                leagueIds.toArray());
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -41,6 +41,15 @@ public interface LeagueRepository extends JpaRepository<League, Long> {
     // 특정 시즌, 카테고리, 티어에 해당하는 모든 리그 조회하기
     List<League> findAllBySeasonAndCategoryTypeAndTier(Season season, CategoryMainType categoryType, Tier tier);
 
+    // 특정 시즌, 카테고리, 티어에서 인원이 가장 적은 활성 리그 (리그 배정 Redis 장애 시 대체)
+    Optional<League> findFirstBySeasonAndCategoryTypeAndTierAndIsActiveTrueOrderByCurrentMembersAsc(
+            Season season, CategoryMainType categoryType, Tier tier);
+
+    // 리그 인원수 원자적 증가 (동시 가입 시 갱신 유실 방지). 삭제/비활성 리그면 0
+    @Modifying
+    @Query("UPDATE League l SET l.currentMembers = l.currentMembers + 1 WHERE l.id = :leagueId AND l.isActive = TRUE")
+    int increaseCurrentMembers(@Param("leagueId") Long leagueId);
+
     // 특정 시즌, 카테고리에 해당하는 모든 리그 조회하기 (fetch join with 리그, 랭킹)
     @Query("SELECT DISTINCT l FROM League l " +
             "LEFT JOIN FETCH l.rankings r " +
@@ -0,0 +1,101 @@
+package com.studioedge.focus_to_levelup_server.domain.ranking.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리그/랭킹 일괄 저장 (JDBC batch)
+ *
+ * - 시즌 시작, 신규 유저 배치처럼 랭킹을 대량으로 만드는 배치에서 사용합니다. (IDENTITY 라 saveAll 은 한 건씩 INSERT)
+ * - 저장한 엔티티는 영속성 컨텍스트에 올라가지 않습니다.
+ *   League 처럼 id 가 필요한 경우 생성된 키를 입력 순서대로 반환합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_RANKING =
+            "INSERT INTO rankings (league_id, member_id, tier, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LEAGUE = """
+            INSERT INTO leagues
+                (season_id, name, category_type, tier, current_week, start_date, end_date, current_members, is_active,
+                 created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertRankings(List<Ranking> rankings) {
+        if (rankings.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_RANKING, rankings, BATCH_SIZE, (ps, ranking) -> {
+            ps.setLong(1, ranking.getLeague().getId());
+            ps.setLong(2, ranking.getMember().getId());
+            ps.setString(3, ranking.getTier().name());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * 리그를 저장하고 생성된 league_id 를 입력 순서대로 반환합니다.
+     * (MySQL 은 multi-row INSERT 한 문장 안에서 auto increment 값을 연속으로 할당하며, 드라이버가 이를 순서대로 돌려줍니다.)
+     */
+    public List<Long> insertLeagues(List<League> leagues) {
+        if (leagues.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_LEAGUE, new String[]{"league_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        League league = leagues.get(i);
+                        ps.setLong(1, league.getSeason().getId());
+                        ps.setString(2, league.getName());
+                        ps.setString(3, league.getCategoryType().name());
+                        ps.setString(4, league.getTier().name());
+                        ps.setInt(5, league.getCurrentWeek());
+                        ps.setDate(6, Date.valueOf(league.getStartDate()));
+                        ps.setDate(7, Date.valueOf(league.getEndDate()));
+                        ps.setInt(8, league.getCurrentMembers());
+                        ps.setBoolean(9, league.getIsActive());
+                        ps.setTimestamp(10, now);
+                        ps.setTimestamp(11, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return leagues.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        if (ids.size() != leagues.size()) {
+            throw new IllegalStateException("생성된 리그 id 수가 일치하지 않습니다. expected=" + leagues.size() + ", actual=" + ids.size());
+        }
+        return ids;
+    }
+}
@@ -41,6 +41,17 @@ public interface RankingRepository extends JpaRepository<Ranking, Long> {
             @Param("date") LocalDate date
     );
 
+    @Query(value = "SELECT m, dg FROM Member m " +
+            "LEFT JOIN FETCH m.memberInfo mi " +
+            "LEFT JOIN FETCH mi.profileImage mpi " +
+            "LEFT JOIN FETCH mpi.asset " +
+            "LEFT JOIN DailyGoal dg ON dg.member = m AND dg.dailyGoalDate = :date " +
+            "WHERE m.id IN :memberIds")
+    List<Object[]> findMembersWithDailyGoal(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("date") LocalDate date
+    );
+
     @Query("SELECT r FROM Ranking r " +
             "JOIN FETCH r.member m " +          // Member 정보 즉시 로딩
             "JOIN r.league l " +                // League 조인
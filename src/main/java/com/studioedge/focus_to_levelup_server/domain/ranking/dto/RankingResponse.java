@@ -51,10 +51,13 @@ public record RankingResponse (
             Boolean isMe
     ) {
         public static RankingDetailResponse of(Ranking ranking, DailyGoal dailyGoal, Long memberId) {
+            return of(ranking.getMember(), dailyGoal, memberId);
+        }
+
+        public static RankingDetailResponse of(Member member, DailyGoal dailyGoal, Long memberId) {
             int focusSeconds = (dailyGoal != null) ? dailyGoal.getCurrentSeconds() : 0;
             LocalDateTime startTime = (dailyGoal != null && dailyGoal.getStartTime() != null) ?
                     dailyGoal.getStartTime() : LocalDateTime.now();
-            Member member = ranking.getMember();
 
             return RankingDetailResponse.builder()
                     .memberId(member.getId())
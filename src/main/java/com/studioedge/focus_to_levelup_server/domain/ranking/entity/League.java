@@ -19,6 +19,9 @@ import java.util.List;
         name = "leagues",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"season_id", "name"})
+        },
+        indexes = {
+                @Index(name = "idx_league_season_category", columnList = "season_id, category_type, tier")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,55 @@
+package com.studioedge.focus_to_levelup_server.domain.ranking.entity;
+
+import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 승강제 배치 계획 (ProcessLeaguePlacementStep 스테이징 테이블)
+ *
+ * 카테고리별로 [계획] 단계에서 유저마다 다음 티어와 배정될 리그 번호를 저장해두고,
+ * [반영] 단계에서 이 계획으로 기존 리그를 교체한 뒤 행을 삭제합니다.
+ * 반영 도중 실패하더라도 계획이 남아있으므로 재시작 시 같은 배치로 다시 반영합니다.
+ * 저장/조회는 LeaguePlacementJdbcRepository 에서 JDBC 로만 합니다.
+ */
+@Entity
+@Table(name = "league_placements", indexes = {
+        @Index(name = "idx_league_placement_category", columnList = "season_id, category_type")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeaguePlacement {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "league_placement_id")
+    private Long id;
+
+    @Column(name = "season_id", nullable = false)
+    private Long seasonId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CategoryMainType categoryType;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Tier nextTier;
+
+    @Column(nullable = false)
+    private Integer nextWeek;
+
+    @Column(nullable = false)
+    private Integer leagueIndex; // 티어 안에서 배정될 리그 번호 (0부터)
+
+    @Column(nullable = false)
+    private Integer finalRank; // 기존 리그 최종 등수
+
+    @Column(nullable = false)
+    private Boolean isNewRecord; // 최고 티어 갱신 여부 (승급 보상 대상)
+}
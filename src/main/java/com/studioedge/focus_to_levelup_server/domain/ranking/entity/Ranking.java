@@ -13,7 +13,10 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "rankings")
+@Table(name = "rankings", indexes = {
+        @Index(name = "idx_ranking_league_member", columnList = "league_id, member_id"),
+        @Index(name = "idx_ranking_member", columnList = "member_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Ranking extends BaseEntity {
@@ -0,0 +1,312 @@
+package com.studioedge.focus_to_levelup_server.domain.ranking.service;
+
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.SeasonRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Season;
+import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.domain.ranking.exception.LeagueNotFoundException;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 브론즈 리그 실시간 배정 (가입 시점)
+ *
+ * - (시즌, 카테고리)마다 ZSET 1개: ranking:bronze:{seasonId}:{category} (member = leagueId, score = 인원수)
+ *   가장 인원이 적은 리그를 꺼내 1 을 더하는 것까지 Lua 스크립트 한 번으로 처리합니다. (O(log n))
+ * - ZSET 은 leagues.current_members 의 캐시입니다. 키가 없으면 한 서버만 DB 에서 다시 채우고, 나머지는 DB 조회로 대체합니다.
+ *   DB 인원수는 UPDATE 한 번으로 원자적으로 올리며, 트랜잭션이 롤백되면 ZSET 에서도 되돌립니다.
+ * - 모든 리그가 정원(MAX_LEAGUE_CAPACITY)이면 한 서버만 새 리그를 만들고, 나머지는 가장 적은 리그에 정원을 넘겨 배정합니다.
+ * - 리그가 재편성되면(주간 배치) invalidate 로 키를 지웁니다. 누락된 유저는 주간 배치(PlaceNewMemberInRankingStep)가 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BronzeLeagueAllocator {
+    private final SeasonRepository seasonRepository;
+    private final LeagueRepository leagueRepository;
+    private final RankingRepository rankingRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String OCCUPANCY_KEY_PREFIX = "ranking:bronze:";
+    private static final String REBUILD_LOCK_SUFFIX = ":rebuild";
+    private static final String CREATE_LOCK_SUFFIX = ":create";
+    private static final Duration OCCUPANCY_TTL = Duration.ofDays(1);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+    private static final int MAX_LEAGUE_CAPACITY = 110;
+
+    private static final long NOT_INDEXED = -2;
+    private static final long ALL_FULL = -1;
+
+    // 가장 인원이 적은 리그가 정원 미만이면 1 을 더하고 id 를 반환. 키가 없으면 -2, 모두 정원이면 -1
+    private static final RedisScript<Long> ALLOCATE_SCRIPT = new DefaultRedisScript<>("""
+            local top = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            if #top == 0 then return -2 end
+            if tonumber(top[2]) >= tonumber(ARGV[1]) then return -1 end
+            redis.call('ZINCRBY', KEYS[1], 1, top[1])
+            return tonumber(top[1])
+            """, Long.class);
+
+    // 배정 롤백: 리그가 인덱스에 남아있을 때만 1 을 뺍니다.
+    // (그 사이 키가 지워졌다면 ZINCRBY 가 -1 점짜리 리그 하나만 있는 TTL 없는 키를 만들어, 이후 배정이 모두 그 리그로 몰림)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then return 0 end
+            redis.call('ZINCRBY', KEYS[1], -1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 새 리그 등록: 인덱스가 있을 때만 추가합니다. (없으면 다음 배정 때 DB 에서 모든 리그로 다시 채움)
+    private static final RedisScript<Long> ADD_IF_INDEXED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            return redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            """, Long.class);
+
+    /**
+     * 현재 시즌의 브론즈 리그에 유저를 배정하고 Ranking 을 저장합니다. (호출한 쪽의 쓰기 트랜잭션에서 실행)
+     */
+    @Transactional
+    public Ranking assign(Member member, CategoryMainType category) {
+        Season season = findCurrentSeason();
+        Long leagueId = allocate(season, category);
+
+        Ranking ranking = rankingRepository.save(
+                Ranking.builder()
+                        .league(leagueRepository.getReferenceById(leagueId))
+                        .member(member)
+                        .tier(Tier.BRONZE)
+                        .build()
+        );
+        leagueLeaderboardService.evictLeagues(List.of(leagueId));
+        return ranking;
+    }
+
+    /**
+     * 랭킹이 없는 유저(관전자)에게 보여줄 리그. 인원이 가장 적은 브론즈 리그입니다.
+     */
+    @Transactional(readOnly = true)
+    public League findSmallestLeague(CategoryMainType category) {
+        Season season = findCurrentSeason();
+        try {
+            Set<String> top = redisTemplate.opsForZSet().range(occupancyKey(season.getId(), category), 0, 0);
+            if (top != null && !top.isEmpty()) {
+                Optional<League> league = leagueRepository.findById(Long.valueOf(top.iterator().next()));
+                if (league.isPresent()) {
+                    return league.get();
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn(">> [BronzeLeague] 조회 실패, DB 로 대체합니다. category={}", category, e);
+        }
+        return findSmallestFromDatabase(season, category);
+    }
+
+    /**
+     * 리그 구성이 바뀐 뒤(재편성, 배치 보정) 커밋 이후 현재 시즌의 배정 인덱스를 지웁니다.
+     */
+    public void invalidate() {
+        seasonRepository.findFirstByEndDateGreaterThanEqualOrderByStartDateDesc(LocalDate.now())
+                .ifPresent(season -> {
+                    List<String> keys = Arrays.stream(CategoryMainType.values())
+                            .map(category -> occupancyKey(season.getId(), category))
+                            .toList();
+                    afterCommit(() -> redisTemplate.delete(keys));
+                });
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private Long allocate(Season season, CategoryMainType category) {
+        String key = occupancyKey(season.getId(), category);
+        long result;
+        try {
+            result = allocateFromIndex(season, category, key);
+        } catch (DataAccessException e) {
+            log.warn(">> [BronzeLeague] 배정 실패, DB 로 대체합니다. category={}", category, e);
+            result = NOT_INDEXED;
+        }
+
+        if (result == ALL_FULL) {
+            return createLeagueOrOverflow(season, category, key);
+        }
+        if (result == NOT_INDEXED) {
+            return allocateFromDatabase(season, category);
+        }
+
+        long leagueId = result;
+        rollbackOnFailure(() -> redisTemplate.execute(RELEASE_SCRIPT, List.of(key), String.valueOf(leagueId)));
+        if (leagueRepository.increaseCurrentMembers(leagueId) == 0) {
+            // 재편성으로 지워진 리그가 인덱스에 남아있는 경우
+            safely(() -> redisTemplate.delete(key));
+            return allocateFromDatabase(season, category);
+        }
+        return leagueId;
+    }
+
+    private long allocateFromIndex(Season season, CategoryMainType category, String key) {
+        Long result = redisTemplate.execute(ALLOCATE_SCRIPT, List.of(key), String.valueOf(MAX_LEAGUE_CAPACITY));
+        if (result != null && result == NOT_INDEXED && rebuild(season, category, key)) {
+            result = redisTemplate.execute(ALLOCATE_SCRIPT, List.of(key), String.valueOf(MAX_LEAGUE_CAPACITY));
+        }
+        return result == null ? NOT_INDEXED : result;
+    }
+
+    /**
+     * 인덱스를 다시 채웠으면 true. 다른 서버가 채우는 중이거나 리그가 하나도 없으면 false
+     */
+    private boolean rebuild(Season season, CategoryMainType category, String key) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key + REBUILD_LOCK_SUFFIX, "1", LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return false;
+        }
+        try {
+            List<League> leagues = leagueRepository.findAllBySeasonAndCategoryTypeAndTier(season, category, Tier.BRONZE)
+                    .stream()
+                    .filter(League::getIsActive)
+                    .toList();
+            if (leagues.isEmpty()) {
+                return false;
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (League league : leagues) {
+                    stringConnection.zAdd(key, league.getCurrentMembers(), String.valueOf(league.getId()));
+                }
+                stringConnection.expire(key, OCCUPANCY_TTL.getSeconds());
+                return null;
+            });
+            log.info(">> [BronzeLeague] 배정 인덱스 재생성. seasonId={}, category={}, leagues={}",
+                    season.getId(), category, leagues.size());
+            return true;
+        } finally {
+            redisTemplate.delete(key + REBUILD_LOCK_SUFFIX);
+        }
+    }
+
+    private Long createLeagueOrOverflow(Season season, CategoryMainType category, String key) {
+        String lockKey = key + CREATE_LOCK_SUFFIX;
+        Boolean acquired = safelyGet(() -> redisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return allocateFromDatabase(season, category);
+        }
+
+        List<League> bronzeLeagues = leagueRepository.findAllBySeasonAndCategoryTypeAndTier(season, category, Tier.BRONZE);
+        int targetWeek = bronzeLeagues.stream()
+                .mapToInt(League::getCurrentWeek)
+                .max()
+                .orElse(1);
+        LocalDate today = LocalDate.now();
+        League league = League.builder()
+                .season(season)
+                .name(String.format("%s 브론즈 %d리그", category.getCategoryName(), bronzeLeagues.size() + 1))
+                .currentWeek(targetWeek)
+                .categoryType(category)
+                .tier(Tier.BRONZE)
+                .startDate(today)
+                .endDate(today.plusDays(6))
+                .build();
+        league.increaseCurrentMembers();
+        leagueRepository.save(league);
+
+        // 커밋 전에는 다른 요청이 새 리그를 배정받지 않도록, 인덱스 등록과 잠금 해제는 트랜잭션이 끝난 뒤에 합니다.
+        Long leagueId = league.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                safely(() -> {
+                    if (status == STATUS_COMMITTED) {
+                        redisTemplate.execute(ADD_IF_INDEXED_SCRIPT, List.of(key), String.valueOf(leagueId), "1");
+                    }
+                    redisTemplate.delete(lockKey);
+                });
+            }
+        });
+        log.info(">> [BronzeLeague] 모든 리그가 정원이라 새 리그를 만듭니다. leagueId={}, name={}", leagueId, league.getName());
+        return leagueId;
+    }
+
+    private Long allocateFromDatabase(Season season, CategoryMainType category) {
+        Long leagueId = findSmallestFromDatabase(season, category).getId();
+        leagueRepository.increaseCurrentMembers(leagueId);
+        return leagueId;
+    }
+
+    private League findSmallestFromDatabase(Season season, CategoryMainType category) {
+        return leagueRepository.findFirstBySeasonAndCategoryTypeAndTierAndIsActiveTrueOrderByCurrentMembersAsc(
+                        season, category, Tier.BRONZE)
+                .orElseThrow(LeagueNotFoundException::new);
+    }
+
+    private Season findCurrentSeason() {
+        return seasonRepository.findFirstByEndDateGreaterThanEqualOrderByStartDateDesc(LocalDate.now())
+                .orElseThrow(LeagueNotFoundException::new);
+    }
+
+    private void rollbackOnFailure(Runnable task) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    safely(task);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safely(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safely(task);
+            }
+        });
+    }
+
+    private void safely(Runnable task) {
+        try {
+            task.run();
+        } catch (DataAccessException e) {
+            // 인덱스는 캐시이므로 실패해도 본 요청은 성공시킵니다. (TTL 만료 후 DB 에서 재생성)
+            log.warn(">> [BronzeLeague] Redis 반영 실패", e);
+        }
+    }
+
+    private Boolean safelyGet(Supplier<Boolean> task) {
+        try {
+            return task.get();
+        } catch (DataAccessException e) {
+            log.warn(">> [BronzeLeague] Redis 잠금 실패", e);
+            return false;
+        }
+    }
+
+    private String occupancyKey(Long seasonId, CategoryMainType category) {
+        return OCCUPANCY_KEY_PREFIX + seasonId + ":" + category.name();
+    }
+}
@@ -0,0 +1,271 @@
+package com.studioedge.focus_to_levelup_server.domain.ranking.service;
+
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeaguePlacementJdbcRepository.LeaderboardRow;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 리그별 실시간 리더보드 (Redis Sorted Set)
+ *
+ * - 리그마다 ZSET 1개: ranking:league:{leagueId} (member = memberId, score = level * 600 + exp)
+ * - 유저별 소속 리그: ranking:member:{memberId} -> leagueId (집중 저장 시 점수 갱신용)
+ * - ZSET 은 DB 의 캐시일 뿐이므로, 키가 없으면 조회 시점에 DB 에서 다시 채웁니다.
+ *   재생성은 SETNX 락을 잡은 요청 하나만 하고, 임시 키에 채운 뒤 RENAME 으로 교체합니다.
+ *   락을 잡은 동안 커밋된 점수 갱신은 임시 키에 쓰고, DB 스냅샷은 NX 로 채우므로 더 최신 점수를 덮어쓰지 않습니다.
+ * - 리그 재편성 직후에는 새 리그를 미리 채워두고(rebuildLeagues), 그 외 구성원 변경은 키를 지워 조회 시점에 채웁니다.
+ * - 쓰기는 모두 트랜잭션 커밋 이후에 반영하며, Redis 장애 시에는 DB 정렬 결과로 대체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeagueLeaderboardService {
+    private final RankingRepository rankingRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String LEAGUE_KEY_PREFIX = "ranking:league:";
+    private static final String MEMBER_LEAGUE_KEY_PREFIX = "ranking:member:";
+    // 리그는 1주일 단위로 재편성되므로, 재편성이 누락되더라도 다음 주에는 자연히 만료되도록 합니다.
+    private static final Duration LEADERBOARD_TTL = Duration.ofDays(8);
+    // Member.expUp 기준 레벨당 경험치
+    private static final int EXP_PER_LEVEL = 600;
+    private static final String REBUILD_LOCK_SUFFIX = ":rebuild";
+    private static final String REBUILD_TEMP_SUFFIX = ":tmp";
+    // 재생성 중 서버가 죽어도 다음 조회에서 다시 시도할 수 있도록 짧게 둡니다.
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(10);
+
+    // 리더보드가 있으면 점수 갱신, 재생성 중이면 임시 키에 기록, 둘 다 없으면 다음 조회 때 DB 에서 채워지므로 무시합니다.
+    private static final RedisScript<Long> UPDATE_SCORE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZADD', KEYS[3], ARGV[1], ARGV[2])
+                redis.call('EXPIRE', KEYS[3], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 리그의 유저 id 목록을 점수 내림차순으로 반환합니다. (ZREVRANGE 1회)
+     * 리더보드가 비어있으면 DB 에서 다시 채웁니다.
+     */
+    public List<Long> getRankedMemberIds(League league) {
+        try {
+            Set<String> memberIds = redisTemplate.opsForZSet().reverseRange(leagueKey(league.getId()), 0, -1);
+            if (memberIds != null && !memberIds.isEmpty()) {
+                return memberIds.stream()
+                        .map(Long::valueOf)
+                        .toList();
+            }
+        } catch (DataAccessException e) {
+            log.warn(">> [Leaderboard] 조회 실패, DB 정렬로 대체합니다. leagueId={}", league.getId(), e);
+            return toMemberIds(rankingRepository.findAllBySortedLeague(league));
+        }
+
+        boolean locked;
+        try {
+            locked = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(rebuildLockKey(league.getId()), "1", REBUILD_LOCK_TTL));
+        } catch (DataAccessException e) {
+            log.warn(">> [Leaderboard] 재생성 락 실패, DB 정렬로 대체합니다. leagueId={}", league.getId(), e);
+            locked = false;
+        }
+
+        // 락을 잡은 뒤에 DB 를 읽어야, 그 이후 커밋된 점수 갱신이 임시 키에 남습니다.
+        List<Ranking> rankings = rankingRepository.findAllBySortedLeague(league);
+        if (locked) {
+            try {
+                rebuildLeague(league.getId(), toScores(rankings));
+            } catch (DataAccessException e) {
+                log.warn(">> [Leaderboard] 재생성 실패. leagueId={}", league.getId(), e);
+            }
+        }
+        return toMemberIds(rankings);
+    }
+
+    /**
+     * 유저의 레벨/경험치가 바뀌었을 때 호출합니다.
+     * 현재 값으로 점수를 계산해두고, 커밋 이후 소속 리그의 점수만 갱신합니다.
+     */
+    public void updateScore(Member member) {
+        Long memberId = member.getId();
+        double score = scoreOf(member);
+        afterCommit(() -> {
+            String leagueId = redisTemplate.opsForValue().get(memberLeagueKey(memberId));
+            if (leagueId == null) {
+                return;
+            }
+            String leagueKey = LEAGUE_KEY_PREFIX + leagueId;
+            redisTemplate.execute(UPDATE_SCORE_SCRIPT,
+                    List.of(leagueKey, leagueKey + REBUILD_LOCK_SUFFIX, leagueKey + REBUILD_TEMP_SUFFIX),
+                    String.valueOf(score), String.valueOf(memberId),
+                    String.valueOf(REBUILD_LOCK_TTL.getSeconds()));
+        });
+    }
+
+    /**
+     * 리그 재편성으로 새로 만든 리그의 리더보드를 커밋 이후 미리 채웁니다.
+     * 재편성 직후 첫 조회마다 DB 에서 리그를 다시 읽지 않도록 하기 위함입니다.
+     */
+    public void rebuildLeagues(List<LeaderboardRow> rows) {
+        Map<Long, Map<Long, Double>> scoresByLeague = new HashMap<>();
+        for (LeaderboardRow row : rows) {
+            scoresByLeague.computeIfAbsent(row.leagueId(), id -> new LinkedHashMap<>())
+                    .put(row.memberId(), scoreOf(row.currentLevel(), row.currentExp()));
+        }
+        afterCommit(() -> writeLeagues(scoresByLeague));
+    }
+
+    /**
+     * 리그 구성원이 바뀐 경우 호출합니다. 다음 조회 시 DB 에서 다시 채워집니다.
+     */
+    public void evictLeagues(Collection<Long> leagueIds) {
+        if (leagueIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = leagueIds.stream()
+                .map(this::leagueKey)
+                .toList();
+        afterCommit(() -> redisTemplate.delete(keys));
+    }
+
+    /**
+     * 유저가 랭킹에서 빠진 경우 호출합니다.
+     */
+    public void removeMember(Long memberId) {
+        afterCommit(() -> {
+            String memberLeagueKey = memberLeagueKey(memberId);
+            String leagueId = redisTemplate.opsForValue().get(memberLeagueKey);
+            if (leagueId != null) {
+                redisTemplate.opsForZSet().remove(LEAGUE_KEY_PREFIX + leagueId, String.valueOf(memberId));
+            }
+            redisTemplate.delete(memberLeagueKey);
+        });
+    }
+
+    //-------------------------------------------- PRIVATE METHOD --------------------------------------------
+
+    /**
+     * 리그 재편성 결과로 리더보드를 교체합니다. 리그마다 임시 키에 채운 뒤 RENAME 하므로 빈 리더보드가 보이는 구간이 없습니다.
+     */
+    private void writeLeagues(Map<Long, Map<Long, Double>> scoresByLeague) {
+        long ttlSeconds = LEADERBOARD_TTL.getSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Map<Long, Double>> league : scoresByLeague.entrySet()) {
+                String leagueKey = leagueKey(league.getKey());
+                String tempKey = leagueKey + REBUILD_TEMP_SUFFIX;
+                String leagueId = String.valueOf(league.getKey());
+                stringConnection.del(tempKey);
+                if (league.getValue().isEmpty()) {
+                    stringConnection.del(leagueKey);
+                    continue;
+                }
+                for (Map.Entry<Long, Double> entry : league.getValue().entrySet()) {
+                    stringConnection.zAdd(tempKey, entry.getValue(), String.valueOf(entry.getKey()));
+                    stringConnection.setEx(memberLeagueKey(entry.getKey()), ttlSeconds, leagueId);
+                }
+                stringConnection.rename(tempKey, leagueKey);
+                stringConnection.expire(leagueKey, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 조회 시점 재생성 (재생성 락을 잡은 상태에서 호출)
+     * 락을 잡은 뒤 커밋된 점수는 이미 임시 키에 있으므로, DB 스냅샷은 NX 로 없는 유저만 채웁니다.
+     */
+    private void rebuildLeague(Long leagueId, Map<Long, Double> scores) {
+        String leagueKey = leagueKey(leagueId);
+        String tempKey = leagueKey + REBUILD_TEMP_SUFFIX;
+        long ttlSeconds = LEADERBOARD_TTL.getSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                stringConnection.zAdd(tempKey, entry.getValue(), String.valueOf(entry.getKey()), ZAddArgs.ifNotExists());
+                stringConnection.setEx(memberLeagueKey(entry.getKey()), ttlSeconds, String.valueOf(leagueId));
+            }
+            if (!scores.isEmpty()) {
+                stringConnection.rename(tempKey, leagueKey);
+                stringConnection.expire(leagueKey, ttlSeconds);
+            }
+            stringConnection.del(tempKey, rebuildLockKey(leagueId));
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (DataAccessException e) {
+                // 리더보드는 캐시이므로 실패해도 본 요청은 성공시킵니다. (TTL 만료 후 DB 에서 재생성)
+                log.warn(">> [Leaderboard] Redis 반영 실패", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeTask.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeTask.run();
+            }
+        });
+    }
+
+    private Map<Long, Double> toScores(List<Ranking> rankings) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (Ranking ranking : rankings) {
+            scores.put(ranking.getMember().getId(), scoreOf(ranking.getMember()));
+        }
+        return scores;
+    }
+
+    private List<Long> toMemberIds(List<Ranking> rankings) {
+        return rankings.stream()
+                .map(ranking -> ranking.getMember().getId())
+                .toList();
+    }
+
+    private double scoreOf(Member member) {
+        return scoreOf(member.getCurrentLevel(), member.getCurrentExp());
+    }
+
+    private double scoreOf(int level, int exp) {
+        return (double) level * EXP_PER_LEVEL + exp;
+    }
+
+    private String leagueKey(Long leagueId) {
+        return LEAGUE_KEY_PREFIX + leagueId;
+    }
+
+    private String rebuildLockKey(Long leagueId) {
+        return leagueKey(leagueId) + REBUILD_LOCK_SUFFIX;
+    }
+
+    private String memberLeagueKey(Long memberId) {
+        return MEMBER_LEAGUE_KEY_PREFIX + memberId;
+    }
+}
@@ -1,21 +1,23 @@
 package com.studioedge.focus_to_levelup_server.domain.ranking.service;
 
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberInfoRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dto.RankingResponse;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
-import com.studioedge.focus_to_levelup_server.domain.ranking.exception.LeagueNotFoundException;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
 
@@ -24,36 +26,47 @@ import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.
 @RequiredArgsConstructor
 public class RankingService {
     private final RankingRepository rankingRepository;
-    private final LeagueRepository leagueRepository;
+    private final MemberInfoRepository memberInfoRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final BronzeLeagueAllocator bronzeLeagueAllocator;
 
     @Transactional(readOnly = true)
-    public RankingResponse getRankingList(Member member) {
+    public RankingResponse getRankingList(Long memberId) {
 //        if (member.getStatus().equals(MemberStatus.RANKING_BANNED)) {
 //            throw new RankingExcludeException();
 //        }
         League targetLeague;
-        Optional<Ranking> myRanking = rankingRepository.findByMember(member);
+        Optional<Ranking> myRanking = rankingRepository.findByMemberId(memberId);
         if (myRanking.isPresent()) {
             targetLeague = myRanking.get().getLeague();
         } else {
-            targetLeague = findBestBronzeLeagueForSpectator(member);
+            targetLeague = findBestBronzeLeagueForSpectator(memberId);
+        }
+        // 순위는 Redis 리더보드에서, 프로필/오늘의 집중 시간은 id 목록으로 한 번에 조회
+        List<Long> rankedMemberIds = leagueLeaderboardService.getRankedMemberIds(targetLeague);
+        Map<Long, Object[]> rowsByMemberId = new HashMap<>();
+        if (!rankedMemberIds.isEmpty()) {
+            for (Object[] row : rankingRepository.findMembersWithDailyGoal(rankedMemberIds, getServiceDate())) {
+                rowsByMemberId.put(((Member) row[0]).getId(), row);
+            }
+        }
+
+        List<RankingResponse.RankingDetailResponse> responses = new ArrayList<>();
+        for (Long rankedMemberId : rankedMemberIds) {
+            Object[] row = rowsByMemberId.get(rankedMemberId);
+            if (row == null) {
+                continue;
+            }
+            responses.add(RankingResponse.RankingDetailResponse.of((Member) row[0], (DailyGoal) row[1], memberId));
         }
-        List<Object[]> rankings = rankingRepository.findRankingsWithDailyGoal(
-                targetLeague.getSeason(), targetLeague, getServiceDate());
-        List<RankingResponse.RankingDetailResponse> responses = rankings.stream()
-                .map(r -> {
-                    Ranking ranking = (Ranking) r[0];
-                    DailyGoal dailyGoal = (DailyGoal) r[1];
-                    return RankingResponse.RankingDetailResponse.of(ranking, dailyGoal, member.getId());
-                })
-                .collect(Collectors.toList());
 
         return RankingResponse.of(targetLeague, responses);
     }
 
-    private League findBestBronzeLeagueForSpectator(Member member) {
-        CategoryMainType category = member.getMemberInfo().getCategoryMain();
-        return leagueRepository.findSmallestBronzeLeagueForCategory(category)
-                .orElseThrow(LeagueNotFoundException::new);
+    private League findBestBronzeLeagueForSpectator(Long memberId) {
+        CategoryMainType category = memberInfoRepository.findByMemberId(memberId)
+                .orElseThrow(InvalidMemberException::new)
+                .getCategoryMain();
+        return bronzeLeagueAllocator.findSmallestLeague(category);
     }
 }
@@ -1,9 +1,9 @@
 package com.studioedge.focus_to_levelup_server.domain.stat.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.*;
 import com.studioedge.focus_to_levelup_server.domain.stat.service.StatQueryService;
 import com.studioedge.focus_to_levelup_server.domain.stat.service.TotalStatService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,7 +46,7 @@ public class StatController {
             @ApiResponse(responseCode = "400", description = "유효하지 않은 연도 또는 월")
     })
     public ResponseEntity<CommonResponse<DailyStatListResponse>> getDailyStat(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회할 연도 (YYYY)", example = "2025")
             @RequestParam(name = "year") int year,
             @Parameter(description = "조회할 월 (1~12)", example = "11")
@@ -76,7 +76,7 @@ public class StatController {
             @ApiResponse(responseCode = "404", description = "유저의 MemberInfo를 찾을 수 없음 (현재 주차 이미지 조회 실패 시)")
     })
     public ResponseEntity<CommonResponse<WeeklyStatListResponse>> getWeeklyStat(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회할 연도 (YYYY)", example = "2025")
             @RequestParam(name = "year") int year,
             @Parameter(description = "조회할 월 (1~12)", example = "11")
@@ -92,7 +92,7 @@ public class StatController {
             
             ### 개발 유의사항
             - 이미 집계가 완료된 **지난 달**의 데이터는 `MonthlyStat` 테이블에서 조회합니다.
-            - **현재 진행 중인 달**의 데이터는 `DailyGoal`에서 실시간으로 합산하여 계산합니다. (WeeklyStat을 거치지 않고 DailyGoal을 직접 합산)
+            - **현재 진행 중인 달**의 데이터는 집중 저장 시점에 누적되는 `MonthlyFocusRollup`에서 조회합니다.
             """
     )
     @ApiResponses({
@@ -101,7 +101,7 @@ public class StatController {
             @ApiResponse(responseCode = "400", description = "유효하지 않은 연도")
     })
     public ResponseEntity<CommonResponse<MonthlyStatListResponse>> getMonthlyStat(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회할 연도 (YYYY)", example = "2025")
             @RequestParam(name = "year") int year
     ) {
@@ -124,7 +124,7 @@ public class StatController {
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
     public ResponseEntity<CommonResponse<MonthlyDetailResponse>> getMonthlyDetail(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회할 연도 (YYYY)", example = "2025") @RequestParam(name = "year") int year,
             @Parameter(description = "조회할 월 (1~12)", example = "11") @RequestParam(name = "month") int month,
             @Parameter(description = "선택한 달이 시작점=true, 끝점=false", example = "true") @RequestParam(name = "initial") boolean initial
@@ -150,11 +150,11 @@ public class StatController {
             @ApiResponse(responseCode = "404", description = "유저를 찾을 수 없음")
     })
     public ResponseEntity<CommonResponse<TotalStatResponse>> getTotalStat(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회 기간(개월). (1, 3, 6, 12). 미입력 시 전체 기간", example = "3")
             @RequestParam(name = "period", required = false) Integer period
     ) {
-        return HttpResponseUtil.ok(statQueryService.getTotalStats(member, period));
+        return HttpResponseUtil.ok(statQueryService.getTotalStats(member.getId(), period));
     }
 
     /*
@@ -171,8 +171,9 @@ public class StatController {
             ### 개발 유의사항
             - **범용성:** 기간 제한이 없습니다. 1일, 1주, 1달 등 임의의 기간을 조회할 수 있습니다.
             - **로직:**
-                - **과거 기간:** 집계된 `WeeklySubjectStat` 데이터를 사용하여 조회 (빠름)
-                - **현재/미래 포함 기간:** 실시간 `DailySubject` 데이터를 조회하여 합산 (정확함)
+                - **한 달(1일~말일):** `MonthlySubjectStat` 데이터를 사용하여 조회 (이번 달 포함, 집중 저장 시점에 누적)
+                - **한 주(월~일) 또는 과거 기간:** `WeeklySubjectStat` 데이터를 사용하여 조회 (이번 주 포함, 집중 저장 시점에 누적)
+                - **이번 주에 걸친 임의 기간:** 실시간 `DailySubject` 데이터를 조회하여 합산
             """
     )
     @ApiResponses({
@@ -182,13 +183,13 @@ public class StatController {
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
     public ResponseEntity<CommonResponse<List<SubjectStatResponse>>> getWeeklySubjectStat(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "조회 시작일 (YYYY-MM-DD)", example = "2025-11-03")
             @RequestParam(name = "startDate") LocalDate startDate,
             @Parameter(description = "조회 종료일 (YYYY-MM-DD)", example = "2025-11-09")
             @RequestParam(name = "endDate") LocalDate endDate
     ) {
-        return HttpResponseUtil.ok(statQueryService.getSubjectStatsByPeriod(member, startDate, endDate));
+        return HttpResponseUtil.ok(statQueryService.getSubjectStatsByPeriod(member.getId(), startDate, endDate));
     }
 
     /**
@@ -208,10 +209,10 @@ public class StatController {
             @ApiResponse(responseCode = "404", description = "유저가입이 비정상적입니다.")
     })
     public ResponseEntity<CommonResponse<List<SubjectStatResponse>>> updateTotalStatsColor(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody UpdateTotalStatColorRequest request
     ) {
-        totalStatService.changeColor(member, request);
+        totalStatService.changeColor(member.getId(), request);
         return HttpResponseUtil.updated(null);
     }
 }
@@ -0,0 +1,41 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MonthlyFocusRollupRepository extends JpaRepository<MonthlyFocusRollup, Long> {
+
+    boolean existsByMemberIdAndMonthKey(Long memberId, Integer monthKey);
+
+    /**
+     * 집중 저장 시 갱신용 (같은 달 동시 갱신 방지)
+     * 행이 없을 때 호출하면 gap lock 을 잡으므로, 행을 먼저 만든 뒤 호출합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM MonthlyFocusRollup r WHERE r.member.id = :memberId AND r.monthKey = :monthKey")
+    Optional<MonthlyFocusRollup> findByMemberIdAndMonthKeyForUpdate(@Param("memberId") Long memberId,
+                                                                    @Param("monthKey") Integer monthKey);
+
+    @Query("SELECT r FROM MonthlyFocusRollup r " +
+            "WHERE r.member.id = :memberId " +
+            "AND r.monthKey BETWEEN :startMonthKey AND :endMonthKey " +
+            "ORDER BY r.monthKey ASC")
+    List<MonthlyFocusRollup> findAllByMemberIdAndMonthKeyBetween(@Param("memberId") Long memberId,
+                                                                 @Param("startMonthKey") Integer startMonthKey,
+                                                                 @Param("endMonthKey") Integer endMonthKey);
+
+    @Query("SELECT r FROM MonthlyFocusRollup r WHERE r.member.id IN :memberIds AND r.monthKey = :monthKey")
+    List<MonthlyFocusRollup> findAllByMemberIdInAndMonthKey(@Param("memberIds") Collection<Long> memberIds,
+                                                            @Param("monthKey") Integer monthKey);
+
+    @Query("SELECT r FROM MonthlyFocusRollup r WHERE r.member.id IN :memberIds")
+    List<MonthlyFocusRollup> findAllByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
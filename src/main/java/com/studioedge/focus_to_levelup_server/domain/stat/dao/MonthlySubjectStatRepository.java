@@ -17,6 +17,17 @@ public interface MonthlySubjectStatRepository extends JpaRepository<MonthlySubje
             @Param("year") int year
     );
 
+    @Query("SELECT ms FROM MonthlySubjectStat ms " +
+            "JOIN FETCH ms.subject " +
+            "WHERE ms.member.id = :memberId " +
+            "AND ms.year = :year " +
+            "AND ms.month = :month")
+    List<MonthlySubjectStat> findAllByMemberIdAndYearAndMonthWithSubject(
+            @Param("memberId") Long memberId,
+            @Param("year") int year,
+            @Param("month") int month
+    );
+
     @Query("SELECT ms FROM MonthlySubjectStat ms " +
             "JOIN FETCH ms.subject " +
             "WHERE ms.member.id = :memberId " +
@@ -0,0 +1,371 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyStat;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlySubjectStat;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklyStat;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklySubjectStat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간/월간 통계 JDBC 저장소
+ *
+ * - 통계 배치의 Writer 는 Chunk 마다 수백 건을 새로 만들기만 하고 다시 읽지 않으므로,
+ *   엔티티를 영속화하지 않고 multi-row INSERT 로 저장합니다.
+ * - 집중 저장 시점의 누적(add*)은 UPDATE 를 먼저 시도하고, 행이 없을 때만 DailySubject/DailyGoal 합계로 시작값을 채워 INSERT 합니다.
+ *   (MySQL 은 SET 을 왼쪽부터 적용하므로 total_minutes 는 갱신된 total_seconds 로 계산됩니다.)
+ * - JpaTransactionManager 트랜잭션 안에서 호출하면 같은 커넥션으로 저장되어 함께 롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ----------------------------- 집중 저장 시점 누적 ---------------------------------
+
+    public void addWeeklySeconds(Long memberId, int level, LocalDate startDate, int seconds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update("""
+                        UPDATE weekly_stats
+                        SET total_seconds = total_seconds + ?, total_focus_minutes = total_seconds DIV 60, updated_at = ?
+                        WHERE member_id = ? AND start_date = ?
+                        """,
+                seconds, now, memberId, Date.valueOf(startDate));
+        if (updated > 0) {
+            return;
+        }
+
+        // 이번 주 첫 누적: DailyGoal 합계(방금 저장한 시간 포함)로 시작, 레벨/이미지는 주간 배치가 스냅샷으로 채움
+        LocalDate endDate = startDate.plusDays(6);
+        jdbcTemplate.update("""
+                        INSERT INTO weekly_stats
+                            (member_id, start_date, end_date, total_seconds, total_focus_minutes, total_level,
+                             last_character_image_url, created_at, updated_at)
+                        SELECT ?, ?, ?, s.total, s.total DIV 60, ?, '', ?, ?
+                        FROM (SELECT COALESCE(SUM(dg.current_seconds), 0) AS total
+                              FROM daily_goals dg
+                              WHERE dg.member_id = ? AND dg.daily_goal_date BETWEEN ? AND ?) s
+                        ON DUPLICATE KEY UPDATE
+                            total_seconds = total_seconds + ?, total_focus_minutes = total_seconds DIV 60, updated_at = ?
+                        """,
+                memberId, Date.valueOf(startDate), Date.valueOf(endDate), level, now, now,
+                memberId, Date.valueOf(startDate), Date.valueOf(endDate),
+                seconds, now);
+    }
+
+    /**
+     * 이번 달 롤업 행이 없으면 빈 행으로 만듭니다. (이미 있으면 아무것도 하지 않음)
+     * 동시에 같은 달 첫 저장이 들어와도 unique key 충돌 예외 없이 한 행만 남습니다.
+     */
+    public void insertMonthlyFocusRollupIfAbsent(Long memberId, int monthKey, byte[] emptyDaySeconds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                        INSERT INTO monthly_focus_rollups
+                            (member_id, month_key, goal_days, day_seconds, total_seconds, created_at, updated_at)
+                        VALUES (?, ?, 0, ?, 0, ?, ?)
+                        ON DUPLICATE KEY UPDATE monthly_focus_rollup_id = monthly_focus_rollup_id
+                        """,
+                memberId, monthKey, emptyDaySeconds, now, now);
+    }
+
+    public void addWeeklySubjectSeconds(Long memberId, Long subjectId, LocalDate startDate, int seconds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update("""
+                        UPDATE weekly_subject_stats
+                        SET total_seconds = total_seconds + ?, total_minutes = total_seconds DIV 60, updated_at = ?
+                        WHERE member_id = ? AND subject_id = ? AND start_date = ?
+                        """,
+                seconds, now, memberId, subjectId, Date.valueOf(startDate));
+        if (updated > 0) {
+            return;
+        }
+
+        LocalDate endDate = startDate.plusDays(6);
+        jdbcTemplate.update("""
+                        INSERT INTO weekly_subject_stats
+                            (member_id, subject_id, start_date, end_date, total_seconds, total_minutes, created_at, updated_at)
+                        SELECT ?, ?, ?, ?, s.total, s.total DIV 60, ?, ?
+                        FROM (SELECT COALESCE(SUM(ds.focus_seconds), 0) AS total
+                              FROM daily_subjects ds
+                              WHERE ds.member_id = ? AND ds.subject_id = ? AND ds.date BETWEEN ? AND ?) s
+                        ON DUPLICATE KEY UPDATE
+                            total_seconds = total_seconds + ?, total_minutes = total_seconds DIV 60, updated_at = ?
+                        """,
+                memberId, subjectId, Date.valueOf(startDate), Date.valueOf(endDate), now, now,
+                memberId, subjectId, Date.valueOf(startDate), Date.valueOf(endDate),
+                seconds, now);
+    }
+
+    public void addMonthlySubjectSeconds(Long memberId, Long subjectId, YearMonth yearMonth, int seconds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update("""
+                        UPDATE monthly_subject_stats
+                        SET total_seconds = total_seconds + ?, total_minutes = total_seconds DIV 60, updated_at = ?
+                        WHERE member_id = ? AND subject_id = ? AND year = ? AND month = ?
+                        """,
+                seconds, now, memberId, subjectId, yearMonth.getYear(), yearMonth.getMonthValue());
+        if (updated > 0) {
+            return;
+        }
+
+        jdbcTemplate.update("""
+                        INSERT INTO monthly_subject_stats
+                            (member_id, subject_id, year, month, total_seconds, total_minutes, created_at, updated_at)
+                        SELECT ?, ?, ?, ?, s.total, s.total DIV 60, ?, ?
+                        FROM (SELECT COALESCE(SUM(ds.focus_seconds), 0) AS total
+                              FROM daily_subjects ds
+                              WHERE ds.member_id = ? AND ds.subject_id = ? AND ds.date BETWEEN ? AND ?) s
+                        ON DUPLICATE KEY UPDATE
+                            total_seconds = total_seconds + ?, total_minutes = total_seconds DIV 60, updated_at = ?
+                        """,
+                memberId, subjectId, yearMonth.getYear(), yearMonth.getMonthValue(), now, now,
+                memberId, subjectId, Date.valueOf(yearMonth.atDay(1)), Date.valueOf(yearMonth.atEndOfMonth()),
+                seconds, now);
+    }
+
+    // ----------------------------- 백필 (기간 전체를 원본 합계로 덮어쓰기) ---------------------------------
+
+    public int backfillWeeklyStats(LocalDate startDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate endDate = startDate.plusDays(6);
+        return jdbcTemplate.update("""
+                        INSERT INTO weekly_stats
+                            (member_id, start_date, end_date, total_seconds, total_focus_minutes, total_level,
+                             last_character_image_url, created_at, updated_at)
+                        SELECT * FROM (
+                            SELECT dg.member_id, ? AS start_date, ? AS end_date, SUM(dg.current_seconds) AS total,
+                                   SUM(dg.current_seconds) DIV 60 AS minutes, MAX(m.current_level) AS level,
+                                   '' AS image_url, ? AS created_at, ? AS updated_at
+                            FROM daily_goals dg
+                            JOIN members m ON m.member_id = dg.member_id
+                            WHERE dg.daily_goal_date BETWEEN ? AND ?
+                            GROUP BY dg.member_id
+                        ) src
+                        ON DUPLICATE KEY UPDATE
+                            total_seconds = src.total, total_focus_minutes = src.minutes, updated_at = src.updated_at
+                        """,
+                Date.valueOf(startDate), Date.valueOf(endDate), now, now,
+                Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    public int backfillWeeklySubjectStats(LocalDate startDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate endDate = startDate.plusDays(6);
+        return jdbcTemplate.update("""
+                        INSERT INTO weekly_subject_stats
+                            (member_id, subject_id, start_date, end_date, total_seconds, total_minutes, created_at, updated_at)
+                        SELECT * FROM (
+                            SELECT ds.member_id, ds.subject_id, ? AS start_date, ? AS end_date,
+                                   SUM(ds.focus_seconds) AS total, SUM(ds.focus_seconds) DIV 60 AS minutes,
+                                   ? AS created_at, ? AS updated_at
+                            FROM daily_subjects ds
+                            WHERE ds.date BETWEEN ? AND ?
+                            GROUP BY ds.member_id, ds.subject_id
+                        ) src
+                        ON DUPLICATE KEY UPDATE
+                            total_seconds = src.total, total_minutes = src.minutes, updated_at = src.updated_at
+                        """,
+                Date.valueOf(startDate), Date.valueOf(endDate), now, now,
+                Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    public int backfillMonthlySubjectStats(YearMonth yearMonth) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update("""
+                        INSERT INTO monthly_subject_stats
+                            (member_id, subject_id, year, month, total_seconds, total_minutes, created_at, updated_at)
+                        SELECT * FROM (
+                            SELECT ds.member_id, ds.subject_id, ? AS year, ? AS month,
+                                   SUM(ds.focus_seconds) AS total, SUM(ds.focus_seconds) DIV 60 AS minutes,
+                                   ? AS created_at, ? AS updated_at
+                            FROM daily_subjects ds
+                            WHERE ds.date BETWEEN ? AND ?
+                            GROUP BY ds.member_id, ds.subject_id
+                        ) src
+                        ON DUPLICATE KEY UPDATE
+                            total_seconds = src.total, total_minutes = src.minutes, updated_at = src.updated_at
+                        """,
+                yearMonth.getYear(), yearMonth.getMonthValue(), now, now,
+                Date.valueOf(yearMonth.atDay(1)), Date.valueOf(yearMonth.atEndOfMonth()));
+    }
+
+    // ----------------------------- 배치 (스냅샷 / 검증) ---------------------------------
+
+    /**
+     * 멤버별 주간 과목 누적 합계(초)
+     */
+    public Map<Long, Integer> sumWeeklySubjectSeconds(Collection<Long> memberIds, LocalDate startDate) {
+        return sumByMember("""
+                        SELECT member_id, SUM(total_seconds) AS total
+                        FROM weekly_subject_stats
+                        WHERE start_date = ? AND member_id IN (%s)
+                        GROUP BY member_id
+                        """,
+                memberIds, Date.valueOf(startDate));
+    }
+
+    /**
+     * 멤버별 월간 과목 누적 합계(초)
+     */
+    public Map<Long, Integer> sumMonthlySubjectSeconds(Collection<Long> memberIds, YearMonth yearMonth) {
+        return sumByMember("""
+                        SELECT member_id, SUM(total_seconds) AS total
+                        FROM monthly_subject_stats
+                        WHERE year = ? AND month = ? AND member_id IN (%s)
+                        GROUP BY member_id
+                        """,
+                memberIds, yearMonth.getYear(), yearMonth.getMonthValue());
+    }
+
+    /**
+     * 주간 배치 스냅샷: 누적된 행이 있으면 합계를 원본 값으로 맞추고 레벨/이미지를 채우며, 없으면 새로 만듭니다.
+     */
+    public void upsertWeeklyStats(List<WeeklyStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO weekly_stats
+                            (member_id, start_date, end_date, total_focus_minutes, total_seconds, total_level,
+                             last_character_image_url, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        ON DUPLICATE KEY UPDATE
+                            total_focus_minutes = ?, total_seconds = ?, total_level = ?,
+                            last_character_image_url = ?, updated_at = ?
+                        """,
+                stats, BATCH_SIZE, (ps, stat) -> {
+                    ps.setLong(1, stat.getMember().getId());
+                    ps.setDate(2, Date.valueOf(stat.getStartDate()));
+                    ps.setDate(3, Date.valueOf(stat.getEndDate()));
+                    ps.setInt(4, stat.getTotalFocusMinutes());
+                    ps.setInt(5, stat.getTotalSeconds());
+                    ps.setInt(6, stat.getTotalLevel());
+                    ps.setString(7, stat.getLastCharacterImageUrl());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                    ps.setInt(10, stat.getTotalFocusMinutes());
+                    ps.setInt(11, stat.getTotalSeconds());
+                    ps.setInt(12, stat.getTotalLevel());
+                    ps.setString(13, stat.getLastCharacterImageUrl());
+                    ps.setTimestamp(14, now);
+                });
+    }
+
+    public void insertWeeklySubjectStats(List<WeeklySubjectStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO weekly_subject_stats
+                            (member_id, subject_id, start_date, end_date, total_minutes, total_seconds, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                stats, BATCH_SIZE, (ps, stat) -> {
+                    ps.setLong(1, stat.getMember().getId());
+                    ps.setLong(2, stat.getSubject().getId());
+                    ps.setDate(3, Date.valueOf(stat.getStartDate()));
+                    ps.setDate(4, Date.valueOf(stat.getEndDate()));
+                    ps.setInt(5, stat.getTotalMinutes());
+                    ps.setInt(6, stat.getTotalSeconds());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                });
+    }
+
+    public void deleteWeeklySubjectStats(Collection<Long> memberIds, LocalDate startDate) {
+        jdbcTemplate.update(
+                "DELETE FROM weekly_subject_stats WHERE start_date = ? AND member_id IN (%s)"
+                        .formatted(placeholders(memberIds.size())),
+                args(memberIds, Date.valueOf(startDate)));
+    }
+
+    public void insertMonthlyStats(List<MonthlyStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO monthly_stats (member_id, year, month, total_focus_minutes, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """,
+                stats, BATCH_SIZE, (ps, stat) -> {
+                    ps.setLong(1, stat.getMember().getId());
+                    ps.setInt(2, stat.getYear());
+                    ps.setInt(3, stat.getMonth());
+                    ps.setInt(4, stat.getTotalFocusMinutes());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+    }
+
+    public void insertMonthlySubjectStats(List<MonthlySubjectStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO monthly_subject_stats
+                            (member_id, subject_id, year, month, total_minutes, total_seconds, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                stats, BATCH_SIZE, (ps, stat) -> {
+                    ps.setLong(1, stat.getMember().getId());
+                    ps.setLong(2, stat.getSubject().getId());
+                    ps.setInt(3, stat.getYear());
+                    ps.setInt(4, stat.getMonth());
+                    ps.setInt(5, stat.getTotalMinutes());
+                    ps.setInt(6, stat.getTotalSeconds());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                });
+    }
+
+    public void deleteMonthlySubjectStats(Collection<Long> memberIds, YearMonth yearMonth) {
+        jdbcTemplate.update(
+                "DELETE FROM monthly_subject_stats WHERE year = ? AND month = ? AND member_id IN (%s)"
+                        .formatted(placeholders(memberIds.size())),
+                args(memberIds, yearMonth.getYear(), yearMonth.getMonthValue()));
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private Map<Long, Integer> sumByMember(String sql, Collection<Long> memberIds, Object... leadingArgs) {
+        Map<Long, Integer> sums = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return sums;
+        }
+        jdbcTemplate.query(sql.formatted(placeholders(memberIds.size())),
+                rs -> { sums.put(rs.getLong("member_id"), rs.getInt("total")); },
+                args(memberIds, leadingArgs));
+        return sums;
+    }
+
+    // 앞쪽 조건 값 + IN 절 멤버 id 순서의 파라미터 배열
+    private Object[] args(Collection<Long> memberIds, Object... leadingArgs) {
+        List<Object> args = new ArrayList<>(leadingArgs.length + memberIds.size());
+        Collections.addAll(args, leadingArgs);
+        args.addAll(memberIds);
+        return args.toArray();
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -29,5 +29,9 @@ public record TotalStatResponse(
                     dailyGoal.getCurrentSeconds()
             );
         }
+
+        public static HeatmapData of(LocalDate date, int focusSeconds) {
+            return new HeatmapData(date, focusSeconds);
+        }
     }
 }
@@ -22,14 +22,15 @@ public record WeeklyStatResponse(
         @Schema(description = "요일별 집중 시간(초) 리스트 (월~일 순서)", example = "[3600, 0, 7200, ...]")
         List<Integer> focusSecondsPerDayList
 ) {
-    // 집계된 WeeklyStat 엔티티로부터 생성
+    // 집계된 WeeklyStat 엔티티로부터 생성 (주간 배치 스냅샷 전이면 이미지 URL 이 비어 있음)
     public static WeeklyStatResponse of(WeeklyStat weeklyStat, List<Integer> focusSecondsPerDayList) {
+        String imageUrl = weeklyStat.getLastCharacterImageUrl();
         return WeeklyStatResponse.builder()
                 .startDate(weeklyStat.getStartDate())
                 .endDate(weeklyStat.getEndDate())
                 .totalFocusMinutes(weeklyStat.getTotalFocusMinutes())
                 .lastLevel(weeklyStat.getTotalLevel())
-                .lastCharacterImageUrl(weeklyStat.getLastCharacterImageUrl())
+                .lastCharacterImageUrl(imageUrl == null || imageUrl.isBlank() ? null : imageUrl)
                 .focusSecondsPerDayList(focusSecondsPerDayList)
                 .build();
     }
@@ -0,0 +1,111 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.entity;
+
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 유저별 월간 집중 시간 롤업 (누적 통계/히트맵 조회용)
+ *
+ * - 한 달을 한 행으로 저장합니다. monthKey = yyyyMM (예: 202511)
+ * - goalDays: 해당 날짜에 DailyGoal 이 있으면 (day - 1) 번째 비트가 1
+ * - daySeconds: 일별 집중 시간(초)을 4바이트씩 31일치 붙여서 저장 (124 bytes)
+ * - DailyGoal 이 원본이며, 집중 저장/목표 설정 시 해당 날짜 값을 덮어씁니다.
+ */
+@Entity
+@Table(
+        name = "monthly_focus_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"member_id", "month_key"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyFocusRollup extends BaseEntity {
+    private static final int MAX_DAYS = 31;
+    private static final int BYTES_PER_DAY = Integer.BYTES;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "monthly_focus_rollup_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member member;
+
+    @Column(name = "month_key", nullable = false)
+    private Integer monthKey;
+
+    @Column(nullable = false)
+    private Integer goalDays;
+
+    @Column(nullable = false, length = MAX_DAYS * BYTES_PER_DAY)
+    private byte[] daySeconds;
+
+    @Column(nullable = false)
+    private Long totalSeconds;
+
+    @Builder
+    public MonthlyFocusRollup(Member member, YearMonth yearMonth) {
+        this.member = member;
+        this.monthKey = toMonthKey(yearMonth);
+        this.goalDays = 0;
+        this.daySeconds = emptyDaySeconds();
+        this.totalSeconds = 0L;
+    }
+
+    public static byte[] emptyDaySeconds() {
+        return new byte[MAX_DAYS * BYTES_PER_DAY];
+    }
+
+    public static int toMonthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public static int toMonthKey(LocalDate date) {
+        return toMonthKey(YearMonth.from(date));
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.of(monthKey / 100, monthKey % 100);
+    }
+
+    /**
+     * 해당 날짜의 집중 시간을 기록합니다. (DailyGoal.currentSeconds 값으로 덮어쓰기)
+     */
+    public void recordDay(int dayOfMonth, int seconds) {
+        int index = dayOfMonth - 1;
+        ByteBuffer buffer = ByteBuffer.wrap(daySeconds.clone());
+        int previous = buffer.getInt(index * BYTES_PER_DAY);
+        buffer.putInt(index * BYTES_PER_DAY, seconds);
+
+        // byte[] 는 내용이 아닌 참조로 dirty checking 하므로 새 배열로 교체합니다.
+        this.daySeconds = buffer.array();
+        this.goalDays = goalDays | (1 << index);
+        this.totalSeconds = totalSeconds - previous + seconds;
+    }
+
+    public boolean hasGoal(int dayOfMonth) {
+        return (goalDays & (1 << (dayOfMonth - 1))) != 0;
+    }
+
+    public int getSecondsOf(int dayOfMonth) {
+        return ByteBuffer.wrap(daySeconds).getInt((dayOfMonth - 1) * BYTES_PER_DAY);
+    }
+
+    public int getGoalDayCount() {
+        return Integer.bitCount(goalDays);
+    }
+}
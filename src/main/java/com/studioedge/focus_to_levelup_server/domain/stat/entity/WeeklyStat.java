@@ -7,11 +7,19 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDate;
 
+/**
+ * 유저별 주간 통계
+ *
+ * - totalSeconds / totalFocusMinutes 는 집중 저장 시점에 누적됩니다. (PeriodStatService)
+ * - totalLevel / lastCharacterImageUrl 은 주간 배치(UpdateWeeklyStatStep)가 주가 끝난 뒤 스냅샷으로 채웁니다.
+ *   그 전까지는 누적 시작 시점의 레벨과 빈 이미지 URL 이 들어 있습니다.
+ */
 @Entity
 @Table(
         name = "weekly_stats",
@@ -41,6 +49,10 @@ public class WeeklyStat extends BaseEntity {
     @Column(nullable = false)
     private Integer totalFocusMinutes;
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer totalSeconds = 0;
+
     @Column(nullable = false)
     private Integer totalLevel;
 
@@ -49,12 +61,14 @@ public class WeeklyStat extends BaseEntity {
 
     @Builder
     public WeeklyStat(Member member, LocalDate startDate, LocalDate endDate,
-                      Integer totalFocusMinutes, Integer totalLevel, String lastCharacterImageUrl)
+                      Integer totalFocusMinutes, Integer totalSeconds, Integer totalLevel,
+                      String lastCharacterImageUrl)
     {
         this.member = member;
         this.startDate = startDate;
         this.endDate = endDate;
         this.totalFocusMinutes = totalFocusMinutes;
+        this.totalSeconds = totalSeconds != null ? totalSeconds : totalFocusMinutes * 60;
         this.totalLevel = totalLevel;
         this.lastCharacterImageUrl = lastCharacterImageUrl;
     }
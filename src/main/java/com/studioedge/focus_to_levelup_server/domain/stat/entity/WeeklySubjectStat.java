@@ -48,14 +48,27 @@ public class WeeklySubjectStat extends BaseEntity {
     @ColumnDefault("0")
     private Integer totalMinutes;
 
+    // 집중 저장 시점에 누적되는 값 (PeriodStatService), totalMinutes = totalSeconds / 60
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer totalSeconds = 0;
+
     @Builder
     public WeeklySubjectStat(Member member, Subject subject, LocalDate startDate,
-                             LocalDate endDate, Integer totalMinutes)
+                             LocalDate endDate, Integer totalMinutes, Integer totalSeconds)
     {
         this.member = member;
         this.subject = subject;
         this.startDate = startDate;
         this.endDate = endDate;
         this.totalMinutes = totalMinutes;
+        this.totalSeconds = totalSeconds != null ? totalSeconds : totalMinutes * 60;
+    }
+
+    /**
+     * 집계 시간(초). totalSeconds 컬럼이 생기기 전에 만들어진 행은 분 단위 값으로 계산합니다.
+     */
+    public int getFocusSeconds() {
+        return Math.max(totalSeconds, totalMinutes * 60);
     }
 }
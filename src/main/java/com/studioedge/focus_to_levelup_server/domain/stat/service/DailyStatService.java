@@ -32,6 +32,13 @@ public class DailyStatService {
         List<DailyGoal> goals = dailyGoalRepository.
                 findAllByMemberIdAndDailyGoalDateBetween(memberId, startDate, endDate);
 
+        return aggregate(yearMonth, goals);
+    }
+
+    /**
+     * 한 달치 DailyGoal 을 1일 ~ 말일 통계로 변환 (DB 없이 호출 가능, src/jmh 벤치마크에서 사용)
+     */
+    static DailyStatListResponse aggregate(YearMonth yearMonth, List<DailyGoal> goals) {
         if (goals.isEmpty()) {
             return DailyStatListResponse.empty();
         }
@@ -46,9 +53,9 @@ public class DailyStatService {
                 .collect(Collectors.toMap(DailyGoal::getDailyGoalDate, Function.identity()));
 
         // 1일부터 말일까지 순회하며 DTO 생성
-        List<DailyStatResponse> responses = IntStream.rangeClosed(1, endDate.getDayOfMonth())
+        List<DailyStatResponse> responses = IntStream.rangeClosed(1, yearMonth.lengthOfMonth())
                 .mapToObj(day -> {
-                    LocalDate date = startDate.withDayOfMonth(day);
+                    LocalDate date = yearMonth.atDay(day);
                     DailyGoal goal = goalMap.get(date);
 
                     if (goal != null) {
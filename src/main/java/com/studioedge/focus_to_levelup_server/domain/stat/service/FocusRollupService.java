@@ -0,0 +1,64 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyFocusRollupRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 월간 집중 시간 롤업 갱신
+ *
+ * - DailyGoal 의 currentSeconds 가 바뀌는 곳(목표 설정, 집중 저장)에서 호출합니다.
+ * - 해당 달의 롤업이 아직 없으면 그 달의 DailyGoal 로 새로 채우고, 있으면 그 날짜 값만 덮어씁니다.
+ * - 같은 달 첫 저장이 동시에 들어올 수 있으므로, 행은 잠금 없이 INSERT ... ON DUPLICATE KEY UPDATE 로 먼저 만들고
+ *   그 다음에 행 잠금(SELECT ... FOR UPDATE)을 잡습니다. (없는 행을 잠그면 gap lock 끼리 교착될 수 있음)
+ * - 아직 아무 날도 기록되지 않은 행(goalDays = 0)은 방금 만들어진 행이므로, 잠금을 잡은 쪽이 그 달의 DailyGoal 로 채웁니다.
+ * - 이전 달들은 FocusRollupBackfillJob 으로 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FocusRollupService {
+    private final MonthlyFocusRollupRepository monthlyFocusRollupRepository;
+    private final DailyGoalRepository dailyGoalRepository;
+    private final StatJdbcRepository statJdbcRepository;
+    private final TotalStatCache totalStatCache;
+
+    @Transactional
+    public void record(DailyGoal dailyGoal) {
+        Long memberId = dailyGoal.getMember().getId();
+        LocalDate date = dailyGoal.getDailyGoalDate();
+
+        int monthKey = MonthlyFocusRollup.toMonthKey(date);
+
+        if (!monthlyFocusRollupRepository.existsByMemberIdAndMonthKey(memberId, monthKey)) {
+            statJdbcRepository.insertMonthlyFocusRollupIfAbsent(memberId, monthKey, MonthlyFocusRollup.emptyDaySeconds());
+        }
+        MonthlyFocusRollup rollup = monthlyFocusRollupRepository
+                .findByMemberIdAndMonthKeyForUpdate(memberId, monthKey)
+                .orElseThrow();
+        if (rollup.getGoalDayCount() == 0) {
+            fillFromDailyGoals(rollup, memberId, YearMonth.from(date));
+        }
+        rollup.recordDay(date.getDayOfMonth(), dailyGoal.getCurrentSeconds());
+
+        totalStatCache.evict(memberId);
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private void fillFromDailyGoals(MonthlyFocusRollup rollup, Long memberId, YearMonth yearMonth) {
+        List<DailyGoal> goals = dailyGoalRepository.findAllByMemberIdAndDailyGoalDateBetween(
+                memberId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        for (DailyGoal goal : goals) {
+            rollup.recordDay(goal.getDailyGoalDate().getDayOfMonth(), goal.getCurrentSeconds());
+        }
+    }
+}
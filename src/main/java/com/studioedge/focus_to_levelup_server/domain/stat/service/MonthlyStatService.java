@@ -2,10 +2,12 @@ package com.studioedge.focus_to_levelup_server.domain.stat.service;
 
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyFocusRollupRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyStatRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.MonthlyDetailResponse;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.MonthlyStatListResponse;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.MonthlyStatResponse;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyStat;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ public class MonthlyStatService {
 
     private final MonthlyStatRepository monthlyStatRepository;
     private final DailyGoalRepository dailyGoalRepository;
+    private final MonthlyFocusRollupRepository monthlyFocusRollupRepository;
 
     @Transactional(readOnly = true)
     public MonthlyStatListResponse getMonthlyStats(Long memberId, int year) {
@@ -37,17 +40,16 @@ public class MonthlyStatService {
         Map<Integer, Integer> aggregatedMap = aggregatedMonths.stream()
                 .collect(Collectors.toMap(MonthlyStat::getMonth, MonthlyStat::getTotalFocusMinutes));
 
-        // 3. [실시간 데이터] "현재 달"의 데이터만 실시간 계산
+        // 3. [누적 데이터] "현재 달"은 집중 저장 시점에 누적되는 월간 롤업 사용
         LocalDate today = LocalDate.now();
         Integer currentMonthLiveSeconds = 0;
 
         if (today.getYear() == year) {
-            LocalDate startOfMonth = today.withDayOfMonth(1);
-            List<DailyGoal> currentMonthGoals = dailyGoalRepository.findAllByMemberIdAndDailyGoalDateBetween(
-                    memberId, startOfMonth, today
-            );
-            currentMonthLiveSeconds = currentMonthGoals.stream()
-                    .mapToInt(DailyGoal::getCurrentSeconds)
+            int monthKey = MonthlyFocusRollup.toMonthKey(today);
+            currentMonthLiveSeconds = monthlyFocusRollupRepository
+                    .findAllByMemberIdAndMonthKeyBetween(memberId, monthKey, monthKey)
+                    .stream()
+                    .mapToInt(rollup -> rollup.getTotalSeconds().intValue())
                     .sum();
         }
 
@@ -0,0 +1,42 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.service;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 주간/월간 통계 누적 (집중 저장 시점)
+ *
+ * - DailySubject 에 더한 시간을 같은 트랜잭션에서 (멤버, 주), (멤버, 과목, 주), (멤버, 과목, 월) 통계 행에도 더합니다.
+ * - 기간의 첫 누적이면 그 기간의 DailyGoal/DailySubject 합계로 행을 만들기 때문에,
+ *   호출 전에 DailyGoal/DailySubject 변경 사항이 flush 되어 있어야 합니다.
+ * - 기간이 끝나면 주간/월간 배치가 원본과 비교해 검증하고, 주간 통계의 레벨/캐릭터 이미지를 스냅샷으로 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PeriodStatService {
+    private final StatJdbcRepository statJdbcRepository;
+
+    @Transactional
+    public void record(DailySubject dailySubject, int seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+        Member member = dailySubject.getMember();
+        Long subjectId = dailySubject.getSubject().getId();
+        LocalDate date = dailySubject.getDate();
+        LocalDate startOfWeek = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        statJdbcRepository.addWeeklySeconds(member.getId(), member.getCurrentLevel(), startOfWeek, seconds);
+        statJdbcRepository.addWeeklySubjectSeconds(member.getId(), subjectId, startOfWeek, seconds);
+        statJdbcRepository.addMonthlySubjectSeconds(member.getId(), subjectId, YearMonth.from(date), seconds);
+    }
+}
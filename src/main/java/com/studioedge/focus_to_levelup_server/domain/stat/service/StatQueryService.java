@@ -1,6 +1,5 @@
 package com.studioedge.focus_to_levelup_server.domain.stat.service;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -35,11 +34,11 @@ public class StatQueryService {
         return monthlyStatService.getMonthlyDetail(memberId, year, month, initial);
     }
 
-    public TotalStatResponse getTotalStats(Member member, Integer period) {
-        return totalStatService.getTotalStats(member, period);
+    public TotalStatResponse getTotalStats(Long memberId, Integer period) {
+        return totalStatService.getTotalStats(memberId, period);
     }
 
-    public List<SubjectStatResponse> getSubjectStatsByPeriod(Member member, LocalDate startDate, LocalDate endDate) {
-        return weeklyStatService.getSubjectStatsByPeriod(member, startDate, endDate);
+    public List<SubjectStatResponse> getSubjectStatsByPeriod(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return weeklyStatService.getSubjectStatsByPeriod(memberId, startDate, endDate);
     }
 }
@@ -0,0 +1,93 @@
+package com.studioedge.focus_to_levelup_server.domain.stat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studioedge.focus_to_levelup_server.domain.stat.dto.TotalStatResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 누적 통계 응답 캐시 (Redis Hash)
+ *
+ * - 유저마다 Hash 1개: stat:total:{memberId} (field = {period}:{기준 날짜})
+ * - 기준 날짜가 필드에 포함되어 있어 날짜가 바뀌면 자연히 새로 계산됩니다.
+ * - 집중 저장/목표 설정으로 롤업이 바뀌면 커밋 이후 유저의 Hash 를 통째로 삭제합니다.
+ * - Redis 장애 시에는 캐시 없이 롤업에서 바로 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TotalStatCache {
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String KEY_PREFIX = "stat:total:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    public Optional<TotalStatResponse> get(Long memberId, Integer period, LocalDate today) {
+        try {
+            Object cached = redisTemplate.opsForHash().get(key(memberId), field(period, today));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached.toString(), TotalStatResponse.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn(">> [TotalStatCache] 조회 실패. memberId={}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(Long memberId, Integer period, LocalDate today, TotalStatResponse response) {
+        try {
+            String key = key(memberId);
+            redisTemplate.opsForHash().put(key, field(period, today), objectMapper.writeValueAsString(response));
+            redisTemplate.expire(key, TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn(">> [TotalStatCache] 저장 실패. memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 삭제합니다.
+     */
+    public void evict(Long memberId) {
+        Runnable task = () -> {
+            try {
+                redisTemplate.delete(key(memberId));
+            } catch (DataAccessException e) {
+                // 최대 TTL 동안 이전 응답이 보일 수 있습니다.
+                log.warn(">> [TotalStatCache] 삭제 실패. memberId={}", memberId, e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String field(Integer period, LocalDate today) {
+        return (period == null ? "all" : String.valueOf(period)) + ":" + today;
+    }
+}
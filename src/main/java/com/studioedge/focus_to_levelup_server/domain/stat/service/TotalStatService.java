@@ -1,35 +1,51 @@
 package com.studioedge.focus_to_levelup_server.domain.stat.service;
 
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberSettingRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberSetting;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
+import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyFocusRollupRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.TotalStatResponse;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.UpdateTotalStatColorRequest;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 누적 통계 (총 / 1, 3, 6, 12개월)
+ * DailyGoal 대신 월간 롤업(MonthlyFocusRollup)을 읽으므로 기간과 상관없이 개월 수만큼의 행만 조회합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class TotalStatService {
 
-    private final DailyGoalRepository dailyGoalRepository;
+    private final MonthlyFocusRollupRepository monthlyFocusRollupRepository;
+    private final MemberRepository memberRepository;
     private final MemberSettingRepository memberSettingRepository;
+    private final TotalStatCache totalStatCache;
 
     @Transactional(readOnly = true)
-    public TotalStatResponse getTotalStats(Member member, Integer period) {
+    public TotalStatResponse getTotalStats(Long memberId, Integer period) {
 
         LocalDate today = LocalDate.now();
+        TotalStatResponse cached = totalStatCache.get(memberId, period, today).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
         LocalDate startDate;
 
         if (period == null) {
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(MemberNotFoundException::new);
             startDate = member.getCreatedAt().toLocalDate();
         } else if (period == 1 || period == 3 || period == 6 || period == 12) {
             startDate = today.minusMonths(period);
@@ -37,23 +53,38 @@ public class TotalStatService {
             throw new IllegalArgumentException("유효하지 않은 기간(period)입니다.");
         }
 
-        // DB에서 해당 기간의 DailyGoal 데이터를 한 번에 조회
-        List<DailyGoal> goals = dailyGoalRepository.findAllByMemberIdAndDailyGoalDateBetween(
-                member.getId(), startDate, today
+        // 해당 기간의 월간 롤업만 조회 (한 달 = 한 행)
+        List<MonthlyFocusRollup> rollups = monthlyFocusRollupRepository.findAllByMemberIdAndMonthKeyBetween(
+                memberId, MonthlyFocusRollup.toMonthKey(startDate), MonthlyFocusRollup.toMonthKey(today)
         );
 
-        // 총합 및 평균 계산
-        long totalSeconds = goals.stream()
-                .mapToLong(DailyGoal::getCurrentSeconds)
-                .sum();
-        long totalMinutes = totalSeconds / 60;
+        TotalStatResponse response = aggregate(rollups, startDate, today);
+        totalStatCache.put(memberId, period, today, response);
+        return response;
+    }
 
-        double averageMinutes = (goals.isEmpty()) ? 0 : (double) totalMinutes / goals.size();
+    /**
+     * 월간 롤업에서 startDate ~ today 범위의 총합/평균/히트맵 계산
+     */
+    static TotalStatResponse aggregate(List<MonthlyFocusRollup> rollups, LocalDate startDate, LocalDate today) {
+        // 총합 계산 및 히트맵 데이터(DTO) 생성
+        long totalSeconds = 0;
+        List<TotalStatResponse.HeatmapData> heatmapData = new ArrayList<>();
+        for (MonthlyFocusRollup rollup : rollups) {
+            YearMonth yearMonth = rollup.getYearMonth();
+            for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+                LocalDate date = yearMonth.atDay(day);
+                if (!rollup.hasGoal(day) || date.isBefore(startDate) || date.isAfter(today)) {
+                    continue;
+                }
+                int seconds = rollup.getSecondsOf(day);
+                totalSeconds += seconds;
+                heatmapData.add(TotalStatResponse.HeatmapData.of(date, seconds));
+            }
+        }
+        long totalMinutes = totalSeconds / 60;
 
-        // 히트맵 데이터(DTO) 생성
-        List<TotalStatResponse.HeatmapData> heatmapData = goals.stream()
-                .map(TotalStatResponse.HeatmapData::from)
-                .collect(Collectors.toList());
+        double averageMinutes = (heatmapData.isEmpty()) ? 0 : (double) totalMinutes / heatmapData.size();
 
         // 최종 응답 DTO 반환
         return TotalStatResponse.builder()
@@ -64,8 +95,8 @@ public class TotalStatService {
     }
 
     @Transactional
-    public void changeColor(Member member, UpdateTotalStatColorRequest request) {
-        MemberSetting memberSetting = memberSettingRepository.findByMemberId(member.getId())
+    public void changeColor(Long memberId, UpdateTotalStatColorRequest request) {
+        MemberSetting memberSetting = memberSettingRepository.findByMemberId(memberId)
                 .orElseThrow(InvalidMemberException::new);
         memberSetting.updateTotalStatColor(request.color());
     }
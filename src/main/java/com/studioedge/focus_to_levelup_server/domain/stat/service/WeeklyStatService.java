@@ -1,25 +1,25 @@
 package com.studioedge.focus_to_levelup_server.domain.stat.service;
 
-import com.studioedge.focus_to_levelup_server.domain.character.dao.CharacterImageRepository;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository;
-import com.studioedge.focus_to_levelup_server.domain.character.entity.CharacterImage;
 import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
 import com.studioedge.focus_to_levelup_server.domain.character.enums.CharacterImageType;
 import com.studioedge.focus_to_levelup_server.domain.character.exception.CharacterDefaultNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterQueryService;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberInfoRepository;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlySubjectStatRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.dao.WeeklyStatRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.dao.WeeklySubjectStatRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.SubjectStatResponse;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.WeeklyStatListResponse;
 import com.studioedge.focus_to_levelup_server.domain.stat.dto.WeeklyStatResponse;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlySubjectStat;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklyStat;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklySubjectStat;
 import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
@@ -29,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -41,9 +42,10 @@ public class WeeklyStatService {
     private final DailyGoalRepository dailyGoalRepository;
     private final MemberInfoRepository memberInfoRepository;
     private final WeeklySubjectStatRepository weeklySubjectStatRepository;
+    private final MonthlySubjectStatRepository monthlySubjectStatRepository;
     private final DailySubjectRepository dailySubjectRepository;
     private final MemberCharacterRepository memberCharacterRepository;
-    private final CharacterImageRepository characterImageRepository;
+    private final CharacterQueryService characterQueryService;
 
     @Transactional(readOnly = true)
     public WeeklyStatListResponse getWeeklyStats(Long memberId, int year, int month) {
@@ -116,26 +118,36 @@ public class WeeklyStatService {
     }
 
     @Transactional(readOnly = true)
-    public List<SubjectStatResponse> getSubjectStatsByPeriod(Member member, LocalDate startDate, LocalDate endDate) {
+    public List<SubjectStatResponse> getSubjectStatsByPeriod(Long memberId, LocalDate startDate, LocalDate endDate) {
 
         LocalDate serviceDate = AppConstants.getServiceDate();
         LocalDate startOfThisWeek = serviceDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 
         Map<Subject, Integer> totalSecondsPerSubject = new HashMap<>();
 
-        // Case 1: 요청 기간이 완전히 "과거(지난주 이전)"인 경우 -> 집계 테이블 사용
-        if (endDate.isBefore(startOfThisWeek)) {
-            List<WeeklySubjectStat> pastStats = weeklySubjectStatRepository
-                    .findAllByMemberIdAndDateRangeWithSubject(member.getId(), startDate, endDate);
+        // Case 1: 요청 기간이 "한 달(1일~말일)"인 경우 -> 월간 집계 테이블 사용 (이번 달은 집중 저장 시점에 누적됨)
+        if (isWholeMonth(startDate, endDate)) {
+            List<MonthlySubjectStat> monthStats = monthlySubjectStatRepository
+                    .findAllByMemberIdAndYearAndMonthWithSubject(memberId, startDate.getYear(), startDate.getMonthValue());
 
-            for (WeeklySubjectStat stat : pastStats) {
-                totalSecondsPerSubject.merge(stat.getSubject(), stat.getTotalMinutes() * 60, Integer::sum);
+            for (MonthlySubjectStat stat : monthStats) {
+                totalSecondsPerSubject.merge(stat.getSubject(), stat.getFocusSeconds(), Integer::sum);
             }
         }
-        // Case 2: 요청 기간이 "이번 주"인 경우 -> 실시간 테이블 사용
+        // Case 2: 요청 기간이 "한 주(월~일)"이거나 완전히 "과거(지난주 이전)"인 경우 -> 주간 집계 테이블 사용
+        // (이번 주 행도 집중 저장 시점에 누적됨)
+        else if (isWholeWeek(startDate, endDate) || endDate.isBefore(startOfThisWeek)) {
+            List<WeeklySubjectStat> weekStats = weeklySubjectStatRepository
+                    .findAllByMemberIdAndDateRangeWithSubject(memberId, startDate, endDate);
+
+            for (WeeklySubjectStat stat : weekStats) {
+                totalSecondsPerSubject.merge(stat.getSubject(), stat.getFocusSeconds(), Integer::sum);
+            }
+        }
+        // Case 3: 이번 주에 걸친 임의 기간인 경우 -> 실시간 테이블 사용
         else {
             List<DailySubject> realtimeStats = dailySubjectRepository
-                    .findAllByMemberIdAndDateRangeWithSubject(member.getId(), startDate, endDate);
+                    .findAllByMemberIdAndDateRangeWithSubject(memberId, startDate, endDate);
 
             for (DailySubject stat : realtimeStats) {
                 int seconds = stat.getFocusSeconds();
@@ -148,6 +160,15 @@ public class WeeklyStatService {
 
     // ----------------------------- PRIVATE METHOD ---------------------------------
 
+    private boolean isWholeWeek(LocalDate startDate, LocalDate endDate) {
+        return startDate.getDayOfWeek() == DayOfWeek.MONDAY && endDate.isEqual(startDate.plusDays(6));
+    }
+
+    private boolean isWholeMonth(LocalDate startDate, LocalDate endDate) {
+        YearMonth yearMonth = YearMonth.from(startDate);
+        return startDate.isEqual(yearMonth.atDay(1)) && endDate.isEqual(yearMonth.atEndOfMonth());
+    }
+
     // [Helper] 이번 주 실시간 통계 생성
     private WeeklyStatResponse createCurrentWeekStat(Long memberId, LocalDate startData, LocalDate endDate, Map<LocalDate, Integer> dailySecondsMap) {
         // 일별 데이터 리스트 생성
@@ -159,12 +180,11 @@ public class WeeklyStatService {
                 .orElseThrow(InvalidMemberException::new);
         MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefaultTrue(memberId)
                 .orElseThrow(CharacterDefaultNotFoundException::new);
-        String imageUrl = characterImageRepository.findByCharacterIdAndEvolutionAndImageType(
+        String imageUrl = characterQueryService.findImageUrl(
                         memberCharacter.getCharacter().getId(),
                         memberCharacter.getDefaultEvolution(),
                         CharacterImageType.PICTURE
                 )
-                .map(CharacterImage::getImageUrl)
                 .orElse(null);
         return WeeklyStatResponse.of(
                 startData,
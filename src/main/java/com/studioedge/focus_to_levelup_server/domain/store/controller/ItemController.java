@@ -1,12 +1,12 @@
 package com.studioedge.focus_to_levelup_server.domain.store.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.store.dto.request.ItemPurchaseRequest;
 import com.studioedge.focus_to_levelup_server.domain.store.dto.response.ItemListResponse;
 import com.studioedge.focus_to_levelup_server.domain.store.dto.response.ItemResponse;
 import com.studioedge.focus_to_levelup_server.domain.store.enums.ItemType;
 import com.studioedge.focus_to_levelup_server.domain.store.service.ItemPurchaseService;
 import com.studioedge.focus_to_levelup_server.domain.store.service.ItemQueryService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,7 +51,7 @@ public class ItemController {
     @Operation(summary = "아이템 구매", description = "아이템을 구매합니다")
     @PostMapping("/purchase")
     public ResponseEntity<CommonResponse<Void>> purchaseItem(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody ItemPurchaseRequest request
     ) {
         itemPurchaseService.purchaseItem(member.getId(), request);
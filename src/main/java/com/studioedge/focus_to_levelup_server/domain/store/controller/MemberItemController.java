@@ -1,9 +1,9 @@
 package com.studioedge.focus_to_levelup_server.domain.store.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.store.dto.response.MemberItemListResponse;
 import com.studioedge.focus_to_levelup_server.domain.store.service.ItemRewardService;
 import com.studioedge.focus_to_levelup_server.domain.store.service.MemberItemQueryService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,7 +31,7 @@ public class MemberItemController {
     @Operation(summary = "내 아이템 목록 조회", description = "구매한 모든 아이템을 조회합니다")
     @GetMapping
     public ResponseEntity<CommonResponse<MemberItemListResponse>> getMyItems(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(memberItemQueryService.getAllMemberItems(member.getId()));
     }
@@ -39,7 +39,7 @@ public class MemberItemController {
     @Operation(summary = "미완료 아이템 조회", description = "아직 달성하지 못한 아이템을 조회합니다")
     @GetMapping("/incomplete")
     public ResponseEntity<CommonResponse<MemberItemListResponse>> getIncompleteItems(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(memberItemQueryService.getIncompleteMemberItems(member.getId()));
     }
@@ -47,7 +47,7 @@ public class MemberItemController {
     @Operation(summary = "보상 미수령 아이템 조회", description = "달성했지만 보상을 받지 않은 아이템을 조회합니다")
     @GetMapping("/pending-reward")
     public ResponseEntity<CommonResponse<MemberItemListResponse>> getPendingRewardItems(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         return HttpResponseUtil.ok(memberItemQueryService.getPendingRewardMemberItems(member.getId()));
     }
@@ -58,7 +58,7 @@ public class MemberItemController {
     )
     @PostMapping("/{memberItemId}/claim-reward")
     public ResponseEntity<CommonResponse<Map<String, String>>> claimItemReward(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Parameter(description = "보상을 받을 아이템 ID", required = true)
             @PathVariable Long memberItemId
     ) {
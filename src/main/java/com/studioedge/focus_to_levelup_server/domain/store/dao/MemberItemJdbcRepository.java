@@ -0,0 +1,47 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아이템 미션 달성 일괄 반영 (JDBC batch)
+ *
+ * - 배치에서 달성한 MemberItem 을 엔티티로 읽지 않고 UPDATE 한 번씩 묶어서 보냅니다.
+ * - is_completed = FALSE 조건으로, 그 사이 API 에서 먼저 달성 처리된 아이템은 덮어쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberItemJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String COMPLETE_MEMBER_ITEM = """
+            UPDATE member_items
+            SET is_completed = TRUE, completed_date = ?, progress_data = ?, updated_at = ?
+            WHERE member_item_id = ? AND is_completed = FALSE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Completion(Long memberItemId, LocalDate completedDate, String progressData) {
+    }
+
+    public void completeAll(List<Completion> completions) {
+        if (completions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(COMPLETE_MEMBER_ITEM, completions, BATCH_SIZE, (ps, completion) -> {
+            ps.setDate(1, Date.valueOf(completion.completedDate()));
+            ps.setString(2, completion.progressData());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, completion.memberItemId());
+        });
+    }
+}
@@ -1,14 +1,26 @@
 package com.studioedge.focus_to_levelup_server.domain.store.dao;
 
 import com.studioedge.focus_to_levelup_server.domain.store.entity.MemberItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public interface MemberItemRepository extends JpaRepository<MemberItem, Long> {
+    interface RestCheckTarget {
+        Long getMemberItemId();
+        Long getMemberId();
+        Integer getSelection();
+        LocalDate getDate();
+        LocalTime getEarliestStartTime();
+        LocalTime getLatestEndTime();
+        Long getFocusSeconds();
+    }
 
     /**
      * 유저의 모든 아이템 조회 (Item fetch join)
@@ -42,8 +54,24 @@ public interface MemberItemRepository extends JpaRepository<MemberItem, Long> {
     void deleteAllByMemberId(@Param("memberId") Long memberId);
 
     /**
-     * 특정 아이템 이름의 미완료 아이템 조회 (배치용)
+     * "휴식은 사치" 판정 대상 (CheckRestIsLuxuryStep, member_item_id keyset)
+     * 미완료 아이템 중 해당 날짜에 학습 종료(보상 수령)를 하지 않았고 시작/종료 시각이 있는 DailyGoal 만,
+     * 그날 과목별 집중 시간 합계와 함께 한 행으로 조회합니다.
      */
-    @Query("SELECT mi FROM MemberItem mi JOIN FETCH mi.item i JOIN FETCH mi.member WHERE i.name = :itemName AND mi.isCompleted = false")
-    List<MemberItem> findAllNotCompletedByItemName(@Param("itemName") String itemName);
+    @Query("SELECT mi.id as memberItemId, mi.member.id as memberId, mi.selection as selection, " +
+            "dg.dailyGoalDate as date, dg.earliestStartTime as earliestStartTime, dg.latestEndTime as latestEndTime, " +
+            "(SELECT COALESCE(SUM(ds.focusSeconds), 0) FROM DailySubject ds " +
+            " WHERE ds.member = mi.member AND ds.date = :date) as focusSeconds " +
+            "FROM MemberItem mi " +
+            "JOIN mi.item i " +
+            "JOIN DailyGoal dg ON dg.member = mi.member AND dg.dailyGoalDate = :date " +
+            "WHERE i.name = :itemName AND mi.isCompleted = false " +
+            "AND dg.isReceived = false " +
+            "AND dg.earliestStartTime IS NOT NULL AND dg.latestEndTime IS NOT NULL " +
+            "AND mi.id > :lastId " +
+            "ORDER BY mi.id ASC")
+    List<RestCheckTarget> findRestCheckTargets(@Param("itemName") String itemName,
+                                               @Param("date") LocalDate date,
+                                               @Param("lastId") Long lastId,
+                                               Pageable pageable);
 }
@@ -0,0 +1,66 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * MemberItem.progressData 의 타입
+ * - 아이템별 하위 클래스의 필드가 그대로 JSON 키가 됩니다.
+ * - achievedDate / achievedDay 는 달성 여부와 관계없이 키를 유지합니다. (미달성 시 null)
+ */
+@Getter
+public abstract class AchievementProgress {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final Map<DayOfWeek, String> DAY_OF_WEEK_KR = Map.of(
+            DayOfWeek.MONDAY, "월요일",
+            DayOfWeek.TUESDAY, "화요일",
+            DayOfWeek.WEDNESDAY, "수요일",
+            DayOfWeek.THURSDAY, "목요일",
+            DayOfWeek.FRIDAY, "금요일",
+            DayOfWeek.SATURDAY, "토요일",
+            DayOfWeek.SUNDAY, "일요일"
+    );
+    private static final Map<DayOfWeek, String> DAY_OF_WEEK_SHORT = Map.of(
+            DayOfWeek.MONDAY, "월",
+            DayOfWeek.TUESDAY, "화",
+            DayOfWeek.WEDNESDAY, "수",
+            DayOfWeek.THURSDAY, "목",
+            DayOfWeek.FRIDAY, "금",
+            DayOfWeek.SATURDAY, "토",
+            DayOfWeek.SUNDAY, "일"
+    );
+
+    private String achievedDate;
+    private String achievedDay;
+
+    public void markAchieved(LocalDate serviceDate) {
+        this.achievedDate = serviceDate.format(DATE_FORMATTER);
+        this.achievedDay = dayOfWeekKr(serviceDate.getDayOfWeek());
+    }
+
+    /**
+     * 2회 달성 아이템이 모두 달성된 경우, 달성 요일을 통일합니다. (예: "수요일, 목요일")
+     */
+    public void unifyAchievedDay(String achievedDay) {
+        this.achievedDay = achievedDay;
+    }
+
+    public static String dayOfWeekKr(DayOfWeek dayOfWeek) {
+        return DAY_OF_WEEK_KR.get(dayOfWeek);
+    }
+
+    public static String dayOfWeekShort(DayOfWeek dayOfWeek) {
+        return DAY_OF_WEEK_SHORT.get(dayOfWeek);
+    }
+
+    protected static String formatTime(LocalTime time) {
+        // 집중한 적 없으면 "--:--"
+        return time == null ? "--:--" : time.format(TIME_FORMATTER);
+    }
+}
@@ -0,0 +1,14 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 과거 나와 대결 진행도
+ */
+@Getter
+@RequiredArgsConstructor
+public class BeatLastWeekProgress extends AchievementProgress {
+    private final int lastWeekMinutes;
+    private final int thisWeekMinutes;
+}
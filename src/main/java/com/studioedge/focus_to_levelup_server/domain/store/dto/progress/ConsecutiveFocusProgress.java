@@ -0,0 +1,14 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 집중력 폭발 진행도
+ */
+@Getter
+@RequiredArgsConstructor
+public class ConsecutiveFocusProgress extends AchievementProgress {
+    private final int maxConsecutiveMinutes;
+    private final int requiredMinutes;
+}
@@ -0,0 +1,19 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 마지막 생존자 진행도
+ */
+@Getter
+public class LateNightEndProgress extends AchievementProgress {
+    private final int requiredHour;
+    private final String latestEndTime;
+
+    public LateNightEndProgress(int requiredHour, LocalTime latestEndTime) {
+        this.requiredHour = requiredHour;
+        this.latestEndTime = formatTime(latestEndTime);
+    }
+}
@@ -0,0 +1,15 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 휴식은 사치 진행도
+ */
+@Getter
+@RequiredArgsConstructor
+public class LimitedRestProgress extends AchievementProgress {
+    private final double todayRestHours;
+    private final int todayRestMinutes;
+    private final int requiredRestHours;
+}
@@ -0,0 +1,19 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 시작 시간 사수 진행도
+ */
+@Getter
+public class MorningStartProgress extends AchievementProgress {
+    private final int requiredHour;
+    private final String earliestStartTime;
+
+    public MorningStartProgress(int requiredHour, LocalTime earliestStartTime) {
+        this.requiredHour = requiredHour;
+        this.earliestStartTime = formatTime(earliestStartTime);
+    }
+}
@@ -0,0 +1,14 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저지 불가 진행도
+ */
+@Getter
+@RequiredArgsConstructor
+public class SevenDaysStreakProgress extends AchievementProgress {
+    private final int achievedDaysCount;
+    private final String displayText;
+}
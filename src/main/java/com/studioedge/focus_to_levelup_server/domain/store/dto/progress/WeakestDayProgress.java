@@ -0,0 +1,17 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 약점 극복 진행도 (예: displayText = "일 - 0H0M")
+ */
+@Getter
+@RequiredArgsConstructor
+public class WeakestDayProgress extends AchievementProgress {
+    private final String weakestDay;
+    private final int weakestDayMinutes;
+    private final String displayText;
+    private final int lastWeekAverageMinutes;
+    private final int thisWeekTargetDayMinutes;
+}
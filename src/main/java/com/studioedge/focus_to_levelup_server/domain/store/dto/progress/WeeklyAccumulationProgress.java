@@ -0,0 +1,14 @@
+package com.studioedge.focus_to_levelup_server.domain.store.dto.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 누적 집중의 대가 진행도
+ */
+@Getter
+@RequiredArgsConstructor
+public class WeeklyAccumulationProgress extends AchievementProgress {
+    private final int thisWeekMinutes;
+    private final int targetHours;
+}
@@ -13,7 +13,9 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "member_items")
+@Table(name = "member_items", indexes = {
+        @Index(name = "idx_member_item_member_status", columnList = "member_id, is_completed, is_reward_received")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberItem extends BaseEntity {
@@ -0,0 +1,14 @@
+package com.studioedge.focus_to_levelup_server.domain.store.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AchievementTrigger {
+    FOCUS_SAVED("집중 세션 저장"),
+    STUDY_ENDED("오늘의 학습 종료"),
+    ITEM_PURCHASED("아이템 구매");
+
+    private final String description;
+}
@@ -9,6 +9,7 @@ import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.InvalidMemberException;
 import com.studioedge.focus_to_levelup_server.domain.member.exception.MemberNotFoundException;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
 import com.studioedge.focus_to_levelup_server.domain.store.dao.ItemDetailRepository;
 import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemRepository;
 import com.studioedge.focus_to_levelup_server.domain.store.entity.ItemDetail;
@@ -32,6 +33,7 @@ public class ItemRewardService {
     private final MemberRepository memberRepository;
     private final MemberInfoRepository memberInfoRepository;
     private final MemberCharacterRepository memberCharacterRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
     /**
      * 아이템 달성 보상 수령
      *
@@ -74,6 +76,7 @@ public class ItemRewardService {
 
         // 레벨 직접 증가
         member.levelUp(rewardLevel);
+        leagueLeaderboardService.updateScore(member);
         memberInfo.totalLevelUp(rewardLevel);
 
         // 골드 지급 (rewardLevel 그대로)
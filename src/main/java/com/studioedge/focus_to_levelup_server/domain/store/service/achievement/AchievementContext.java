@@ -0,0 +1,78 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository.DailyFocusSeconds;
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.store.enums.AchievementTrigger;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 달성 체크 1회 동안 모든 규칙이 공유하는 입력값
+ * - 지난 주 월요일 ~ 이번 주 일요일의 날짜별 집중 시간을 처음 필요할 때 한 번만 조회합니다.
+ *   (기존에는 아이템마다 DailySubject 를 주 단위로 반복 조회했습니다)
+ */
+@Getter
+public class AchievementContext {
+    private final Long memberId;
+    private final LocalDate serviceDate;
+    private final AchievementTrigger trigger;
+    private final DailyGoal dailyGoal; // 오늘 기록이 없으면 null
+    private final LocalDate thisWeekStart;
+    private final LocalDate lastWeekStart;
+
+    private final DailySubjectRepository dailySubjectRepository;
+    private Map<LocalDate, Integer> focusSecondsByDate;
+
+    public AchievementContext(Long memberId, LocalDate serviceDate, AchievementTrigger trigger,
+                              DailyGoal dailyGoal, DailySubjectRepository dailySubjectRepository) {
+        this.memberId = memberId;
+        this.serviceDate = serviceDate;
+        this.trigger = trigger;
+        this.dailyGoal = dailyGoal;
+        this.thisWeekStart = serviceDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        this.lastWeekStart = thisWeekStart.minusWeeks(1);
+        this.dailySubjectRepository = dailySubjectRepository;
+    }
+
+    /**
+     * 특정 날짜의 총 집중 시간(초). 지난 주 ~ 이번 주 범위 밖이면 0.
+     */
+    public int focusSecondsOn(LocalDate date) {
+        return focusSecondsByDate().getOrDefault(date, 0);
+    }
+
+    public int thisWeekFocusSeconds() {
+        return sumFocusSeconds(thisWeekStart);
+    }
+
+    public int lastWeekFocusSeconds() {
+        return sumFocusSeconds(lastWeekStart);
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private int sumFocusSeconds(LocalDate weekStart) {
+        int total = 0;
+        for (int i = 0; i < 7; i++) {
+            total += focusSecondsOn(weekStart.plusDays(i));
+        }
+        return total;
+    }
+
+    private Map<LocalDate, Integer> focusSecondsByDate() {
+        if (focusSecondsByDate == null) {
+            focusSecondsByDate = new HashMap<>();
+            for (DailyFocusSeconds row : dailySubjectRepository.findDailyFocusSecondsByMemberId(
+                    memberId, lastWeekStart, thisWeekStart.plusDays(6))) {
+                focusSecondsByDate.put(row.getDate(), row.getTotalSeconds().intValue());
+            }
+        }
+        return focusSecondsByDate;
+    }
+}
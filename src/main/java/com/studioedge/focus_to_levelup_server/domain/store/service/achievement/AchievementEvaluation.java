@@ -0,0 +1,22 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.AchievementProgress;
+
+/**
+ * 달성 판정 결과
+ *
+ * @param progress 기록할 진행도 (null 이면 기존 progressData 유지)
+ * @param achieved 달성 여부
+ */
+public record AchievementEvaluation(
+        AchievementProgress progress,
+        boolean achieved
+) {
+    public static AchievementEvaluation of(AchievementProgress progress, boolean achieved) {
+        return new AchievementEvaluation(progress, achieved);
+    }
+
+    public static AchievementEvaluation notAchieved(AchievementProgress progress) {
+        return new AchievementEvaluation(progress, false);
+    }
+}
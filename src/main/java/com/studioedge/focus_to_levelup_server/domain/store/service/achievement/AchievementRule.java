@@ -0,0 +1,42 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.AchievementProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.enums.AchievementTrigger;
+
+/**
+ * 아이템 달성 규칙
+ * - 아이템(Item.name) 1개당 구현체 1개를 빈으로 등록하면 AchievementRuleRegistry 가 자동으로 수집합니다.
+ * - 규칙은 진행도 계산과 달성 판정만 담당하고, MemberItem 반영(완료 처리/직렬화)은 ItemAchievementService 가 담당합니다.
+ */
+public interface AchievementRule {
+
+    /**
+     * 담당하는 아이템 이름 (Item.name)
+     */
+    String itemName();
+
+    /**
+     * 해당 이벤트에서 이 규칙을 평가할지 여부 (기본: 집중 세션 저장 시에만)
+     */
+    default boolean supports(AchievementTrigger trigger) {
+        return trigger == AchievementTrigger.FOCUS_SAVED;
+    }
+
+    /**
+     * 달성 체크 대상이 아닌 아이템(이미 완료, 같은 아이템의 두 번째 구매 등)의 진행도
+     * null 을 반환하면 기존 progressData 를 유지합니다.
+     */
+    AchievementProgress progress(AchievementContext context, int selection);
+
+    /**
+     * 달성 체크 대상 아이템의 진행도 + 달성 여부
+     */
+    AchievementEvaluation evaluate(AchievementContext context, int selection);
+
+    /**
+     * 아이템 구매 시점의 초기 진행도
+     */
+    default AchievementProgress initialProgress(AchievementContext context, int selection) {
+        return evaluate(context, selection).progress();
+    }
+}
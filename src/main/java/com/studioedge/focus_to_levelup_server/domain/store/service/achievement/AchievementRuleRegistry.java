@@ -0,0 +1,50 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement;
+
+import com.studioedge.focus_to_levelup_server.domain.store.entity.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아이템 이름 -> 달성 규칙
+ * 아이템 id 로도 한 번 찾은 규칙을 캐싱해, 달성 체크마다 문자열 비교로 분기하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class AchievementRuleRegistry {
+    private final Map<String, AchievementRule> rulesByItemName = new HashMap<>();
+    private final Map<Long, AchievementRule> rulesByItemId = new ConcurrentHashMap<>();
+
+    public AchievementRuleRegistry(List<AchievementRule> rules) {
+        for (AchievementRule rule : rules) {
+            AchievementRule duplicated = rulesByItemName.put(rule.itemName(), rule);
+            if (duplicated != null) {
+                throw new IllegalStateException("달성 규칙이 중복 등록되었습니다: " + rule.itemName());
+            }
+        }
+        log.info(">> [Achievement] {} rules registered: {}", rulesByItemName.size(), rulesByItemName.keySet());
+    }
+
+    /**
+     * 규칙이 없는 아이템이면 null
+     */
+    public AchievementRule find(Item item) {
+        AchievementRule cached = rulesByItemId.get(item.getId());
+        if (cached != null) {
+            return cached;
+        }
+        AchievementRule rule = rulesByItemName.get(item.getName());
+        if (rule != null) {
+            rulesByItemId.put(item.getId(), rule);
+        }
+        return rule;
+    }
+
+    public AchievementRule find(String itemName) {
+        return rulesByItemName.get(itemName);
+    }
+}
@@ -0,0 +1,36 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.BeatLastWeekProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+/**
+ * 7. 과거 나와 대결: 이번 주 > 지난 주
+ */
+@Component
+public class BeatLastWeekRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "과거 나와 대결";
+    }
+
+    @Override
+    public BeatLastWeekProgress progress(AchievementContext context, int selection) {
+        return new BeatLastWeekProgress(context.lastWeekFocusSeconds() / 60, context.thisWeekFocusSeconds() / 60);
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        int lastWeekSeconds = context.lastWeekFocusSeconds();
+        int thisWeekSeconds = context.thisWeekFocusSeconds();
+
+        // 이번 주가 지난 주보다 많아야 함 (지난 주가 0이어도 이번 주가 0보다 크면 달성)
+        return AchievementEvaluation.of(
+                new BeatLastWeekProgress(lastWeekSeconds / 60, thisWeekSeconds / 60),
+                thisWeekSeconds > lastWeekSeconds
+        );
+    }
+}
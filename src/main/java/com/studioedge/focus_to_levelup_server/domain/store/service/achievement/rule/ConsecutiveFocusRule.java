@@ -0,0 +1,34 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.ConsecutiveFocusProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+/**
+ * 1. 집중력 폭발: 연속 집중 시간 >= parameter (60/90/120분)
+ * DailyGoal의 maxConsecutiveSeconds를 Single Source of Truth로 사용
+ */
+@Component
+public class ConsecutiveFocusRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "집중력 폭발";
+    }
+
+    @Override
+    public ConsecutiveFocusProgress progress(AchievementContext context, int selection) {
+        DailyGoal dailyGoal = context.getDailyGoal();
+        int maxConsecutiveMinutes = dailyGoal == null ? 0 : dailyGoal.getMaxConsecutiveSeconds() / 60;
+        return new ConsecutiveFocusProgress(maxConsecutiveMinutes, selection);
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        ConsecutiveFocusProgress progress = progress(context, selection);
+        return AchievementEvaluation.of(progress, progress.getMaxConsecutiveMinutes() >= selection);
+    }
+}
@@ -0,0 +1,47 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.LateNightEndProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+
+/**
+ * 3. 마지막 생존자: 종료 시각 >= parameter (22시/23시/자정)
+ * DailyGoal.latestEndTime을 Single Source of Truth로 사용
+ */
+@Component
+public class LateNightEndRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "마지막 생존자";
+    }
+
+    @Override
+    public LateNightEndProgress progress(AchievementContext context, int selection) {
+        return new LateNightEndProgress(selection, latestEndTime(context));
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        LocalTime latestEndTime = latestEndTime(context);
+        boolean isAchieved = false;
+        if (latestEndTime != null) {
+            int latestHour = latestEndTime.getHour();
+            // 비교를 위해 시간을 보정 (0~3시는 24를 더함)
+            int adjustedLatestHour = (latestHour < 4) ? latestHour + 24 : latestHour;
+            int adjustedRequiredHour = (selection == 0) ? 24 : selection;
+
+            // 이제 단순히 크기 비교 가능 (예: 종료 01시(25) >= 목표 23시(23) -> True)
+            isAchieved = adjustedLatestHour >= adjustedRequiredHour;
+        }
+        return AchievementEvaluation.of(new LateNightEndProgress(selection, latestEndTime), isAchieved);
+    }
+
+    private LocalTime latestEndTime(AchievementContext context) {
+        return context.getDailyGoal() == null ? null : context.getDailyGoal().getLatestEndTime();
+    }
+}
@@ -0,0 +1,83 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.LimitedRestProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.enums.AchievementTrigger;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.toServiceMinutes;
+
+/**
+ * 4. 휴식은 사치: 하루 쉬는 시간 < parameter (4/5/6시간)
+ * 쉬는 시간 = (오늘 마지막 종료 시각 - 오늘 첫 시작 시각) - 총 집중 시간
+ *
+ * 주의: 이 미션은 하루가 끝나기 전까지 휴식 시간이 계속 증가할 수 있으므로,
+ * 집중 세션 종료 시에는 성공 판정을 하지 않고 progressData만 업데이트합니다.
+ * 실제 성공 판정은 "오늘의 학습 종료" 시점 또는 새벽 4시 Daily Batch에서 수행됩니다.
+ * @see com.studioedge.focus_to_levelup_server.global.batch.step.daily.CheckRestIsLuxuryStep
+ */
+@Component
+public class LimitedRestRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "휴식은 사치";
+    }
+
+    @Override
+    public boolean supports(AchievementTrigger trigger) {
+        return trigger == AchievementTrigger.FOCUS_SAVED || trigger == AchievementTrigger.STUDY_ENDED;
+    }
+
+    @Override
+    public LimitedRestProgress progress(AchievementContext context, int selection) {
+        Long restSeconds = restSeconds(context);
+        if (restSeconds == null) {
+            return null;
+        }
+        return toProgress(restSeconds, selection);
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        Long restSeconds = restSeconds(context);
+        if (restSeconds == null) {
+            return AchievementEvaluation.notAchieved(null);
+        }
+        // 성공 판정은 학습 종료 시점에만 수행
+        boolean isAchieved = context.getTrigger() == AchievementTrigger.STUDY_ENDED
+                && restSeconds / 3600.0 < selection;
+        return AchievementEvaluation.of(toProgress(restSeconds, selection), isAchieved);
+    }
+
+    @Override
+    public LimitedRestProgress initialProgress(AchievementContext context, int selection) {
+        Long restSeconds = restSeconds(context);
+        return toProgress(restSeconds == null ? 0 : restSeconds, selection);
+    }
+
+    /**
+     * 오늘 시작/종료 기록이 없으면 null
+     */
+    private Long restSeconds(AchievementContext context) {
+        DailyGoal dailyGoal = context.getDailyGoal();
+        if (dailyGoal == null || dailyGoal.getEarliestStartTime() == null || dailyGoal.getLatestEndTime() == null) {
+            return null;
+        }
+        // 활동 시간대 계산 (서비스 시간 기준, 자정 넘김 자동 처리)
+        int startMinutes = toServiceMinutes(dailyGoal.getEarliestStartTime());
+        int endMinutes = toServiceMinutes(dailyGoal.getLatestEndTime());
+        long activitySeconds = (endMinutes - startMinutes) * 60L;
+
+        // 쉬는 시간 = 활동 시간대 - 총 집중 시간 (음수면 0으로 처리)
+        return Math.max(0, activitySeconds - context.focusSecondsOn(context.getServiceDate()));
+    }
+
+    private LimitedRestProgress toProgress(long restSeconds, int selection) {
+        double restHours = restSeconds / 3600.0;
+        return new LimitedRestProgress(Math.round(restHours * 10) / 10.0, (int) (restSeconds / 60), selection);
+    }
+}
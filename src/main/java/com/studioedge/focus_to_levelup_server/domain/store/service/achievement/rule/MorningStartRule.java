@@ -0,0 +1,41 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.MorningStartProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+
+/**
+ * 2. 시작 시간 사수: 시작 시각 < parameter (6시/7시/8시)
+ * 단, 새벽 4시 이후 시작만 인정
+ * DailyGoal.earliestStartTime을 Single Source of Truth로 사용
+ */
+@Component
+public class MorningStartRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "시작 시간 사수";
+    }
+
+    @Override
+    public MorningStartProgress progress(AchievementContext context, int selection) {
+        return new MorningStartProgress(selection, earliestStartTime(context));
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        LocalTime earliestStartTime = earliestStartTime(context);
+        boolean isAchieved = earliestStartTime != null
+                && earliestStartTime.getHour() >= 4
+                && earliestStartTime.getHour() < selection;
+        return AchievementEvaluation.of(new MorningStartProgress(selection, earliestStartTime), isAchieved);
+    }
+
+    private LocalTime earliestStartTime(AchievementContext context) {
+        return context.getDailyGoal() == null ? null : context.getDailyGoal().getEarliestStartTime();
+    }
+}
@@ -0,0 +1,73 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.AchievementProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.SevenDaysStreakProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 6. 저지 불가: 7일 모두 30분 이상
+ * - 30분 이상 집중한 요일 없으면 "--" 반환
+ * - 달성 체크 시에는 가장 늦은 요일 하나만 표시 (예: "목요일")
+ * - 진행도만 갱신할 때는 1개면 "월요일", 2개 이상이면 "월, 화, 수" 처럼 표시
+ */
+@Component
+public class SevenDaysStreakRule implements AchievementRule {
+    private static final int REQUIRED_SECONDS_PER_DAY = 1800;
+
+    @Override
+    public String itemName() {
+        return "저지 불가";
+    }
+
+    @Override
+    public SevenDaysStreakProgress progress(AchievementContext context, int selection) {
+        List<DayOfWeek> achievedDays = achievedDays(context);
+
+        String displayText;
+        if (achievedDays.isEmpty()) {
+            displayText = "--";
+        } else if (achievedDays.size() == 1) {
+            displayText = AchievementProgress.dayOfWeekKr(achievedDays.get(0));
+        } else {
+            displayText = achievedDays.stream()
+                    .map(AchievementProgress::dayOfWeekShort)
+                    .collect(Collectors.joining(", "));
+        }
+        return new SevenDaysStreakProgress(achievedDays.size(), displayText);
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        List<DayOfWeek> achievedDays = achievedDays(context);
+
+        // 가장 늦은 요일 (일요일에 가까운)
+        String displayText = achievedDays.isEmpty()
+                ? "--"
+                : AchievementProgress.dayOfWeekKr(achievedDays.get(achievedDays.size() - 1));
+        SevenDaysStreakProgress progress = new SevenDaysStreakProgress(achievedDays.size(), displayText);
+        return AchievementEvaluation.of(progress, achievedDays.size() == 7);
+    }
+
+    /**
+     * 이번 주 30분 이상 집중한 요일 (월 -> 일 순)
+     */
+    private List<DayOfWeek> achievedDays(AchievementContext context) {
+        List<DayOfWeek> achievedDays = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = context.getThisWeekStart().plusDays(i);
+            if (context.focusSecondsOn(date) >= REQUIRED_SECONDS_PER_DAY) {
+                achievedDays.add(date.getDayOfWeek());
+            }
+        }
+        return achievedDays;
+    }
+}
@@ -0,0 +1,76 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.AchievementProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.WeakestDayProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 5. 약점 극복: 지난 주 가장 약한 요일에서 지난 주 평균 이상 집중하면 달성
+ * - 지난 주 가장 집중 시간이 적은 요일 찾기 (동점이면 가장 늦은 요일)
+ * - 이번 주 해당 요일 집중 시간 >= 지난 주 평균이면 달성
+ */
+@Component
+public class WeakestDayRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "약점 극복";
+    }
+
+    @Override
+    public WeakestDayProgress progress(AchievementContext context, int selection) {
+        return (WeakestDayProgress) evaluate(context, selection).progress();
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        // 지난 주 7일 중 가장 약한 요일 (기록 없는 날은 0, 동점이면 가장 늦은 요일)
+        LocalDate lastWeekStart = context.getLastWeekStart();
+        DayOfWeek weakestDay = DayOfWeek.SUNDAY;
+        int lastWeekMinSeconds = Integer.MAX_VALUE;
+        int lastWeekTotalSeconds = 0;
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = lastWeekStart.plusDays(i);
+            int seconds = context.focusSecondsOn(date);
+            lastWeekTotalSeconds += seconds;
+            if (seconds <= lastWeekMinSeconds) {
+                lastWeekMinSeconds = seconds;
+                weakestDay = date.getDayOfWeek();
+            }
+        }
+        double lastWeekAverageSeconds = lastWeekTotalSeconds / 7.0;
+
+        // 이번 주 해당 요일 집중 시간
+        LocalDate thisWeekTargetDay = context.getThisWeekStart().plusDays(weakestDay.getValue() - 1);
+        int thisWeekTargetDaySeconds = context.focusSecondsOn(thisWeekTargetDay);
+
+        // "일 - 0H0M" 형식으로 표시
+        int weakestMinutes = lastWeekMinSeconds / 60;
+        String weakestDayShort = AchievementProgress.dayOfWeekShort(weakestDay);
+        String displayText = weakestDayShort + " - " + (weakestMinutes / 60) + "H" + (weakestMinutes % 60) + "M";
+
+        WeakestDayProgress progress = new WeakestDayProgress(
+                weakestDayShort,
+                weakestMinutes,
+                displayText,
+                (int) (lastWeekAverageSeconds / 60),
+                thisWeekTargetDaySeconds / 60
+        );
+
+        boolean isAchieved;
+        if (lastWeekAverageSeconds == 0) {
+            // 지난 주 기록이 없으면, 이번 주에 조금이라도(0초 초과) 하면 달성
+            isAchieved = thisWeekTargetDaySeconds > 0;
+        } else {
+            // 이번 주 >= 지난 주 평균
+            isAchieved = thisWeekTargetDaySeconds >= lastWeekAverageSeconds;
+        }
+        return AchievementEvaluation.of(progress, isAchieved);
+    }
+}
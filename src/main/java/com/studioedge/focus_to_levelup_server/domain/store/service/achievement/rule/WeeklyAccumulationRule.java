@@ -0,0 +1,33 @@
+package com.studioedge.focus_to_levelup_server.domain.store.service.achievement.rule;
+
+import com.studioedge.focus_to_levelup_server.domain.store.dto.progress.WeeklyAccumulationProgress;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementContext;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementEvaluation;
+import com.studioedge.focus_to_levelup_server.domain.store.service.achievement.AchievementRule;
+import org.springframework.stereotype.Component;
+
+/**
+ * 8. 누적 집중의 대가: 주간 누적 >= parameter (25/30/35/40/45/50/55/60시간)
+ */
+@Component
+public class WeeklyAccumulationRule implements AchievementRule {
+
+    @Override
+    public String itemName() {
+        return "누적 집중의 대가";
+    }
+
+    @Override
+    public WeeklyAccumulationProgress progress(AchievementContext context, int selection) {
+        return new WeeklyAccumulationProgress(context.thisWeekFocusSeconds() / 60, selection);
+    }
+
+    @Override
+    public AchievementEvaluation evaluate(AchievementContext context, int selection) {
+        int totalSeconds = context.thisWeekFocusSeconds();
+        return AchievementEvaluation.of(
+                new WeeklyAccumulationProgress(totalSeconds / 60, selection),
+                totalSeconds / 3600.0 >= selection
+        );
+    }
+}
@@ -1,9 +1,9 @@
 package com.studioedge.focus_to_levelup_server.domain.system.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.request.GiftBonusTicketRequest;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.GiftResponse;
 import com.studioedge.focus_to_levelup_server.domain.system.service.GiftService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,7 +28,7 @@ public class GiftController {
     )
     @PostMapping("/bonus-ticket")
     public ResponseEntity<CommonResponse<GiftResponse>> giftBonusTicket(
-            @AuthenticationPrincipal Member sender,
+            @AuthenticationPrincipal MemberPrincipal sender,
             @Valid @RequestBody GiftBonusTicketRequest request
     ) {
         GiftResponse response = giftService.giftBonusTicket(
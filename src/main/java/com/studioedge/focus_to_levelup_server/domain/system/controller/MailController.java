@@ -1,11 +1,11 @@
 package com.studioedge.focus_to_levelup_server.domain.system.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.request.MailAcceptRequest;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.MailAcceptResponse;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.MailListResponse;
 import com.studioedge.focus_to_levelup_server.domain.system.service.MailCommandService;
 import com.studioedge.focus_to_levelup_server.domain.system.service.MailQueryService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,7 +30,7 @@ public class MailController {
     @Operation(summary = "우편함 조회", description = "유저의 우편함을 조회합니다 (만료되지 않은 우편만)")
     @GetMapping
     public ResponseEntity<CommonResponse<MailListResponse>> getAllMails(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         MailListResponse response = mailQueryService.getAllMails(member.getId());
         return HttpResponseUtil.ok(response);
@@ -49,7 +49,7 @@ public class MailController {
             """)
     @PutMapping("/{mailId}/accept")
     public ResponseEntity<CommonResponse<MailAcceptResponse>> acceptMail(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @PathVariable Long mailId,
             @RequestBody(required = false) MailAcceptRequest request
     ) {
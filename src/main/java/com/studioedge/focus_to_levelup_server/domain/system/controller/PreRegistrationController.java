@@ -1,9 +1,9 @@
 package com.studioedge.focus_to_levelup_server.domain.system.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.PreRegistrationCheckResponse;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.PreRegistrationRewardResponse;
 import com.studioedge.focus_to_levelup_server.domain.system.service.PreRegistrationService;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,7 +54,7 @@ public class PreRegistrationController {
             )
     })
     public ResponseEntity<CommonResponse<PreRegistrationCheckResponse>> checkPreRegistration(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @RequestParam String phoneNumber
     ) {
         PreRegistrationCheckResponse response = preRegistrationService.checkAndSavePhoneNumber(member.getId(), phoneNumber);
@@ -96,7 +96,7 @@ public class PreRegistrationController {
             )
     })
     public ResponseEntity<CommonResponse<PreRegistrationRewardResponse>> claimPreRegistrationReward(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         PreRegistrationRewardResponse response = preRegistrationService.claimPreRegistrationReward(member.getId());
         return HttpResponseUtil.ok(response);
@@ -1,11 +1,11 @@
 package com.studioedge.focus_to_levelup_server.domain.system.controller;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.request.ReceiveWeeklyRewardRequest;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.WeeklyRewardInfoResponse;
 import com.studioedge.focus_to_levelup_server.domain.system.dto.response.WeeklyRewardInfoResponseV2;
 import com.studioedge.focus_to_levelup_server.domain.system.service.WeeklyRewardService;
 import com.studioedge.focus_to_levelup_server.domain.system.service.WeeklyRewardServiceV2;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipal;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,9 +39,9 @@ public class WeeklyRewardController {
     })
     @GetMapping("/v1/weekly-reward")
     public ResponseEntity<CommonResponse<WeeklyRewardInfoResponse>> getWeeklyReward(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(weeklyRewardService.getWeeklyRewardInfo(member));
+        return HttpResponseUtil.ok(weeklyRewardService.getWeeklyRewardInfo(member.getId()));
     }
 
     @Operation(summary = "주간 보상 조회 ver2", description = """
@@ -59,9 +59,9 @@ public class WeeklyRewardController {
     })
     @GetMapping("/v2/weekly-reward")
     public ResponseEntity<CommonResponse<WeeklyRewardInfoResponseV2>> getWeeklyRewardV2(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
-        return HttpResponseUtil.ok(weeklyRewardServiceV2.getWeeklyRewardInfo(member));
+        return HttpResponseUtil.ok(weeklyRewardServiceV2.getWeeklyRewardInfo(member.getId()));
     }
 
     @Operation(summary = "주간 보상 수령", description = """
@@ -75,7 +75,7 @@ public class WeeklyRewardController {
     })
     @PostMapping("/v1/weekly-reward")
     public ResponseEntity<CommonResponse<Void>> redeemWeeklyRewardV1(
-            @AuthenticationPrincipal Member member,
+            @AuthenticationPrincipal MemberPrincipal member,
             @Valid @RequestBody ReceiveWeeklyRewardRequest request
     ) {
         weeklyRewardService.receiveWeeklyReward(member.getId(), request);
@@ -93,7 +93,7 @@ public class WeeklyRewardController {
     })
     @PostMapping("/v2/weekly-reward")
     public ResponseEntity<CommonResponse<Void>> redeemWeeklyRewardV2(
-            @AuthenticationPrincipal Member member
+            @AuthenticationPrincipal MemberPrincipal member
     ) {
         weeklyRewardServiceV2.receiveWeeklyReward(member.getId());
         return HttpResponseUtil.ok(null);
@@ -0,0 +1,22 @@
+package com.studioedge.focus_to_levelup_server.domain.system.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.system.entity.MailCampaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MailCampaignRepository extends JpaRepository<MailCampaign, Long> {
+
+    /**
+     * 만료되지 않은 캠페인 (예약 발송 포함)
+     */
+    List<MailCampaign> findAllByExpiredAtGreaterThanEqual(LocalDate today);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM MailCampaign c WHERE c.expiredAt < :now")
+    void deleteByExpirationDateBefore(@Param("now") LocalDate now);
+}
@@ -0,0 +1,119 @@
+package com.studioedge.focus_to_levelup_server.domain.system.dao;
+
+import com.studioedge.focus_to_levelup_server.domain.system.entity.Mail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 우편 일괄 저장 (JDBC batch)
+ *
+ * - Mail 은 IDENTITY 전략이라 saveAll 로 저장해도 INSERT 가 한 건씩 나갑니다.
+ *   보상 배치처럼 한 번에 수천 건을 만드는 곳은 이 repository 로 저장합니다. (rewriteBatchedStatements 로 multi-row INSERT)
+ * - 저장한 Mail 은 영속성 컨텍스트에 올라가지 않고 id 도 채워지지 않으므로, 저장 후 다시 수정하지 않는 경우에만 사용합니다.
+ * - 전체 발송 우편(MailCampaign)의 유저별 우편도 여기서 만듭니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_MAIL = """
+            INSERT INTO mails
+                (member_id, sender_name, type, title, description, popup_title, popup_content, reward, is_received,
+                 expired_at, payment_log_id, diamond_amount, gold_amount, character_id, character_image_url,
+                 profile_border_tier, profile_border_image_url, bonus_ticket_count, asset_name, allowed_rarity,
+                 created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 캠페인 내용을 그대로 복사해 유저별 우편을 만듭니다. (이미 있으면 uk_mail_member_campaign 으로 무시)
+    private static final String INSERT_CAMPAIGN_MAILS = """
+            INSERT INTO mails
+                (member_id, mail_campaign_id, sender_name, type, title, description, popup_title, popup_content, reward,
+                 is_received, expired_at, diamond_amount, gold_amount, character_id, character_image_url,
+                 profile_border_tier, profile_border_image_url, bonus_ticket_count, asset_name, allowed_rarity,
+                 created_at, updated_at)
+            SELECT ?, c.mail_campaign_id, c.sender_name, c.type, c.title, c.description, c.popup_title, c.popup_content,
+                   c.reward, FALSE, c.expired_at, c.diamond_amount, c.gold_amount, c.character_id, c.character_image_url,
+                   c.profile_border_tier, c.profile_border_image_url, c.bonus_ticket_count, c.asset_name, c.allowed_rarity,
+                   c.send_at, ?
+            FROM mail_campaigns c
+            WHERE c.mail_campaign_id IN (%s)
+            ON DUPLICATE KEY UPDATE mail_id = mail_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Collection<Mail> mails) {
+        if (mails.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_MAIL, List.copyOf(mails), BATCH_SIZE, (ps, mail) -> {
+            ps.setObject(1, mail.getReceiver() == null ? null : mail.getReceiver().getId());
+            ps.setString(2, mail.getSenderName());
+            ps.setString(3, mail.getType().name());
+            ps.setString(4, mail.getTitle());
+            ps.setString(5, mail.getDescription());
+            ps.setString(6, mail.getPopupTitle());
+            ps.setString(7, mail.getPopupContent());
+            ps.setInt(8, mail.getReward());
+            ps.setBoolean(9, mail.getIsReceived());
+            ps.setDate(10, Date.valueOf(mail.getExpiredAt()));
+            ps.setObject(11, mail.getPaymentLogId());
+            ps.setObject(12, mail.getDiamondAmount());
+            ps.setObject(13, mail.getGoldAmount());
+            ps.setObject(14, mail.getCharacterId());
+            ps.setString(15, mail.getCharacterImageUrl());
+            ps.setString(16, mail.getProfileBorderTier() == null ? null : mail.getProfileBorderTier().name());
+            ps.setString(17, mail.getProfileBorderImageUrl());
+            ps.setObject(18, mail.getBonusTicketCount());
+            ps.setString(19, mail.getAssetName());
+            ps.setString(20, mail.getAllowedRarity());
+            ps.setTimestamp(21, now);
+            ps.setTimestamp(22, now);
+        });
+    }
+
+    /**
+     * 캠페인 중 아직 유저별 우편이 없고, 발송 대상인 캠페인 id
+     */
+    public List<Long> findUndeliveredCampaignIds(Long memberId, List<Long> campaignIds) {
+        List<Object> args = new ArrayList<>(campaignIds.size() + 1);
+        args.add(memberId);
+        args.addAll(campaignIds);
+        return jdbcTemplate.queryForList("""
+                        SELECT c.mail_campaign_id
+                        FROM mail_campaigns c
+                        JOIN members mb ON mb.member_id = ?
+                        WHERE c.mail_campaign_id IN (%s)
+                          AND (c.include_new_members = TRUE OR mb.created_at < c.send_at)
+                          AND NOT EXISTS (SELECT 1 FROM mails m
+                                          WHERE m.member_id = mb.member_id AND m.mail_campaign_id = c.mail_campaign_id)
+                        """.formatted(placeholders(campaignIds.size())),
+                Long.class, args.toArray());
+    }
+
+    public int insertCampaignMails(Long memberId, List<Long> campaignIds) {
+        List<Object> args = new ArrayList<>(campaignIds.size() + 2);
+        args.add(memberId);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(campaignIds);
+        return jdbcTemplate.update(INSERT_CAMPAIGN_MAILS.formatted(placeholders(campaignIds.size())), args.toArray());
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
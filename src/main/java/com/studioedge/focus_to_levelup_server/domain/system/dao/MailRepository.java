@@ -32,6 +32,13 @@ public interface MailRepository extends JpaRepository<Mail, Long> {
     List<Mail> findAllMailsByMemberId(@Param("memberId") Long memberId,
                                        @Param("today") LocalDate today);
 
+    /**
+     * 미수령 우편만 수령 처리합니다. (동시에 수락해도 한 요청만 1을 반환)
+     */
+    @Modifying
+    @Query("UPDATE Mail m SET m.isReceived = true WHERE m.id = :mailId AND m.isReceived = false")
+    int markAsReceivedIfNotReceived(@Param("mailId") Long mailId);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Mail m WHERE m.expiredAt < :now")
     void deleteByExpirationDateBefore(@Param("now") LocalDate now);
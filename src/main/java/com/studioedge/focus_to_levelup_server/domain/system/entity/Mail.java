@@ -15,7 +15,17 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "mails")
+@Table(
+        name = "mails",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_mail_member_campaign", columnNames = {"member_id", "mail_campaign_id"})
+        },
+        indexes = {
+                @Index(name = "idx_mail_receiver_active", columnList = "member_id, is_received, expired_at, created_at"),
+                @Index(name = "idx_mail_receiver_type_created_at", columnList = "member_id, type, created_at"),
+                @Index(name = "idx_mail_expired_at", columnList = "expired_at"),
+                @Index(name = "idx_mail_payment_log_id", columnList = "payment_log_id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Mail extends BaseEntity {
@@ -61,6 +71,9 @@ public class Mail extends BaseEntity {
     @Column(name = "payment_log_id")
     private Long paymentLogId; // 구매 관련 우편의 경우 결제 로그 ID 저장
 
+    @Column(name = "mail_campaign_id")
+    private Long campaignId; // 전체 발송 우편(MailCampaign)에서 만들어진 경우 캠페인 ID
+
     // === 보상 상세 정보 (nullable) ===
 
     /** 다이아 개수 (DIAMOND 관련 보상) */
@@ -0,0 +1,121 @@
+package com.studioedge.focus_to_levelup_server.domain.system.entity;
+
+import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
+import com.studioedge.focus_to_levelup_server.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 전체 발송 우편 (캠페인)
+ *
+ * 발송 시점에는 캠페인 1건만 저장하고, 유저별 우편(Mail, mailCampaignId 로 연결)은
+ * 유저가 우편함을 열 때 만들어집니다. (MailCampaignService)
+ * 유저별 우편이 만들어진 이후의 수령/만료 처리는 일반 우편과 같습니다.
+ */
+@Entity
+@Table(
+        name = "mail_campaigns",
+        indexes = @Index(name = "idx_mail_campaign_expired_at", columnList = "expired_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailCampaign extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_campaign_id")
+    private Long id;
+
+    @Column(nullable = false)
+    @ColumnDefault("'운영자'")
+    private String senderName = "운영자";
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailType type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 999, nullable = false)
+    private String description;
+
+    private String popupTitle;
+
+    @Column(length = 999)
+    private String popupContent;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int reward = 0;
+
+    // === 보상 상세 정보 (Mail 과 동일, nullable) ===
+
+    private Integer diamondAmount;
+
+    private Integer goldAmount;
+
+    private Long characterId;
+
+    private String characterImageUrl;
+
+    @Enumerated(EnumType.STRING)
+    private Tier profileBorderTier;
+
+    private String profileBorderImageUrl;
+
+    private Integer bonusTicketCount;
+
+    private String assetName;
+
+    private String allowedRarity;
+
+    // === 발송 대상 ===
+
+    /** 발송 시각 (이 시각부터 우편함에 보입니다) */
+    @Column(nullable = false)
+    private LocalDateTime sendAt;
+
+    @Column(nullable = false)
+    private LocalDate expiredAt;
+
+    /** false 면 발송 시각 이전에 가입한 유저에게만 보입니다. */
+    @Column(nullable = false)
+    @ColumnDefault("true")
+    private Boolean includeNewMembers = true;
+
+    @Builder
+    public MailCampaign(String senderName, MailType type, String title, String description,
+                        String popupTitle, String popupContent, Integer reward,
+                        Integer diamondAmount, Integer goldAmount, Long characterId, String characterImageUrl,
+                        Tier profileBorderTier, String profileBorderImageUrl, Integer bonusTicketCount,
+                        String assetName, String allowedRarity,
+                        LocalDateTime sendAt, LocalDate expiredAt, Boolean includeNewMembers) {
+        this.senderName = senderName != null ? senderName : "운영자";
+        this.type = type;
+        this.title = title;
+        this.description = description;
+        this.popupTitle = popupTitle;
+        this.popupContent = popupContent;
+        this.reward = reward != null ? reward : 0;
+        this.diamondAmount = diamondAmount;
+        this.goldAmount = goldAmount;
+        this.characterId = characterId;
+        this.characterImageUrl = characterImageUrl;
+        this.profileBorderTier = profileBorderTier;
+        this.profileBorderImageUrl = profileBorderImageUrl;
+        this.bonusTicketCount = bonusTicketCount;
+        this.assetName = assetName;
+        this.allowedRarity = allowedRarity;
+        this.sendAt = sendAt;
+        this.expiredAt = expiredAt;
+        this.includeNewMembers = includeNewMembers != null ? includeNewMembers : true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.studioedge.focus_to_levelup_server.domain.system.service;
 
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.CouponLogRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.CouponRepository;
@@ -24,6 +25,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class CouponCommandService {
 
+    private final MemberRepository memberRepository;
     private final CouponRepository couponRepository;
     private final CouponLogRepository couponLogRepository;
     private final MailRepository mailRepository;
@@ -32,7 +34,8 @@ public class CouponCommandService {
      * 쿠폰 사용 및 우편 발송
      */
     @Transactional
-    public CouponRedeemResponse redeemCoupon(Member member, String couponCode) {
+    public CouponRedeemResponse redeemCoupon(Long memberId, String couponCode) {
+        Member member = memberRepository.getReferenceById(memberId);
         // 1. 쿠폰 조회
         Coupon coupon = couponRepository.findByCouponCode(couponCode)
                 .orElseThrow(CouponNotFoundException::new);
@@ -43,7 +46,7 @@ public class CouponCommandService {
         }
 
         // 3. 중복 사용 확인
-        if (couponLogRepository.existsByMemberIdAndCouponId(member.getId(), coupon.getId())) {
+        if (couponLogRepository.existsByMemberIdAndCouponId(memberId, coupon.getId())) {
             throw new CouponAlreadyUsedException();
         }
 
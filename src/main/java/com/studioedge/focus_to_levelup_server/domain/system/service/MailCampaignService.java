@@ -0,0 +1,99 @@
+package com.studioedge.focus_to_levelup_server.domain.system.service;
+
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailCampaignRepository;
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.system.entity.MailCampaign;
+import com.studioedge.focus_to_levelup_server.global.cache.CatalogCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 발송 우편 (캠페인)
+ *
+ * - 발송: 캠페인 1건만 저장합니다. 대상 유저 수와 관계없이 INSERT 1건입니다.
+ * - 전달: 유저가 우편함을 열 때 발송 중인 캠페인 중 아직 받지 않은 것만 유저별 우편(Mail)으로 만듭니다.
+ *   (member_id, mail_campaign_id) 유니크 키로 동시에 여러 번 열어도 한 번만 만들어집니다.
+ * - 발송 중인 캠페인 목록은 CatalogCache 에 보관하므로, 캠페인이 없을 때 우편함 조회에 추가 쿼리가 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailCampaignService {
+    private static final String ACTIVE_CAMPAIGNS_KEY = "mailCampaigns:active";
+
+    private final MailCampaignRepository mailCampaignRepository;
+    private final MailJdbcRepository mailJdbcRepository;
+    private final CatalogCache catalogCache;
+
+    /**
+     * 캠페인 등록 (커밋 이후 모든 서버의 캠페인 목록 캐시만 비웁니다. 다른 카탈로그 캐시는 유지)
+     */
+    @Transactional
+    public MailCampaign create(MailCampaign campaign) {
+        MailCampaign savedCampaign = mailCampaignRepository.save(campaign);
+        afterCommit(() -> catalogCache.evict(ACTIVE_CAMPAIGNS_KEY));
+        log.info(">> [MailCampaign] 캠페인 등록. id={}, sendAt={}, expiredAt={}",
+                savedCampaign.getId(), savedCampaign.getSendAt(), savedCampaign.getExpiredAt());
+        return savedCampaign;
+    }
+
+    /**
+     * 발송 중인 캠페인 중 아직 받지 않은 우편을 유저 우편함에 만듭니다. (호출한 쪽의 쓰기 트랜잭션에서 실행)
+     */
+    public void deliverPending(Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> openCampaignIds = getActiveCampaigns().stream()
+                .filter(campaign -> campaign.isOpen(now))
+                .map(ActiveCampaign::id)
+                .toList();
+        if (openCampaignIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> undeliveredIds = mailJdbcRepository.findUndeliveredCampaignIds(memberId, openCampaignIds);
+        if (!undeliveredIds.isEmpty()) {
+            mailJdbcRepository.insertCampaignMails(memberId, undeliveredIds);
+        }
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private List<ActiveCampaign> getActiveCampaigns() {
+        return catalogCache.get(ACTIVE_CAMPAIGNS_KEY, () -> mailCampaignRepository
+                .findAllByExpiredAtGreaterThanEqual(LocalDate.now())
+                .stream()
+                .map(campaign -> new ActiveCampaign(campaign.getId(), campaign.getSendAt(), campaign.getExpiredAt()))
+                .toList());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private record ActiveCampaign(Long id, LocalDateTime sendAt, LocalDate expiredAt) {
+
+        // 예약 발송 전이거나, 캐시에 담긴 이후 날짜가 바뀌어 만료된 캠페인은 제외
+        boolean isOpen(LocalDateTime now) {
+            return !sendAt.isAfter(now) && !expiredAt.isBefore(now.toLocalDate());
+        }
+    }
+}
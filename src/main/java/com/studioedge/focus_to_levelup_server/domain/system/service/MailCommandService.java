@@ -68,6 +68,11 @@ public class MailCommandService {
             throw new MailExpiredException();
         }
 
+        // 수령 선점 (같은 우편을 동시에 수락해도 보상은 한 번만 지급)
+        if (mailRepository.markAsReceivedIfNotReceived(mailId) == 0) {
+            throw new MailAlreadyReceivedException();
+        }
+
         // 2. MailType에 따른 보상 지급
         return switch (mail.getType()) {
             case GIFT_BONUS_TICKET -> handlePurchaseMail(mail, memberId);
@@ -16,11 +16,15 @@ import java.util.List;
 public class MailQueryService {
 
     private final MailRepository mailRepository;
+    private final MailCampaignService mailCampaignService;
 
     /**
      * 유저의 우편함 조회 (만료되지 않은 우편)
+     * 아직 받지 않은 전체 발송 우편(캠페인)이 있으면 유저별 우편을 먼저 만들기 때문에 쓰기 트랜잭션으로 실행합니다.
      */
+    @Transactional
     public MailListResponse getAllMails(Long memberId) {
+        mailCampaignService.deliverPending(memberId);
         LocalDate today = LocalDate.now();
         List<Mail> mails = mailRepository.findAllMailsByMemberId(memberId, today);
         return MailListResponse.from(mails);
@@ -30,16 +30,18 @@ public class WeeklyRewardService {
     private final SubscriptionRepository subscriptionRepository;
 
     @Transactional(readOnly = true)
-    public WeeklyRewardInfoResponse getWeeklyRewardInfo(Member member) {
+    public WeeklyRewardInfoResponse getWeeklyRewardInfo(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
         // WeeklyReward 조회 (없으면 예외)
-        WeeklyReward weeklyReward = weeklyRewardRepository.findFirstByMemberIdOrderByCreatedAtDesc(member.getId())
+        WeeklyReward weeklyReward = weeklyRewardRepository.findFirstByMemberIdOrderByCreatedAtDesc(memberId)
                 .orElseThrow(WeeklyRewardNotFoundException::new);
 
         // 이미 수령 여부 확인 (예외 대신 플래그로 전달)
         boolean alreadyReceived = weeklyReward.getIsReceived();
 
         // 현재 구독 상태 조회
-        SubscriptionType subscriptionType = subscriptionRepository.findByMemberIdAndIsActiveTrue(member.getId())
+        SubscriptionType subscriptionType = subscriptionRepository.findByMemberIdAndIsActiveTrue(memberId)
                 .map(Subscription::getType)
                 .orElse(SubscriptionType.NONE);
 
@@ -29,9 +29,11 @@ public class WeeklyRewardServiceV2 {
     private final SubscriptionRepository subscriptionRepository;
 
     @Transactional(readOnly = true)
-    public WeeklyRewardInfoResponseV2 getWeeklyRewardInfo(Member member) {
+    public WeeklyRewardInfoResponseV2 getWeeklyRewardInfo(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
         // WeeklyReward 조회
-        WeeklyReward weeklyReward = weeklyRewardRepository.findFirstByMemberIdOrderByCreatedAtDesc(member.getId())
+        WeeklyReward weeklyReward = weeklyRewardRepository.findFirstByMemberIdOrderByCreatedAtDesc(memberId)
                 .orElseThrow(WeeklyRewardNotFoundException::new); // or return null handling based on requirement
 
         boolean alreadyReceived = weeklyReward.getIsReceived();
@@ -4,6 +4,7 @@ import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.webhook.dto.KakaoUnlinkRequest;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import java.util.Optional;
 public class KakaoWebhookService {
 
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     /**
      * 카카오 연결 해제 웹훅 처리
@@ -40,6 +42,7 @@ public class KakaoWebhookService {
             // 회원 탈퇴 처리 (soft delete)
             member.withdraw();
             memberRepository.save(member);
+            memberPrincipalCache.evict(member.getId());
 
             log.info("Successfully withdrew member {} via Kakao webhook", member.getId());
         } else {
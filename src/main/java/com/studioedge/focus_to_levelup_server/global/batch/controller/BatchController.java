@@ -41,6 +41,9 @@ public class BatchController {
     @Qualifier("seasonEndJob")
     private final Job seasonEndJob;
 
+    @Qualifier("focusRollupBackfillJob")
+    private final Job focusRollupBackfillJob;
+
     @PostMapping("/daily")
     @Operation(summary = "일일 배치 수동 실행 (Daily Job)", description = """
             ### 실행 주기
@@ -55,6 +58,8 @@ public class BatchController {
             3. **`restoreRankingWarning`**: 랭킹 제외 경고 기간(4주)이 지난 유저의 경고 상태를 해제합니다.
             4. **`checkFocusingIsOn`**: 새벽 4시까지 `isFocusing=true`인 유저(부정 집중)를 찾아 강제 종료하고 랭킹 경고를 부여합니다.
             5. **`restoreExcludeRanking`**: 랭킹 제외 기간이 끝난 유저를 다시 랭킹 시스템에 복귀시킵니다.
+            
+            `deleteExpiredMail`, `checkRestIsLuxury`, `restoreRankingWarning → checkFocusingIsOn → restoreExcludeRanking` 세 흐름이 동시에 실행됩니다.
             """
     )
     public ResponseEntity<CommonResponse<String>> runDailyJob() {
@@ -70,12 +75,14 @@ public class BatchController {
             - 지난주 통계 집계, 주간 보상 지급, 랭킹 승강제 처리
             
             ### 동작 순서 (Step)
-            1. **`updateWeeklyStat`**: 지난주(월~일) `DailyGoal` 데이터를 합산하여 `WeeklyStat`을 생성합니다.
+            1. **`updateWeeklyStat`**: 집중 저장 시점에 누적된 지난주(월~일) `WeeklyStat`에 레벨/캐릭터 이미지를 스냅샷으로 채우고, 과목별 누적값을 `DailyGoal` 합계와 비교해 어긋난 유저만 다시 집계합니다.
             2. **`grantWeeklyReward`**: 개인의 주간 학습 달성도에 따라 보상(다이아, 골드)을 우편으로 지급합니다.
             3. **`grantGuildWeeklyReward`**: 길드원 활동량에 따른 길드 보상을 산정하여 지급합니다.
             4. **`processLeaguePlacement`**: 주간 랭킹 결과에 따라 유저 티어(Tier)를 승급/잔류/강등 처리합니다.
-            5. **`placeNewMemberInRanking`**: 신규/복귀 유저를 브론즈 리그 랭킹에 배치합니다.
+            5. **`placeNewMemberInRanking`**: 가입 시점 배치가 누락된 신규/복귀 유저를 브론즈 리그 랭킹에 배치하고, 가입 시점 리그 배정 인덱스를 초기화합니다.
             6. **`resetMemberLevelAndItem`**: 주간 단위로 초기화되는 유저 레벨이나 아이템 상태를 리셋합니다.
+            
+            `updateWeeklyStat`, `grantGuildWeeklyReward`, `grantWeeklyReward → processLeaguePlacement → placeNewMemberInRanking` 세 흐름이 동시에 실행되고, 모두 끝나면 6번을 실행합니다.
             """
     )
     public ResponseEntity<CommonResponse<String>> runWeeklyJob() {
@@ -91,8 +98,10 @@ public class BatchController {
             - 지난달의 통계 데이터를 확정(집계)하여 저장
             
             ### 동작 순서 (Step)
-            1. **`updateMonthlyStat`**: 지난달의 `DailyGoal`(혹은 WeeklyStat) 데이터를 합산하여 `MonthlyStat`을 생성합니다.
-            2. **`updateMonthlySubjectStats`**: 지난달의 `DailySubject` 데이터를 과목별로 합산하여 `MonthlySubjectStat`을 생성합니다.
+            1. **`updateMonthlyStat`**: 지난달의 `MonthlyFocusRollup` 합계로 `MonthlyStat`을 생성합니다.
+            2. **`updateMonthlySubjectStats`**: 집중 저장 시점에 누적된 지난달 `MonthlySubjectStat`을 롤업 합계와 비교해 어긋난 유저만 `DailySubject`로 다시 집계합니다.
+            
+            두 Step 은 동시에 실행됩니다.
             """
     )
     public ResponseEntity<CommonResponse<String>> runMonthlyJob() {
@@ -112,12 +121,31 @@ public class BatchController {
             2. **`grantGuildWeeklyReward`**: 시즌 마지막 주차의 길드 보상을 지급합니다.
             3. **`grantSeasonReward`**: 시즌 전체 랭킹 결과에 따라 최종 시즌 보상(테두리, 칭호 등)을 지급합니다.
             4. **`startNewSeason`**: 새로운 `Season` 엔티티를 생성하고, 유저 랭킹 점수를 초기화(소프트 리셋)하여 새 시즌을 시작합니다.
+            
+            `updateWeeklyStat`, `grantGuildWeeklyReward`, `grantWeeklyReward → grantSeasonReward → startNewSeason` 세 흐름이 동시에 실행되고, 모두 끝나면 주간 데이터를 초기화합니다.
             """
     )
     public ResponseEntity<CommonResponse<String>> runSeasonEndJob() {
         return runJob(seasonEndJob, "Season End Job");
     }
 
+    @PostMapping("/focus-rollup-backfill")
+    @Operation(summary = "월간 집중 시간 롤업 백필 (Focus Rollup Backfill Job)", description = """
+            ### 실행 주기
+            - 수동 실행 (롤업 도입 시, 또는 DailyGoal 데이터를 직접 보정한 경우)
+            
+            ### 기능
+            - 누적 통계(히트맵)가 읽는 `MonthlyFocusRollup`을 `DailyGoal` 기준으로 다시 채웁니다.
+            
+            ### 동작 순서 (Step)
+            1. **`backfillFocusRollup`**: 모든 유저의 `DailyGoal`을 월 단위로 묶어 롤업을 생성/갱신하고, 누적 통계 캐시를 비웁니다.
+            2. **`backfillPeriodStat`**: 이번 주/이번 달의 `WeeklyStat`, `WeeklySubjectStat`, `MonthlySubjectStat` 누적값을 `DailyGoal`/`DailySubject` 합계로 덮어씁니다.
+            """
+    )
+    public ResponseEntity<CommonResponse<String>> runFocusRollupBackfillJob() {
+        return runJob(focusRollupBackfillJob, "Focus Rollup Backfill Job");
+    }
+
     /**
      * Job 실행 공통 메서드
      */
@@ -1,11 +1,14 @@
 package com.studioedge.focus_to_levelup_server.global.batch.job;
 
+import com.studioedge.focus_to_levelup_server.global.batch.support.BatchFlows;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,23 +23,38 @@ public class DailyJobBatch {
      * 4. 4시 이후 집중중인 유저 확인 -> 4시간 이상 켜져있었다면 랭킹 경고
      * 5. 랭킹 제외유저 복귀
      * 6. "휴식은 사치" 미션 성공 판정 (전날 기준)
+     * 7. 반영이 끝난 집중 후처리 이벤트 삭제 (보관 기간 경과분)
+     *
+     * 실행 순서 (병렬):
+     * - [2]
+     * - [6]
+     * - [7]
+     * - [3] -> [4] -> [5]  (랭킹 경고/제외 상태를 차례로 갱신하므로 순서 유지)
      * */
     private final JobRepository jobRepository;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public Job dailyJob(Step clearPlanner,
                         Step deleteExpiredMail,
                         Step restoreRankingWarning,
                         Step checkFocusingIsOn,
                         Step restoreExcludeRanking,
-                        Step checkRestIsLuxury) {
+                        Step checkRestIsLuxury,
+                        Step purgeProcessedFocusEvent) {
+        Flow rankingWarningFlow = BatchFlows.sequence("dailyRankingWarningFlow",
+                restoreRankingWarning, checkFocusingIsOn, restoreExcludeRanking);
+
         return new JobBuilder("dailyJob", jobRepository)
-                .start(deleteExpiredMail)
-//                .next(clearPlanner)
-                .next(restoreRankingWarning)
-                .next(checkFocusingIsOn)
-                .next(restoreExcludeRanking)
-                .next(checkRestIsLuxury)
+                .start(BatchFlows.parallel("dailyFlow", virtualThreads,
+                        BatchFlows.sequence("deleteExpiredMailFlow", deleteExpiredMail),
+//                        BatchFlows.sequence("clearPlannerFlow", clearPlanner),
+                        BatchFlows.sequence("checkRestIsLuxuryFlow", checkRestIsLuxury),
+                        BatchFlows.sequence("purgeProcessedFocusEventFlow", purgeProcessedFocusEvent),
+                        rankingWarningFlow))
+                .end()
                 .build();
     }
 }
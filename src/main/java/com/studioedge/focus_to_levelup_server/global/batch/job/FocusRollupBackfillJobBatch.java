@@ -0,0 +1,29 @@
+package com.studioedge.focus_to_levelup_server.global.batch.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FocusRollupBackfillJobBatch {
+    /**
+     * 1. `backfillFocusRollup` (롤업 도입 시 / 데이터 보정 시 수동 실행)
+     * 2. `backfillPeriodStat` (진행 중인 주/월의 주간/월간 통계 누적값 백필)
+     * */
+    private final JobRepository jobRepository;
+
+    @Bean
+    public Job focusRollupBackfillJob(Step backfillFocusRollup, Step backfillPeriodStat) {
+        return new JobBuilder("focusRollupBackfillJob", jobRepository)
+                .start(backfillFocusRollup)
+                .next(backfillPeriodStat)
+                .build();
+    }
+}
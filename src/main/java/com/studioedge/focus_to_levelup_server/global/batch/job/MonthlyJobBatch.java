@@ -1,11 +1,13 @@
 package com.studioedge.focus_to_levelup_server.global.batch.job;
 
+import com.studioedge.focus_to_levelup_server.global.batch.support.BatchFlows;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,15 +18,22 @@ public class MonthlyJobBatch {
     /**
      * 1. `updateMonthlyStatsStep`
      * 2. `updateMonthlySubjectStatsStep`
+     *
+     * 두 Step 모두 MonthlyFocusRollup 을 읽기만 하고 서로 다른 테이블에 쓰므로 동시에 실행합니다.
      * */
     private final JobRepository jobRepository;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public Job monthlyJob(Step updateMonthlyStat,
                           Step updateMonthlySubjectStat) {
         return new JobBuilder("monthlyJob", jobRepository)
-                .start(updateMonthlyStat)
-                .next(updateMonthlySubjectStat)
+                .start(BatchFlows.parallel("monthlyFlow", virtualThreads,
+                        BatchFlows.sequence("updateMonthlyStatFlow", updateMonthlyStat),
+                        BatchFlows.sequence("updateMonthlySubjectStatFlow", updateMonthlySubjectStat)))
+                .end()
                 .build();
     }
 
@@ -1,11 +1,13 @@
 package com.studioedge.focus_to_levelup_server.global.batch.job;
 
+import com.studioedge.focus_to_levelup_server.global.batch.support.BatchFlows;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,10 +21,18 @@ public class SeasonEndJobBatch {
      * 3. 길드 주간 보상 지급
      * 4. 시즌 보상 지급
      * 5. 새 시즌 생성 및 전원 브론즈 배치
+     * 6. 주간 데이터 초기화
+     *
+     * 실행 순서:
+     * - 병렬: [1] / [3] / [2] -> [4] -> [5]  (보상은 기존 랭킹/리그를 읽으므로 새 시즌 배치보다 먼저)
+     * - 모두 끝나면 [6]  (레벨, 길드 주간 집중 시간을 초기화하므로 마지막)
      * */
 
     private final JobRepository jobRepository;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public Job seasonEndJob(Step updateWeeklyStat,
                             Step grantWeeklyReward,
@@ -31,12 +41,12 @@ public class SeasonEndJobBatch {
                             Step startNewSeason,
                             Step resetWeeklyAllData) {
         return new JobBuilder("seasonEndJob", jobRepository)
-                .start(updateWeeklyStat)
-                .next(grantWeeklyReward)
-                .next(grantGuildWeeklyReward)
-                .next(grantSeasonReward)
-                .next(startNewSeason)
+                .start(BatchFlows.parallel("seasonEndFlow", virtualThreads,
+                        BatchFlows.sequence("seasonEndWeeklyStatFlow", updateWeeklyStat),
+                        BatchFlows.sequence("seasonEndGuildRewardFlow", grantGuildWeeklyReward),
+                        BatchFlows.sequence("seasonEndRankingFlow", grantWeeklyReward, grantSeasonReward, startNewSeason)))
                 .next(resetWeeklyAllData)
+                .end()
                 .build();
     }
 }
@@ -1,11 +1,13 @@
 package com.studioedge.focus_to_levelup_server.global.batch.job;
 
+import com.studioedge.focus_to_levelup_server.global.batch.support.BatchFlows;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,10 +22,17 @@ public class WeeklyJobBatch {
      * 4. 승강제 결정
      * 5. 신규 유저 랭크 진입
      * 6. 주간 데이터 초기화 (멤버 레벨 1 고정, 멤버 아이템 삭제, 길드 멤버 주간 집중 시간 및 부스트 초기화)
+     *
+     * 실행 순서:
+     * - 병렬: [1] / [3] / [2] -> [4] -> [5]  (주간 보상은 재편성 전 랭킹을 읽고, 신규 유저 보정은 재편성 이후)
+     * - 모두 끝나면 [6]  (1~5 가 읽는 레벨, 길드 주간 집중 시간을 초기화하므로 마지막)
      * */
 
     private final JobRepository jobRepository;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public Job weeklyJob(Step updateWeeklyStat,
                          Step grantWeeklyReward,
@@ -32,12 +41,12 @@ public class WeeklyJobBatch {
                          Step placeNewMemberInRanking,
                          Step resetWeeklyAllData) {
         return new JobBuilder("weeklyJob", jobRepository)
-                .start(updateWeeklyStat)
-                .next(grantWeeklyReward)
-                .next(grantGuildWeeklyReward)
-                .next(processLeaguePlacement)
-                .next(placeNewMemberInRanking)
+                .start(BatchFlows.parallel("weeklyFlow", virtualThreads,
+                        BatchFlows.sequence("weeklyStatFlow", updateWeeklyStat),
+                        BatchFlows.sequence("guildWeeklyRewardFlow", grantGuildWeeklyReward),
+                        BatchFlows.sequence("weeklyRankingFlow", grantWeeklyReward, processLeaguePlacement, placeNewMemberInRanking)))
                 .next(resetWeeklyAllData)
+                .end()
                 .build();
     }
 }
@@ -1,20 +1,28 @@
 package com.studioedge.focus_to_levelup_server.global.batch.schedule;
 
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.SeasonRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Configuration
@@ -37,59 +45,89 @@ public class GlobalBatchScheduler {
     @Qualifier("seasonEndJob")
     private final Job seasonEndJob;
 
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     /**
      * 통합 스케줄러
      * 실행 주기: 매일 새벽 04:00:00
-     * 순서: Daily -> Monthly(1일) -> SeasonEnd(시즌종료주) or Weekly(월요일)
+     * 순서: [Daily -> SeasonEnd(시즌종료주) or Weekly(월요일)] 와 Monthly(1일) 를 동시에 실행
+     * - Daily 는 랭킹 제외 유저를 리그에 복귀시키므로 리그 재편성(Weekly/SeasonEnd)보다 먼저 끝나야 합니다.
+     * - Monthly 는 월간 통계 테이블만 다루므로 다른 Job 과 독립적입니다.
+     * blue/green 두 서버 중 한 곳에서만 실행되도록, 모든 Job 이 끝날 때까지 ShedLock 을 잡고 있습니다.
+     * (lockAtLeastFor: 서버 간 시계 차이로 다른 서버가 곧바로 다시 실행하지 않도록)
      */
     @Scheduled(cron = "0 0 4 * * ?", zone = "Asia/Seoul")
-//    @SchedulerLock(name = "runBatchJobs", lockAtMostFor = "PT30M")
+    @SchedulerLock(name = "runBatchJobs", lockAtMostFor = "PT3H", lockAtLeastFor = "PT10M")
     public void runBatchJobs() {
         LocalDate today = LocalDate.now();
         LocalDateTime runTime = LocalDateTime.now();
+        long startedAt = System.nanoTime();
         log.info(">>> Batch Scheduler Started at: {}", runTime);
 
-        try {
-            // 공통 Job Parameter (실행 시간)
-            JobParameters params = new JobParametersBuilder()
-                    .addString("runTime", runTime.toString())
-                    .toJobParameters();
-
-            // -------------------------------------------------------
-            // 1. Daily Job (매일 무조건 실행)
-            // -------------------------------------------------------
-            log.info(">>> 1. Running Daily Job");
-            jobLauncher.run(dailyJob, params);
-
-
-            // -------------------------------------------------------
-            // 2. Monthly Job (매월 1일인 경우 실행)
-            // -------------------------------------------------------
-            if (today.getDayOfMonth() == 1) {
-                log.info(">>> 2. Running Monthly Job (First Day of Month)");
-                jobLauncher.run(monthlyJob, params);
+        // 공통 Job Parameter (실행 시간)
+        JobParameters params = new JobParametersBuilder()
+                .addString("runTime", runTime.toString())
+                .toJobParameters();
+
+        // -------------------------------------------------------
+        // 1. Monthly Job (매월 1일인 경우, 다른 Job 과 동시에 실행)
+        // -------------------------------------------------------
+        CompletableFuture<Void> monthly = CompletableFuture.completedFuture(null);
+        if (today.getDayOfMonth() == 1) {
+            log.info(">>> 1. Running Monthly Job (First Day of Month)");
+            monthly = CompletableFuture.runAsync(() -> runJob(monthlyJob, params), jobExecutor());
+        }
+
+        // -------------------------------------------------------
+        // 2. Daily Job (매일 무조건 실행)
+        // -------------------------------------------------------
+        log.info(">>> 2. Running Daily Job");
+        runJob(dailyJob, params);
+
+        // -------------------------------------------------------
+        // 3. Weekly OR SeasonEnd Job (월요일인 경우 실행)
+        // -------------------------------------------------------
+        if (today.getDayOfWeek() == DayOfWeek.MONDAY) {
+            if (isActiveSeason(today)) {
+                // 3-1. 일반 주차 -> WeeklyJob 실행
+                log.info(">>> 3-1. Running Weekly Job");
+                runJob(weeklyJob, params);
+            } else {
+                // 3-2. 시즌 종료 주차 -> SeasonEndJob 실행
+                log.info(">>> 3-2. Running Season End Job (Season Finished)");
+                runJob(seasonEndJob, params);
             }
+        }
 
+        monthly.join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        meterRegistry.timer("batch.run.duration").record(elapsed);
+        log.info(">>> Batch Scheduler Finished. elapsed={}s", elapsed.toSeconds());
+    }
 
-            // -------------------------------------------------------
-            // 3. Weekly OR SeasonEnd Job (월요일인 경우 실행)
-            // -------------------------------------------------------
-            if (today.getDayOfWeek() == DayOfWeek.MONDAY) {
-                if (isActiveSeason(today)) {
-                    // 3-1. 일반 주차 -> WeeklyJob 실행
-                    log.info(">>> 3-1. Running Weekly Job");
-                    jobLauncher.run(weeklyJob, params);
-                } else {
-                    // 3-2. 시즌 종료 주차 -> SeasonEndJob 실행
-                    log.info(">>> 3-2. Running Season End Job (Season Finished)");
-                    jobLauncher.run(seasonEndJob, params);
-                }
-            }
+    //---- PRIVATE METHOD ----
+
+    /**
+     * Job 하나를 실행합니다. 실패해도 다음 Job 은 계속 실행합니다. (Step 별 실행 시간은 batch.step.duration)
+     */
+    private void runJob(Job job, JobParameters params) {
+        long startedAt = System.nanoTime();
+        try {
+            JobExecution execution = jobLauncher.run(job, params);
+            log.info(">>> {} finished. status={}, elapsed={}s", job.getName(), execution.getStatus(),
+                    Duration.ofNanos(System.nanoTime() - startedAt).toSeconds());
         } catch (Exception e) {
-            log.error(">>> Batch Scheduler Failed", e);
+            log.error(">>> {} Failed", job.getName(), e);
         }
+    }
 
-        log.info(">>> Batch Scheduler Finished.");
+    private Executor jobExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-job-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
     }
 
     /**
@@ -1,20 +1,25 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.daily;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
+import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemJdbcRepository.Completion;
 import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemRepository;
-import com.studioedge.focus_to_levelup_server.domain.store.entity.MemberItem;
+import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemRepository.RestCheckTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.getServiceDate;
@@ -22,10 +27,8 @@ import static com.studioedge.focus_to_levelup_server.global.common.AppConstants.
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * "휴식은 사치" 미션 성공 판정 배치 Step
@@ -35,6 +38,15 @@ import java.util.stream.Collectors;
  *
  * 대상: "오늘의 학습 종료"(보상 수령)를 하지 않은 유저만
  * - 보상 수령한 유저는 receiveDailyGoal()에서 이미 판정됨
+ *
+ * 동작 흐름:
+ * 1. Reader: 미완료 아이템 + 전날 DailyGoal 시작/종료 시각 + 전날 집중 시간 합계를 프로젝션 한 행으로,
+ *    member_item_id keyset 으로 CHUNK_SIZE 건씩 읽습니다. (대상 인원과 상관없이 메모리에는 한 페이지만 올라감)
+ * 2. Processor: 휴식 시간(초)을 계산해 달성한 아이템만 넘깁니다.
+ * 3. Writer: 달성한 아이템을 JDBC batch UPDATE 로 반영합니다.
+ *
+ * - 같은 아이템은 유저당 하나만 구매할 수 있으므로(ItemPurchaseService), 한 유저의 같은 아이템이 하루에 두 번 달성되지 않습니다.
+ * - 판정 날짜와 lastId 를 ExecutionContext 에 저장하므로, 다음 날 재시작해도 같은 날짜를 마지막 커밋 이후부터 이어서 판정합니다.
  */
 @Slf4j
 @Configuration
@@ -42,6 +54,7 @@ import java.util.stream.Collectors;
 public class CheckRestIsLuxuryStep {
 
     private static final String ITEM_NAME = "휴식은 사치";
+    private static final int CHUNK_SIZE = 500;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final Map<DayOfWeek, String> DAY_OF_WEEK_KR = Map.of(
             DayOfWeek.MONDAY, "월요일",
@@ -57,134 +70,129 @@ public class CheckRestIsLuxuryStep {
     private final PlatformTransactionManager platformTransactionManager;
 
     private final MemberItemRepository memberItemRepository;
-    private final DailyGoalRepository dailyGoalRepository;
-    private final DailySubjectRepository dailySubjectRepository;
+    private final MemberItemJdbcRepository memberItemJdbcRepository;
     private final ObjectMapper objectMapper;
 
     @Bean
     public Step checkRestIsLuxury() {
         return new StepBuilder("checkRestIsLuxury", jobRepository)
-                .tasklet(((contribution, chunkContext) -> {
-                    log.info(">> Step: checkRestIsLuxury started.");
-
-                    // 전날 서비스 날짜 (새벽 4시 기준)
-                    LocalDate yesterday = getServiceDate().minusDays(1);
-                    log.info(">> Checking REST_IS_LUXURY for date: {}", yesterday);
-
-                    // "휴식은 사치" 미완료 아이템을 가진 모든 MemberItem 조회
-                    List<MemberItem> targetItems = memberItemRepository.findAllNotCompletedByItemName(ITEM_NAME);
-                    log.info(">> Found {} incomplete '{}' items", targetItems.size(), ITEM_NAME);
-
-                    int achievedCount = 0;
-                    int skippedCount = 0;
-
-                    // memberId별로 그룹화하여 처리 (같은 유저의 아이템들)
-                    Map<Long, List<MemberItem>> itemsByMember = targetItems.stream()
-                            .collect(Collectors.groupingBy(mi -> mi.getMember().getId()));
-
-                    for (Map.Entry<Long, List<MemberItem>> entry : itemsByMember.entrySet()) {
-                        Long memberId = entry.getKey();
-                        List<MemberItem> memberItems = entry.getValue();
-
-                        try {
-                            // 전날의 DailyGoal 조회
-                            Optional<DailyGoal> dailyGoalOpt = dailyGoalRepository.findByMemberIdAndDailyGoalDate(memberId, yesterday);
-                            if (dailyGoalOpt.isEmpty()) {
-                                log.debug(">> No DailyGoal for memberId={} on {}", memberId, yesterday);
-                                skippedCount += memberItems.size();
-                                continue;
-                            }
-
-                            DailyGoal dailyGoal = dailyGoalOpt.get();
-
-                            // 이미 보상 수령(학습 종료)한 유저는 스킵 (receiveDailyGoal에서 이미 판정됨)
-                            if (dailyGoal.getIsReceived()) {
-                                log.debug(">> DailyGoal already received for memberId={} on {}", memberId, yesterday);
-                                skippedCount += memberItems.size();
-                                continue;
-                            }
-
-                            LocalTime earliestStartTime = dailyGoal.getEarliestStartTime();
-                            LocalTime latestEndTime = dailyGoal.getLatestEndTime();
-
-                            // 시작/종료 시각 정보가 없으면 스킵
-                            if (earliestStartTime == null || latestEndTime == null) {
-                                log.debug(">> No start/end time for memberId={} on {}", memberId, yesterday);
-                                skippedCount += memberItems.size();
-                                continue;
-                            }
-
-                            // 전날 총 집중 시간 조회
-                            List<DailySubject> yesterdaySubjects = dailySubjectRepository.findAllByMemberIdAndDateRangeWithSubject(
-                                    memberId, yesterday, yesterday
-                            );
-
-                            int totalFocusSeconds = yesterdaySubjects.stream()
-                                    .mapToInt(DailySubject::getFocusSeconds)
-                                    .sum();
-
-                            // 활동 시간대 계산 (서비스 시간 기준, 자정 넘김 자동 처리)
-                            int startMinutes = toServiceMinutes(earliestStartTime);
-                            int endMinutes = toServiceMinutes(latestEndTime);
-                            long activitySeconds = (endMinutes - startMinutes) * 60L;
-
-                            // 쉬는 시간 = 활동 시간대 - 총 집중 시간 (음수면 0으로 처리)
-                            long restSeconds = Math.max(0, activitySeconds - totalFocusSeconds);
-                            double restHours = restSeconds / 3600.0;
-
-                            // 오늘 이미 달성된 아이템 ID 추적 (같은 아이템은 하루에 1개만 달성)
-                            Set<Long> achievedItemIdsToday = new HashSet<>();
-
-                            // 각 MemberItem에 대해 성공 판정
-                            for (MemberItem memberItem : memberItems) {
-                                Long itemId = memberItem.getItem().getId();
-
-                                // 이미 오늘 같은 itemId가 달성되었으면 스킵
-                                if (achievedItemIdsToday.contains(itemId)) {
-                                    continue;
-                                }
-
-                                int requiredRestHours = memberItem.getSelection();
-                                boolean isAchieved = restHours < requiredRestHours;
-
-                                if (isAchieved) {
-                                    memberItem.complete(yesterday);
-                                    achievedItemIdsToday.add(itemId);
-                                    achievedCount++;
-
-                                    // progressData 업데이트
-                                    updateProgressData(memberItem, restHours, requiredRestHours, yesterday);
-
-                                    log.info(">> REST_IS_LUXURY achieved: memberId={}, selection={}h, restHours={:.1f}h",
-                                            memberId, requiredRestHours, restHours);
-                                }
-                            }
-
-                        } catch (Exception e) {
-                            log.error(">> Error processing memberId={}", memberId, e);
-                        }
-                    }
-
-                    log.info(">> Step: checkRestIsLuxury finished. achieved={}, skipped={}", achievedCount, skippedCount);
-                    return RepeatStatus.FINISHED;
-                }), platformTransactionManager)
+                .<RestCheckTarget, Completion>chunk(CHUNK_SIZE, platformTransactionManager)
+                .reader(checkRestIsLuxuryReader())
+                .processor(checkRestIsLuxuryProcessor())
+                .writer(checkRestIsLuxuryWriter())
                 .build();
     }
 
-    private void updateProgressData(MemberItem memberItem, double restHours, int requiredRestHours, LocalDate date) {
+    @Bean
+    @StepScope
+    public RestCheckTargetReader checkRestIsLuxuryReader() {
+        // 전날 서비스 날짜 (새벽 4시 기준)
+        LocalDate yesterday = getServiceDate().minusDays(1);
+        RestCheckTargetReader reader = new RestCheckTargetReader(memberItemRepository, yesterday, CHUNK_SIZE);
+        reader.setName("checkRestIsLuxuryReader");
+        return reader;
+    }
+
+    @Bean
+    public ItemProcessor<RestCheckTarget, Completion> checkRestIsLuxuryProcessor() {
+        return target -> {
+            // 활동 시간대 계산 (서비스 시간 기준, 자정 넘김 자동 처리)
+            int startMinutes = toServiceMinutes(target.getEarliestStartTime());
+            int endMinutes = toServiceMinutes(target.getLatestEndTime());
+            long activitySeconds = (endMinutes - startMinutes) * 60L;
+
+            // 쉬는 시간 = 활동 시간대 - 총 집중 시간 (음수면 0으로 처리)
+            long restSeconds = Math.max(0, activitySeconds - target.getFocusSeconds());
+            int requiredRestHours = target.getSelection();
+            if (restSeconds >= requiredRestHours * 3600L) {
+                return null;
+            }
+
+            LocalDate date = target.getDate();
+            log.info(">> REST_IS_LUXURY achieved: memberId={}, selection={}h, restSeconds={}",
+                    target.getMemberId(), requiredRestHours, restSeconds);
+            return new Completion(target.getMemberItemId(), date,
+                    progressData(restSeconds, requiredRestHours, date));
+        };
+    }
+
+    @Bean
+    public ItemWriter<Completion> checkRestIsLuxuryWriter() {
+        return chunk -> memberItemJdbcRepository.completeAll(new ArrayList<>(chunk.getItems()));
+    }
+
+    /**
+     * 판정 대상 keyset 리더 (member_item_id > lastId ORDER BY member_item_id LIMIT pageSize)
+     */
+    public static class RestCheckTargetReader extends ItemStreamSupport implements ItemStreamReader<RestCheckTarget> {
+        private static final String LAST_ID_KEY = "lastId";
+        private static final String DATE_KEY = "date";
+
+        private final MemberItemRepository memberItemRepository;
+        private final int pageSize;
+
+        private LocalDate date;
+        private long lastId = 0L;
+        private Iterator<RestCheckTarget> page = Collections.emptyIterator();
+        private boolean exhausted = false;
+
+        public RestCheckTargetReader(MemberItemRepository memberItemRepository, LocalDate date, int pageSize) {
+            this.memberItemRepository = memberItemRepository;
+            this.date = date;
+            this.pageSize = pageSize;
+            setName(RestCheckTargetReader.class.getSimpleName());
+        }
+
+        @Override
+        public RestCheckTarget read() {
+            if (!page.hasNext()) {
+                if (exhausted) {
+                    return null;
+                }
+                List<RestCheckTarget> targets = memberItemRepository.findRestCheckTargets(
+                        ITEM_NAME, date, lastId, PageRequest.of(0, pageSize));
+                exhausted = targets.size() < pageSize;
+                page = targets.iterator();
+                if (!page.hasNext()) {
+                    return null;
+                }
+            }
+            RestCheckTarget target = page.next();
+            lastId = target.getMemberItemId();
+            return target;
+        }
+
+        @Override
+        public void open(ExecutionContext executionContext) {
+            String lastIdKey = getExecutionContextKey(LAST_ID_KEY);
+            if (executionContext.containsKey(lastIdKey)) {
+                lastId = executionContext.getLong(lastIdKey);
+                date = LocalDate.parse(executionContext.getString(getExecutionContextKey(DATE_KEY)));
+            }
+            log.info(">> Checking REST_IS_LUXURY for date: {} (lastId={})", date, lastId);
+        }
+
+        @Override
+        public void update(ExecutionContext executionContext) {
+            executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+            executionContext.putString(getExecutionContextKey(DATE_KEY), date.toString());
+        }
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String progressData(long restSeconds, int requiredRestHours, LocalDate date) {
+        Map<String, Object> progressData = new HashMap<>();
+        progressData.put("todayRestHours", Math.round(restSeconds / 360.0) / 10.0);
+        progressData.put("todayRestMinutes", (int) (restSeconds / 60));
+        progressData.put("requiredRestHours", requiredRestHours);
+        progressData.put("achievedDate", date.format(DATE_FORMATTER));
+        progressData.put("achievedDay", DAY_OF_WEEK_KR.get(date.getDayOfWeek()));
         try {
-            int restMinutes = (int) (restHours * 60);
-
-            Map<String, Object> progressData = new HashMap<>();
-            progressData.put("todayRestHours", Math.round(restHours * 10) / 10.0);
-            progressData.put("todayRestMinutes", restMinutes);
-            progressData.put("requiredRestHours", requiredRestHours);
-            progressData.put("achievedDate", date.format(DATE_FORMATTER));
-            progressData.put("achievedDay", DAY_OF_WEEK_KR.get(date.getDayOfWeek()));
-
-            memberItem.updateProgressData(objectMapper.writeValueAsString(progressData));
-        } catch (Exception e) {
-            log.error(">> Error updating progressData for memberItemId={}", memberItem.getId(), e);
+            return objectMapper.writeValueAsString(progressData);
+        } catch (JsonProcessingException e) {
+            log.error(">> Error writing progressData for date={}", date, e);
+            return null;
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.daily;
 
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailCampaignRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ public class DeleteExpiredMailStep {
     private final PlatformTransactionManager platformTransactionManager;
 
     private final MailRepository mailRepository;
+    private final MailCampaignRepository mailCampaignRepository;
 
     private final Clock clock;
 
@@ -30,6 +32,7 @@ public class DeleteExpiredMailStep {
         return new StepBuilder("deleteExpiredMail", jobRepository)
                 .tasklet((contribution, chunkContext) -> {
                     mailRepository.deleteByExpirationDateBefore(LocalDate.now(clock));
+                    mailCampaignRepository.deleteByExpirationDateBefore(LocalDate.now(clock));
                     return RepeatStatus.FINISHED;
                 }, platformTransactionManager)
                 .build();
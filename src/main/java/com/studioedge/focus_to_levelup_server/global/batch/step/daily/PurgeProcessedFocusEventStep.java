@@ -0,0 +1,52 @@
+package com.studioedge.focus_to_levelup_server.global.batch.step.daily;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.FocusJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 반영이 끝난 집중 후처리 이벤트(focus_events, PROCESSED) 삭제
+ *
+ * 집중 저장마다 한 건씩 쌓이므로, RETENTION_DAYS 가 지난 행은 지웁니다. (FAILED/PENDING 은 남김)
+ * DELETE_LIMIT 건씩 나눠 지우고, 한 번 지울 때마다 커밋합니다. (tasklet 반복 = 트랜잭션 1회)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PurgeProcessedFocusEventStep {
+    private static final int RETENTION_DAYS = 7;
+    private static final int DELETE_LIMIT = 5_000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+
+    private final FocusJdbcRepository focusJdbcRepository;
+
+    private final Clock clock;
+
+    @Bean
+    public Step purgeProcessedFocusEvent() {
+        return new StepBuilder("purgeProcessedFocusEvent", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    LocalDateTime before = LocalDateTime.now(clock).minusDays(RETENTION_DAYS);
+                    int deleted = focusJdbcRepository.deleteProcessedEventsBefore(before, DELETE_LIMIT);
+                    contribution.incrementWriteCount(deleted);
+                    if (deleted < DELETE_LIMIT) {
+                        log.info(">> Purged processed focus events created before {}.", before);
+                        return RepeatStatus.FINISHED;
+                    }
+                    return RepeatStatus.CONTINUABLE;
+                }, platformTransactionManager)
+                .build();
+    }
+}
@@ -4,11 +4,13 @@ import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberSettingRep
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberSetting;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import com.studioedge.focus_to_levelup_server.global.jwt.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Step;
@@ -37,8 +39,10 @@ public class RestoreExcludeRankingStep {
     private final PlatformTransactionManager platformTransactionManager;
 
     private final MemberSettingRepository memberSettingRepository;
-    private final RankingRepository rankingRepository;
+    private final RankingJdbcRepository rankingJdbcRepository;
     private final LeagueRepository leagueRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Bean
     public Step restoreExcludeRanking() {
@@ -104,7 +108,13 @@ public class RestoreExcludeRankingStep {
             }
 
             // 5. (DB 쿼리) 신규 랭킹 데이터 일괄 저장
-            rankingRepository.saveAll(newRankings);
+            rankingJdbcRepository.insertRankings(newRankings);
+            leagueLeaderboardService.evictLeagues(newRankings.stream()
+                    .map(ranking -> ranking.getLeague().getId())
+                    .collect(Collectors.toSet()));
+            memberPrincipalCache.evictAll(chunk.getItems().stream()
+                    .map(Member::getId)
+                    .toList());
         };
     }
 }
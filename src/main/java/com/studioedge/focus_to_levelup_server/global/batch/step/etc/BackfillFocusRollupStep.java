@@ -0,0 +1,108 @@
+package com.studioedge.focus_to_levelup_server.global.batch.step.etc;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyFocusRollupRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
+import com.studioedge.focus_to_levelup_server.domain.stat.service.TotalStatCache;
+import com.studioedge.focus_to_levelup_server.global.batch.support.MemberKeysetItemReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * [Focus Rollup Backfill Job] 월간 집중 시간 롤업 백필
+ *
+ * 동작 흐름:
+ * 1. Reader: 모든 멤버를 keyset(id > lastId) 방식으로 100명씩 조회합니다.
+ * 2. Writer:
+ * - Chunk 멤버의 전체 DailyGoal 일별 집중 시간을 한 번에 조회합니다.
+ * - 기존 롤업이 있으면 값을 덮어쓰고, 없는 달은 새로 생성합니다. (여러 번 실행해도 결과 동일)
+ * - 누적 통계 캐시를 비웁니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BackfillFocusRollupStep {
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+
+    private final MemberRepository memberRepository;
+    private final DailyGoalRepository dailyGoalRepository;
+    private final MonthlyFocusRollupRepository monthlyFocusRollupRepository;
+    private final TotalStatCache totalStatCache;
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Bean
+    public Step backfillFocusRollup() {
+        return new StepBuilder("backfillFocusRollup", jobRepository)
+                .<Member, Member>chunk(CHUNK_SIZE, platformTransactionManager)
+                .reader(backfillFocusRollupReader())
+                .writer(backfillFocusRollupWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public MemberKeysetItemReader backfillFocusRollupReader() {
+        MemberKeysetItemReader reader = new MemberKeysetItemReader(
+                memberRepository, List.of(MemberStatus.values()), 0L, Long.MAX_VALUE, CHUNK_SIZE);
+        reader.setName("backfillFocusRollupReader");
+        return reader;
+    }
+
+    @Bean
+    public ItemWriter<Member> backfillFocusRollupWriter() {
+        return chunk -> {
+            Map<Long, Member> membersById = chunk.getItems().stream()
+                    .collect(Collectors.toMap(Member::getId, member -> member));
+            List<Long> memberIds = new ArrayList<>(membersById.keySet());
+
+            // 1. [DB 쿼리 2회] 기존 롤업 / 전체 일별 집중 시간 조회
+            Map<Long, Map<Integer, MonthlyFocusRollup>> rollupsByMember = new HashMap<>();
+            for (MonthlyFocusRollup rollup : monthlyFocusRollupRepository.findAllByMemberIdIn(memberIds)) {
+                rollupsByMember.computeIfAbsent(rollup.getMember().getId(), id -> new HashMap<>())
+                        .put(rollup.getMonthKey(), rollup);
+            }
+            List<DailyGoalRepository.MemberDailySeconds> dailySeconds =
+                    dailyGoalRepository.findDailySecondsByMemberIds(memberIds);
+
+            // 2. (In-Memory) 날짜별 값 반영, 없는 달은 새로 생성
+            List<MonthlyFocusRollup> newRollups = new ArrayList<>();
+            for (DailyGoalRepository.MemberDailySeconds daily : dailySeconds) {
+                MonthlyFocusRollup rollup = rollupsByMember
+                        .computeIfAbsent(daily.getMemberId(), id -> new HashMap<>())
+                        .computeIfAbsent(MonthlyFocusRollup.toMonthKey(daily.getDate()), monthKey -> {
+                            MonthlyFocusRollup created = MonthlyFocusRollup.builder()
+                                    .member(membersById.get(daily.getMemberId()))
+                                    .yearMonth(YearMonth.from(daily.getDate()))
+                                    .build();
+                            newRollups.add(created);
+                            return created;
+                        });
+                rollup.recordDay(daily.getDate().getDayOfMonth(), daily.getSeconds());
+            }
+
+            // 3. 신규 롤업 일괄 저장 (기존 롤업은 dirty checking 으로 갱신)
+            if (!newRollups.isEmpty()) {
+                monthlyFocusRollupRepository.saveAll(newRollups);
+            }
+            memberIds.forEach(totalStatCache::evict);
+            log.info(">> Backfilled focus rollups. members={}, new rollups={}", memberIds.size(), newRollups.size());
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.studioedge.focus_to_levelup_server.global.batch.step.etc;
+
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
+import com.studioedge.focus_to_levelup_server.global.common.AppConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * [Focus Rollup Backfill Job] 진행 중인 주/월의 통계 누적값 백필
+ *
+ * 집중 저장 시점 누적(PeriodStatService)을 도입하기 전부터 진행 중이던 이번 주/이번 달은
+ * 누적이 시작되지 않은 과목 행이 빠져 있을 수 있으므로, DailyGoal/DailySubject 합계로 한 번에 덮어씁니다.
+ * (기간 전체를 INSERT ... SELECT 로 처리하므로 여러 번 실행해도 결과 동일, 집중 저장이 적은 시간에 실행)
+ * 지난 기간은 주간/월간 배치의 검증 단계가 보정합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BackfillPeriodStatStep {
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+
+    private final StatJdbcRepository statJdbcRepository;
+
+    @Bean
+    public Step backfillPeriodStat() {
+        return new StepBuilder("backfillPeriodStat", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    LocalDate serviceDate = AppConstants.getServiceDate();
+                    LocalDate startOfWeek = serviceDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                    YearMonth yearMonth = YearMonth.from(serviceDate);
+
+                    int weekly = statJdbcRepository.backfillWeeklyStats(startOfWeek);
+                    int weeklySubject = statJdbcRepository.backfillWeeklySubjectStats(startOfWeek);
+                    int monthlySubject = statJdbcRepository.backfillMonthlySubjectStats(yearMonth);
+                    log.info(">> [PeriodStat] 백필 완료. week={}, month={}, weekly={}, weeklySubject={}, monthlySubject={}",
+                            startOfWeek, yearMonth, weekly, weeklySubject, monthlySubject);
+                    return RepeatStatus.FINISHED;
+                }, platformTransactionManager)
+                .build();
+    }
+}
@@ -3,12 +3,13 @@ package com.studioedge.focus_to_levelup_server.global.batch.step.etc;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.SeasonRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Season;
 import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,9 +37,10 @@ public class MissingRankingStep {
     private final PlatformTransactionManager platformTransactionManager;
 
     private final MemberRepository memberRepository;
-    private final RankingRepository rankingRepository;
+    private final RankingJdbcRepository rankingJdbcRepository;
     private final LeagueRepository leagueRepository;
     private final SeasonRepository seasonRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
 
     @Bean
     public Step missingRanking() {
@@ -129,7 +131,10 @@ public class MissingRankingStep {
             }
 
             // 4. 신규 랭킹 데이터 일괄 저장
-            rankingRepository.saveAll(newRankings);
+            rankingJdbcRepository.insertRankings(newRankings);
+            leagueLeaderboardService.evictLeagues(newRankings.stream()
+                    .map(ranking -> ranking.getLeague().getId())
+                    .collect(Collectors.toSet()));
         };
     }
 }
@@ -1,10 +1,9 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.etc;
 
-import com.studioedge.focus_to_levelup_server.domain.character.dao.CharacterImageRepository;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository;
-import com.studioedge.focus_to_levelup_server.domain.character.entity.CharacterImage;
 import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
 import com.studioedge.focus_to_levelup_server.domain.character.enums.CharacterImageType;
+import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterQueryService;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.WeeklyRewardRepository;
@@ -37,7 +36,7 @@ public class MissingWeeklyRewardStep {
 
     private final MemberRepository memberRepository;
     private final MemberCharacterRepository memberCharacterRepository;
-    private final CharacterImageRepository characterImageRepository;
+    private final CharacterQueryService characterQueryService;
     private final WeeklyRewardRepository weeklyRewardRepository;
 
     private final Clock clock;
@@ -78,13 +77,11 @@ public class MissingWeeklyRewardStep {
             }
 
             // 2. 캐릭터 이미지 조회 (IDLE)
-            CharacterImage characterImage = characterImageRepository.findByCharacterIdAndEvolutionAndImageType(
+            String imageUrl = characterQueryService.findImageUrl(
                     memberCharacter.getCharacter().getId(),
                     memberCharacter.getEvolution(), // 현재 진화 단계 사용
                     CharacterImageType.IDLE
-            ).orElse(null);
-
-            String imageUrl = (characterImage != null) ? characterImage.getImageUrl() : "";
+            ).orElse("");
 
             // 3. WeeklyReward 생성
             return WeeklyReward.builder()
@@ -1,10 +1,11 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.monthly;
 
 
-import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
-import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyStatRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyFocusRollupRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyStat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * [Monthly Job] 월간 통계 스냅샷
+ *
+ * 지난달 집중 시간은 집중 저장 시점에 누적되는 MonthlyFocusRollup 에서 읽어 MonthlyStat 으로 저장합니다.
+ * (DailyGoal 을 다시 합산하지 않음)
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -36,8 +43,8 @@ public class UpdateMonthlyStatStep {
     private final PlatformTransactionManager platformTransactionManager;
 
     private final MemberRepository memberRepository;
-    private final MonthlyStatRepository monthlyStatRepository;
-    private final DailyGoalRepository dailyGoalRepository;
+    private final StatJdbcRepository statJdbcRepository;
+    private final MonthlyFocusRollupRepository monthlyFocusRollupRepository;
 
     @Bean
     public Step updateMonthlyStat(ItemProcessor<Member, Member> passThroughMemberProcessor) {
@@ -64,7 +71,6 @@ public class UpdateMonthlyStatStep {
     public ItemWriter<Member> updateMonthStatWriter() {
         LocalDate today = LocalDate.now();
         LocalDate firstDayOfLastMonth = today.minusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
-        LocalDate lastDayOfLastMonth = today.minusMonths(1).with(TemporalAdjusters.lastDayOfMonth());
         int targetYear = firstDayOfLastMonth.getYear();
         int targetMonth = firstDayOfLastMonth.getMonthValue();
 
@@ -72,13 +78,12 @@ public class UpdateMonthlyStatStep {
             List<Member> members = (List<Member>) chunk.getItems();
             List<Long> memberIds = members.stream().map(Member::getId).collect(Collectors.toList());
 
-            // 1. [DB 쿼리 1회] Chunk(100명)의 '지난달' DailyGoal 통계를 DB에서 일괄 집계
-            // (DailyGoalRepository에 DTO와 쿼리 추가 필요)
-            Map<Long, Integer> statsMap = dailyGoalRepository.findMonthlyStatsByMemberIds(
-                    memberIds, firstDayOfLastMonth, lastDayOfLastMonth
+            // 1. [DB 쿼리 1회] Chunk(100명)의 '지난달' 월간 롤업을 일괄 조회
+            Map<Long, Integer> statsMap = monthlyFocusRollupRepository.findAllByMemberIdInAndMonthKey(
+                    memberIds, MonthlyFocusRollup.toMonthKey(firstDayOfLastMonth)
             ).stream().collect(Collectors.toMap(
-                    DailyGoalRepository.MonthlyFocusStat::getMemberId,
-                    DailyGoalRepository.MonthlyFocusStat::getTotalSeconds
+                    rollup -> rollup.getMember().getId(),
+                    rollup -> rollup.getTotalSeconds().intValue()
             ));
 
             List<MonthlyStat> newMonthlyStats = new ArrayList<>();
@@ -105,7 +110,7 @@ public class UpdateMonthlyStatStep {
 
             // 3. [DB 쿼리 1회] 생성된 MonthlyStat 리스트 일괄 저장
             if (!CollectionUtils.isEmpty(newMonthlyStats)) {
-                monthlyStatRepository.saveAll(newMonthlyStats);
+                statJdbcRepository.insertMonthlyStats(newMonthlyStats);
                 log.info(">> Saved {} MonthlyStat records.", newMonthlyStats.size());
             }
         };
@@ -4,7 +4,9 @@ import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepos
 import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
-import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlySubjectStatRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.MonthlyFocusRollupRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlyFocusRollup;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.MonthlySubjectStat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,12 +24,20 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * [Monthly Job] 월간 과목 통계 검증
+ *
+ * MonthlySubjectStat 은 집중 저장 시점에 이미 누적되어 있으므로 (PeriodStatService) 새로 집계하지 않습니다.
+ * Chunk 멤버의 지난달 과목별 누적 합계를 MonthlyFocusRollup 합계와 비교하고,
+ * 다른 멤버만 DailySubject 로 다시 집계해 교체합니다.
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -36,7 +46,8 @@ public class UpdateMonthlySubjectStatStep {
     private final PlatformTransactionManager platformTransactionManager;
 
     private final MemberRepository memberRepository;
-    private final MonthlySubjectStatRepository monthlySubjectStatRepository;
+    private final StatJdbcRepository statJdbcRepository;
+    private final MonthlyFocusRollupRepository monthlyFocusRollupRepository;
     private final DailySubjectRepository dailySubjectRepository;
 
     @Bean
@@ -74,8 +85,9 @@ public class UpdateMonthlySubjectStatStep {
             LocalDate lastDayOfLastMonth = today.minusMonths(1).with(TemporalAdjusters.lastDayOfMonth());
             Integer lastYearValue = firstDayOfLastMonth.getYear(); // MonthlySubjectStat은 year 필드가 있음
             Integer lastMonthValue = firstDayOfLastMonth.getMonthValue();
+            YearMonth lastMonth = YearMonth.from(firstDayOfLastMonth);
 
-            log.info("MonthlySubjectStat Writer: 집계 대상 월 = {}-{} ({} ~ {})", lastYearValue, lastMonthValue, firstDayOfLastMonth, lastDayOfLastMonth);
+            log.info("MonthlySubjectStat Writer: 검증 대상 월 = {}-{} ({} ~ {})", lastYearValue, lastMonthValue, firstDayOfLastMonth, lastDayOfLastMonth);
 
             List<Member> members = (List<Member>) chunk.getItems();
             List<Long> memberIds = members.stream().map(Member::getId).collect(Collectors.toList());
@@ -84,16 +96,31 @@ public class UpdateMonthlySubjectStatStep {
             Map<Long, Member> memberMap = members.stream()
                     .collect(Collectors.toMap(Member::getId, m -> m));
 
-            // 1. [DB 쿼리 1회] Chunk(100명)의 '지난달' DailySubject 통계를 DB에서 일괄 집계
-            // (DailySubjectRepository에 DTO와 쿼리 추가 필요)
+            // 1. [DB 쿼리 2회] 지난달 월간 롤업 합계(원본) / 누적된 과목별 합계 조회 후 다른 멤버만 선별
+            Map<Long, Integer> rollupSeconds = monthlyFocusRollupRepository.findAllByMemberIdInAndMonthKey(
+                    memberIds, MonthlyFocusRollup.toMonthKey(lastMonth)
+            ).stream().collect(Collectors.toMap(
+                    rollup -> rollup.getMember().getId(),
+                    rollup -> rollup.getTotalSeconds().intValue()
+            ));
+            Map<Long, Integer> accumulatedSeconds = statJdbcRepository.sumMonthlySubjectSeconds(memberIds, lastMonth);
+
+            List<Long> driftedIds = memberIds.stream()
+                    .filter(id -> !rollupSeconds.getOrDefault(id, 0).equals(accumulatedSeconds.getOrDefault(id, 0)))
+                    .collect(Collectors.toList());
+            if (driftedIds.isEmpty()) {
+                return;
+            }
+
+            // 2. [DB 쿼리 1회] 어긋난 멤버의 '지난달' DailySubject 통계를 DB에서 일괄 집계
             List<DailySubjectRepository.MonthlySubjectFocusStat> statsList =
                     dailySubjectRepository.findMonthlyStatsByMemberIds(
-                            memberIds, firstDayOfLastMonth, lastDayOfLastMonth
+                            driftedIds, firstDayOfLastMonth, lastDayOfLastMonth
                     );
 
             List<MonthlySubjectStat> newMonthlySubjectStats = new ArrayList<>();
 
-            // 2. (In-Memory) 집계 결과를 바탕으로 MonthlySubjectStat 엔티티 생성
+            // 3. (In-Memory) 집계 결과를 바탕으로 MonthlySubjectStat 엔티티 생성
             for (DailySubjectRepository.MonthlySubjectFocusStat stat : statsList) {
                 int totalSeconds = stat.getTotalSeconds();
                 if (totalSeconds == 0) continue;
@@ -113,14 +140,17 @@ public class UpdateMonthlySubjectStatStep {
                         .year(lastYearValue)
                         .month(lastMonthValue)
                         .totalMinutes(totalSeconds / 60) // 초 -> 분 변환
+                        .totalSeconds(totalSeconds)
                         .build());
             }
 
-            // 3. [DB 쿼리 1회] 생성된 MonthlySubjectStat 리스트 일괄 저장
+            // 4. [DB 쿼리 2회] 어긋난 멤버의 누적 행을 교체
+            statJdbcRepository.deleteMonthlySubjectStats(driftedIds, lastMonth);
             if (!CollectionUtils.isEmpty(newMonthlySubjectStats)) {
-                monthlySubjectStatRepository.saveAll(newMonthlySubjectStats);
-                log.info(">> Saved {} MonthlySubjectStat records.", newMonthlySubjectStats.size());
+                statJdbcRepository.insertMonthlySubjectStats(newMonthlySubjectStats);
             }
+            log.warn(">> Rebuilt MonthlySubjectStat for {} members ({} records, accumulated total mismatch).",
+                    driftedIds.size(), newMonthlySubjectStats.size());
         };
     }
 }
@@ -7,7 +7,7 @@ import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.AssetRepository;
-import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Asset;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Mail;
 import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
@@ -40,7 +40,7 @@ public class GrantSeasonRewardStep {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
 
-    private final MailRepository mailRepository;
+    private final MailJdbcRepository mailJdbcRepository;
     private final LeagueRepository leagueRepository;
     private final ObjectMapper objectMapper;
     private final AssetRepository assetRepository;
@@ -107,7 +107,7 @@ public class GrantSeasonRewardStep {
             }
 
             if (!allMails.isEmpty()) {
-                mailRepository.saveAll(allMails);
+                mailJdbcRepository.insertAll(allMails);
                 log.info(">> 시즌 종료 보상 메일 발송: {}건", allMails.size());
             }
         };
@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.SeasonRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
@@ -45,6 +46,7 @@ public class StartNewSeasonStep {
 
     private final SeasonRepository seasonRepository;
     private final RankingRepository rankingRepository;
+    private final RankingJdbcRepository rankingJdbcRepository;
     private final MemberRepository memberRepository;
     private final LeagueRepository leagueRepository;
 
@@ -98,7 +100,7 @@ public class StartNewSeasonStep {
 
             for (List<Long> chunkIds : partitions) {
                 // 실제 엔티티 조회
-                List<Member> members = memberRepository.findAllById(chunkIds);
+                List<Member> members = memberRepository.findAllWithMemberInfoByIdIn(chunkIds);
                 List<Ranking> rankingsToSave = new ArrayList<>();
 
                 for (Member member : members) {
@@ -140,7 +142,7 @@ public class StartNewSeasonStep {
                     targetLeague.increaseCurrentMembers();
                 }
 
-                rankingRepository.saveAll(rankingsToSave);
+                rankingJdbcRepository.insertRankings(rankingsToSave);
                 totalProcessed += members.size();
                 log.info(">> 진행률: {} / {}", totalProcessed, eligibleMemberIds.size());
             }
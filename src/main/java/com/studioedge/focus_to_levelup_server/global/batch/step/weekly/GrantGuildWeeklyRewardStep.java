@@ -7,6 +7,7 @@ import com.studioedge.focus_to_levelup_server.domain.guild.entity.Guild;
 import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildMember;
 import com.studioedge.focus_to_levelup_server.domain.guild.entity.GuildWeeklyReward;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Mail;
 import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
@@ -66,6 +67,7 @@ public class GrantGuildWeeklyRewardStep {
     private final GuildMemberRepository guildMemberRepository;
     private final GuildWeeklyRewardRepository guildWeeklyRewardRepository;
     private final MailRepository mailRepository;
+    private final MailJdbcRepository mailJdbcRepository;
 
     private static final int MAX_REWARD = 500;
     private static final int MIN_MEMBER_COUNT = 2;
@@ -216,7 +218,7 @@ public class GrantGuildWeeklyRewardStep {
             }
 
             if (!memberBestRewardMap.isEmpty()) {
-                mailRepository.saveAll(memberBestRewardMap.values());
+                mailJdbcRepository.insertAll(memberBestRewardMap.values());
             }
             if (!historyToSave.isEmpty()) {
                 guildWeeklyRewardRepository.saveAll(historyToSave);
@@ -1,10 +1,9 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.weekly;
 
-import com.studioedge.focus_to_levelup_server.domain.character.dao.CharacterImageRepository;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository;
-import com.studioedge.focus_to_levelup_server.domain.character.entity.CharacterImage;
 import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
 import com.studioedge.focus_to_levelup_server.domain.character.enums.CharacterImageType;
+import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterQueryService;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
@@ -63,7 +62,7 @@ public class GrantWeeklyRewardStep {
 
     private final MemberRepository memberRepository;
     private final MemberCharacterRepository memberCharacterRepository;
-    private final CharacterImageRepository characterImageRepository;
+    private final CharacterQueryService characterQueryService;
     private final WeeklyRewardRepository weeklyRewardRepository;
 
     private final Clock clock;
@@ -111,12 +110,12 @@ public class GrantWeeklyRewardStep {
                 return null;
             }
 
-            CharacterImage characterImage = characterImageRepository.findByCharacterIdAndEvolutionAndImageType(
+            String imageUrl = characterQueryService.findImageUrl(
                     memberCharacter.getCharacter().getId(),
                     memberCharacter.getDefaultEvolution(),
                     CharacterImageType.IDLE
             ).orElse(null);
-            if (characterImage == null) {
+            if (imageUrl == null) {
                 log.warn(">> [Filter] 보상 지급 제외: 이미지 누락 (Char ID: {})", memberCharacter.getCharacter().getId());
                 return null;
             }
@@ -126,7 +125,7 @@ public class GrantWeeklyRewardStep {
                     .map(existingReward -> {
                         return existingReward.updateInfo(
                                 memberCharacter.getCharacter(),
-                                characterImage.getImageUrl(),
+                                imageUrl,
                                 member.getCurrentLevel(),
                                 memberCharacter.getEvolution()
                         );
@@ -137,7 +136,7 @@ public class GrantWeeklyRewardStep {
                                     .lastCharacter(memberCharacter.getCharacter())
                                     .lastLevel(member.getCurrentLevel())
                                     .evolution(memberCharacter.getEvolution())
-                                    .lastCharacterImageUrl(characterImage.getImageUrl())
+                                    .lastCharacterImageUrl(imageUrl)
                                     .build()
                     );
         };
@@ -3,12 +3,14 @@ package com.studioedge.focus_to_levelup_server.global.batch.step.weekly;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.SeasonRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Season;
 import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.BronzeLeagueAllocator;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +29,11 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 /**
- * [Weekly Job - Step 5] 신규 유저 랭킹 배치
+ * [Weekly Job - Step 5] 신규 유저 랭킹 배치 (보정)
+ *
+ * 신규 유저는 가입 시점에 BronzeLeagueAllocator 가 바로 배치하므로,
+ * 이 스텝은 가입 시점 배치가 누락된 유저(복귀 유저 포함)만 보정합니다.
+ * 리그 재편성(processLeaguePlacement) 직후에 실행되므로, 끝나면 가입 시점 배정 인덱스를 지워 DB 인원수로 다시 채우게 합니다.
  *
  * 동작 흐름:
  * 1. 현재 진행 중인 시즌을 조회합니다.
@@ -48,8 +54,10 @@ public class PlaceNewMemberInRankingStep {
 
     private final MemberRepository memberRepository;
     private final LeagueRepository leagueRepository;
-    private final RankingRepository rankingRepository;
+    private final RankingJdbcRepository rankingJdbcRepository;
     private final SeasonRepository seasonRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
+    private final BronzeLeagueAllocator bronzeLeagueAllocator;
 
     private final Clock clock;
 
@@ -72,6 +80,7 @@ public class PlaceNewMemberInRankingStep {
                     .orElseThrow(() -> new IllegalStateException("진행 중인 시즌이 없습니다."));
 
             List<Member> newMembers = memberRepository.findActiveMembersWithoutRanking(PageRequest.of(0, BATCH_SIZE_LIMIT));
+            bronzeLeagueAllocator.invalidate();
             if (newMembers.isEmpty()) {
                 return RepeatStatus.FINISHED;
             }
@@ -90,7 +99,10 @@ public class PlaceNewMemberInRankingStep {
             }
 
             if (!newRankingsToSave.isEmpty()) {
-                rankingRepository.saveAll(newRankingsToSave);
+                rankingJdbcRepository.insertRankings(newRankingsToSave);
+                leagueLeaderboardService.evictLeagues(newRankingsToSave.stream()
+                        .map(ranking -> ranking.getLeague().getId())
+                        .collect(Collectors.toSet()));
             }
 
             log.info(">> 총 {}명의 신규 유저를 배치 완료했습니다.", newRankingsToSave.size());
@@ -1,15 +1,17 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.weekly;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeagueRepository;
-import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeaguePlacementJdbcRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeaguePlacementJdbcRepository.Placement;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.LeaguePlacementJdbcRepository.RankingRow;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.dao.SeasonRepository;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
-import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Ranking;
 import com.studioedge.focus_to_levelup_server.domain.ranking.entity.Season;
 import com.studioedge.focus_to_levelup_server.domain.ranking.enums.Tier;
-import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.service.LeagueLeaderboardService;
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.system.entity.Mail;
 import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
 import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
@@ -19,6 +21,7 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,18 +30,28 @@ import org.springframework.transaction.PlatformTransactionManager;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * [Weekly Job - Step 4] 승강제 심사 및 리그 재배치
  *
- * 동작 흐름:
- * 1. 현재 진행 중인 시즌을 조회합니다.
- * 2. 각 카테고리별로 '진행 중(IN_PROGRESS)'인 리그들을 조회합니다. (멱등성 보장)
- * 3. 각 리그의 유저들의 순위를 기반으로 다음 티어를 결정합니다 (승격/잔류/강등).
- * 4. 승격된 유저에게는 축하 메일(보상)을 생성합니다.
- * 5. 처리가 완료된 기존 리그는 '종료(CLOSED)' 상태로 변경합니다. (데이터 삭제 X)
- * 6. 결정된 다음 티어 풀(Pool)을 기반으로 새로운 리그들을 생성합니다 (인원 균등 분배 - Round Robin).
- * 7. 새로운 리그와 랭킹 정보를 DB에 저장합니다.
+ * 카테고리마다 [계획] -> [반영] 두 단계를 각각 하나의 트랜잭션으로 실행하며,
+ * 진행 상황(카테고리 번호, 단계, 기존 리그 id)은 StepExecutionContext 에 저장되어 재시작 시 이어서 진행합니다.
+ *
+ * [계획]
+ * 1. 현재 진행 중인 시즌의 해당 카테고리 활성 리그 id 를 기록합니다.
+ * 2. 윈도우 함수 쿼리 한 번으로 리그별 순위/인원을 계산하며 유저를 프로젝션으로 스트리밍합니다. (엔티티 로딩 X)
+ * 3. 순위를 기반으로 다음 티어를 결정하고 (승격/잔류/강등), 티어별로 섞은 뒤 리그 번호를 배정합니다 (Round Robin).
+ * 4. 결정된 배치 계획을 league_placements 에 JDBC batch 로 저장합니다.
+ *
+ * [반영]
+ * 1. 기록해둔 기존 리그와 랭킹을 삭제합니다.
+ * 2. 배치 계획대로 새 리그와 랭킹을 JDBC batch 로 저장합니다. (리그는 생성된 id 를 받아 랭킹에 연결)
+ * 3. 최고 티어를 갱신한 승격 유저에게는 축하 메일(보상)을 JDBC batch 로 생성합니다.
+ * 4. 배치 계획을 삭제합니다. (반영 완료 표시)
+ * 5. 커밋 이후 기존 리그의 리더보드(Redis)를 지우고, 신규 리그의 리더보드를 채웁니다. (재편성 직후 조회가 DB 로 몰리지 않도록)
+ *
+ * 반영 단계는 한 트랜잭션이므로, 도중에 실패해도 기존 리그가 절반만 삭제되는 일은 없습니다.
  */
 @Slf4j
 @Configuration
@@ -47,15 +60,23 @@ public class ProcessLeaguePlacementStep {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
 
-    private final RankingRepository rankingRepository;
-    private final LeagueRepository leagueRepository;
     private final SeasonRepository seasonRepository;
-    private final MailRepository mailRepository;
+    private final MemberRepository memberRepository;
+    private final MailJdbcRepository mailJdbcRepository;
+    private final LeaguePlacementJdbcRepository leaguePlacementJdbcRepository;
+    private final RankingJdbcRepository rankingJdbcRepository;
+    private final LeagueLeaderboardService leagueLeaderboardService;
 
     private final Clock clock;
 
     private static final int TARGET_LEAGUE_SIZE = 100;
 
+    private static final String CATEGORY_INDEX_KEY = "placement.categoryIndex";
+    private static final String PHASE_KEY = "placement.phase";
+    private static final String LEAGUE_IDS_KEY = "placement.leagueIds";
+    private static final String PHASE_PLAN = "PLAN";
+    private static final String PHASE_APPLY = "APPLY";
+
     @Bean
     public Step processLeaguePlacement() {
         return new StepBuilder("processLeaguePlacement", jobRepository)
@@ -66,132 +87,168 @@ public class ProcessLeaguePlacementStep {
     @Bean
     public Tasklet processLeaguePlacementsTasklet() {
         return (contribution, chunkContext) -> {
-            log.info(">> Step: 승강제 심사 및 리그 재배치 시작");
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            CategoryMainType[] categories = CategoryMainType.values();
+            int categoryIndex = context.getInt(CATEGORY_INDEX_KEY, 0);
+            String phase = context.getString(PHASE_KEY, PHASE_PLAN);
+
+            if (categoryIndex >= categories.length) {
+                return RepeatStatus.FINISHED;
+            }
+            if (categoryIndex == 0 && PHASE_PLAN.equals(phase)) {
+                log.info(">> Step: 승강제 심사 및 리그 재배치 시작");
+            }
 
             Season currentSeason = seasonRepository.findFirstByEndDateGreaterThanEqualOrderByStartDateDesc(LocalDate.now(clock))
                     .orElseThrow(() -> new IllegalStateException("진행 중인 시즌이 없습니다."));
-
-            for (CategoryMainType category : CategoryMainType.values()) {
-                processCategory(currentSeason, category);
+            CategoryMainType category = categories[categoryIndex];
+
+            if (PHASE_PLAN.equals(phase)) {
+                List<Long> leagueIds = planCategory(currentSeason, category);
+                if (!leagueIds.isEmpty()) {
+                    context.putString(LEAGUE_IDS_KEY, joinIds(leagueIds));
+                    context.putString(PHASE_KEY, PHASE_APPLY);
+                    return RepeatStatus.CONTINUABLE;
+                }
+            } else {
+                applyCategory(currentSeason, category, splitIds(context.getString(LEAGUE_IDS_KEY, "")));
             }
 
-            return RepeatStatus.FINISHED;
+            context.remove(LEAGUE_IDS_KEY);
+            context.putString(PHASE_KEY, PHASE_PLAN);
+            context.putInt(CATEGORY_INDEX_KEY, categoryIndex + 1);
+            return (categoryIndex + 1 < categories.length) ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
         };
     }
 
-    private void processCategory(Season season, CategoryMainType category) {
-        List<League> currentLeagues = leagueRepository.findAllBySeasonAndCategoryTypeWithRankings(season, category);
+    /**
+     * [계획] 다음 주 배치를 계산해 league_placements 에 저장하고, 교체 대상 리그 id 를 반환합니다.
+     */
+    private List<Long> planCategory(Season season, CategoryMainType category) {
+        List<Long> leagueIds = leaguePlacementJdbcRepository.findActiveLeagueIds(season.getId(), category);
+        leaguePlacementJdbcRepository.deletePlacements(season.getId(), category);
 
-        if (currentLeagues.isEmpty()) {
+        if (leagueIds.isEmpty()) {
             log.info(">> 처리할 리그가 없습니다. (Category: {})", category);
-            return;
+            return leagueIds;
         }
 
-        int currentWeek = currentLeagues.get(0).getCurrentWeek();
-        int nextWeek = currentWeek + 1;
-        boolean isEnteringFinalWeek = (currentWeek == 5);
-
-        log.info(">> Category [{}]: {}주차 -> {}주차 승강제 진행", category, currentWeek, nextWeek);
-
-        Map<Tier, List<Member>> nextWeekPool = new EnumMap<>(Tier.class);
+        Map<Tier, List<Candidate>> nextWeekPool = new EnumMap<>(Tier.class);
         for (Tier t : Tier.values()) nextWeekPool.put(t, new ArrayList<>());
+        int[] weeks = {0, 0}; // {현재 주차, 다음 주차}
 
-        List<Mail> mailsToSend = new ArrayList<>();
+        leaguePlacementJdbcRepository.streamStandings(season.getId(), category, standing -> {
+            weeks[0] = standing.currentWeek();
+            weeks[1] = standing.currentWeek() + 1;
+            if (standing.status() != MemberStatus.ACTIVE) {
+                return;
+            }
 
-        for (League league : currentLeagues) {
-            List<Ranking> rankings = rankingRepository.findAllBySortedLeague(league);
+            boolean isEnteringFinalWeek = (standing.currentWeek() == 5);
+            Tier currentTier = standing.tier();
+            Tier nextTier = Tier.determineNextTier(
+                    currentTier, (double) standing.finalRank() / standing.leagueSize(), isEnteringFinalWeek);
+            boolean isNewRecord = isPromotion(currentTier, nextTier) && isNewRecordTier(standing.highestTier(), nextTier);
 
-            int totalMembers = rankings.size();
-            Tier currentTier = league.getTier();
+            nextWeekPool.get(nextTier).add(new Candidate(standing.memberId(), standing.finalRank(), isNewRecord));
+        });
 
-            for (int i = 0; i < totalMembers; i++) {
-                Ranking ranking = rankings.get(i);
-                Member member = ranking.getMember();
+        log.info(">> Category [{}]: {}주차 -> {}주차 승강제 진행", category, weeks[0], weeks[1]);
 
-                if (member.getStatus() != MemberStatus.ACTIVE) {
-                    continue;
-                }
-
-                Tier nextTier = Tier.determineNextTier(currentTier, (double) (i + 1) / totalMembers, isEnteringFinalWeek);
-                if (isPromotion(currentTier, nextTier)) {
-                    if (member.isNewRecordTier(nextTier)) {
-                        mailsToSend.add(createPromotionRewardMail(member, nextTier, i + 1));
-                        member.updateHighestTier(nextTier);
-                    }
-                }
-                nextWeekPool.get(nextTier).add(member);
+        List<Placement> placements = new ArrayList<>();
+        for (Tier tier : Tier.values()) {
+            List<Candidate> candidates = nextWeekPool.get(tier);
+            if (candidates.isEmpty()) continue;
+
+            Collections.shuffle(candidates);
+            int leagueCount = Math.max(1, (int) Math.round((double) candidates.size() / TARGET_LEAGUE_SIZE));
+            for (int i = 0; i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                placements.add(new Placement(candidate.memberId(), tier, weeks[1], i % leagueCount,
+                        candidate.finalRank(), candidate.isNewRecord()));
             }
         }
 
-        if (!currentLeagues.isEmpty()) {
-            List<Long> leagueIds = currentLeagues.stream()
-                    .map(League::getId)
-                    .toList();
+        leaguePlacementJdbcRepository.insertPlacements(season.getId(), category, placements);
+        log.info(">> Category [{}] 배치 계획 저장. 기존 리그: {}, 대상 유저: {}", category, leagueIds.size(), placements.size());
+        return leagueIds;
+    }
 
-            rankingRepository.deleteByLeagueIdIn(leagueIds);
-            leagueRepository.deleteByIdIn(leagueIds);
-        }
+    /**
+     * [반영] 저장된 계획으로 기존 리그를 교체합니다.
+     * 이미 반영된 뒤 재실행되는 경우 계획이 비어있으므로 (삭제된) 기존 리그 삭제만 다시 시도합니다.
+     */
+    private void applyCategory(Season season, CategoryMainType category, List<Long> oldLeagueIds) {
+        List<Placement> placements = leaguePlacementJdbcRepository.findPlacements(season.getId(), category);
 
-        mailRepository.saveAll(mailsToSend);
+        leaguePlacementJdbcRepository.deleteLeagues(oldLeagueIds);
 
+        Map<Tier, List<League>> newLeaguesByTier = new EnumMap<>(Tier.class);
         List<League> newLeaguesToSave = new ArrayList<>();
-        List<Ranking> newRankingsToSave = new ArrayList<>();
-
-        for (Tier tier : Tier.values()) {
-            List<Member> membersInTier = nextWeekPool.get(tier);
-            if (membersInTier.isEmpty()) continue;
-
-            Collections.shuffle(membersInTier);
-            distributeMembersToNewLeagues(season, category, tier, nextWeek, membersInTier, newLeaguesToSave, newRankingsToSave);
+        for (Placement placement : placements) {
+            List<League> tierLeagues = newLeaguesByTier.computeIfAbsent(placement.nextTier(), t -> new ArrayList<>());
+            while (tierLeagues.size() <= placement.leagueIndex()) {
+                League league = createLeague(season, category, placement.nextTier(), placement.nextWeek(), tierLeagues.size());
+                tierLeagues.add(league);
+                newLeaguesToSave.add(league);
+            }
+            tierLeagues.get(placement.leagueIndex()).increaseCurrentMembers();
         }
-
-        leagueRepository.saveAll(newLeaguesToSave);
-        rankingRepository.saveAll(newRankingsToSave);
-
-        log.info(">> Category [{}] 완료. 삭제된 리그: {}, 생성된 리그: {}", category, currentLeagues.size(), newLeaguesToSave.size());
-    }
-
-    private void distributeMembersToNewLeagues(Season season, CategoryMainType category, Tier tier,
-                                               int nextWeek, List<Member> members,
-                                               List<League> newLeagues, List<Ranking> newRankings) {
-        int totalMembers = members.size();
-        int leagueCount = Math.max(1, (int) Math.round((double) totalMembers / TARGET_LEAGUE_SIZE));
-
-        List<League> createdLeagues = new ArrayList<>();
-        for (int i = 0; i < leagueCount; i++) {
-            String leagueName = String.format("%s %s %d리그", category.getCategoryName(), tier.name(), i + 1);
-            League league = League.builder()
-                    .season(season)
-                    .name(leagueName)
-                    .categoryType(category)
-                    .tier(tier)
-                    .startDate(LocalDate.now(clock))
-                    .endDate(LocalDate.now(clock).plusDays(6))
-                    .currentWeek(nextWeek)
-                    .build();
-            createdLeagues.add(league);
-            newLeagues.add(league);
+        List<Long> newLeagueIds = rankingJdbcRepository.insertLeagues(newLeaguesToSave);
+        Map<League, Long> leagueIdMap = new IdentityHashMap<>();
+        for (int i = 0; i < newLeaguesToSave.size(); i++) {
+            leagueIdMap.put(newLeaguesToSave.get(i), newLeagueIds.get(i));
         }
 
-        for (int i = 0; i < totalMembers; i++) {
-            Member member = members.get(i);
-            League targetLeague = createdLeagues.get(i % leagueCount);
-
-            newRankings.add(Ranking.builder()
-                    .league(targetLeague)
-                    .member(member)
-                    .tier(tier)
-                    .build());
+        List<RankingRow> newRankingsToSave = placements.stream()
+                .map(placement -> new RankingRow(
+                        leagueIdMap.get(newLeaguesByTier.get(placement.nextTier()).get(placement.leagueIndex())),
+                        placement.memberId(),
+                        placement.nextTier()))
+                .collect(Collectors.toList());
+        leaguePlacementJdbcRepository.insertRankings(newRankingsToSave);
+
+        List<Placement> newRecords = placements.stream()
+                .filter(Placement::isNewRecord)
+                .collect(Collectors.toList());
+        leaguePlacementJdbcRepository.updateHighestTiers(newRecords);
+        mailJdbcRepository.insertAll(newRecords.stream()
+                .map(this::createPromotionRewardMail)
+                .collect(Collectors.toList()));
+
+        leaguePlacementJdbcRepository.deletePlacements(season.getId(), category);
+
+        leagueLeaderboardService.evictLeagues(oldLeagueIds);
+        leagueLeaderboardService.rebuildLeagues(leaguePlacementJdbcRepository.findLeaderboardRows(newLeagueIds));
+
+        log.info(">> Category [{}] 완료. 삭제된 리그: {}, 생성된 리그: {}, 랭킹: {}",
+                category, oldLeagueIds.size(), newLeaguesToSave.size(), newRankingsToSave.size());
+    }
 
-            targetLeague.increaseCurrentMembers();
-        }
+    private League createLeague(Season season, CategoryMainType category, Tier tier, int nextWeek, int index) {
+        String leagueName = String.format("%s %s %d리그", category.getCategoryName(), tier.name(), index + 1);
+        return League.builder()
+                .season(season)
+                .name(leagueName)
+                .categoryType(category)
+                .tier(tier)
+                .startDate(LocalDate.now(clock))
+                .endDate(LocalDate.now(clock).plusDays(6))
+                .currentWeek(nextWeek)
+                .build();
     }
 
     private boolean isPromotion(Tier current, Tier next) {
         return next.ordinal() > current.ordinal();
     }
 
-    private Mail createPromotionRewardMail(Member member, Tier nextTier, int finalRank) {
+    // Member.isNewRecordTier 와 동일 (엔티티를 읽지 않기 위해 프로젝션 값으로 판단)
+    private boolean isNewRecordTier(Tier highestTier, Tier tier) {
+        return highestTier == null || tier.compareTo(highestTier) > 0;
+    }
+
+    private Mail createPromotionRewardMail(Placement placement) {
+        Tier nextTier = placement.nextTier();
         int diamonds = Tier.getRewardDiamonds(nextTier);
         String title = nextTier.name() + " 승급 보상을 수령하세요";
         StringBuilder descriptionBuilder = new StringBuilder();
@@ -201,10 +258,10 @@ public class ProcessLeaguePlacementStep {
         if (nextTier == Tier.MASTER) {
             descriptionBuilder.append("시즌 종료까지 유지한다면 구독권을 획득할 수 있습니다!\n");
         }
-        descriptionBuilder.append("\n최종 등수: ").append(finalRank).append("위");
+        descriptionBuilder.append("\n최종 등수: ").append(placement.finalRank()).append("위");
 
         return Mail.builder()
-                .receiver(member)
+                .receiver(memberRepository.getReferenceById(placement.memberId()))
                 .type(MailType.TIER_PROMOTION)
                 .title(title)
                 .description(descriptionBuilder.toString())
@@ -214,4 +271,24 @@ public class ProcessLeaguePlacementStep {
                 .expiredAt(LocalDate.now(clock).plusDays(7))
                 .build();
     }
+
+    private String joinIds(List<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private List<Long> splitIds(String ids) {
+        if (ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private record Candidate(Long memberId, int finalRank, boolean isNewRecord) {
+    }
 }
@@ -5,6 +5,7 @@ import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildMemberReposi
 import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemRepository;
+import com.studioedge.focus_to_levelup_server.global.counter.FocusTotalCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Step;
@@ -27,6 +28,7 @@ public class ResetWeeklyAllDataStep {
     private final MemberItemRepository memberItemRepository;
     private final GuildRepository guildRepository;
     private final GuildMemberRepository guildMemberRepository;
+    private final FocusTotalCounter focusTotalCounter;
 
     @Bean
     public Step resetWeeklyAllData() {
@@ -46,7 +48,8 @@ public class ResetWeeklyAllDataStep {
             memberItemRepository.deleteAllInBatch();
             log.info(">> Deleted all member items.");
 
-            guildRepository.resetGuildFocusTime();
+            // 카운터 반영을 막은 상태에서 모인 증가분을 반영하고 초기화합니다. (지난주 증가분이 초기화 이후에 더해지지 않도록)
+            focusTotalCounter.flushThenReset(guildRepository::resetGuildFocusTime);
             int updatedGuildMemberCount = guildMemberRepository.resetAllWeeklyFocusTime();
             log.info(">> Reset weekly focus time & boost for {} guild members.", updatedGuildMemberCount);
 
@@ -1,92 +1,108 @@
 package com.studioedge.focus_to_levelup_server.global.batch.step.weekly;
 
-import com.studioedge.focus_to_levelup_server.domain.character.dao.CharacterImageRepository;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository;
-import com.studioedge.focus_to_levelup_server.domain.character.entity.CharacterImage;
 import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
 import com.studioedge.focus_to_levelup_server.domain.character.enums.CharacterImageType;
+import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterQueryService;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
 import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailySubjectRepository;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailyGoal;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.DailySubject;
-import com.studioedge.focus_to_levelup_server.domain.focus.entity.Subject;
 import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
 import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
-import com.studioedge.focus_to_levelup_server.domain.stat.dao.WeeklyStatRepository;
-import com.studioedge.focus_to_levelup_server.domain.stat.dao.WeeklySubjectStatRepository;
+import com.studioedge.focus_to_levelup_server.domain.stat.dao.StatJdbcRepository;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklyStat;
 import com.studioedge.focus_to_levelup_server.domain.stat.entity.WeeklySubjectStat;
+import com.studioedge.focus_to_levelup_server.global.batch.support.MemberIdRangePartitioner;
+import com.studioedge.focus_to_levelup_server.global.batch.support.MemberKeysetItemReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DeadlockLoserDataAccessException;
 import org.springframework.dao.TransientDataAccessException;
-import org.springframework.data.domain.Sort;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.CollectionUtils;
 
 import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
- * [Weekly Job - Step 1] 주간 통계 집계
+ * [Weekly Job - Step 1] 주간 통계 스냅샷 및 검증 (멤버 id 구간 파티셔닝)
  *
  * 동작 흐름:
- * 1. Reader: 상태가 'ACTIVE'인 모든 멤버를 페이지 단위(100명)로 조회합니다.
- * 2. Processor:
- * - 배치 실행 시점 기준 지난주 월요일 ~ 일요일 날짜를 계산합니다.
- * - 각 멤버의 지난주 DailyGoal(일일 목표)과 DailySubject(과목별 학습) 데이터를 조회합니다.
- * - 데이터가 존재할 경우, 총 집중 시간 및 과목별 학습 시간을 집계합니다.
- * - 멤버의 현재 대표 캐릭터 및 이미지를 조회하여 통계에 스냅샷으로 저장합니다.
- * - 집계된 WeeklyStat과 WeeklySubjectStat 리스트를 Container 객체에 담아 반환합니다.
- * 3. Writer:
- * - Container에서 WeeklyStat과 WeeklySubjectStat 리스트를 추출합니다.
- * - 각 Repository를 통해 DB에 일괄 저장(Bulk Insert)합니다.
+ * 1. Manager: 'ACTIVE', 'RANKING_BANNED' 멤버의 id 범위를 GRID_SIZE 개 구간으로 나누고,
+ *    TaskExecutorPartitionHandler 로 구간별 Worker 스텝을 최대 THREAD_COUNT 개씩 병렬 실행합니다.
+ * 2. Reader: 구간 안의 멤버를 keyset(id > lastId) 방식으로 100명씩 조회합니다. (재시작 시 lastId 부터 이어서 읽음)
+ * 3. Writer: Chunk(100명) 단위로 처리합니다.
+ * - WeeklyStat / WeeklySubjectStat 은 집중 저장 시점에 이미 누적되어 있습니다. (PeriodStatService)
+ * - 스냅샷: 지난주 DailyGoal 합계(멤버별)와 대표 캐릭터 PICTURE 이미지, 현재 레벨로 WeeklyStat 을 upsert 합니다.
+ * - 검증: 과목별 누적 합계가 DailyGoal 합계와 다른 멤버만 DailySubject 로 다시 집계해 WeeklySubjectStat 을 교체합니다.
+ *
+ * 대표 캐릭터/이미지가 없는 멤버는 IllegalStateException 으로 Chunk 가 실패하며,
+ * 이후 스킵 스캔 과정에서 해당 멤버만 건너뜁니다.
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
-public class UpdateWeeklyStatStep {private final JobRepository jobRepository;
+public class UpdateWeeklyStatStep {
+    private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
 
     private final DailyGoalRepository dailyGoalRepository;
     private final DailySubjectRepository dailySubjectRepository;
     private final MemberRepository memberRepository;
     private final MemberCharacterRepository memberCharacterRepository;
-    private final CharacterImageRepository characterImageRepository;
-    private final WeeklyStatRepository weeklyStatRepository;
-    private final WeeklySubjectStatRepository weeklySubjectStatRepository;
+    private final CharacterQueryService characterQueryService;
+    private final StatJdbcRepository statJdbcRepository;
 
     private final Clock clock;
 
-    private record WeeklyStatContainer(
-            WeeklyStat weeklyStat,
-            List<WeeklySubjectStat> subjectStats
-    ) {}
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int GRID_SIZE = 8; // 멤버 id 구간 수
+    private static final int THREAD_COUNT = 4; // 동시에 실행할 구간 수 (DB 커넥션 풀 크기보다 작게 유지)
+    private static final List<MemberStatus> TARGET_STATUSES = List.of(MemberStatus.ACTIVE, MemberStatus.RANKING_BANNED);
 
     @Bean
     public Step updateWeeklyStat() {
         return new StepBuilder("updateWeeklyStat", jobRepository)
-                .<Member, WeeklyStatContainer> chunk(100, platformTransactionManager)
-                .reader(updateWeeklyStatReader())
-                .processor(updateWeeklyStatProcessor())
+                .partitioner("updateWeeklyStatWorker", new MemberIdRangePartitioner(memberRepository, TARGET_STATUSES))
+                .partitionHandler(updateWeeklyStatPartitionHandler())
+                .build();
+    }
+
+    @Bean
+    public TaskExecutorPartitionHandler updateWeeklyStatPartitionHandler() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("weekly-stat-");
+        taskExecutor.setConcurrencyLimit(THREAD_COUNT);
+        taskExecutor.setVirtualThreads(virtualThreads);
+
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(updateWeeklyStatWorker());
+        partitionHandler.setTaskExecutor(taskExecutor);
+        partitionHandler.setGridSize(GRID_SIZE);
+        return partitionHandler;
+    }
+
+    @Bean
+    public Step updateWeeklyStatWorker() {
+        return new StepBuilder("updateWeeklyStatWorker", jobRepository)
+                .<Member, Member> chunk(CHUNK_SIZE, platformTransactionManager)
+                .reader(updateWeeklyStatReader(null, null))
                 .writer(updateWeeklyStatWriter())
                 .faultTolerant()
                 .skip(IllegalStateException.class)
@@ -101,77 +117,72 @@ public class UpdateWeeklyStatStep {private final JobRepository jobRepository;
     }
 
     @Bean
-    public RepositoryItemReader<Member> updateWeeklyStatReader() {
-        return new RepositoryItemReaderBuilder<Member>()
-                .name("updateWeeklyStatReader")
-                .pageSize(100)
-                .methodName("findAllByStatusIn")
-                .repository(memberRepository)
-                .arguments(Collections.singletonList(List.of(MemberStatus.ACTIVE, MemberStatus.RANKING_BANNED)))
-                .sorts(Map.of("id", Sort.Direction.ASC))
-                .build();
+    @StepScope
+    public MemberKeysetItemReader updateWeeklyStatReader(
+            @Value("#{stepExecutionContext['" + MemberIdRangePartitioner.FROM_ID_KEY + "']}") Long fromId,
+            @Value("#{stepExecutionContext['" + MemberIdRangePartitioner.TO_ID_KEY + "']}") Long toId) {
+        MemberKeysetItemReader reader = new MemberKeysetItemReader(
+                memberRepository, TARGET_STATUSES, fromId, toId, CHUNK_SIZE);
+        reader.setName("updateWeeklyStatReader");
+        return reader;
     }
 
     @Bean
     @StepScope
-    public ItemProcessor<Member, WeeklyStatContainer> updateWeeklyStatProcessor() {
+    public ItemWriter<Member> updateWeeklyStatWriter() {
 
         LocalDate today = LocalDate.now(clock);
         LocalDate endDate = today.minusDays(1);
         LocalDate startDate = today.minusDays(7);
 
-        log.info("WeeklyStats Processor: 집계 기간 {} ~ {}", startDate, endDate);
+        log.info("WeeklyStats Writer: 집계 기간 {} ~ {}", startDate, endDate);
 
-        return member -> {
-            List<DailyGoal> goals = dailyGoalRepository
-                    .findAllByMemberIdAndDailyGoalDateBetween(member.getId(), startDate, endDate);
+        return chunk -> {
+            List<? extends Member> members = chunk.getItems();
+            List<Long> memberIds = members.stream().map(Member::getId).collect(Collectors.toList());
 
-            List<DailySubject> dailySubjects = dailySubjectRepository
-                    .findAllByMemberIdAndDateBetween(member.getId(), startDate, endDate);
+            // 1. [DB 쿼리 2회] Chunk 의 지난주 DailyGoal 합계(원본) / 누적된 과목별 합계를 일괄 조회
+            Map<Long, Integer> focusSecondsMap = dailyGoalRepository.findMonthlyStatsByMemberIds(
+                    memberIds, startDate, endDate
+            ).stream().collect(Collectors.toMap(
+                    DailyGoalRepository.MonthlyFocusStat::getMemberId,
+                    DailyGoalRepository.MonthlyFocusStat::getTotalSeconds
+            ));
+            Map<Long, Integer> accumulatedSubjectSeconds = statJdbcRepository.sumWeeklySubjectSeconds(memberIds, startDate);
 
-            if (goals.isEmpty() && dailySubjects.isEmpty()) {
-                return null;
-            }
+            // 2. [DB 쿼리 2회] WeeklyStat 을 만들 멤버의 대표 캐릭터 이미지를 일괄 조회
+            Map<Long, String> imageUrlMap = findCharacterImageUrls(focusSecondsMap.keySet());
 
-            WeeklyStat weeklyStat = null;
-            if (!goals.isEmpty()) {
-                weeklyStat = createWeeklyStatLogic(member, goals, startDate, endDate);
+            // 3. (In-Memory) 스냅샷 생성 및 과목 누적값 검증
+            List<WeeklyStat> statsToWrite = new ArrayList<>();
+            List<Member> driftedMembers = new ArrayList<>();
+            for (Member member : members) {
+                Integer focusSeconds = focusSecondsMap.get(member.getId());
+                if (focusSeconds != null) {
+                    statsToWrite.add(createWeeklyStatLogic(
+                            member, focusSeconds, imageUrlMap.get(member.getId()), startDate, endDate));
+                }
+                int expected = focusSeconds != null ? focusSeconds : 0;
+                if (expected != accumulatedSubjectSeconds.getOrDefault(member.getId(), 0)) {
+                    driftedMembers.add(member);
+                }
             }
-            List<WeeklySubjectStat> subjectStats = null;
-            if (!dailySubjects.isEmpty()) {
-                subjectStats = createWeeklySubjectStatLogic(member, dailySubjects, startDate, endDate);
-            }
-
-            return new WeeklyStatContainer(weeklyStat, subjectStats);
-        };
-    }
-
-    @Bean
-    public ItemWriter<WeeklyStatContainer> updateWeeklyStatWriter() {
-        return chunk -> {
-            List<WeeklyStat> statsToWrite = chunk.getItems().stream()
-                    .map(WeeklyStatContainer::weeklyStat)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            List<WeeklySubjectStat> subjectStatsToWrite = chunk.getItems().stream()
-                    .map(WeeklyStatContainer::subjectStats)
-                    .filter(Objects::nonNull)
-                    .flatMap(List::stream)
-                    .collect(Collectors.toList());
 
+            // 4. 스냅샷 저장 (누적된 행이 있으면 합계/레벨/이미지 갱신)
             if (!CollectionUtils.isEmpty(statsToWrite)) {
-                weeklyStatRepository.saveAll(statsToWrite);
-                log.info(">> Saved {} WeeklyStat records.", statsToWrite.size());
+                statJdbcRepository.upsertWeeklyStats(statsToWrite);
+                log.info(">> Saved {} WeeklyStat snapshots.", statsToWrite.size());
             }
-            if (!CollectionUtils.isEmpty(subjectStatsToWrite)) {
-                weeklySubjectStatRepository.saveAll(subjectStatsToWrite);
-                log.info(">> Saved {} WeeklySubjectStat records.", subjectStatsToWrite.size());
+
+            // 5. 누적값이 어긋난 멤버만 DailySubject 로 다시 집계해 교체
+            if (!driftedMembers.isEmpty()) {
+                rebuildWeeklySubjectStats(driftedMembers, startDate, endDate);
+                log.warn(">> Rebuilt WeeklySubjectStat for {} members (accumulated total mismatch).", driftedMembers.size());
             }
         };
     }
 
-    public static class WeeklyStatSkipListener implements SkipListener<Member, WeeklyStatContainer> {
+    public static class WeeklyStatSkipListener implements SkipListener<Member, Member> {
         @Override
         public void onSkipInRead(Throwable t) {
             log.error(">> [Skip] 읽기 중 에러 발생: {}", t.getMessage());
@@ -183,55 +194,83 @@ public class UpdateWeeklyStatStep {private final JobRepository jobRepository;
         }
 
         @Override
-        public void onSkipInWrite(WeeklyStatContainer item, Throwable t) {
-            Member member = item.weeklyStat() != null ? item.weeklyStat().getMember() : null;
-            Long memberId = (member != null) ? member.getId() : -1L;
-            log.error(">> [Skip] 쓰기 중 에러 발생 (MemberID: {}): {}", memberId, t.getMessage());
+        public void onSkipInWrite(Member member, Throwable t) {
+            log.error(">> [Skip] 쓰기 중 에러 발생 (MemberID: {}): {}", member.getId(), t.getMessage());
         }
     }
 
     //-------------------------------------------- PRIVATE METHOD --------------------------------------------
 
-    private WeeklyStat createWeeklyStatLogic(Member member, List<DailyGoal> goals,
-                                             LocalDate startDate, LocalDate endDate) {
-        int totalFocusMinutes = goals.stream()
-                .mapToInt(DailyGoal::getCurrentSeconds)
-                .sum() / 60;
+    private void rebuildWeeklySubjectStats(List<Member> members, LocalDate startDate, LocalDate endDate) {
+        List<Long> memberIds = members.stream().map(Member::getId).collect(Collectors.toList());
+        Map<Long, List<DailySubjectRepository.MonthlySubjectFocusStat>> subjectStatsMap = dailySubjectRepository
+                .findMonthlyStatsByMemberIds(memberIds, startDate, endDate)
+                .stream()
+                .collect(Collectors.groupingBy(DailySubjectRepository.MonthlySubjectFocusStat::getMemberId));
+
+        List<WeeklySubjectStat> subjectStatsToWrite = new ArrayList<>();
+        for (Member member : members) {
+            List<DailySubjectRepository.MonthlySubjectFocusStat> subjectStats = subjectStatsMap.get(member.getId());
+            if (subjectStats != null) {
+                subjectStatsToWrite.addAll(createWeeklySubjectStatLogic(member, subjectStats, startDate, endDate));
+            }
+        }
 
-        MemberCharacter memberCharacter = memberCharacterRepository.findByMemberIdAndIsDefaultTrue(member.getId())
-                .orElseThrow(() -> new IllegalStateException("대표 캐릭터 미설정. ID: " + member.getId()));
+        statJdbcRepository.deleteWeeklySubjectStats(memberIds, startDate);
+        statJdbcRepository.insertWeeklySubjectStats(subjectStatsToWrite);
+    }
 
-        CharacterImage characterImage = characterImageRepository.findByCharacterIdAndEvolutionAndImageType(
-                memberCharacter.getCharacter().getId(),
-                memberCharacter.getDefaultEvolution(),
-                CharacterImageType.PICTURE
-        ).orElseThrow(() -> new IllegalStateException("캐릭터 이미지 조회 실패. CharID: " + memberCharacter.getCharacter().getId()));
+    /**
+     * 멤버 id -> 대표 캐릭터의 (대표 진화 단계) PICTURE 이미지 URL
+     */
+    private Map<Long, String> findCharacterImageUrls(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        List<MemberCharacter> memberCharacters = memberCharacterRepository.findAllDefaultByMemberIdIn(memberIds);
+        if (memberCharacters.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> imageUrlMap = new HashMap<>();
+        for (MemberCharacter memberCharacter : memberCharacters) {
+            characterQueryService.findImageUrl(
+                    memberCharacter.getCharacter().getId(),
+                    memberCharacter.getDefaultEvolution(),
+                    CharacterImageType.PICTURE
+            ).ifPresent(imageUrl -> imageUrlMap.put(memberCharacter.getMember().getId(), imageUrl));
+        }
+        return imageUrlMap;
+    }
+
+    private WeeklyStat createWeeklyStatLogic(Member member, int focusSeconds, String characterImageUrl,
+                                             LocalDate startDate, LocalDate endDate) {
+        if (characterImageUrl == null) {
+            throw new IllegalStateException("대표 캐릭터 또는 캐릭터 이미지 조회 실패. ID: " + member.getId());
+        }
 
         return WeeklyStat.builder()
                 .member(member)
                 .startDate(startDate)
                 .endDate(endDate)
-                .totalFocusMinutes(totalFocusMinutes)
+                .totalFocusMinutes(focusSeconds / 60)
+                .totalSeconds(focusSeconds)
                 .totalLevel(member.getCurrentLevel())
-                .lastCharacterImageUrl(characterImage.getImageUrl())
+                .lastCharacterImageUrl(characterImageUrl)
                 .build();
     }
 
-    private List<WeeklySubjectStat> createWeeklySubjectStatLogic(Member member, List<DailySubject> dailySubjects,
+    private List<WeeklySubjectStat> createWeeklySubjectStatLogic(Member member,
+                                                                 List<DailySubjectRepository.MonthlySubjectFocusStat> subjectStats,
                                                                  LocalDate startDate, LocalDate endDate) {
-        Map<Subject, Integer> subjectSecondsMap = dailySubjects.stream()
-                .collect(Collectors.groupingBy(
-                        DailySubject::getSubject,
-                        Collectors.summingInt(DailySubject::getFocusSeconds)
-                ));
-
-        return subjectSecondsMap.entrySet().stream()
-                .map(entry -> WeeklySubjectStat.builder()
+        return subjectStats.stream()
+                .map(stat -> WeeklySubjectStat.builder()
                         .member(member)
-                        .subject(entry.getKey())
+                        .subject(stat.getSubject())
                         .startDate(startDate)
                         .endDate(endDate)
-                        .totalMinutes(entry.getValue() / 60)
+                        .totalMinutes(stat.getTotalSeconds() / 60)
+                        .totalSeconds(stat.getTotalSeconds())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,40 @@
+package com.studioedge.focus_to_levelup_server.global.batch.support;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Job 의 Step 의존 관계를 Flow 로 구성하는 도우미
+ *
+ * - sequence: 앞 Step 의 결과에 의존하는 Step 들을 순서대로 묶습니다.
+ * - parallel: 서로 다른 테이블을 다루는 Flow 들을 동시에 실행하고, 모두 끝나야 다음 Step 으로 넘어갑니다.
+ *   하나라도 실패하면 나머지 Flow 가 끝난 뒤 Job 이 FAILED 로 끝나며, 재시작하면 완료된 Step 은 건너뜁니다.
+ * - 동시에 실행되는 Flow 수만큼 DB 커넥션을 더 쓰므로, 파티셔닝 Step 의 스레드 수와 합쳐 커넥션 풀보다 작게 유지합니다.
+ */
+public final class BatchFlows {
+
+    private BatchFlows() {
+    }
+
+    public static Flow sequence(String name, Step first, Step... next) {
+        FlowBuilder<SimpleFlow> builder = new FlowBuilder<SimpleFlow>(name).start(first);
+        for (Step step : next) {
+            builder.next(step);
+        }
+        return builder.build();
+    }
+
+    public static Flow parallel(String name, boolean virtualThreads, Flow... flows) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(name + "-");
+        taskExecutor.setConcurrencyLimit(flows.length);
+        taskExecutor.setVirtualThreads(virtualThreads);
+
+        return new FlowBuilder<SimpleFlow>(name)
+                .split(taskExecutor)
+                .add(flows)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.studioedge.focus_to_levelup_server.global.batch.support;
+
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멤버 id 범위 기준 파티셔너
+ *
+ * - 대상 상태의 min(id) ~ max(id) 를 gridSize 개의 구간으로 나눕니다.
+ * - 각 파티션의 ExecutionContext 에는 (fromId, toId] 구간이 담기며, MemberKeysetItemReader 가 이 구간만 읽습니다.
+ * - id 가 비어있는 구간이 있더라도 구간 크기만 같을 뿐 결과에는 영향이 없습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MemberIdRangePartitioner implements Partitioner {
+    public static final String FROM_ID_KEY = "fromId";
+    public static final String TO_ID_KEY = "toId";
+
+    private final MemberRepository memberRepository;
+    private final List<MemberStatus> statuses;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        MemberRepository.MemberIdRange range = memberRepository.findIdRangeByStatusIn(statuses);
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (range == null || range.getMinId() == null) {
+            // 대상이 없어도 파티션 1개는 만들어 두어야 스텝이 정상 종료됩니다.
+            partitions.put("partition0", createContext(0L, 0L));
+            return partitions;
+        }
+
+        long minId = range.getMinId();
+        long maxId = range.getMaxId();
+        long size = (maxId - minId) / gridSize + 1;
+
+        long fromId = minId - 1;
+        for (int i = 0; i < gridSize && fromId < maxId; i++) {
+            long toId = Math.min(fromId + size, maxId);
+            partitions.put("partition" + i, createContext(fromId, toId));
+            fromId = toId;
+        }
+        log.info(">> [Partitioner] id {} ~ {} 를 {}개 구간으로 분할", minId, maxId, partitions.size());
+        return partitions;
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private ExecutionContext createContext(long fromId, long toId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(FROM_ID_KEY, fromId);
+        context.putLong(TO_ID_KEY, toId);
+        return context;
+    }
+}
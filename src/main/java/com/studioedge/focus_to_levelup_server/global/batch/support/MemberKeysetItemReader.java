@@ -0,0 +1,76 @@
+package com.studioedge.focus_to_levelup_server.global.batch.support;
+
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 멤버 keyset 리더 (id > lastId ORDER BY id LIMIT pageSize)
+ *
+ * - OFFSET 페이지네이션과 달리 뒤쪽 페이지도 인덱스 범위 탐색 한 번으로 읽습니다.
+ * - (fromId, toId] 구간만 읽으므로 MemberIdRangePartitioner 의 파티션 단위로 사용할 수 있습니다.
+ * - 커밋 시점의 lastId 를 ExecutionContext 에 저장하므로, 재시작 시 마지막 커밋 이후부터 이어서 읽습니다.
+ * - 스텝(파티션)마다 새 인스턴스를 써야 합니다. (@StepScope)
+ */
+public class MemberKeysetItemReader extends ItemStreamSupport implements ItemStreamReader<Member> {
+    private static final String LAST_ID_KEY = "lastId";
+
+    private final MemberRepository memberRepository;
+    private final List<MemberStatus> statuses;
+    private final long toId;
+    private final int pageSize;
+
+    private long lastId;
+    private Iterator<Member> page = Collections.emptyIterator();
+    private boolean exhausted = false;
+
+    public MemberKeysetItemReader(MemberRepository memberRepository, List<MemberStatus> statuses,
+                                  long fromId, long toId, int pageSize) {
+        this.memberRepository = memberRepository;
+        this.statuses = statuses;
+        this.lastId = fromId;
+        this.toId = toId;
+        this.pageSize = pageSize;
+        setName(MemberKeysetItemReader.class.getSimpleName());
+    }
+
+    @Override
+    public Member read() {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<Member> members = memberRepository.findNextByStatusInAndIdRange(
+                    statuses, lastId, toId, PageRequest.of(0, pageSize));
+            exhausted = members.size() < pageSize;
+            page = members.iterator();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+        Member member = page.next();
+        lastId = member.getId();
+        return member;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        if (executionContext.containsKey(key)) {
+            lastId = executionContext.getLong(key);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+    }
+}
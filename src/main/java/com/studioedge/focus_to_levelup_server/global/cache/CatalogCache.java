@@ -0,0 +1,212 @@
+package com.studioedge.focus_to_levelup_server.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 정적 카탈로그(아이템, 캐릭터/이미지, 상품, 몬스터/배경, 발송 중인 우편 캠페인) 2단계 캐시
+ *
+ * - 1단계: 서버별 Caffeine near cache. 엔티티가 아니라 조회 결과(응답 DTO, 불변)를 보관합니다.
+ *   캐시 적중 시에는 트랜잭션/커넥션 없이 응답하도록, 호출하는 메서드에는 @Transactional 을 붙이지 않고
+ *   미적중 시에만 읽기 전용 트랜잭션 안에서 loader 를 실행합니다.
+ * - 2단계: Redis 버전 스탬프(catalog:version). 카탈로그를 바꾼 뒤 invalidate() 로 버전을 올리면
+ *   pub/sub 메시지로 모든 서버가 즉시 비우고, 메시지가 유실되더라도 버전 확인 주기(10초) 안에 비웁니다.
+ * - 비운 뒤에는 CatalogInvalidatedEvent 를 발행하고, CatalogCacheWarmer 가 다시 채웁니다.
+ * - 키 하나만 바뀐 경우에는 evict(key) 로 그 키만 비웁니다. (다른 카탈로그는 유지, 다시 채우지 않음)
+ *   키별 스탬프(catalog:evictions 해시)를 올리고 같은 채널로 알리며, 메시지가 유실되면 버전 확인 주기에 스탬프를 비교합니다.
+ * - 지표: cache.gets{cache=catalog, result=hit|miss}, cache.size, cache.evictions (/actuator/prometheus)
+ */
+@Slf4j
+@Component
+public class CatalogCache implements MessageListener {
+    public static final String VERSION_KEY = "catalog:version";
+    public static final String EVICTIONS_KEY = "catalog:evictions";
+    public static final String INVALIDATION_CHANNEL = "catalog:invalidate";
+    // 키 단위 무효화 메시지: evict:{stamp}:{key} (그 외 메시지는 전체 무효화 버전)
+    private static final String EVICT_MESSAGE_PREFIX = "evict:";
+
+    private static final String CACHE_NAME = "catalog";
+    private static final int MAX_SIZE = 1_000;
+    // 버전 확인이 모두 실패하는 경우를 대비한 상한
+    private static final Duration TTL = Duration.ofHours(6);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, Object> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+    // 조회 도중 무효화가 일어나면, 조회 결과(이전 카탈로그)를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    // 마지막으로 반영한 Redis 버전
+    private volatile String version;
+    // 마지막으로 반영한 키별 무효화 스탬프
+    private final Map<String, String> evictionStamps = new ConcurrentHashMap<>();
+
+    public CatalogCache(StringRedisTemplate redisTemplate,
+                        RedisMessageListenerContainer listenerContainer,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.version = readVersion();
+        this.evictionStamps.putAll(readEvictionStamps());
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해서 보관합니다. (loader 가 null 을 반환하거나 예외를 던지면 보관하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        Object cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long loadGeneration = generation.get();
+        T loaded = readOnlyTransaction.execute(status -> loader.get());
+        if (loaded == null) {
+            return null;
+        }
+        // 확인과 저장 사이에 무효화가 끼어들지 않도록 clearLocal/evictLocal 과 같은 락 안에서 처리합니다.
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                entries.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 카탈로그 데이터를 바꾼 뒤 호출합니다. 모든 서버의 near cache 를 비웁니다.
+     */
+    public void invalidate() {
+        String newVersion = String.valueOf(redisTemplate.opsForValue().increment(VERSION_KEY));
+        clearLocal(newVersion);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, newVersion);
+        } catch (DataAccessException e) {
+            // 다른 서버는 버전 확인 주기 안에 반영됩니다.
+            log.warn(">> [CatalogCache] 무효화 메시지 발행 실패. version={}", newVersion, e);
+        }
+        log.info(">> [CatalogCache] 카탈로그 캐시 무효화. version={}", newVersion);
+    }
+
+    /**
+     * 키 하나에 해당하는 데이터만 바꾼 뒤 호출합니다. 모든 서버의 near cache 에서 그 키만 비웁니다.
+     */
+    public void evict(String key) {
+        String stamp = String.valueOf(redisTemplate.opsForHash().increment(EVICTIONS_KEY, key, 1));
+        evictLocal(key, stamp);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, EVICT_MESSAGE_PREFIX + stamp + ":" + key);
+        } catch (DataAccessException e) {
+            log.warn(">> [CatalogCache] 키 무효화 메시지 발행 실패. key={}, stamp={}", key, stamp, e);
+        }
+        log.info(">> [CatalogCache] 카탈로그 캐시 키 무효화. key={}, stamp={}", key, stamp);
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(EVICT_MESSAGE_PREFIX)) {
+            String[] stampAndKey = body.substring(EVICT_MESSAGE_PREFIX.length()).split(":", 2);
+            if (!Objects.equals(evictionStamps.get(stampAndKey[1]), stampAndKey[0])) {
+                evictLocal(stampAndKey[1], stampAndKey[0]);
+            }
+            return;
+        }
+        if (!Objects.equals(version, body)) {
+            clearLocal(body);
+        }
+    }
+
+    /**
+     * pub/sub 메시지가 유실된 경우를 위해 주기적으로 Redis 버전과 비교합니다.
+     */
+    @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+    public void checkVersion() {
+        String currentVersion = readVersion();
+        if (currentVersion != null && !Objects.equals(version, currentVersion)) {
+            log.info(">> [CatalogCache] 버전 변경 감지. {} -> {}", version, currentVersion);
+            clearLocal(currentVersion);
+        }
+        readEvictionStamps().forEach((key, stamp) -> {
+            if (!Objects.equals(evictionStamps.get(key), stamp)) {
+                log.info(">> [CatalogCache] 키 무효화 감지. key={}, stamp={}", key, stamp);
+                evictLocal(key, stamp);
+            }
+        });
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private void clearLocal(String newVersion) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            entries.invalidateAll();
+            version = newVersion;
+        }
+        // 리스너(CatalogCacheWarmer)가 DB 를 조회하므로 락 밖에서 발행합니다. (가상 스레드 pinning 방지)
+        eventPublisher.publishEvent(new CatalogInvalidatedEvent(newVersion));
+    }
+
+    private void evictLocal(String key, String stamp) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            entries.invalidate(key);
+            evictionStamps.put(key, stamp);
+        }
+    }
+
+    private Map<String, String> readEvictionStamps() {
+        try {
+            return new HashMap<>(redisTemplate.<String, String>opsForHash().entries(EVICTIONS_KEY));
+        } catch (DataAccessException e) {
+            log.warn(">> [CatalogCache] 키 무효화 스탬프 조회 실패", e);
+            return Map.of();
+        }
+    }
+
+    private String readVersion() {
+        try {
+            return redisTemplate.opsForValue().get(VERSION_KEY);
+        } catch (DataAccessException e) {
+            log.warn(">> [CatalogCache] 버전 조회 실패", e);
+            return version;
+        }
+    }
+}
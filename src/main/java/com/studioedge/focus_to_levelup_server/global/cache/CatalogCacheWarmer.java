@@ -0,0 +1,50 @@
+package com.studioedge.focus_to_levelup_server.global.cache;
+
+import com.studioedge.focus_to_levelup_server.domain.character.service.CharacterQueryService;
+import com.studioedge.focus_to_levelup_server.domain.focus.service.FocusService;
+import com.studioedge.focus_to_levelup_server.domain.payment.service.ProductQueryService;
+import com.studioedge.focus_to_levelup_server.domain.store.enums.ItemType;
+import com.studioedge.focus_to_levelup_server.domain.store.service.ItemQueryService;
+import com.studioedge.focus_to_levelup_server.global.common.enums.Rarity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시, 그리고 카탈로그가 무효화될 때마다 CatalogCache 를 미리 채웁니다.
+ * (배포/무효화 직후 첫 요청들이 동시에 DB 를 조회하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheWarmer {
+    private final ItemQueryService itemQueryService;
+    private final CharacterQueryService characterQueryService;
+    private final ProductQueryService productQueryService;
+    private final FocusService focusService;
+
+    @EventListener({ApplicationReadyEvent.class, CatalogInvalidatedEvent.class})
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            itemQueryService.getAllItems();
+            for (ItemType type : ItemType.values()) {
+                itemQueryService.getItemsByType(type);
+            }
+            characterQueryService.getCharacters(null);
+            for (Rarity rarity : Rarity.values()) {
+                characterQueryService.getCharacters(rarity);
+            }
+            characterQueryService.getImageUrls();
+            productQueryService.findAllActiveProducts();
+            focusService.getFocusAnimation();
+        } catch (Exception e) {
+            // 채우지 못한 항목은 첫 조회 시점에 채워집니다.
+            log.warn(">> [CatalogCache] 미리 채우기 실패", e);
+            return;
+        }
+        log.info(">> [CatalogCache] 미리 채우기 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+    }
+}
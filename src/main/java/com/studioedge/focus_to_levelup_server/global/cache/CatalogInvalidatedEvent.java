@@ -0,0 +1,7 @@
+package com.studioedge.focus_to_levelup_server.global.cache;
+
+/**
+ * 카탈로그 near cache 를 비운 뒤 발행됩니다. (CatalogCacheWarmer 가 다시 채움)
+ */
+public record CatalogInvalidatedEvent(String version) {
+}
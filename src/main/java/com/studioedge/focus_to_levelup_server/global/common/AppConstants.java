@@ -69,6 +69,16 @@ public final class AppConstants {
         return dateTime.toLocalDate();
     }
 
+    /**
+     * 해당 시각이 속한 서비스 날짜가 끝나는 시각 (다음 새벽 4시)
+     * 집중 시간이 서비스 날짜 경계를 넘어가면 이 시각까지만 저장합니다.
+     *
+     * 예: 23:30 → 다음날 04:00, 01:30 → 같은날 04:00
+     */
+    public static LocalDateTime getServiceDayEnd(LocalDateTime dateTime) {
+        return getServiceDate(dateTime).plusDays(1).atTime(4, 0);
+    }
+
     /**
      * LocalTime을 서비스 시간 기준 분(minute)으로 변환
      * 서비스 날짜는 새벽 4시 기준이므로, 00:00~03:59는 24:00~27:59로 취급
@@ -1,5 +1,7 @@
 package com.studioedge.focus_to_levelup_server.global.config;
 
+import com.studioedge.focus_to_levelup_server.global.metrics.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
@@ -12,6 +14,7 @@ import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
+import java.util.Map;
 
 @Configuration
 @EnableJpaRepositories(
@@ -32,10 +35,13 @@ public class DataDBConfig {
     @Bean(name = "dataEntityManagerFactory")
     public LocalContainerEntityManagerFactoryBean dataEntityManagerFactory(
             EntityManagerFactoryBuilder builder,
-            DataSource dataSource) {
+            DataSource dataSource,
+            SqlStatementCounter sqlStatementCounter) {
         return builder
                 .dataSource(dataSource)
                 .packages("com.studioedge.focus_to_levelup_server.domain.*.entity")
+                // 요청당 SQL 문 수 집계 (global/metrics)
+                .properties(Map.of(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter))
                 .build();
     }
     @Primary
@@ -0,0 +1,61 @@
+package com.studioedge.focus_to_levelup_server.global.config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 빈 DB 에 마이그레이션을 적용하지 않도록 막습니다.
+ *
+ * V1 은 hbm2ddl update 로 만들어진 기존 스키마(baseline)라 스크립트가 없고, V2 부터는 기존 테이블을 변경합니다.
+ * 그래서 빈 DB 에서 V2 부터 실행하면 중간에 실패하고 스키마 이력만 남습니다.
+ * 새 DB 는 다음 순서로 만듭니다.
+ * 1. Flyway 를 끄고(SPRING_FLYWAY_ENABLED=false) hbm2ddl update 로 한 번 띄워 엔티티 기준 스키마를 만듭니다.
+ *    (SPRING_JPA_PROPERTIES_HIBERNATE_HBM2DDL_AUTO=update, 엔티티에 V2 이후 인덱스/테이블이 모두 선언되어 있음)
+ * 2. FLYWAY_BASELINE_VERSION 을 마지막 마이그레이션 버전으로 두고 다시 띄웁니다. (이미 반영된 마이그레이션은 건너뜀)
+ */
+@Component
+public class FlywayEmptySchemaGuard implements Callback {
+    // baseline 스키마에 항상 있는 테이블
+    private static final String BASELINE_TABLE = "members";
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_MIGRATE;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        if (!baselineTableExists(context.getConnection())) {
+            throw new FlywayException(">> [Flyway] 빈 스키마에는 마이그레이션을 적용할 수 없습니다. (" + BASELINE_TABLE
+                    + " 테이블 없음) FlywayEmptySchemaGuard 의 새 DB 생성 순서를 따르세요.");
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return FlywayEmptySchemaGuard.class.getSimpleName();
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private boolean baselineTableExists(Connection connection) {
+        try (ResultSet tables = connection.getMetaData()
+                .getTables(connection.getCatalog(), null, BASELINE_TABLE, new String[]{"TABLE"})) {
+            return tables.next();
+        } catch (SQLException e) {
+            throw new FlywayException(">> [Flyway] 스키마 확인 실패", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.studioedge.focus_to_levelup_server.global.config;
+
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 API(소셜 로그인, RevenueCat) 호출용 WebClient 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientConfig {
+
+    private int maxConnections = 200;
+    private long pendingAcquireTimeoutMs = 2000;
+    private long maxIdleTimeMs = 20000;
+    private int connectTimeoutMs = 1000;
+    private long responseTimeoutMs = 5000;
+    private Social social = new Social();
+
+    @Getter
+    @Setter
+    public static class Social {
+        // 공급자별 응답 타임아웃 (없으면 defaultTimeoutMs)
+        private long defaultTimeoutMs = 3000;
+        private Map<SocialType, Long> timeoutMs = new EnumMap<>(SocialType.class);
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        public long getTimeoutMs(SocialType socialType) {
+            return timeoutMs.getOrDefault(socialType, defaultTimeoutMs);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 80;
+        private long slowCallDurationMs = 2000;
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private long openDurationMs = 10000;
+    }
+}
@@ -3,9 +3,11 @@ package com.studioedge.focus_to_levelup_server.global.config;
 import com.studioedge.focus_to_levelup_server.global.jwt.CustomJwtAuthenticationEntryPoint;
 import com.studioedge.focus_to_levelup_server.global.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
@@ -25,10 +27,12 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomJwtAuthenticationEntryPoint customJwtAuthenticationEntryPoint;
 
+    @Value("${management.server.port}")
+    private int managementPort;
+
     private static final String[] PERMIT_URL_ARRAY = {
             // health check (for ALB, ECS)
             "/health",
-            "/actuator/health",
 
             // test endpoint
             "/test/**",
@@ -76,7 +80,26 @@ public class SecurityConfig {
         };
     }
 
+    /**
+     * actuator 전용 포트(management.server.port) 요청
+     * 이 포트는 외부에 공개하지 않으므로(내부 수집기 전용) 포트로만 구분하고, 서비스 포트의 경로는 열지 않습니다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(request -> request.getLocalPort() == managementPort)
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .sessionManagement(sessionManagement ->
+                        sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authorizeHttpRequests(authorizeHttpRequests -> authorizeHttpRequests.anyRequest().permitAll())
+                .build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
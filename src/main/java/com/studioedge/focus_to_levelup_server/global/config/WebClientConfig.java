@@ -1,16 +1,50 @@
 package com.studioedge.focus_to_levelup_server.global.config;
 
 import com.google.gson.Gson;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * 외부 API 공용 커넥션 풀
+     * - 로그인 폭주 시 커넥션을 무한정 만들지 않고 maxConnections 까지만 사용하며,
+     *   풀이 가득 차면 pendingAcquireTimeout 이후 실패합니다.
+     * - 공급자 쪽에서 먼저 끊은 유휴 커넥션을 재사용하지 않도록 maxIdleTime 이후 정리합니다.
+     * - 지표: reactor_netty_connection_provider_* (name=external)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalConnectionProvider(HttpClientConfig config) {
+        return ConnectionProvider.builder("external")
+                .maxConnections(config.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(config.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(config.getMaxIdleTimeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * WebClient.Builder 는 Spring Boot 자동 설정을 사용합니다. (http.client.requests 지표)
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient webClient(WebClient.Builder builder,
+                               ConnectionProvider externalConnectionProvider,
+                               HttpClientConfig config) {
+        HttpClient httpClient = HttpClient.create(externalConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(config.getResponseTimeoutMs()));
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
     @Bean
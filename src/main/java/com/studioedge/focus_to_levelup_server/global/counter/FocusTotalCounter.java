@@ -0,0 +1,84 @@
+package com.studioedge.focus_to_levelup_server.global.counter;
+
+import com.studioedge.focus_to_levelup_server.domain.event.entity.School;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 길드/학교 누적값 카운터
+ *
+ * 집중 저장마다 공유 row(Guild, School)를 갱신하면 같은 row 에 락이 몰리므로,
+ * 증가분은 카운터에 모아두고 주기적으로 UPDATE x = x + ? 로 한 번에 반영합니다.
+ *
+ * - focus-total.store=local (기본): 서버별 LongAdder, 서버마다 각자 반영 (LocalFocusTotalCounter, 서버 1대 전용)
+ * - focus-total.store=redis       : Redis 해시에 모아 한 서버만 반영 (RedisFocusTotalCounter, 서버 여러 대)
+ *
+ * 조회 API 는 DB 값 + 아직 반영되지 않은 증가분(pending)을 더해서 응답합니다.
+ */
+public abstract class FocusTotalCounter {
+
+    /**
+     * 길드 주간 집중 시간 증가 (트랜잭션 안이면 커밋 이후 반영)
+     */
+    public void addGuildFocusSeconds(Long guildId, int seconds) {
+        if (seconds > 0) {
+            afterCommit(() -> increment(FocusTotalType.GUILD_FOCUS_SECONDS, guildId, seconds));
+        }
+    }
+
+    /**
+     * 학교 누적 경험치 증가 (트랜잭션 안이면 커밋 이후 반영)
+     */
+    public void addSchoolExp(Long schoolId, int exp) {
+        if (exp > 0) {
+            afterCommit(() -> increment(FocusTotalType.SCHOOL_EXP, schoolId, exp));
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가분 (없으면 결과에 포함되지 않음)
+     */
+    public abstract Map<Long, Long> pending(FocusTotalType type, Collection<Long> ids);
+
+    /**
+     * 모인 증가분을 DB 에 반영합니다.
+     */
+    public abstract void flush();
+
+    /**
+     * 주간 초기화 (ResetWeeklyAllDataStep)
+     * 반영을 막은 상태에서 모인 증가분을 모두 반영한 뒤 reset 을 실행합니다.
+     * 그 전에 모인 증가분(지난주)은 초기화로 지워지고, 그 이후 증가분은 초기화된 값 위에 더해집니다.
+     * 반영에 실패하면 초기화하지 않고 예외를 던집니다. (지난주 증가분이 새 주에 더해지지 않도록)
+     */
+    public abstract void flushThenReset(Runnable reset);
+
+    public long pending(FocusTotalType type, Long id) {
+        return pending(type, List.of(id)).getOrDefault(id, 0L);
+    }
+
+    public static long schoolTotalLevel(School school, long pendingExp) {
+        return school.getTotalLevel() + (school.getTotalExp() + pendingExp) / 600;
+    }
+
+    protected abstract void increment(FocusTotalType type, Long id, long delta);
+
+    //---- PRIVATE METHOD ----
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.studioedge.focus_to_levelup_server.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 누적값 반영 (엔티티를 읽지 않고 UPDATE x = x + ? 한 번으로 더합니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FocusTotalJdbcRepository {
+    private static final String ADD_GUILD_FOCUS_SECONDS_SQL =
+            "UPDATE guilds SET average_focus_time = average_focus_time + ? WHERE guild_id = ?";
+
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로 total_level 을 먼저 계산해야 이전 total_exp 기준으로 올림됩니다.
+    private static final String ADD_SCHOOL_EXP_SQL =
+            "UPDATE schools SET total_level = total_level + (total_exp + ?) DIV 600, " +
+                    "total_exp = (total_exp + ?) MOD 600 WHERE school_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(FocusTotalType type, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(type == FocusTotalType.GUILD_FOCUS_SECONDS
+                ? new Object[]{delta, id}
+                : new Object[]{delta, delta, id}));
+        jdbcTemplate.batchUpdate(sqlOf(type), args);
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String sqlOf(FocusTotalType type) {
+        return switch (type) {
+            case GUILD_FOCUS_SECONDS -> ADD_GUILD_FOCUS_SECONDS_SQL;
+            case SCHOOL_EXP -> ADD_SCHOOL_EXP_SQL;
+        };
+    }
+}
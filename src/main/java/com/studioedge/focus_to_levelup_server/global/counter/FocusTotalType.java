@@ -0,0 +1,19 @@
+package com.studioedge.focus_to_levelup_server.global.counter;
+
+/**
+ * 여러 유저가 동시에 더하는 누적값 종류
+ */
+public enum FocusTotalType {
+    GUILD_FOCUS_SECONDS("guild"), // Guild.averageFocusTime (주간 집중 시간 총합, 초)
+    SCHOOL_EXP("school");         // School.totalLevel / totalExp (600 exp = 1 level)
+
+    private final String key;
+
+    FocusTotalType(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
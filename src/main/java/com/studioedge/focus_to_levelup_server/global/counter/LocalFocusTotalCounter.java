@@ -0,0 +1,147 @@
+package com.studioedge.focus_to_levelup_server.global.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버별 로컬 카운터 (focus-total.store=local, 기본값)
+ *
+ * - 증가: id 별 LongAdder 에 더하기만 합니다. (락 없음)
+ * - 반영: 누적합(total)은 초기화하지 않고, 반영한 양(flushed)만 기록해 차이만큼 UPDATE 합니다.
+ *   sumThenReset 처럼 반영 도중 들어온 증가분이 유실되지 않습니다.
+ * - 서버마다 자기 증가분만 반영하므로 락이 필요 없고, 다른 서버의 pending 은 조회에 포함되지 않습니다. (최대 flush 주기만큼 지연)
+ * - 서버가 비정상 종료되면 마지막 flush 이후의 증가분은 유실됩니다. (정상 종료 시에는 반영)
+ * - 서버가 2대 이상이면 사용하지 않습니다. 주간 초기화(flushThenReset)는 배치가 도는 서버의 증가분만 먼저 반영하므로,
+ *   다른 서버에 남아있던 지난주 증가분이 초기화 이후에 더해집니다. (focus-total.store=redis 사용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "focus-total.store", havingValue = "local", matchIfMissing = true)
+public class LocalFocusTotalCounter extends FocusTotalCounter {
+    private final FocusTotalJdbcRepository focusTotalJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<FocusTotalType, Map<Long, Cell>> cells = new EnumMap<>(FocusTotalType.class);
+    // flush 는 DB 반영(blocking I/O)을 포함하므로 synchronized 대신 사용합니다. (가상 스레드 pinning 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LocalFocusTotalCounter(FocusTotalJdbcRepository focusTotalJdbcRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.focusTotalJdbcRepository = focusTotalJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 배치 트랜잭션 안에서 호출되어도(flushThenReset) 반영은 바로 커밋되어야 flushed 와 DB 가 어긋나지 않습니다.
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (FocusTotalType type : FocusTotalType.values()) {
+            cells.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    protected void increment(FocusTotalType type, Long id, long delta) {
+        cells.get(type).computeIfAbsent(id, key -> new Cell()).total.add(delta);
+    }
+
+    @Override
+    public Map<Long, Long> pending(FocusTotalType type, Collection<Long> ids) {
+        Map<Long, Cell> typeCells = cells.get(type);
+        Map<Long, Long> result = new HashMap<>();
+        for (Long id : ids) {
+            Cell cell = typeCells.get(id);
+            if (cell != null) {
+                long pending = cell.pending();
+                if (pending > 0) {
+                    result.put(id, pending);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${focus-total.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushCells();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void flushThenReset(Runnable reset) {
+        flushLock.lock();
+        try {
+            if (!flushCells()) {
+                throw new IllegalStateException(">> [FocusTotal] 초기화 전 반영 실패");
+            }
+            reset.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    //---- PRIVATE METHOD ----
+
+    /**
+     * @return 반영할 증가분이 없거나 반영에 성공하면 true
+     */
+    private boolean flushCells() {
+        Map<FocusTotalType, Map<Cell, Long>> snapshot = new EnumMap<>(FocusTotalType.class);
+        Map<FocusTotalType, Map<Long, Long>> deltas = new EnumMap<>(FocusTotalType.class);
+        cells.forEach((type, typeCells) -> {
+            Map<Cell, Long> typeSnapshot = new IdentityHashMap<>();
+            Map<Long, Long> typeDeltas = new HashMap<>();
+            typeCells.forEach((id, cell) -> {
+                long sum = cell.total.sum();
+                if (sum > cell.flushed) {
+                    typeSnapshot.put(cell, sum);
+                    typeDeltas.put(id, sum - cell.flushed);
+                }
+            });
+            snapshot.put(type, typeSnapshot);
+            deltas.put(type, typeDeltas);
+        });
+        if (deltas.values().stream().allMatch(Map::isEmpty)) {
+            return true;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach(focusTotalJdbcRepository::add));
+        } catch (DataAccessException e) {
+            // flushed 를 올리지 않았으므로 다음 주기에 다시 반영합니다.
+            log.warn(">> [FocusTotal] 반영 실패, 다음 주기에 재시도합니다.", e);
+            return false;
+        }
+        snapshot.values().forEach(typeSnapshot -> typeSnapshot.forEach((cell, sum) -> cell.flushed = sum));
+        return true;
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private static class Cell {
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed; // flush() 에서만 변경
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
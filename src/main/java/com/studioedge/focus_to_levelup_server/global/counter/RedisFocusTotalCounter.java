@@ -0,0 +1,193 @@
+package com.studioedge.focus_to_levelup_server.global.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Redis 카운터 (focus-total.store=redis, 다중 서버용)
+ *
+ * - 증가: 해시 focus:total:{type} 의 id 필드에 HINCRBY (서버와 무관하게 한 곳에 모임)
+ * - 반영: 락을 잡은 서버 하나가 해시를 focus:total:{type}:flushing 으로 RENAME 한 뒤 DB 에 반영하고 삭제합니다.
+ *   DB 반영이 실패하면 flushing 키가 남아 다음 주기에 그대로 다시 반영합니다.
+ * - 조회: DB 값 + 해시 + flushing 해시 (flushing 은 DB 커밋 ~ 삭제 사이 아주 짧은 순간만 중복 집계될 수 있음)
+ * - Redis 장애 시에는 증가분을 바로 DB 에 반영합니다. (느리지만 유실 없음)
+ * - 주간 초기화(flushThenReset)는 같은 락을 기다려서 잡고, 반영이 끝난 뒤 락 안에서 초기화합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "focus-total.store", havingValue = "redis")
+public class RedisFocusTotalCounter extends FocusTotalCounter {
+    private static final String KEY_PREFIX = "focus:total:";
+    private static final String FLUSHING_SUFFIX = ":flushing";
+    private static final String LOCK_NAME = "flushFocusTotals";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(1);
+    private static final Duration LOCK_RETRY_INTERVAL = Duration.ofMillis(200);
+
+    // 이전 반영이 실패해 flushing 키가 남아있으면 그것부터 반영합니다.
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+                    "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+                    "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+                    "end " +
+                    "return redis.call('HGETALL', KEYS[2])", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FocusTotalJdbcRepository focusTotalJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LockingTaskExecutor lockingTaskExecutor;
+
+    public RedisFocusTotalCounter(StringRedisTemplate redisTemplate,
+                                  FocusTotalJdbcRepository focusTotalJdbcRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  LockProvider lockProvider) {
+        this.redisTemplate = redisTemplate;
+        this.focusTotalJdbcRepository = focusTotalJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 배치 트랜잭션 안에서 호출되어도(flushThenReset) 반영을 커밋한 뒤에 flushing 키를 지웁니다.
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lockingTaskExecutor = new DefaultLockingTaskExecutor(lockProvider);
+    }
+
+    @Override
+    protected void increment(FocusTotalType type, Long id, long delta) {
+        try {
+            redisTemplate.opsForHash().increment(keyOf(type), String.valueOf(id), delta);
+        } catch (DataAccessException e) {
+            log.warn(">> [FocusTotal] Redis 증가 실패, DB 에 바로 반영합니다. type={}, id={}", type, id, e);
+            focusTotalJdbcRepository.add(type, Map.of(id, delta));
+        }
+    }
+
+    @Override
+    public Map<Long, Long> pending(FocusTotalType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> fields = ids.stream().map(id -> (Object) String.valueOf(id)).toList();
+        Map<Long, Long> result = new HashMap<>();
+        try {
+            for (String key : List.of(keyOf(type), keyOf(type) + FLUSHING_SUFFIX)) {
+                List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+                int index = 0;
+                for (Long id : ids) {
+                    Object value = values.get(index++);
+                    if (value != null) {
+                        result.merge(id, Long.parseLong(value.toString()), Long::sum);
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn(">> [FocusTotal] pending 조회 실패, DB 값만 사용합니다. type={}", type, e);
+            return Map.of();
+        }
+        return result;
+    }
+
+    /**
+     * 여러 서버에서 동시에 호출되어도 락을 잡은 한 곳에서만 반영합니다. (이미 반영 중이면 건너뜀)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${focus-total.flush-interval-ms:5000}")
+    public void flush() {
+        lockingTaskExecutor.executeWithLock((Runnable) this::flushAll,
+                new LockConfiguration(Instant.now(), LOCK_NAME, LOCK_AT_MOST_FOR, Duration.ZERO));
+    }
+
+    /**
+     * 다른 서버가 반영 중이면 끝날 때까지 기다렸다가 락을 잡습니다. (LOCK_AT_MOST_FOR 를 넘기면 예외)
+     * 반영 실패(DataAccessException)는 그대로 던지므로 초기화되지 않습니다.
+     */
+    @Override
+    public void flushThenReset(Runnable reset) {
+        Instant deadline = Instant.now().plus(LOCK_AT_MOST_FOR);
+        while (Instant.now().isBefore(deadline)) {
+            LockingTaskExecutor.TaskResult<Void> result;
+            try {
+                result = lockingTaskExecutor.executeWithLock(() -> {
+                    for (FocusTotalType type : FocusTotalType.values()) {
+                        flushType(type);
+                    }
+                    reset.run();
+                    return null;
+                }, new LockConfiguration(Instant.now(), LOCK_NAME, LOCK_AT_MOST_FOR, Duration.ZERO));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(">> [FocusTotal] 초기화 실패", e);
+            }
+            if (result.wasExecuted()) {
+                return;
+            }
+            sleep(LOCK_RETRY_INTERVAL);
+        }
+        throw new IllegalStateException(">> [FocusTotal] 반영 락을 잡지 못해 초기화하지 못했습니다.");
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private void flushAll() {
+        for (FocusTotalType type : FocusTotalType.values()) {
+            try {
+                flushType(type);
+            } catch (DataAccessException e) {
+                log.warn(">> [FocusTotal] 반영 실패, 다음 주기에 재시도합니다. type={}", type, e);
+            }
+        }
+    }
+
+    private void flushType(FocusTotalType type) {
+        String flushingKey = keyOf(type) + FLUSHING_SUFFIX;
+        Map<Long, Long> deltas = claim(type, flushingKey);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> focusTotalJdbcRepository.add(type, deltas));
+        redisTemplate.delete(flushingKey);
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(">> [FocusTotal] 초기화 대기 중 인터럽트", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> claim(FocusTotalType type, String flushingKey) {
+        List<Object> entries = redisTemplate.execute(CLAIM_SCRIPT, List.of(keyOf(type), flushingKey));
+        Map<Long, Long> deltas = new HashMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            if (delta != 0) {
+                deltas.put(Long.valueOf(entries.get(i).toString()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    private String keyOf(FocusTotalType type) {
+        return KEY_PREFIX + type.getKey();
+    }
+}
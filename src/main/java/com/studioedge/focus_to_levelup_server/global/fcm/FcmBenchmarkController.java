@@ -0,0 +1,63 @@
+package com.studioedge.focus_to_levelup_server.global.fcm;
+
+import com.studioedge.focus_to_levelup_server.global.fcm.FcmTestController.TestResult;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmDispatchResult;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmDispatcher;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmMessage;
+import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
+import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * FCM 발송 처리량 측정 API
+ *
+ * /test/** 는 인증 없이 열려 있으므로, 실제 FCM 으로 발송되지 않도록 StubFcmClient(fcm.client=stub)일 때만 등록합니다.
+ */
+@Tag(name = "Test - FCM", description = "FCM 테스트 API (로컬/개발 환경 전용)")
+@RestController
+@RequestMapping("/test/fcm")
+@RequiredArgsConstructor
+@Profile({"local", "dev"})
+@ConditionalOnProperty(name = "fcm.client", havingValue = "stub")
+public class FcmBenchmarkController {
+    private static final int MAX_COUNT = 100_000;
+
+    private final FcmDispatcher fcmDispatcher;
+
+    @PostMapping("/benchmark")
+    @Operation(
+            summary = "FCM 발송 처리량 측정",
+            description = "가짜 토큰으로 count 건(최대 100,000건)을 Stub 클라이언트로 발송하고 처리량을 측정합니다."
+    )
+    public ResponseEntity<CommonResponse<TestResult>> benchmark(
+            @RequestParam(defaultValue = "10000")
+            @Min(value = 1, message = "count 는 1 이상이어야 합니다.")
+            @Max(value = MAX_COUNT, message = "count 는 100,000 이하여야 합니다.") int count
+    ) {
+        List<FcmMessage> messages = IntStream.range(0, count)
+                .mapToObj(i -> new FcmMessage((long) i, "benchmark-token-" + i, "benchmark", "benchmark"))
+                .toList();
+
+        long startedAt = System.nanoTime();
+        FcmDispatchResult result = fcmDispatcher.dispatch(messages).join();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        return HttpResponseUtil.ok(TestResult.of(result, String.format(
+                "Sent %d messages in %.2fs (%.0f msg/s, failure: %d)",
+                result.totalCount(), elapsedSeconds, result.totalCount() / elapsedSeconds, result.failureCount())));
+    }
+}
@@ -2,23 +2,39 @@ package com.studioedge.focus_to_levelup_server.global.fcm;
 
 import com.google.firebase.messaging.*;
 import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository;
-import com.studioedge.focus_to_levelup_server.domain.character.entity.MemberCharacter;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.character.dao.MemberCharacterRepository.DefaultCharacterName;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository.FcmRecipient;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmDispatchResult;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmDispatcher;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmMessage;
 import com.studioedge.focus_to_levelup_server.global.fcm.exception.EmptyFcmTokenListException;
 import com.studioedge.focus_to_levelup_server.global.fcm.exception.FcmSendException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmService {
 
+    // 수신자 조회 페이지 크기 (FCM sendEach 최대 크기와 동일)
+    private static final int RECIPIENT_PAGE_SIZE = 500;
+
+    private final MemberRepository memberRepository;
     private final MemberCharacterRepository memberCharacterRepository;
+    private final FcmDispatcher fcmDispatcher;
 
     /**
      * 단건 전송
@@ -67,59 +83,81 @@ public class FcmService {
 
     /**
      * 주간 보상 알림 (월요일)
+     * 주간 보상 미수령 유저에게 발송하고, 모든 발송이 끝날 때까지 기다립니다.
      */
-    public void sendWeeklyRewardNotification(List<Member> members) {
-        for (Member member : members) {
-            if (member.getFcmToken() == null) continue;
-
-            try {
-                sendToOne(
-                        member.getFcmToken(),
-                        "주간 보상 수령",
-                        "지난주의 다이아 보상을 획득하세요!"
-                );
-                log.info(">> Sent weekly reward notification to member: {}", member.getId());
-            } catch (Exception e) {
-                log.error(">> Failed to send FCM to member: {}", member.getId(), e);
-            }
-        }
+    public FcmDispatchResult sendWeeklyRewardNotification() {
+        return dispatchPages(
+                lastId -> memberRepository.findWeeklyRewardFcmRecipients(lastId, PageRequest.of(0, RECIPIENT_PAGE_SIZE)),
+                recipients -> recipients.stream()
+                        .map(recipient -> new FcmMessage(recipient.getId(), recipient.getFcmToken(),
+                                "주간 보상 수령", "지난주의 다이아 보상을 획득하세요!"))
+                        .toList()
+        );
     }
 
     /**
      * 미접속 알림 (24시간/72시간)
+     * hours ~ hours + 24시간 전 사이에 마지막 접속한 유저에게 대표 캐릭터 이름으로 발송합니다.
      */
-    public void sendInactiveUserNotification(List<Member> members, int hours) {
-        for (Member member : members) {
-            if (member.getFcmToken() == null || member.getNickname() == null) continue;
-
-            try {
-                // 유저의 대표 캐릭터 조회
-                Optional<MemberCharacter> defaultCharacter = memberCharacterRepository
-                        .findByMemberIdAndIsDefaultTrue(member.getId());
-
-                String characterName = defaultCharacter
-                        .map(mc -> mc.getCharacter().getName())
-                        .orElse("캐릭터"); // 대표 캐릭터가 없는 경우 기본값
-
-                String title;
-                String body;
-
-                if (hours == 24) {
-                    title = characterName;
-                    body = member.getNickname() + "님이 안 들어와서 화가 났어요";
-                } else if (hours == 72) {
-                    title = characterName;
-                    body = member.getNickname() + "님을 기다리다가 누군지 까먹을 것 같다고 하네요";
-                } else {
-                    continue;
+    public FcmDispatchResult sendInactiveUserNotification(int hours) {
+        String bodySuffix = switch (hours) {
+            case 24 -> "님이 안 들어와서 화가 났어요";
+            case 72 -> "님을 기다리다가 누군지 까먹을 것 같다고 하네요";
+            default -> throw new IllegalArgumentException("지원하지 않는 미접속 시간입니다: " + hours);
+        };
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = now.minusHours(hours + 24);
+        LocalDateTime end = now.minusHours(hours);
+
+        return dispatchPages(
+                lastId -> memberRepository.findInactiveFcmRecipients(start, end, lastId, PageRequest.of(0, RECIPIENT_PAGE_SIZE)),
+                recipients -> {
+                    Map<Long, String> characterNames = findCharacterNames(recipients);
+                    return recipients.stream()
+                            .filter(recipient -> recipient.getNickname() != null)
+                            .map(recipient -> new FcmMessage(recipient.getId(), recipient.getFcmToken(),
+                                    characterNames.getOrDefault(recipient.getId(), "캐릭터"), // 대표 캐릭터가 없는 경우 기본값
+                                    recipient.getNickname() + bodySuffix))
+                            .toList();
                 }
+        );
+    }
+
+    //---- PRIVATE METHOD ----
 
-                sendToOne(member.getFcmToken(), title, body);
-                log.info(">> Sent inactive user notification to member: {} ({}시간, character: {})",
-                        member.getId(), hours, characterName);
-            } catch (Exception e) {
-                log.error(">> Failed to send FCM to member: {}", member.getId(), e);
+    /**
+     * 수신자를 id 순으로 페이지 단위 조회하면서, 페이지마다 바로 발송기에 넘깁니다.
+     */
+    private FcmDispatchResult dispatchPages(LongFunction<List<FcmRecipient>> pageLoader,
+                                            Function<List<FcmRecipient>, List<FcmMessage>> messageMapper) {
+        List<CompletableFuture<FcmDispatchResult>> futures = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<FcmRecipient> recipients = pageLoader.apply(lastId);
+            if (recipients.isEmpty()) {
+                break;
+            }
+            futures.add(fcmDispatcher.dispatch(messageMapper.apply(recipients)));
+            if (recipients.size() < RECIPIENT_PAGE_SIZE) {
+                break;
             }
+            lastId = recipients.get(recipients.size() - 1).getId();
         }
+
+        FcmDispatchResult result = futures.stream()
+                .map(CompletableFuture::join)
+                .reduce(FcmDispatchResult.EMPTY, FcmDispatchResult::merge);
+        log.info(">> FCM dispatch finished. Success: {}, Failure: {}, Pruned: {}",
+                result.successCount(), result.failureCount(), result.prunedCount());
+        return result;
+    }
+
+    private Map<Long, String> findCharacterNames(List<FcmRecipient> recipients) {
+        List<Long> memberIds = recipients.stream()
+                .map(FcmRecipient::getId)
+                .toList();
+        return memberCharacterRepository.findDefaultCharacterNamesByMemberIdIn(memberIds).stream()
+                .collect(Collectors.toMap(DefaultCharacterName::getMemberId, DefaultCharacterName::getCharacterName,
+                        (first, second) -> first));
     }
 }
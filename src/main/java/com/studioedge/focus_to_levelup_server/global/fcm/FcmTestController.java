@@ -1,8 +1,6 @@
 package com.studioedge.focus_to_levelup_server.global.fcm;
 
-import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
-import com.studioedge.focus_to_levelup_server.global.fcm.FcmService;
+import com.studioedge.focus_to_levelup_server.global.fcm.dispatch.FcmDispatchResult;
 import com.studioedge.focus_to_levelup_server.global.response.CommonResponse;
 import com.studioedge.focus_to_levelup_server.global.response.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +10,6 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 @Tag(name = "Test - FCM", description = "FCM 테스트 API (로컬/개발 환경 전용)")
 @RestController
 @RequestMapping("/test/fcm")
@@ -23,7 +18,6 @@ import java.util.List;
 public class FcmTestController {
 
     private final FcmService fcmService;
-    private final MemberRepository memberRepository;
 
     @PostMapping("/weekly-reward")
     @Operation(
@@ -31,9 +25,8 @@ public class FcmTestController {
             description = "주간 보상 미수령 유저에게 FCM 알림을 발송합니다."
     )
     public ResponseEntity<CommonResponse<TestResult>> testWeeklyReward() {
-        List<Member> members = memberRepository.findAllByIsReceivedWeeklyRewardIsFalseAndFcmTokenIsNotNull();
-        fcmService.sendWeeklyRewardNotification(members);
-        return HttpResponseUtil.ok(new TestResult("Sent to " + members.size() + " members", members.size()));
+        FcmDispatchResult result = fcmService.sendWeeklyRewardNotification();
+        return HttpResponseUtil.ok(TestResult.of(result, "Sent to " + result.successCount() + " members"));
     }
 
     @PostMapping("/inactive-24h")
@@ -42,12 +35,8 @@ public class FcmTestController {
             description = "24~48시간 전에 마지막 접속한 유저에게 FCM 알림을 발송합니다."
     )
     public ResponseEntity<CommonResponse<TestResult>> testInactive24h() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start = now.minusHours(48);
-        LocalDateTime end = now.minusHours(24);
-        List<Member> members = memberRepository.findAllByLastLoginDateTimeBetweenAndFcmTokenIsNotNull(start, end);
-        fcmService.sendInactiveUserNotification(members, 24);
-        return HttpResponseUtil.ok(new TestResult("Sent to " + members.size() + " members (24h inactive)", members.size()));
+        FcmDispatchResult result = fcmService.sendInactiveUserNotification(24);
+        return HttpResponseUtil.ok(TestResult.of(result, "Sent to " + result.successCount() + " members (24h inactive)"));
     }
 
     @PostMapping("/inactive-72h")
@@ -56,12 +45,8 @@ public class FcmTestController {
             description = "72~96시간 전에 마지막 접속한 유저에게 FCM 알림을 발송합니다."
     )
     public ResponseEntity<CommonResponse<TestResult>> testInactive72h() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start = now.minusHours(96);
-        LocalDateTime end = now.minusHours(72);
-        List<Member> members = memberRepository.findAllByLastLoginDateTimeBetweenAndFcmTokenIsNotNull(start, end);
-        fcmService.sendInactiveUserNotification(members, 72);
-        return HttpResponseUtil.ok(new TestResult("Sent to " + members.size() + " members (72h inactive)", members.size()));
+        FcmDispatchResult result = fcmService.sendInactiveUserNotification(72);
+        return HttpResponseUtil.ok(TestResult.of(result, "Sent to " + result.successCount() + " members (72h inactive)"));
     }
 
     @PostMapping("/single")
@@ -74,7 +59,11 @@ public class FcmTestController {
         return HttpResponseUtil.ok(new TestResult("Sent successfully. Message ID: " + messageId, 1));
     }
 
-    public record TestResult(String message, int count) {}
+    public record TestResult(String message, int count) {
+        static TestResult of(FcmDispatchResult result, String message) {
+            return new TestResult(message, result.successCount());
+        }
+    }
 
     public record FcmTestRequest(String token, String title, String body) {}
 }
@@ -0,0 +1,20 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.client;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 전송 클라이언트
+ * fcm.client=firebase (기본값) 이면 Firebase Admin SDK, fcm.client=stub 이면 로컬 스텁을 사용합니다.
+ */
+public interface FcmClient {
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 메시지 순서대로 결과를 반환합니다. 요청 전체가 실패하면 예외를 던집니다.
+     */
+    List<FcmSendResult> sendEach(List<Message> messages) throws FirebaseMessagingException;
+}
@@ -0,0 +1,38 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.client;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 메시지 1건의 전송 결과 (SendResponse 는 직접 생성할 수 없어 별도 타입으로 감쌉니다)
+ */
+public record FcmSendResult(String messageId, MessagingErrorCode errorCode) {
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED
+    );
+
+    public static FcmSendResult success(String messageId) {
+        return new FcmSendResult(messageId, null);
+    }
+
+    public static FcmSendResult failure(MessagingErrorCode errorCode) {
+        return new FcmSendResult(null, errorCode);
+    }
+
+    public boolean isSuccess() {
+        return messageId != null;
+    }
+
+    // 앱 삭제 등으로 더 이상 유효하지 않은 토큰
+    public boolean isUnregistered() {
+        return errorCode == MessagingErrorCode.UNREGISTERED;
+    }
+
+    public boolean isRetryable() {
+        return !isSuccess() && (errorCode == null || RETRYABLE_ERRORS.contains(errorCode));
+    }
+}
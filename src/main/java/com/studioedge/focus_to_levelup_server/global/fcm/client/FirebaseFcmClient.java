@@ -0,0 +1,25 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.client;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmClient implements FcmClient {
+
+    @Override
+    public List<FcmSendResult> sendEach(List<Message> messages) throws FirebaseMessagingException {
+        BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+        return response.getResponses().stream()
+                .map(sendResponse -> sendResponse.isSuccessful()
+                        ? FcmSendResult.success(sendResponse.getMessageId())
+                        : FcmSendResult.failure(sendResponse.getException().getMessagingErrorCode()))
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.client;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 FCM 스텁 (fcm.client=stub)
+ *
+ * 실제로 전송하지 않고, sendEach 1회당 지연 시간과 실패율만 흉내냅니다.
+ * 발송 처리량 측정(/test/fcm/benchmark)이나 로컬 개발에 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "stub")
+public class StubFcmClient implements FcmClient {
+
+    @Value("${fcm.stub.latency-ms:100}")
+    private long latencyMs;
+
+    @Value("${fcm.stub.unregistered-rate:0.01}")
+    private double unregisteredRate;
+
+    @Value("${fcm.stub.unavailable-rate:0.01}")
+    private double unavailableRate;
+
+    @Override
+    public List<FcmSendResult> sendEach(List<Message> messages) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return messages.stream()
+                .map(message -> {
+                    double value = random.nextDouble();
+                    if (value < unregisteredRate) {
+                        return FcmSendResult.failure(MessagingErrorCode.UNREGISTERED);
+                    }
+                    if (value < unregisteredRate + unavailableRate) {
+                        return FcmSendResult.failure(MessagingErrorCode.UNAVAILABLE);
+                    }
+                    return FcmSendResult.success("stub/" + UUID.randomUUID());
+                })
+                .toList();
+    }
+}
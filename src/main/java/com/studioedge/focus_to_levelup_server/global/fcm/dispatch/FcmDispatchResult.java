@@ -0,0 +1,24 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.dispatch;
+
+/**
+ * 발송 결과 집계
+ *
+ * @param successCount 전송 성공 수
+ * @param failureCount 재시도 후에도 실패한 수 (만료 토큰 포함)
+ * @param prunedCount  만료(UNREGISTERED)되어 Member.fcmToken 에서 제거한 토큰 수
+ */
+public record FcmDispatchResult(int successCount, int failureCount, int prunedCount) {
+    public static final FcmDispatchResult EMPTY = new FcmDispatchResult(0, 0, 0);
+
+    public FcmDispatchResult merge(FcmDispatchResult other) {
+        return new FcmDispatchResult(
+                successCount + other.successCount,
+                failureCount + other.failureCount,
+                prunedCount + other.prunedCount
+        );
+    }
+
+    public int totalCount() {
+        return successCount + failureCount;
+    }
+}
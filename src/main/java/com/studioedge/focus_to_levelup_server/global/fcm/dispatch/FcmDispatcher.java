@@ -0,0 +1,158 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.dispatch;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.global.fcm.client.FcmClient;
+import com.studioedge.focus_to_levelup_server.global.fcm.client.FcmSendResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * FCM 비동기 발송기
+ *
+ * - 메시지를 sendEach 최대 크기(500)씩 묶어 전용 스레드풀에서 전송합니다.
+ * - 큐가 가득 차면 호출 스레드가 직접 전송(CallerRunsPolicy)하므로, 수신자 조회 속도가 발송 속도를 넘지 않습니다.
+ * - 모든 전송은 토큰 버킷으로 초당 발송 수를 제한합니다.
+ * - 일시 오류(UNAVAILABLE/INTERNAL/QUOTA_EXCEEDED, 요청 전체 실패)는 지수 백오프로 재시도합니다.
+ * - UNREGISTERED 토큰은 Member.fcmToken 에서 제거합니다.
+ *
+ * 스레드풀은 빈으로 노출하지 않습니다. (기본 applicationTaskExecutor 대체 방지)
+ */
+@Slf4j
+@Component
+public class FcmDispatcher {
+    private static final int QUEUE_CAPACITY = 20;
+
+    private final FcmClient fcmClient;
+    private final MemberRepository memberRepository;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxRetries;
+    private final long initialBackoffMs;
+
+    public FcmDispatcher(FcmClient fcmClient,
+                         MemberRepository memberRepository,
+                         @Value("${fcm.dispatch.threads:4}") int threads,
+                         @Value("${fcm.dispatch.rate-per-second:2000}") double ratePerSecond,
+                         @Value("${fcm.dispatch.max-retries:3}") int maxRetries,
+                         @Value("${fcm.dispatch.initial-backoff-ms:500}") long initialBackoffMs,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.fcmClient = fcmClient;
+        this.memberRepository = memberRepository;
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond, Math.max(ratePerSecond, FcmClient.MAX_BATCH_SIZE));
+        this.maxRetries = maxRetries;
+        this.initialBackoffMs = initialBackoffMs;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("fcm-dispatch-");
+        // 가상 스레드 모드에서도 동시 전송 수는 threads 로 제한됩니다.
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * 메시지를 500개 단위로 나눠 비동기 전송합니다.
+     * 반환된 future 는 모든 묶음의 전송(재시도 포함)과 만료 토큰 정리가 끝나면 완료됩니다.
+     */
+    public CompletableFuture<FcmDispatchResult> dispatch(List<FcmMessage> messages) {
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(FcmDispatchResult.EMPTY);
+        }
+
+        List<CompletableFuture<FcmDispatchResult>> futures = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += FcmClient.MAX_BATCH_SIZE) {
+            List<FcmMessage> batch = messages.subList(from, Math.min(from + FcmClient.MAX_BATCH_SIZE, messages.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(batch), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .reduce(FcmDispatchResult.EMPTY, FcmDispatchResult::merge));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private FcmDispatchResult sendBatch(List<FcmMessage> batch) {
+        List<FcmMessage> pending = batch;
+        Set<String> unregisteredTokens = new HashSet<>();
+        int successCount = 0;
+
+        try {
+            for (int attempt = 0; attempt <= maxRetries && !pending.isEmpty(); attempt++) {
+                if (attempt > 0) {
+                    Thread.sleep(initialBackoffMs << (attempt - 1));
+                }
+                rateLimiter.acquire(pending.size());
+
+                List<FcmSendResult> results;
+                try {
+                    results = fcmClient.sendEach(pending.stream().map(FcmMessage::toMessage).toList());
+                } catch (FirebaseMessagingException e) {
+                    log.warn(">> [FCM] sendEach 실패 ({}건, attempt={}): {}", pending.size(), attempt + 1, e.getMessage());
+                    continue;
+                }
+
+                List<FcmMessage> retryable = new ArrayList<>();
+                for (int i = 0; i < results.size(); i++) {
+                    FcmSendResult result = results.get(i);
+                    FcmMessage message = pending.get(i);
+                    if (result.isSuccess()) {
+                        successCount++;
+                    } else if (result.isUnregistered()) {
+                        unregisteredTokens.add(message.token());
+                    } else if (result.isRetryable()) {
+                        retryable.add(message);
+                    } else {
+                        log.warn(">> [FCM] 전송 실패. memberId={}, error={}", message.memberId(), result.errorCode());
+                    }
+                }
+                pending = retryable;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(">> [FCM] 발송 중단. 남은 메시지 {}건", pending.size());
+        }
+
+        if (!pending.isEmpty()) {
+            log.warn(">> [FCM] 재시도 후에도 {}건 전송 실패", pending.size());
+        }
+        int prunedCount = pruneTokens(unregisteredTokens);
+        return new FcmDispatchResult(successCount, batch.size() - successCount, prunedCount);
+    }
+
+    private int pruneTokens(Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        try {
+            int pruned = memberRepository.clearFcmTokens(tokens);
+            log.info(">> [FCM] 만료 토큰 {}건 정리", pruned);
+            return pruned;
+        } catch (DataAccessException e) {
+            log.warn(">> [FCM] 만료 토큰 정리 실패 ({}건)", tokens.size(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.dispatch;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+
+public record FcmMessage(Long memberId, String token, String title, String body) {
+
+    public Message toMessage() {
+        return Message.builder()
+                .setToken(token)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .build();
+    }
+}
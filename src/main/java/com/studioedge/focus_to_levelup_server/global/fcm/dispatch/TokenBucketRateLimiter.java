@@ -0,0 +1,43 @@
+package com.studioedge.focus_to_levelup_server.global.fcm.dispatch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 rate limiter
+ *
+ * - 초당 permitsPerSecond 만큼 채워지고, 최대 capacity 까지 쌓입니다.
+ * - acquire() 는 먼저 토큰을 예약(음수 허용)한 뒤 부족한 만큼만 락 밖에서 대기합니다.
+ *   대기 중인 스레드가 다른 스레드의 예약을 막지 않습니다.
+ */
+public class TokenBucketRateLimiter {
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, double capacity) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond, capacity 는 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.available = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+
+            available -= permits;
+            waitNanos = available >= 0 ? 0 : (long) (-available / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
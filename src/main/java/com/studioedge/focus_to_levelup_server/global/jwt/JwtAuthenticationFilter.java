@@ -1,7 +1,6 @@
 package com.studioedge.focus_to_levelup_server.global.jwt;
 
 import com.studioedge.focus_to_levelup_server.domain.auth.exception.WithdrawnMemberException;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,8 +39,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.debug("JWT validation result: {}", validationType);
 
                 if (validationType == JwtValidationType.VALID_JWT) {
-                    // Member 조회 및 인증 객체 생성
-                    Member member = jwtTokenProvider.getMember(token);
+                    // 인증 정보 조회 (캐시) 및 인증 객체 생성
+                    MemberPrincipal member = jwtTokenProvider.getMemberPrincipal(token);
                     log.debug("Member found: {}", member.getId());
 
                     UserAuthentication authentication = new UserAuthentication(
@@ -1,9 +1,6 @@
 package com.studioedge.focus_to_levelup_server.global.jwt;
 
 import com.studioedge.focus_to_levelup_server.domain.auth.exception.WithdrawnMemberException;
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
-import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
-import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -27,7 +24,7 @@ public class JwtTokenProvider {
     private String jwtSecret;
 
     private SecretKey key;
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @PostConstruct
     protected void init() {
@@ -134,15 +131,14 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰에서 Member 엔티티 조회
+     * JWT 토큰에서 인증 정보 조회 (MemberPrincipalCache 경유, 캐시 미스일 때만 DB 조회)
      */
-    public Member getMember(String token) {
+    public MemberPrincipal getMemberPrincipal(String token) {
         Long memberId = getMemberIdFromJwt(token);
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 회원 ID입니다."));
-        if (member.getStatus().equals(MemberStatus.WITHDRAWN))
+        MemberPrincipal principal = memberPrincipalCache.get(memberId);
+        if (principal.isWithdrawn())
             throw new WithdrawnMemberException();
-        return member;
+        return principal;
     }
 
     /**
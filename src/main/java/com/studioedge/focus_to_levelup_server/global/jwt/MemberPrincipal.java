@@ -0,0 +1,26 @@
+package com.studioedge.focus_to_levelup_server.global.jwt;
+
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증된 유저 정보 (SecurityContext principal)
+ * 요청마다 Member 엔티티를 조회하지 않도록, 캐시 가능한 불변 값만 담습니다.
+ * 엔티티가 필요한 서비스는 id 로 직접 조회해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemberPrincipal {
+    private final Long id;
+    private final MemberStatus status;
+
+    public static MemberPrincipal of(Long id, MemberStatus status) {
+        return new MemberPrincipal(id, status);
+    }
+
+    public boolean isWithdrawn() {
+        return status == MemberStatus.WITHDRAWN;
+    }
+}
@@ -0,0 +1,150 @@
+package com.studioedge.focus_to_levelup_server.global.jwt;
+
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 필터용 MemberPrincipal 로컬 캐시 (Caffeine, 최대 크기 + TTL)
+ *
+ * - 서버마다 최대 MAX_SIZE 명까지 보관하고, TTL 이 지나면 DB 에서 다시 읽습니다.
+ * - 탈퇴/복구/가입 완료처럼 상태가 바뀌면 evict() 를 호출합니다.
+ *   커밋 이후 Redis 채널로 memberId 를 발행해 다른 서버의 캐시도 함께 비웁니다.
+ * - Redis 메시지가 유실되더라도 TTL 이후에는 반영됩니다.
+ * - 지표: cache.gets{cache=memberPrincipal, result=hit|miss}, cache.evictions, cache.size (/actuator/metrics)
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "member:principal:invalidate";
+
+    private static final String CACHE_NAME = "memberPrincipal";
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Cache<Long, MemberPrincipal> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .recordStats()
+            .build();
+    // 조회 도중 무효화가 일어나면, 조회 결과(이전 상태)를 캐시에 넣지 않기 위한 버전
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없거나 만료되었으면 DB 에서 상태만 조회합니다.
+     */
+    public MemberPrincipal get(Long memberId) {
+        MemberPrincipal cached = entries.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = invalidationVersion.get();
+        MemberStatus status = memberRepository.findStatusById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 회원 ID입니다."));
+        MemberPrincipal principal = MemberPrincipal.of(memberId, status);
+
+        // 적중 경로는 락 없이 읽고, 미적중 후 저장만 evictLocal 과 같은 락 안에서 버전을 확인합니다.
+        synchronized (this) {
+            if (invalidationVersion.get() == version) {
+                entries.put(memberId, principal);
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * 유저 상태가 바뀐 경우 호출합니다. (트랜잭션 안이면 커밋 이후 반영)
+     */
+    public void evict(Long memberId) {
+        afterCommit(() -> {
+            evictLocal(memberId);
+            publish(String.valueOf(memberId));
+        });
+    }
+
+    public void evictAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> memberIds.forEach(memberId -> {
+            evictLocal(memberId);
+            publish(String.valueOf(memberId));
+        }));
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn(">> [PrincipalCache] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private void evictLocal(Long memberId) {
+        synchronized (this) {
+            invalidationVersion.incrementAndGet();
+            entries.invalidate(memberId);
+        }
+    }
+
+    private void publish(String memberId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, memberId);
+        } catch (DataAccessException e) {
+            // 다른 서버는 TTL 만료 후 반영됩니다.
+            log.warn(">> [PrincipalCache] 무효화 메시지 발행 실패. memberId={}", memberId, e);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -1,6 +1,5 @@
 package com.studioedge.focus_to_levelup_server.global.jwt;
 
-import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 
@@ -16,15 +15,15 @@ public class UserAuthentication extends UsernamePasswordAuthenticationToken {
         if (super.getPrincipal() instanceof Long) {
             return (Long) super.getPrincipal();
         }
-        if (super.getPrincipal() instanceof Member) {
-            return ((Member) super.getPrincipal()).getId();
+        if (super.getPrincipal() instanceof MemberPrincipal) {
+            return ((MemberPrincipal) super.getPrincipal()).getId();
         }
         return null;
     }
 
-    public Member getMember() {
-        if (super.getPrincipal() instanceof Member) {
-            return (Member) super.getPrincipal();
+    public MemberPrincipal getMemberPrincipal() {
+        if (super.getPrincipal() instanceof MemberPrincipal) {
+            return (MemberPrincipal) super.getPrincipal();
         }
         return null;
     }
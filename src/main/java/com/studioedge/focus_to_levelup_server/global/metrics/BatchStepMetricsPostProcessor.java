@@ -0,0 +1,77 @@
+package com.studioedge.focus_to_levelup_server.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.partition.support.PartitionStep;
+import org.springframework.batch.core.step.AbstractStep;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * global/batch 의 모든 Step 빈에 실행 지표 리스너를 등록합니다. (Step 정의마다 listener 를 붙이지 않도록)
+ *
+ * - batch.step.duration{job, step, status}     : Step 실행 시간
+ * - batch.step.items{job, step, type}          : read / write / filter / skip 건수
+ *   파티션 manager Step 은 worker 건수의 합계를 다시 갖고 있으므로 items 는 worker Step 에서만 기록합니다.
+ */
+@Component
+public class BatchStepMetricsPostProcessor implements BeanPostProcessor {
+    // BeanPostProcessor 는 일찍 생성되므로 MeterRegistry 는 Step 실행 시점에 가져옵니다.
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public BatchStepMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof AbstractStep step) {
+            step.registerStepExecutionListener(new StepMetricsListener(!(bean instanceof PartitionStep)));
+        }
+        return bean;
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private class StepMetricsListener implements StepExecutionListener {
+        private final boolean recordItems;
+
+        private StepMetricsListener(boolean recordItems) {
+            this.recordItems = recordItems;
+        }
+
+        @Override
+        public ExitStatus afterStep(StepExecution stepExecution) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null || stepExecution.getStartTime() == null) {
+                return null;
+            }
+
+            Tags tags = Tags.of(
+                    "job", stepExecution.getJobExecution().getJobInstance().getJobName(),
+                    "step", stepExecution.getStepName()
+            );
+            Timer.builder("batch.step.duration")
+                    .tags(tags)
+                    .tag("status", stepExecution.getStatus().name())
+                    .register(registry)
+                    .record(Duration.between(stepExecution.getStartTime(), LocalDateTime.now()));
+
+            if (recordItems) {
+                registry.counter("batch.step.items", tags.and("type", "read")).increment(stepExecution.getReadCount());
+                registry.counter("batch.step.items", tags.and("type", "write")).increment(stepExecution.getWriteCount());
+                registry.counter("batch.step.items", tags.and("type", "filter")).increment(stepExecution.getFilterCount());
+                registry.counter("batch.step.items", tags.and("type", "skip")).increment(stepExecution.getSkipCount());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.studioedge.focus_to_levelup_server.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * domain 서비스 메서드 지연 시간/에러 지표
+ *
+ * - 대상: domain..service 패키지의 @Service 빈의 public 메서드 (같은 빈 내부 호출은 제외)
+ * - 지표: service.method{class, method, outcome=success|error, exception}
+ *   Prometheus 에서는 service_method_seconds_bucket/_count/_sum 으로 노출됩니다.
+ * - 상시 켜둘 수 있도록 버킷은 고정 SLO 구간만 사용하고, Timer 는 메서드/예외별로 한 번만 만들어 재사용합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    private static final String METRIC_NAME = "service.method";
+    private static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500), Duration.ofSeconds(5)
+    };
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(com.studioedge.focus_to_levelup_server.domain..service..*) " +
+            "&& @within(org.springframework.stereotype.Service) " +
+            "&& execution(public * *(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timerOf(new TimerKey(joinPoint.getTarget().getClass(), method, exception))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private Timer timerOf(TimerKey key) {
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(key, k -> Timer.builder(METRIC_NAME)
+                .tag("class", k.targetClass().getSimpleName())
+                .tag("method", k.method().getName())
+                .tag("outcome", NONE.equals(k.exception()) ? "success" : "error")
+                .tag("exception", k.exception())
+                .serviceLevelObjectives(SLO_BUCKETS)
+                .register(meterRegistry));
+    }
+
+    // ----------------------------- PRIVATE CLASS ---------------------------------
+
+    private record TimerKey(Class<?> targetClass, Method method, String exception) {
+    }
+}
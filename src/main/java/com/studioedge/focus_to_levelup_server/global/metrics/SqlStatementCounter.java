@@ -0,0 +1,38 @@
+package com.studioedge.focus_to_levelup_server.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 스레드(요청)에서 Hibernate 가 준비한 SQL 문 수를 셉니다.
+ * DataDBConfig 에서 hibernate.session_factory.statement_inspector 로 등록되며, SQL 은 변경하지 않습니다.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 집계를 시작합니다. (중첩 호출 시 이전 집계는 덮어씁니다)
+     */
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * 집계를 끝내고 그동안 실행된 SQL 문 수를 반환합니다.
+     */
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,74 @@
+package com.studioedge.focus_to_levelup_server.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 문 수 (N+1 회귀 확인용)
+ *
+ * - 지표: http.server.requests.sql{method, uri} (uri 는 /api/v1/members/{id} 처럼 매핑 패턴 기준)
+ * - 한 요청에서 WARN_THRESHOLD 개 이상 실행되면 경고 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+    private static final String METRIC_NAME = "http.server.requests.sql";
+    private static final double[] SLO_BUCKETS = {1, 3, 5, 10, 20, 50, 100};
+    private static final int WARN_THRESHOLD = 50;
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        sqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = sqlStatementCounter.stop();
+            String uri = uriPattern(request);
+            DistributionSummary.builder(METRIC_NAME)
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .serviceLevelObjectives(SLO_BUCKETS)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            if (statements >= WARN_THRESHOLD) {
+                log.warn(">> [SQL] {} {} 요청에서 SQL {}건 실행", request.getMethod(), uri, statements);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    //---- PRIVATE METHOD ----
+
+    // 매핑되지 않은 요청(404 등)의 원본 URI 로 태그가 늘어나지 않도록 패턴만 사용합니다.
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.studioedge.focus_to_levelup_server.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감시 (spring.threads.virtual.enabled=true 일 때만 등록)
+ *
+ * - synchronized 블록이나 native 호출 안에서 blocking I/O 를 하면 가상 스레드가 캐리어 스레드에 고정(pinned)되어,
+ *   동시에 처리할 수 있는 요청 수가 캐리어 수(CPU 코어 수)로 줄어듭니다.
+ * - JFR jdk.VirtualThreadPinned 이벤트(THRESHOLD 이상)를 구독해 지표로 남기고,
+ *   처음 보는 호출 위치는 JDK 내부 프레임을 제외한 스택과 함께 경고 로그를 남깁니다.
+ * - 지표: virtual.thread.pinned (count, 고정된 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int STACK_DEPTH = 8;
+    // 같은 위치는 한 번만, 최대 MAX_REPORTED_SITES 곳까지 로그를 남깁니다.
+    private static final int MAX_REPORTED_SITES = 100;
+
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private final RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedTimer = Timer.builder("virtual.thread.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드")
+                .register(meterRegistry);
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void close() {
+        recordingStream.close();
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || reportedSites.size() >= MAX_REPORTED_SITES) {
+            return;
+        }
+        String site = stackTrace.getFrames().stream()
+                .filter(frame -> frame.isJavaFrame() && !isJdkFrame(frame))
+                .limit(STACK_DEPTH)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        if (!site.isEmpty() && reportedSites.add(site)) {
+            log.warn(">> [VirtualThread] pinned {}ms\n\tat {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private boolean isJdkFrame(RecordedFrame frame) {
+        String typeName = frame.getMethod().getType().getName();
+        return typeName.startsWith("java.") || typeName.startsWith("jdk.") || typeName.startsWith("sun.");
+    }
+}
@@ -3,6 +3,7 @@ package com.studioedge.focus_to_levelup_server.global.response;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +38,17 @@ public class HttpResponseUtil {
         return ResponseEntity.ok(CommonResponse.ok(data));
     }
 
+    /**
+     * ETag 포함 응답. If-None-Match 가 일치하면 Spring 이 본문 없이 304 로 응답합니다.
+     * (no-cache: 클라이언트가 저장은 하되, 사용할 때마다 재검증)
+     */
+    public static <T> ResponseEntity<CommonResponse<T>> ok(T data, String eTag) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(CommonResponse.ok(data));
+    }
+
     public static <T> ResponseEntity<CommonResponse<T>> created(T data) {
         return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.created(data));
     }
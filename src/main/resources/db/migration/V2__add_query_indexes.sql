@@ -0,0 +1,57 @@
+-- ---------------------------------
+-- V2. repository 조회 조건에 맞춘 인덱스
+-- ---------------------------------
+-- V1 은 hbm2ddl update 로 만들어진 기존 스키마입니다. (baseline-on-migrate)
+-- 엔티티의 @Table(indexes = ...) 와 이름/컬럼을 같게 유지합니다. (QueryPlanTest 가 확인)
+
+-- 우편함: 회원별 미수령/전체 우편 (MailRepository.findActiveMailsByMemberId, findAllMailsByMemberId)
+CREATE INDEX idx_mail_receiver_active ON mails (member_id, is_received, expired_at, created_at);
+-- 주간 보상 우편 중복 확인 (MailRepository.findAllByReceiverIdInAndTypeAndCreatedAtAfter)
+CREATE INDEX idx_mail_receiver_type_created_at ON mails (member_id, type, created_at);
+-- 만료 우편 삭제 배치 (MailRepository.deleteByExpirationDateBefore)
+CREATE INDEX idx_mail_expired_at ON mails (expired_at);
+-- 환불 시 지급 우편 회수 (MailRepository.findByPaymentLogId)
+CREATE INDEX idx_mail_payment_log_id ON mails (payment_log_id);
+
+-- 플래너 (PlannerRepository.findAllWithMemberAndSubjectByMemberIdAndDate)
+CREATE INDEX idx_planner_member_date ON planners (member_id, date);
+
+-- 랭킹: 리그별 순위, 회원별 랭킹 (RankingRepository)
+CREATE INDEX idx_ranking_league_member ON rankings (league_id, member_id);
+CREATE INDEX idx_ranking_member ON rankings (member_id);
+
+-- 리그: 시즌/카테고리/티어별 리그 (LeagueRepository)
+CREATE INDEX idx_league_season_category ON leagues (season_id, category_type, tier);
+
+-- 아이템 달성 현황 (MemberItemRepository)
+CREATE INDEX idx_member_item_member_status ON member_items (member_id, is_completed, is_reward_received);
+
+-- 길드원 목록(주간 집중 시간 순), 부스트 중인 길드 (GuildMemberRepository)
+CREATE INDEX idx_guild_member_guild_focus_time ON guild_members (guild_id, weekly_focus_time);
+CREATE INDEX idx_guild_member_member_boosted ON guild_members (member_id, is_boosted);
+
+-- 길드 부스트 (GuildBoostRepository)
+CREATE INDEX idx_guild_boost_guild_active ON guild_boosts (guild_id, is_active);
+CREATE INDEX idx_guild_boost_member_active ON guild_boosts (member_id, is_active);
+CREATE INDEX idx_guild_boost_active_end_date ON guild_boosts (is_active, end_date);
+
+-- 길드 주간 보상 (GuildWeeklyRewardRepository)
+CREATE INDEX idx_guild_weekly_reward_guild_created_at ON guild_weekly_rewards (guild_id, created_at);
+
+-- 일간 랭킹: 날짜별 집중 시간 (DailyGoalRepository.findDailySecondsByDate, countByDateAndFocusTimeGreaterThan)
+CREATE INDEX idx_daily_goal_date_seconds ON daily_goals (daily_goal_date, current_seconds);
+
+-- 회원: 배치 파티셔닝, 푸시 대상 조회, 만료 토큰 정리 (MemberRepository)
+CREATE INDEX idx_member_status ON members (status);
+CREATE INDEX idx_member_weekly_reward ON members (is_received_weekly_reward);
+CREATE INDEX idx_member_last_login ON members (last_login_date_time);
+CREATE INDEX idx_member_fcm_token ON members (fcm_token);
+
+-- 랭킹 경고 해제 배치 (MemberSettingRepository)
+CREATE INDEX idx_member_setting_ranking_warning_at ON member_settings (ranking_warning_at);
+
+-- 구독 (SubscriptionRepository)
+CREATE INDEX idx_subscription_member_active ON subscriptions (member_id, is_active);
+
+-- 기간 내 구매 여부 (PaymentLogRepository)
+CREATE INDEX idx_payment_log_member_status ON payment_logs (member_id, status, created_at);
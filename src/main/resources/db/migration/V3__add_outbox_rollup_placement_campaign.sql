@@ -0,0 +1,104 @@
+-- ---------------------------------
+-- V3. 엔티티 추가/변경분 (prod 는 hbm2ddl validate 이므로 여기서 만듭니다)
+-- ---------------------------------
+-- 컬럼 타입은 hbm2ddl(MySQLDialect)이 만드는 타입과 같게 둡니다. (enum 은 ENUM, Boolean 은 BIT)
+-- 인덱스는 엔티티의 @Table(indexes = ...) 와 이름/컬럼을 같게 유지합니다. (QueryPlanTest 가 확인)
+
+-- 집중 저장 후처리 이벤트 (FocusEvent, FocusEventConsumer)
+CREATE TABLE focus_events (
+    focus_event_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id          BIGINT       NOT NULL,
+    subject_id         BIGINT       NOT NULL,
+    daily_goal_id      BIGINT       NOT NULL,
+    service_date       DATE         NOT NULL,
+    focus_seconds      INTEGER      NOT NULL,
+    focus_exp          INTEGER      NOT NULL,
+    school_name        VARCHAR(255),
+    session_start_time DATETIME(6)  NOT NULL,
+    start_time         TIME(6)      NOT NULL,
+    end_time           TIME(6)      NOT NULL,
+    status             ENUM ('PENDING','PROCESSED','FAILED') NOT NULL,
+    error_message      TEXT,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (focus_event_id)
+) ENGINE = InnoDB;
+CREATE INDEX idx_focus_event_status ON focus_events (status, focus_event_id);
+
+-- 월별 집중 롤업 (MonthlyFocusRollup, FocusRollupService)
+CREATE TABLE monthly_focus_rollups (
+    monthly_focus_rollup_id BIGINT         NOT NULL AUTO_INCREMENT,
+    member_id               BIGINT,
+    month_key               INTEGER        NOT NULL,
+    goal_days               INTEGER        NOT NULL,
+    day_seconds             VARBINARY(124) NOT NULL,
+    total_seconds           BIGINT         NOT NULL,
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    PRIMARY KEY (monthly_focus_rollup_id),
+    CONSTRAINT uk_monthly_focus_rollup_member_month UNIQUE (member_id, month_key),
+    CONSTRAINT fk_monthly_focus_rollup_member FOREIGN KEY (member_id) REFERENCES members (member_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- 시즌 중 리그 재배정 계획 (LeaguePlacement, ProcessLeaguePlacementStep)
+CREATE TABLE league_placements (
+    league_placement_id BIGINT  NOT NULL AUTO_INCREMENT,
+    season_id           BIGINT  NOT NULL,
+    category_type       ENUM ('ELEMENTARY_SCHOOL','MIDDLE_SCHOOL','HIGH_SCHOOL','ADULT') NOT NULL,
+    member_id           BIGINT  NOT NULL,
+    next_tier           ENUM ('BRONZE','SILVER','GOLD','PLATINUM','DIAMOND','MASTER') NOT NULL,
+    next_week           INTEGER NOT NULL,
+    league_index        INTEGER NOT NULL,
+    final_rank          INTEGER NOT NULL,
+    is_new_record       BIT     NOT NULL,
+    PRIMARY KEY (league_placement_id)
+) ENGINE = InnoDB;
+CREATE INDEX idx_league_placement_category ON league_placements (season_id, category_type);
+
+-- 전체 발송 우편 (MailCampaign, MailCampaignService)
+CREATE TABLE mail_campaigns (
+    mail_campaign_id         BIGINT       NOT NULL AUTO_INCREMENT,
+    sender_name              VARCHAR(255) DEFAULT '운영자' NOT NULL,
+    type                     ENUM ('GIFT_BONUS_TICKET','GUILD_WEEKLY','TIER_PROMOTION','SEASON_END','EVENT',
+                                   'CHARACTER_SELECTION_TICKET','CHARACTER_REWARD','COUPON','PROFILE_BORDER',
+                                   'ADMIN_REWARD','WARNING') NOT NULL,
+    title                    VARCHAR(255) NOT NULL,
+    description              VARCHAR(999) NOT NULL,
+    popup_title              VARCHAR(255),
+    popup_content            VARCHAR(999),
+    reward                   INTEGER      DEFAULT 0 NOT NULL,
+    diamond_amount           INTEGER,
+    gold_amount              INTEGER,
+    character_id             BIGINT,
+    character_image_url      VARCHAR(255),
+    profile_border_tier      ENUM ('BRONZE','SILVER','GOLD','PLATINUM','DIAMOND','MASTER'),
+    profile_border_image_url VARCHAR(255),
+    bonus_ticket_count       INTEGER,
+    asset_name               VARCHAR(255),
+    allowed_rarity           VARCHAR(255),
+    send_at                  DATETIME(6)  NOT NULL,
+    expired_at               DATE         NOT NULL,
+    include_new_members      BIT          DEFAULT 1 NOT NULL,
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    PRIMARY KEY (mail_campaign_id)
+) ENGINE = InnoDB;
+CREATE INDEX idx_mail_campaign_expired_at ON mail_campaigns (expired_at);
+
+-- 캠페인에서 만들어진 우편 (회원당 캠페인 1건, MailJdbcRepository.insertCampaignMails)
+ALTER TABLE mails
+    ADD COLUMN mail_campaign_id BIGINT,
+    ADD CONSTRAINT uk_mail_member_campaign UNIQUE (member_id, mail_campaign_id);
+
+-- 집중 저장 시점 누적(초) (PeriodStatService)
+-- 기존 행은 분 단위 값으로 채웁니다. (엔티티 생성자의 totalMinutes * 60 과 같은 기준)
+ALTER TABLE weekly_stats ADD COLUMN total_seconds INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE weekly_subject_stats ADD COLUMN total_seconds INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE monthly_subject_stats ADD COLUMN total_seconds INTEGER DEFAULT 0 NOT NULL;
+UPDATE weekly_stats SET total_seconds = total_focus_minutes * 60;
+UPDATE weekly_subject_stats SET total_seconds = total_minutes * 60;
+UPDATE monthly_subject_stats SET total_seconds = total_minutes * 60;
+
+-- 처리 대기 webhook 수신 순 조회 (WebhookEventRepository.findPending)
+DROP INDEX idx_webhook_status ON webhook_events;
+CREATE INDEX idx_webhook_status_created_at ON webhook_events (status, created_at);
@@ -0,0 +1,210 @@
+package com.studioedge.focus_to_levelup_server.domain;
+
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.DailyGoalRepository;
+import com.studioedge.focus_to_levelup_server.domain.focus.dao.PlannerRepository;
+import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildBoostRepository;
+import com.studioedge.focus_to_levelup_server.domain.guild.dao.GuildMemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberSettingRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.payment.dao.SubscriptionRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.dao.RankingRepository;
+import com.studioedge.focus_to_levelup_server.domain.ranking.entity.League;
+import com.studioedge.focus_to_levelup_server.domain.store.dao.MemberItemRepository;
+import com.studioedge.focus_to_levelup_server.domain.system.dao.MailRepository;
+import com.studioedge.focus_to_levelup_server.domain.system.enums.MailType;
+import com.studioedge.focus_to_levelup_server.support.SqlCapture;
+import com.studioedge.focus_to_levelup_server.support.TestJpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 repository 쿼리의 실행 계획 검사
+ *
+ * - 각 repository 메서드를 실행해 Hibernate 가 만든 SQL 을 모으고, 같은 SQL 을 EXPLAIN 해서 테이블 풀 스캔이 있으면 실패합니다.
+ * - 임베디드 DB 는 H2(MySQL 모드)이고, 스키마는 엔티티 매핑(@Table indexes)으로 만듭니다.
+ *   운영 스키마는 db/migration 으로 바뀌므로, 마이그레이션의 인덱스가 엔티티에도 같은 이름으로 있는지 함께 확인합니다.
+ * - H2 와 MySQL 의 옵티마이저는 다르므로, 이 테스트는 "쓸 수 있는 인덱스가 있는지"만 봅니다.
+ * - 새 조회 쿼리를 추가하면 queries() 에 함께 등록합니다.
+ */
+@SpringJUnitConfig(TestJpaConfig.class)
+class QueryPlanTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 5);
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\*\\s*([\\w.\"]+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+INDEX\\s+(\\w+)\\s+ON\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+    // 행 수가 작고 고정된 카탈로그 테이블은 풀 스캔을 허용합니다.
+    private static final Set<String> CATALOG_TABLES = Set.of("items", "characters", "character_images", "assets", "products");
+
+    @Autowired private MailRepository mailRepository;
+    @Autowired private PlannerRepository plannerRepository;
+    @Autowired private RankingRepository rankingRepository;
+    @Autowired private MemberItemRepository memberItemRepository;
+    @Autowired private GuildMemberRepository guildMemberRepository;
+    @Autowired private GuildBoostRepository guildBoostRepository;
+    @Autowired private DailyGoalRepository dailyGoalRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private MemberSettingRepository memberSettingRepository;
+    @Autowired private SubscriptionRepository subscriptionRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return queries().entrySet().stream()
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+                    SqlCapture.clear();
+                    transactionTemplate.executeWithoutResult(status -> query.getValue().run());
+
+                    List<String> statements = SqlCapture.statements();
+                    assertThat(statements).as("실행된 SQL").isNotEmpty();
+                    for (String sql : statements) {
+                        String plan = explain(sql);
+                        assertThat(fullScannedTables(plan))
+                                .as("풀 스캔\nSQL: %s\nPLAN: %s", sql, plan)
+                                .isEmpty();
+                    }
+                }));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> migrationIndexesAreDeclaredOnEntities() throws Exception {
+        List<DynamicTest> tests = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql")) {
+            Matcher matcher = CREATE_INDEX.matcher(resource.getContentAsString(StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String indexName = matcher.group(1).toLowerCase();
+                String tableName = matcher.group(2).toLowerCase();
+                tests.add(DynamicTest.dynamicTest(tableName + "." + indexName,
+                        () -> assertThat(indexNames(tableName)).contains(indexName)));
+            }
+        }
+        assertThat(tests).isNotEmpty();
+        return tests.stream();
+    }
+
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("MailRepository.findActiveMailsByMemberId",
+                () -> mailRepository.findActiveMailsByMemberId(1L, TODAY));
+        queries.put("MailRepository.findAllMailsByMemberId",
+                () -> mailRepository.findAllMailsByMemberId(1L, TODAY));
+        queries.put("MailRepository.findByPaymentLogId",
+                () -> mailRepository.findByPaymentLogId(1L));
+        queries.put("MailRepository.findAllByReceiverIdInAndTypeAndCreatedAtAfter",
+                () -> mailRepository.findAllByReceiverIdInAndTypeAndCreatedAtAfter(
+                        List.of(1L, 2L), MailType.GUILD_WEEKLY, TODAY.atStartOfDay()));
+        queries.put("PlannerRepository.findAllWithMemberAndSubjectByMemberIdAndDate",
+                () -> plannerRepository.findAllWithMemberAndSubjectByMemberIdAndDate(1L, TODAY));
+        queries.put("RankingRepository.findByMemberId",
+                () -> rankingRepository.findByMemberId(1L));
+        queries.put("RankingRepository.findAllBySortedLeague",
+                () -> rankingRepository.findAllBySortedLeague(entityManager.getReference(League.class, 1L)));
+        queries.put("MemberItemRepository.findAllByMemberIdAndNotCompleted",
+                () -> memberItemRepository.findAllByMemberIdAndNotCompleted(1L));
+        queries.put("MemberItemRepository.findAllByMemberIdAndCompletedButNotRewarded",
+                () -> memberItemRepository.findAllByMemberIdAndCompletedButNotRewarded(1L));
+        queries.put("MemberItemRepository.findRestCheckTargets",
+                () -> memberItemRepository.findRestCheckTargets("휴식은 사치", TODAY, 0L, PageRequest.of(0, 500)));
+        queries.put("GuildMemberRepository.findAllByGuildIdWithMemberOrderByWeeklyFocusTime",
+                () -> guildMemberRepository.findAllByGuildIdWithMemberOrderByWeeklyFocusTime(1L));
+        queries.put("GuildMemberRepository.countByMemberIdAndIsBoostedTrue",
+                () -> guildMemberRepository.countByMemberIdAndIsBoostedTrue(1L));
+        queries.put("GuildBoostRepository.findAllByGuildIdAndIsActiveTrue",
+                () -> guildBoostRepository.findAllByGuildIdAndIsActiveTrue(1L));
+        queries.put("GuildBoostRepository.findAllExpiredBoosts",
+                () -> guildBoostRepository.findAllExpiredBoosts(TODAY));
+        queries.put("DailyGoalRepository.findDailySecondsByDate",
+                () -> dailyGoalRepository.findDailySecondsByDate(TODAY));
+        queries.put("DailyGoalRepository.countByDateAndFocusTimeGreaterThan",
+                () -> dailyGoalRepository.countByDateAndFocusTimeGreaterThan(TODAY, 600));
+        queries.put("MemberRepository.findIdRangeByStatusIn",
+                () -> memberRepository.findIdRangeByStatusIn(List.of(MemberStatus.ACTIVE)));
+        queries.put("MemberRepository.findInactiveFcmRecipients",
+                () -> memberRepository.findInactiveFcmRecipients(
+                        LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 2, 0, 0), 0L, PageRequest.of(0, 100)));
+        queries.put("MemberSettingRepository.findExpiredRankingCautions",
+                () -> memberSettingRepository.findExpiredRankingCautions(TODAY, PageRequest.of(0, 100)));
+        queries.put("SubscriptionRepository.findByMemberIdAndIsActiveTrue",
+                () -> subscriptionRepository.findByMemberIdAndIsActiveTrue(1L));
+        return queries;
+    }
+
+    //---- PRIVATE METHOD ----
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                // 실행 계획만 보므로 바인딩 값은 의미가 없습니다.
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private List<String> fullScannedTables(String plan) {
+        List<String> tables = new ArrayList<>();
+        Matcher matcher = TABLE_SCAN.matcher(plan);
+        while (matcher.find()) {
+            String qualifiedName = matcher.group(1).replace("\"", "").toLowerCase();
+            String table = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+            if (!CATALOG_TABLES.contains(table)) {
+                tables.add(table);
+            }
+        }
+        return tables;
+    }
+
+    private Set<String> indexNames(String tableName) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Set<String> names = new HashSet<>();
+            try (ResultSet resultSet = connection.getMetaData().getIndexInfo(null, null, tableName, false, false)) {
+                while (resultSet.next()) {
+                    String name = resultSet.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toLowerCase());
+                    }
+                }
+            }
+            return names;
+        });
+    }
+}
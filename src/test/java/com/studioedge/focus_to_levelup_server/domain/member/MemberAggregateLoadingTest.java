@@ -0,0 +1,134 @@
+package com.studioedge.focus_to_levelup_server.domain.member;
+
+import com.studioedge.focus_to_levelup_server.domain.member.dao.MemberRepository;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.Member;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberInfo;
+import com.studioedge.focus_to_levelup_server.domain.member.entity.MemberSetting;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.Gender;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.MemberStatus;
+import com.studioedge.focus_to_levelup_server.domain.member.enums.SocialType;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategoryMainType;
+import com.studioedge.focus_to_levelup_server.global.common.enums.CategorySubType;
+import com.studioedge.focus_to_levelup_server.support.TestJpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Member 를 조회할 때 MemberInfo / MemberSetting 을 쓰지 않으면 추가 SELECT 가 없어야 합니다.
+ * (외래 키가 없는 쪽 1:1 은 바이트코드 향상이 적용되어야 지연 로딩됩니다)
+ */
+@SpringJUnitConfig(TestJpaConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberAggregateLoadingTest {
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                Member member = Member.builder()
+                        .socialType(SocialType.KAKAO)
+                        .socialId("social-" + i)
+                        .nickname("member" + i)
+                        .status(MemberStatus.ACTIVE)
+                        .build();
+                entityManager.persist(member);
+                entityManager.persist(MemberInfo.builder()
+                        .member(member)
+                        .age(20)
+                        .gender(Gender.MALE)
+                        .categoryMain(CategoryMainType.HIGH_SCHOOL)
+                        .categorySub(CategorySubType.values()[0])
+                        .school("없음")
+                        .schoolAddress("없음")
+                        .build());
+                entityManager.persist(MemberSetting.builder().member(member).build());
+                memberIds.add(member.getId());
+            }
+        });
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM member_settings");
+        jdbcTemplate.update("DELETE FROM member_infos");
+        jdbcTemplate.update("DELETE FROM members");
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void pageOfMembersIsLoadedInSingleStatement() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Member> members = memberRepository.findNextByStatusInAndIdRange(
+                    List.of(MemberStatus.ACTIVE), 0L, Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE));
+            members.forEach(Member::getNickname);
+
+            assertThat(members).hasSize(PAGE_SIZE);
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void memberInfoIsLoadedOnlyWhenAccessed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(memberIds.get(0)).orElseThrow();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+            assertThat(member.getMemberInfo().getCategoryMain()).isEqualTo(CategoryMainType.HIGH_SCHOOL);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(Persistence.getPersistenceUtil().isLoaded(member, "memberSetting")).isFalse();
+        });
+    }
+
+    @Test
+    void fetchJoinLoadsMemberInfoInSameStatement() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Member> members = memberRepository.findAllWithMemberInfoByIdIn(memberIds);
+            members.forEach(member -> member.getMemberInfo().getCategoryMain());
+
+            assertThat(members).hasSize(PAGE_SIZE);
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}